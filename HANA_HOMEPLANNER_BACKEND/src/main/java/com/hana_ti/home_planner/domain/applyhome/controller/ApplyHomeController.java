@@ -1,13 +1,19 @@
 package com.hana_ti.home_planner.domain.applyhome.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hana_ti.home_planner.domain.applyhome.dto.ApplyHomeDataSummaryDto;
+import com.hana_ti.home_planner.domain.applyhome.dto.ApplyHomeJsonSummaryDto;
 import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeData;
 import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeJson;
 import com.hana_ti.home_planner.domain.applyhome.service.ApplyHomeService;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
+import com.hana_ti.home_planner.global.dto.CursorPageResponse;
+import com.hana_ti.home_planner.global.util.NdjsonWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +25,7 @@ import java.util.Optional;
 public class ApplyHomeController {
 
     private final ApplyHomeService applyHomeService;
+    private final ObjectMapper objectMapper;
 
     /**
      * ID로 ApplyHomeJson 데이터 조회
@@ -43,7 +50,30 @@ public class ApplyHomeController {
     }
 
     /**
-     * 모든 ApplyHomeJson 데이터 조회
+     * ID로 ApplyHomeData 데이터 조회 (전체 문서)
+     */
+    @GetMapping("/data/{id}")
+    public ResponseEntity<ApiResponse<ApplyHomeData>> getApplyHomeDataById(@PathVariable String id) {
+        log.info("ID로 ApplyHomeData 조회 API 호출 - ID: {}", id);
+
+        try {
+            Optional<ApplyHomeData> result = applyHomeService.getApplyHomeDataById(id);
+
+            if (result.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success("ID별 ApplyHomeData 데이터를 조회했습니다.", result.get()));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            log.error("ID별 ApplyHomeData 조회 실패 - ID: {}, 오류: {}", id, e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("데이터 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 모든 ApplyHomeJson 데이터 조회 (전체 문서)
+     * 목록 화면은 /json/summary 사용
      */
     @GetMapping("/json/all")
     public ResponseEntity<ApiResponse<List<ApplyHomeJson>>> getAllApplyHomeJson() {
@@ -60,7 +90,8 @@ public class ApplyHomeController {
     }
 
     /**
-     * 모든 ApplyHomeData 데이터 조회
+     * 모든 ApplyHomeData 데이터 조회 (전체 문서)
+     * 목록 화면은 /data/summary 사용
      */
     @GetMapping("/data/all")
     public ResponseEntity<ApiResponse<List<ApplyHomeData>>> getAllApplyHomeData() {
@@ -76,5 +107,59 @@ public class ApplyHomeController {
         }
     }
 
+    /**
+     * ApplyHomeJson 요약 목록 조회 (커서 기반 페이징)
+     * GET /api/applyhome/json/summary?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/json/summary")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ApplyHomeJsonSummaryDto>>> getApplyHomeJsonSummaries(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        log.info("ApplyHomeJson 요약 목록 조회 API 호출 - 크기: {}", size);
+
+        CursorPageResponse<ApplyHomeJsonSummaryDto> result = applyHomeService.getApplyHomeJsonSummaries(cursor, size);
 
+        return ResponseEntity.ok(ApiResponse.success("ApplyHomeJson 요약 목록을 조회했습니다.", result));
+    }
+
+    /**
+     * ApplyHomeData 요약 목록 조회 (커서 기반 페이징)
+     * GET /api/applyhome/data/summary?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/data/summary")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ApplyHomeDataSummaryDto>>> getApplyHomeDataSummaries(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        log.info("ApplyHomeData 요약 목록 조회 API 호출 - 크기: {}", size);
+
+        CursorPageResponse<ApplyHomeDataSummaryDto> result = applyHomeService.getApplyHomeDataSummaries(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("ApplyHomeData 요약 목록을 조회했습니다.", result));
+    }
+
+    /**
+     * 전체 ApplyHomeJson 내보내기 (NDJSON 스트리밍)
+     * GET /api/applyhome/export/json?gzip=true
+     */
+    @GetMapping("/export/json")
+    public ResponseEntity<StreamingResponseBody> exportApplyHomeJson(
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("ApplyHomeJson 내보내기 API 호출 - gzip: {}", gzip);
+
+        return NdjsonWriter.streamingResponse("applyhome-json", gzip, objectMapper,
+                applyHomeService::exportAllApplyHomeJson);
+    }
+
+    /**
+     * 전체 ApplyHomeData 내보내기 (NDJSON 스트리밍)
+     * GET /api/applyhome/export/data?gzip=true
+     */
+    @GetMapping("/export/data")
+    public ResponseEntity<StreamingResponseBody> exportApplyHomeData(
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("ApplyHomeData 내보내기 API 호출 - gzip: {}", gzip);
+
+        return NdjsonWriter.streamingResponse("applyhome-data", gzip, objectMapper,
+                applyHomeService::exportAllApplyHomeData);
+    }
 }
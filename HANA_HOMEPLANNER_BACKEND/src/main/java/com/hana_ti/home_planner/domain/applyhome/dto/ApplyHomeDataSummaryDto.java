@@ -0,0 +1,62 @@
+package com.hana_ti.home_planner.domain.applyhome.dto;
+
+import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeData;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 청약홈 분양정보 목록용 요약 (전체 문서는 ID 조회로 확인)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplyHomeDataSummaryDto {
+
+    // 목록 조회 시 MongoDB에서 가져오는 필드 (프로젝션)
+    public static final String[] FIELDS = {
+            "HOUSE_MANAGE_NO", "PBLANC_NO", "HOUSE_NM", "HOUSE_SECD_NM", "HOUSE_DTL_SECD_NM", "RENT_SECD_NM",
+            "HSSPLY_ADRES", "SUBSCRPT_AREA_CODE_NM", "RCRIT_PBLANC_DE", "RCEPT_BGNDE", "RCEPT_ENDDE",
+            "PRZWNER_PRESNATN_DE", "TOT_SUPLY_HSHLDCO", "x", "y"
+    };
+
+    private String id;
+    private String houseManageNo;
+    private String announcementNo;
+    private String houseName;
+    private String houseTypeName;
+    private String houseDetailName;
+    private String rentTypeName;
+    private String supplyAddress;
+    private String subscriptionAreaName;
+    private String recruitAnnouncementDate;
+    private String receiptStartDate;
+    private String receiptEndDate;
+    private String winnerAnnouncementDate;
+    private Integer totalSupplyHouseholds;
+    private Double latitude;
+    private Double longitude;
+
+    public static ApplyHomeDataSummaryDto from(ApplyHomeData data) {
+        return ApplyHomeDataSummaryDto.builder()
+                .id(data.getId())
+                .houseManageNo(data.getHouseManageNo())
+                .announcementNo(data.getAnnouncementNo())
+                .houseName(data.getHouseName())
+                .houseTypeName(data.getHouseTypeName())
+                .houseDetailName(data.getHouseDetailName())
+                .rentTypeName(data.getRentTypeName())
+                .supplyAddress(data.getSupplyAddress())
+                .subscriptionAreaName(data.getSubscriptionAreaName())
+                .recruitAnnouncementDate(data.getRecruitAnnouncementDate())
+                .receiptStartDate(data.getReceiptStartDate())
+                .receiptEndDate(data.getReceiptEndDate())
+                .winnerAnnouncementDate(data.getWinnerAnnouncementDate())
+                .totalSupplyHouseholds(data.getTotalSupplyHouseholds())
+                .latitude(data.getLatitude())
+                .longitude(data.getLongitude())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.hana_ti.home_planner.domain.applyhome.dto;
+
+import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeJson;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 청약 공고문 파싱 결과 목록용 요약 (공급금액, 신청자격 등 중첩 항목은 ID 조회로 확인)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplyHomeJsonSummaryDto {
+
+    // 목록 조회 시 MongoDB에서 가져오는 필드 (프로젝션)
+    public static final String[] FIELDS = {
+            "주택유형", "해당지역", "기타지역", "규제지역여부", "재당첨제한", "전매제한",
+            "거주의무기간", "분양가상한제", "택지유형", "계약금상납일", "잔금처리일"
+    };
+
+    private String id;
+    private String houseType;
+    private String region;
+    private String otherRegion;
+    private String regulation;
+    private String reWinningLimit;
+    private String resaleLimit;
+    private String residencePeriod;
+    private String priceCap;
+    private String landType;
+    private String contractDate;
+    private String balanceDate;
+
+    public static ApplyHomeJsonSummaryDto from(ApplyHomeJson json) {
+        return ApplyHomeJsonSummaryDto.builder()
+                .id(json.getId())
+                .houseType(json.getHouseType())
+                .region(json.getRegion())
+                .otherRegion(json.getOtherRegion())
+                .regulation(json.getRegulation())
+                .reWinningLimit(json.getReWinningLimit())
+                .resaleLimit(json.getResaleLimit())
+                .residencePeriod(json.getResidencePeriod())
+                .priceCap(json.getPriceCap())
+                .landType(json.getLandType())
+                .contractDate(json.getContractDate())
+                .balanceDate(json.getBalanceDate())
+                .build();
+    }
+}
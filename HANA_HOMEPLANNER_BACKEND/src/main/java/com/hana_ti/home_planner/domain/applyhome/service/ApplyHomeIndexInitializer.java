@@ -0,0 +1,94 @@
+package com.hana_ti.home_planner.domain.applyhome.service;
+
+import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청약홈 분양정보 컬렉션 인덱스 확인
+ * 기동 시 조회에 필요한 인덱스를 생성(이미 있으면 유지)하고, 대표 조회의 실행 계획이 인덱스를 사용하는지 확인
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplyHomeIndexInitializer {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            ensureIndexes();
+            verifyQueryPlans();
+        } catch (Exception e) {
+            // 인덱스 확인 실패는 조회 성능에만 영향을 주므로 기동은 계속 진행
+            log.error("청약홈 분양정보 인덱스 확인 실패", e);
+        }
+    }
+
+    private void ensureIndexes() {
+        mongoTemplate.indexOps(ApplyHomeData.class).createIndex(new Index()
+                .on("HOUSE_MANAGE_NO", Sort.Direction.ASC)
+                .named("idx_house_manage_no"));
+        mongoTemplate.indexOps(ApplyHomeData.class).createIndex(new Index()
+                .on("RCEPT_BGNDE", Sort.Direction.ASC)
+                .on("RCEPT_ENDDE", Sort.Direction.ASC)
+                .named("idx_rcept_bgnde_endde"));
+        mongoTemplate.indexOps(ApplyHomeData.class).createIndex(new Index()
+                .on("RCRIT_PBLANC_DE", Sort.Direction.DESC)
+                .named("idx_rcrit_pblanc_de"));
+
+        log.info("청약홈 분양정보 인덱스 확인 완료 - 컬렉션: {}", mongoTemplate.getCollectionName(ApplyHomeData.class));
+    }
+
+    /**
+     * 대표 조회 조건의 실행 계획 확인 (컬렉션 전체 스캔이면 경고)
+     */
+    private void verifyQueryPlans() {
+        Map<String, Document> filters = Map.of(
+                "주택관리번호 조회", new Document("HOUSE_MANAGE_NO", "0"),
+                "접수기간 조회", new Document("RCEPT_BGNDE", new Document("$lte", "9999-12-31"))
+                        .append("RCEPT_ENDDE", new Document("$gte", "0000-01-01")),
+                "모집공고일 조회", new Document("RCRIT_PBLANC_DE", new Document("$gte", "0000-01-01")));
+
+        String collection = mongoTemplate.getCollectionName(ApplyHomeData.class);
+        filters.forEach((name, filter) -> {
+            Document explain = mongoTemplate.getDb().runCommand(new Document("explain",
+                    new Document("find", collection).append("filter", filter))
+                    .append("verbosity", "queryPlanner"));
+
+            Object winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan");
+            if (containsStage(winningPlan, "IXSCAN")) {
+                log.info("청약홈 분양정보 실행 계획 확인 - {}: 인덱스 사용", name);
+            } else {
+                log.warn("청약홈 분양정보 실행 계획 확인 - {}: 인덱스 미사용 (계획: {})", name, winningPlan);
+            }
+        });
+    }
+
+    /**
+     * 실행 계획 트리(inputStage/inputStages/queryPlan)에 해당 단계가 있는지 확인
+     */
+    private boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.getString("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -1,15 +1,32 @@
 package com.hana_ti.home_planner.domain.applyhome.service;
 
+import com.hana_ti.home_planner.domain.applyhome.dto.ApplyHomeDataSummaryDto;
+import com.hana_ti.home_planner.domain.applyhome.dto.ApplyHomeJsonSummaryDto;
 import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeData;
 import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeJson;
 import com.hana_ti.home_planner.domain.applyhome.repository.ApplyHomeDataRepository;
 import com.hana_ti.home_planner.domain.applyhome.repository.ApplyHomeJsonRepository;
+import com.hana_ti.home_planner.global.dto.CursorPageResponse;
+import com.hana_ti.home_planner.global.util.CursorUtil;
+import com.hana_ti.home_planner.global.util.NdjsonWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 
 @Service
@@ -19,6 +36,10 @@ public class ApplyHomeService {
 
     private final ApplyHomeJsonRepository applyHomeJsonRepository;
     private final ApplyHomeDataRepository applyHomeDataRepository;
+    private final MongoTemplate mongoTemplate;
+
+    // 내보내기 시 MongoDB 커서가 한 번에 가져오는 문서 수
+    private static final int EXPORT_CURSOR_BATCH_SIZE = 500;
 
     /**
      * ID로 ApplyHomeJson 데이터 조회
@@ -38,6 +59,7 @@ public class ApplyHomeService {
 
     /**
      * 모든 ApplyHomeJson 데이터 조회
+     * 중첩 항목을 포함한 전체 문서를 모두 읽으므로 목록 화면은 getApplyHomeJsonSummaries 사용
      */
     public List<ApplyHomeJson> getAllApplyHomeJson() {
         log.info("모든 ApplyHomeJson 데이터 조회 시작");
@@ -50,6 +72,7 @@ public class ApplyHomeService {
 
     /**
      * 모든 ApplyHomeData 데이터 조회
+     * 전체 문서를 모두 읽으므로 목록 화면은 getApplyHomeDataSummaries 사용
      */
     public List<ApplyHomeData> getAllApplyHomeData() {
         log.info("모든 ApplyHomeData 데이터 조회 시작");
@@ -60,6 +83,40 @@ public class ApplyHomeService {
         return result;
     }
 
+    /**
+     * ApplyHomeJson 요약 목록 조회 (목록 필드만 프로젝션, _id 기준 커서 페이징)
+     */
+    public CursorPageResponse<ApplyHomeJsonSummaryDto> getApplyHomeJsonSummaries(String cursor, int size) {
+        return findSummaries(ApplyHomeJson.class, ApplyHomeJsonSummaryDto.FIELDS, ApplyHomeJson::getId,
+                ApplyHomeJsonSummaryDto::from, cursor, size);
+    }
+
+    /**
+     * ApplyHomeData 요약 목록 조회 (목록 필드만 프로젝션, _id 기준 커서 페이징)
+     */
+    public CursorPageResponse<ApplyHomeDataSummaryDto> getApplyHomeDataSummaries(String cursor, int size) {
+        return findSummaries(ApplyHomeData.class, ApplyHomeDataSummaryDto.FIELDS, ApplyHomeData::getId,
+                ApplyHomeDataSummaryDto::from, cursor, size);
+    }
+
+    /**
+     * 전체 ApplyHomeJson NDJSON 내보내기 (MongoDB 커서 스트리밍)
+     *
+     * @return 출력한 문서 수
+     */
+    public long exportAllApplyHomeJson(NdjsonWriter writer) throws IOException {
+        return export(ApplyHomeJson.class, writer);
+    }
+
+    /**
+     * 전체 ApplyHomeData NDJSON 내보내기 (MongoDB 커서 스트리밍)
+     *
+     * @return 출력한 문서 수
+     */
+    public long exportAllApplyHomeData(NdjsonWriter writer) throws IOException {
+        return export(ApplyHomeData.class, writer);
+    }
+
     /**
      * ID로 ApplyHomeData 데이터 조회
      */
@@ -88,4 +145,79 @@ public class ApplyHomeService {
         return result;
     }
 
+    /**
+     * 요약 목록 조회 공통 처리
+     * 기본 _id 인덱스 순서로 커서 이후 문서를 1건 더 조회하여 다음 페이지 여부 판단
+     * 크기가 1 미만이면 400 응답, 최대 크기를 넘으면 최대 크기로 조회 (limit(0)은 MongoDB에서 제한 없음)
+     */
+    private <T, R> CursorPageResponse<R> findSummaries(Class<T> documentClass, String[] fields,
+                                                       Function<T, String> idGetter, Function<T, R> mapper,
+                                                       String cursor, int size) {
+        log.info("{} 요약 목록 조회 시작 - 크기: {}", documentClass.getSimpleName(), size);
+
+        size = CursorUtil.checkPageSize(size);
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id")).limit(size + 1);
+        if (StringUtils.hasText(cursor)) {
+            query.addCriteria(Criteria.where("_id").gt(CursorUtil.decode(cursor, 1)[0]));
+        }
+        query.fields().include(fields);
+
+        List<T> documents = mongoTemplate.find(query, documentClass);
+
+        boolean hasMore = documents.size() > size;
+        List<T> pageDocuments = hasMore ? documents.subList(0, size) : documents;
+        String nextCursor = hasMore ? CursorUtil.encode(idGetter.apply(pageDocuments.get(pageDocuments.size() - 1))) : null;
+
+        CursorPageResponse<R> result = CursorPageResponse.of(pageDocuments.stream().map(mapper).toList(), hasMore, nextCursor);
+
+        log.info("{} 요약 목록 조회 완료 - 조회 건수: {}건, 다음 페이지 존재: {}",
+                documentClass.getSimpleName(), result.getSize(), result.isHasMore());
+        return result;
+    }
+
+    /**
+     * 여러 주택관리번호의 ApplyHomeData 일괄 조회 (HOUSE_MANAGE_NO $in, 지정 필드만 프로젝션)
+     * 같은 주택관리번호의 문서가 여러 건이면 먼저 조회된 문서 사용 (단건 조회와 동일)
+     *
+     * @param houseManageNos 주택관리번호 목록
+     * @param fields 조회할 필드 (MongoDB 필드명)
+     * @return 주택관리번호별 ApplyHomeData (없는 주택은 포함되지 않음)
+     */
+    public Map<String, ApplyHomeData> getApplyHomeDataByHouseManageNos(Collection<String> houseManageNos, String... fields) {
+        if (houseManageNos.isEmpty()) {
+            return Map.of();
+        }
+        log.info("주택관리번호 일괄 ApplyHomeData 조회 - 관리번호 수: {}", houseManageNos.size());
+
+        Query query = new Query(Criteria.where("HOUSE_MANAGE_NO").in(houseManageNos));
+        query.fields().include(fields).include("HOUSE_MANAGE_NO");
+
+        Map<String, ApplyHomeData> result = new HashMap<>();
+        for (ApplyHomeData data : mongoTemplate.find(query, ApplyHomeData.class)) {
+            result.putIfAbsent(data.getHouseManageNo(), data);
+        }
+
+        log.info("주택관리번호 일괄 ApplyHomeData 조회 완료 - 요청: {}건, 조회: {}건", houseManageNos.size(), result.size());
+        return result;
+    }
+
+    /**
+     * 컬렉션 전체를 커서로 한 문서씩 읽어 바로 출력 (건수와 무관하게 메모리 사용량 일정)
+     */
+    private <T> long export(Class<T> documentClass, NdjsonWriter writer) throws IOException {
+        log.info("{} 내보내기 시작", documentClass.getSimpleName());
+        long startTime = System.currentTimeMillis();
+
+        Query query = new Query().cursorBatchSize(EXPORT_CURSOR_BATCH_SIZE);
+        try (Stream<T> documents = mongoTemplate.stream(query, documentClass)) {
+            Iterator<T> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+
+        log.info("{} 내보내기 완료 - 출력 건수: {}건, 소요시간: {}ms",
+                documentClass.getSimpleName(), writer.getCount(), System.currentTimeMillis() - startTime);
+        return writer.getCount();
+    }
 }
@@ -1,11 +1,14 @@
 package com.hana_ti.home_planner.domain.auth.controller;
 
+import com.hana_ti.home_planner.domain.auth.dto.SmsDeliveryStatusResponseDto;
+import com.hana_ti.home_planner.domain.auth.dto.SmsDispatchStatsResponseDto;
 import com.hana_ti.home_planner.domain.auth.dto.SmsSendRequestDto;
 import com.hana_ti.home_planner.domain.auth.dto.SmsSendResponseDto;
 import com.hana_ti.home_planner.domain.auth.dto.SmsVerificationRequestDto;
 import com.hana_ti.home_planner.domain.auth.dto.SmsVerificationResponseDto;
 import com.hana_ti.home_planner.domain.auth.dto.SmsVerificationConfirmRequestDto;
 import com.hana_ti.home_planner.domain.auth.dto.SmsVerificationConfirmResponseDto;
+import com.hana_ti.home_planner.domain.auth.service.SmsDispatcher;
 import com.hana_ti.home_planner.domain.auth.service.SmsService;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
 import jakarta.validation.Valid;
@@ -21,9 +24,10 @@ import org.springframework.web.bind.annotation.*;
 public class SmsController {
 
     private final SmsService smsService;
+    private final SmsDispatcher smsDispatcher;
 
     /**
-     * 일반 SMS 발송
+     * 일반 SMS 발송 (발송 대기열에 저장 후 즉시 응답)
      * POST /api/auth/sms/send
      */
     @PostMapping("/send")
@@ -34,7 +38,7 @@ public class SmsController {
             SmsSendResponseDto response = smsService.sendSms(request);
             
             if (response.isSuccess()) {
-                return ResponseEntity.ok(ApiResponse.success("SMS가 성공적으로 발송되었습니다.", response));
+                return ResponseEntity.ok(ApiResponse.success("SMS 발송이 요청되었습니다.", response));
             } else {
                 return ResponseEntity.badRequest()
                         .body(ApiResponse.error("SMS 발송에 실패했습니다: " + response.getStatus()));
@@ -93,4 +97,32 @@ public class SmsController {
                     .body(ApiResponse.error("인증번호 검증 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
+
+    /**
+     * SMS 발송 상태 조회
+     * GET /api/auth/sms/messages/{messageId}
+     */
+    @GetMapping("/messages/{messageId}")
+    public ResponseEntity<ApiResponse<SmsDeliveryStatusResponseDto>> getDeliveryStatus(@PathVariable String messageId) {
+        log.info("SMS 발송 상태 조회 API 호출 - 요청ID: {}", messageId);
+
+        try {
+            SmsDeliveryStatusResponseDto response = smsDispatcher.getDeliveryStatus(messageId);
+            return ResponseEntity.ok(ApiResponse.success("SMS 발송 상태를 조회했습니다.", response));
+        } catch (IllegalArgumentException e) {
+            log.warn("SMS 발송 상태 조회 실패 - 요청ID: {}, 오류: {}", messageId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * SMS 발송 통계 조회
+     * GET /api/auth/sms/dispatch/stats
+     */
+    @GetMapping("/dispatch/stats")
+    public ResponseEntity<ApiResponse<SmsDispatchStatsResponseDto>> getDispatchStats() {
+        log.info("SMS 발송 통계 조회 API 호출");
+
+        return ResponseEntity.ok(ApiResponse.success("SMS 발송 통계를 조회했습니다.", smsDispatcher.getStats()));
+    }
 }
@@ -0,0 +1,36 @@
+package com.hana_ti.home_planner.domain.auth.dto;
+
+import com.hana_ti.home_planner.domain.auth.model.SmsOutboxMessage;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+@Getter
+@Builder
+public class SmsDeliveryStatusResponseDto {
+
+    private String messageId; // 발송 요청 ID
+    private String status; // 발송 상태 (PENDING, SENDING, SENT, FAILED)
+    private int attempts; // 발송 시도 횟수
+    private String lastError; // 마지막 실패 사유
+    private LocalDateTime createdAt; // 요청 시각
+    private LocalDateTime sentAt; // 발송 완료 시각
+
+    public static SmsDeliveryStatusResponseDto from(SmsOutboxMessage message) {
+        return SmsDeliveryStatusResponseDto.builder()
+                .messageId(message.getId())
+                .status(message.getStatus().name())
+                .attempts(message.getAttempts())
+                .lastError(message.getLastError())
+                .createdAt(toLocalDateTime(message.getCreatedAt()))
+                .sentAt(toLocalDateTime(message.getSentAt()))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+}
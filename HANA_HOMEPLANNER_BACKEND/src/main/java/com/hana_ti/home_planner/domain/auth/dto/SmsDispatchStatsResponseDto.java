@@ -0,0 +1,19 @@
+package com.hana_ti.home_planner.domain.auth.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SmsDispatchStatsResponseDto {
+
+    private long pendingCount; // 발송 대기 메시지 수 (전체 서버 기준)
+    private long enqueuedCount; // 발송 요청 수 (이 서버 기동 이후)
+    private long sentCount; // 발송 완료 수
+    private long retryCount; // 재시도 예약 수
+    private long failedCount; // 최종 실패 수
+    private long batchCount; // 묶음 발송 요청 수
+    private double averageBatchSize; // 묶음당 평균 메시지 수
+    private double averageBatchDurationMs; // 묶음 발송 평균 소요시간 (ms)
+    private double sentPerSecond; // 최근 1분간 초당 발송 완료 수
+}
@@ -18,6 +18,7 @@ public class SmsSendResponseDto {
     private boolean success;
     private String status;
     private LocalDateTime sentAt;
+    private String messageId; // 발송 요청 ID (발송 상태 조회용)
 
     public static SmsSendResponseDto success(String phoneNumber, String message) {
         return SmsSendResponseDto.builder()
@@ -29,6 +30,17 @@ public class SmsSendResponseDto {
                 .build();
     }
 
+    public static SmsSendResponseDto queued(String phoneNumber, String message, String messageId) {
+        return SmsSendResponseDto.builder()
+                .phoneNumber(phoneNumber)
+                .message(message)
+                .success(true)
+                .status("QUEUED")
+                .sentAt(LocalDateTime.now())
+                .messageId(messageId)
+                .build();
+    }
+
     public static SmsSendResponseDto failure(String phoneNumber, String message, String errorStatus) {
         return SmsSendResponseDto.builder()
                 .phoneNumber(phoneNumber)
@@ -0,0 +1,52 @@
+package com.hana_ti.home_planner.domain.auth.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * SMS 발송 대기열 문서
+ * 요청 시 PENDING으로 저장하고, 발송기가 SENDING으로 선점하여 묶음 발송 후 SENT/FAILED로 기록
+ * 발송 실패 시 재시도 시각(nextAttemptAt)을 늦춰 PENDING으로 되돌리며, 완료된 문서는 expireAt TTL 인덱스로 삭제
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "sms_outbox")
+public class SmsOutboxMessage {
+
+    @Id
+    private String id;
+
+    private String phoneNumber; // 수신번호
+
+    private String text; // 메시지 내용
+
+    private Status status; // 발송 상태
+
+    private int attempts; // 발송 시도 횟수
+
+    private Date nextAttemptAt; // 다음 발송 가능 시각
+
+    private String claimToken; // 발송 선점 토큰
+
+    private Date leaseExpiresAt; // 선점 만료 시각 (만료 시 다른 발송기가 다시 선점)
+
+    private String lastError; // 마지막 실패 사유
+
+    private Date createdAt; // 요청 시각
+
+    private Date sentAt; // 발송 완료 시각
+
+    private Date expireAt; // 문서 삭제 시각 (완료 후 보관 기간 경과 시)
+
+    public enum Status {
+        PENDING, SENDING, SENT, FAILED
+    }
+}
@@ -0,0 +1,78 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CoolSMS 발송 제공자 (다건 발송 API로 묶음 발송)
+ */
+@Component
+@ConditionalOnProperty(name = "sms.provider.fake-enabled", havingValue = "false", matchIfMissing = true)
+@Slf4j
+public class CoolSmsProvider implements SmsProvider {
+
+    @Value("${coolsms.key}")
+    private String smsApiKey;
+
+    @Value("${coolsms.secret}")
+    private String smsApiSecret;
+
+    @Value("${coolsms.from-number}")
+    private String fromNumber;
+
+    private DefaultMessageService messageService;
+
+    @PostConstruct
+    public void init() {
+        this.messageService = NurigoApp.INSTANCE.initialize(smsApiKey, smsApiSecret, "https://api.coolsms.co.kr");
+        log.info("SMS 서비스 초기화 완료 - API Key: {}, From Number: {}", smsApiKey, fromNumber);
+    }
+
+    @Override
+    public Map<String, String> sendBatch(List<OutgoingSms> messages) {
+        List<Message> smsMessages = messages.stream()
+                .map(outgoing -> {
+                    Message message = new Message();
+                    message.setFrom(fromNumber);
+                    message.setTo(outgoing.phoneNumber());
+                    message.setText(outgoing.text());
+                    return message;
+                })
+                .toList();
+
+        try {
+            MultipleDetailMessageSentResponse response = messageService.send(smsMessages);
+            return toFailures(response.getFailedMessageList());
+        } catch (NurigoMessageNotReceivedException e) {
+            // 접수된 메시지가 하나도 없는 경우
+            return toFailures(e.getFailedMessageList());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("CoolSMS 발송 요청 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, String> toFailures(List<FailedMessage> failedMessages) {
+        Map<String, String> failures = new HashMap<>();
+        if (failedMessages != null) {
+            for (FailedMessage failed : failedMessages) {
+                failures.put(failed.getTo(), failed.getStatusCode() + " " + failed.getStatusMessage());
+            }
+        }
+        return failures;
+    }
+}
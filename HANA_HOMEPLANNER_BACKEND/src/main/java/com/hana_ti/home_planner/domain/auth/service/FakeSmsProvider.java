@@ -0,0 +1,74 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가짜 SMS 발송 제공자 (테스트/로컬용, 실제 발송 없이 최근 메시지만 보관)
+ */
+@Component
+@ConditionalOnProperty(name = "sms.provider.fake-enabled", havingValue = "true")
+@Slf4j
+public class FakeSmsProvider implements SmsProvider {
+
+    private static final int MAX_RECENT_MESSAGES = 1000;
+
+    private final Deque<OutgoingSms> recentMessages = new ArrayDeque<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    // 수신번호 → 남은 실패 횟수 (재시도 동작 확인용)
+    private final Map<String, Integer> pendingFailures = new HashMap<>();
+
+    @Override
+    public synchronized Map<String, String> sendBatch(List<OutgoingSms> messages) {
+        Map<String, String> failures = new HashMap<>();
+        for (OutgoingSms message : messages) {
+            Integer remaining = pendingFailures.get(message.phoneNumber());
+            if (remaining != null) {
+                failures.put(message.phoneNumber(), "FAKE_FAILURE");
+                if (remaining <= 1) {
+                    pendingFailures.remove(message.phoneNumber());
+                } else {
+                    pendingFailures.put(message.phoneNumber(), remaining - 1);
+                }
+                continue;
+            }
+            if (recentMessages.size() >= MAX_RECENT_MESSAGES) {
+                recentMessages.removeFirst();
+            }
+            recentMessages.addLast(message);
+        }
+        batchSizes.add(messages.size());
+        log.info("가짜 SMS 발송 - {}건, 실패: {}건", messages.size(), failures.size());
+        return failures;
+    }
+
+    /**
+     * 수신번호로의 다음 발송을 지정한 횟수만큼 실패 처리
+     */
+    public synchronized void failNext(String phoneNumber, int times) {
+        pendingFailures.put(phoneNumber, times);
+    }
+
+    /**
+     * 최근 발송 메시지 (오래된 순)
+     */
+    public synchronized List<OutgoingSms> getRecentMessages() {
+        return List.copyOf(recentMessages);
+    }
+
+    /**
+     * 묶음별 발송 요청 메시지 수 (요청 순)
+     */
+    public synchronized List<Integer> getBatchSizes() {
+        return List.copyOf(batchSizes);
+    }
+}
@@ -0,0 +1,107 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import com.hana_ti.home_planner.global.util.HashedTimerWheel;
+import com.hana_ti.home_planner.global.util.TokenBucket;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 메모리 SMS 인증번호 저장소 (단일 서버, 로컬/테스트용)
+ * 만료 시각을 타이머 휠에 등록하여 만료된 인증 정보와 다 찬 토큰 버킷을 주기적으로 제거하고,
+ * 최대 항목 수를 넘으면 새 번호의 저장을 거부
+ */
+@Component
+@ConditionalOnProperty(name = "sms.verification.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemorySmsVerificationStore implements SmsVerificationStore {
+
+    private static final int WHEEL_SIZE = 512;
+
+    @Value("${sms.verification.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${sms.verification.expiry-tick-ms:1000}")
+    private long expiryTickMs;
+
+    @Value("${sms.verification.rate-limit.capacity:5}")
+    private int rateLimitCapacity;
+
+    @Value("${sms.verification.rate-limit.refill-interval-seconds:60}")
+    private long rateLimitRefillIntervalSeconds;
+
+    private final Map<String, Verification> verifications = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> sendBuckets = new ConcurrentHashMap<>();
+
+    private HashedTimerWheel<String> verificationExpiry;
+    private HashedTimerWheel<String> bucketExpiry;
+
+    @PostConstruct
+    public void init() {
+        verificationExpiry = new HashedTimerWheel<>(expiryTickMs, WHEEL_SIZE);
+        bucketExpiry = new HashedTimerWheel<>(expiryTickMs, WHEEL_SIZE);
+        log.info("SMS 인증번호 메모리 저장소 초기화 완료 - 최대 항목 수: {}, 발송 제한: {}회/{}초당 1회 충전",
+                maxEntries, rateLimitCapacity, rateLimitRefillIntervalSeconds);
+    }
+
+    @Override
+    public void save(String phoneNumber, Verification verification) {
+        if (!verifications.containsKey(phoneNumber) && verifications.size() >= maxEntries) {
+            throw new IllegalStateException("VERIFICATION_STORE_FULL: 인증 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        verifications.put(phoneNumber, verification);
+        verificationExpiry.schedule(phoneNumber, verification.expireTime());
+    }
+
+    @Override
+    public Verification find(String phoneNumber) {
+        return verifications.get(phoneNumber);
+    }
+
+    @Override
+    public void remove(String phoneNumber) {
+        verifications.remove(phoneNumber);
+    }
+
+    @Override
+    public boolean tryAcquireSendPermit(String phoneNumber) {
+        long now = System.currentTimeMillis();
+        long refillIntervalMillis = TimeUnit.SECONDS.toMillis(rateLimitRefillIntervalSeconds);
+        while (true) {
+            TokenBucket bucket = sendBuckets.computeIfAbsent(phoneNumber,
+                    key -> new TokenBucket(rateLimitCapacity, refillIntervalMillis, now));
+            boolean permitted = bucket.tryConsume(now);
+            // 소비 직전에 만료 제거된 버킷이면 새 버킷으로 다시 시도
+            if (sendBuckets.get(phoneNumber) != bucket) {
+                continue;
+            }
+            bucketExpiry.schedule(phoneNumber, bucket.fullAt());
+            return permitted;
+        }
+    }
+
+    /**
+     * 지난 틱의 만료 항목 제거 (등록 후 갱신된 항목은 만료 시각이 달라 유지)
+     */
+    @Scheduled(fixedDelayString = "${sms.verification.expiry-tick-ms:1000}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        int expiredVerifications = verificationExpiry.advance(now, (phoneNumber, deadline) ->
+                verifications.computeIfPresent(phoneNumber,
+                        (key, verification) -> verification.expireTime() <= now ? null : verification));
+        bucketExpiry.advance(now, (phoneNumber, deadline) ->
+                sendBuckets.computeIfPresent(phoneNumber,
+                        (key, bucket) -> bucket.fullAt() <= now ? null : bucket));
+
+        if (expiredVerifications > 0) {
+            log.debug("만료된 SMS 인증번호 정리 - 확인: {}건, 남은 항목: {}건", expiredVerifications, verifications.size());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import com.hana_ti.home_planner.global.util.TokenBucket;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB SMS 인증번호 공유 저장소 (여러 서버 운영용)
+ * 인증 정보와 번호별 토큰 버킷을 컬렉션에 보관하고, expireAt TTL 인덱스로 만료 문서를 자동 삭제
+ * 토큰 버킷은 이전 상태를 조건으로 한 갱신(낙관적 동시성 제어)으로 서버 간 동시 요청에서도 한도를 유지
+ */
+@Component
+@ConditionalOnProperty(name = "sms.verification.store", havingValue = "mongo")
+@RequiredArgsConstructor
+@Slf4j
+public class MongoSmsVerificationStore implements SmsVerificationStore {
+
+    private static final String VERIFICATION_COLLECTION = "sms_verifications";
+    private static final String RATE_LIMIT_COLLECTION = "sms_rate_limits";
+    private static final int MAX_UPDATE_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${sms.verification.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${sms.verification.rate-limit.capacity:5}")
+    private int rateLimitCapacity;
+
+    @Value("${sms.verification.rate-limit.refill-interval-seconds:60}")
+    private long rateLimitRefillIntervalSeconds;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            for (String collection : new String[]{VERIFICATION_COLLECTION, RATE_LIMIT_COLLECTION}) {
+                mongoTemplate.indexOps(collection).createIndex(new Index()
+                        .on("expireAt", Sort.Direction.ASC)
+                        .expire(0, TimeUnit.SECONDS)
+                        .named("idx_expire_at_ttl"));
+            }
+            log.info("SMS 인증번호 저장소 TTL 인덱스 확인 완료 - 컬렉션: {}, {}", VERIFICATION_COLLECTION, RATE_LIMIT_COLLECTION);
+        } catch (Exception e) {
+            // TTL 인덱스가 없어도 만료 확인은 조회 시 수행되므로 기동은 계속 진행
+            log.error("SMS 인증번호 저장소 TTL 인덱스 확인 실패", e);
+        }
+    }
+
+    @Override
+    public void save(String phoneNumber, Verification verification) {
+        if (mongoTemplate.estimatedCount(VERIFICATION_COLLECTION) >= maxEntries
+                && !mongoTemplate.exists(Query.query(Criteria.where("_id").is(phoneNumber)), VERIFICATION_COLLECTION)) {
+            throw new IllegalStateException("VERIFICATION_STORE_FULL: 인증 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        Document document = new Document("_id", phoneNumber)
+                .append("code", verification.code())
+                .append("expireTime", verification.expireTime())
+                .append("name", verification.name())
+                .append("ci", verification.ci())
+                .append("expireAt", new Date(verification.expireTime()));
+        mongoTemplate.save(document, VERIFICATION_COLLECTION);
+    }
+
+    @Override
+    public Verification find(String phoneNumber) {
+        Document document = mongoTemplate.findById(phoneNumber, Document.class, VERIFICATION_COLLECTION);
+        if (document == null) {
+            return null;
+        }
+        return new Verification(
+                document.getString("code"),
+                document.getLong("expireTime"),
+                document.getString("name"),
+                document.getString("ci"));
+    }
+
+    @Override
+    public void remove(String phoneNumber) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(phoneNumber)), VERIFICATION_COLLECTION);
+    }
+
+    @Override
+    public boolean tryAcquireSendPermit(String phoneNumber) {
+        long refillIntervalMillis = TimeUnit.SECONDS.toMillis(rateLimitRefillIntervalSeconds);
+
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            long now = System.currentTimeMillis();
+            Document bucket = mongoTemplate.findById(phoneNumber, Document.class, RATE_LIMIT_COLLECTION);
+
+            if (bucket == null) {
+                double remaining = rateLimitCapacity - 1;
+                try {
+                    mongoTemplate.insert(new Document("_id", phoneNumber)
+                            .append("tokens", remaining)
+                            .append("updatedAt", now)
+                            .append("expireAt", new Date(fullAt(remaining, now, refillIntervalMillis))), RATE_LIMIT_COLLECTION);
+                    return true;
+                } catch (DuplicateKeyException e) {
+                    // 다른 서버가 먼저 생성한 경우 갱신으로 다시 시도
+                    continue;
+                }
+            }
+
+            double tokens = bucket.get("tokens", Number.class).doubleValue();
+            long updatedAt = bucket.getLong("updatedAt");
+            double refilled = TokenBucket.refill(tokens, updatedAt, now, rateLimitCapacity, refillIntervalMillis);
+            if (refilled < 1) {
+                return false;
+            }
+
+            double remaining = refilled - 1;
+            long nextUpdatedAt = Math.max(updatedAt, now);
+            Query unchanged = Query.query(Criteria.where("_id").is(phoneNumber)
+                    .and("tokens").is(tokens)
+                    .and("updatedAt").is(updatedAt));
+            Update update = new Update()
+                    .set("tokens", remaining)
+                    .set("updatedAt", nextUpdatedAt)
+                    .set("expireAt", new Date(fullAt(remaining, nextUpdatedAt, refillIntervalMillis)));
+            UpdateResult result = mongoTemplate.updateFirst(unchanged, update, RATE_LIMIT_COLLECTION);
+            if (result.getModifiedCount() > 0) {
+                return true;
+            }
+        }
+
+        log.warn("SMS 발송 제한 갱신 경합으로 발송을 거부합니다 - 수신번호: {}", phoneNumber);
+        return false;
+    }
+
+    /**
+     * 토큰이 가득 차는 시각 (이후에는 문서가 삭제되어도 동작이 같음)
+     */
+    private long fullAt(double tokens, long updatedAt, long refillIntervalMillis) {
+        return updatedAt + (long) Math.ceil((rateLimitCapacity - tokens) * refillIntervalMillis);
+    }
+}
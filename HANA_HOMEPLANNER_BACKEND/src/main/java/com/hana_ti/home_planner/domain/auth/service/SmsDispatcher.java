@@ -0,0 +1,270 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import com.hana_ti.home_planner.domain.auth.dto.SmsDeliveryStatusResponseDto;
+import com.hana_ti.home_planner.domain.auth.dto.SmsDispatchStatsResponseDto;
+import com.hana_ti.home_planner.domain.auth.model.SmsOutboxMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SMS 비동기 묶음 발송기
+ * 요청 스레드는 발송 대기열에 저장만 하고 즉시 반환하며, 전용 발송 스레드가 대기열을 묶음 단위로 선점하여
+ * 제공자의 다건 발송 API로 전송 (실패 메시지는 지수 백오프로 재시도, 최대 시도 횟수 초과 시 최종 실패)
+ * 발송 요청 시 즉시 깨어나고, 그 외에는 주기적으로 대기열을 확인 (다른 서버의 요청, 재시도 예정 메시지)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SmsDispatcher {
+
+    private static final int THROUGHPUT_WINDOW_SECONDS = 60;
+
+    private final SmsOutboxStore outboxStore;
+    private final SmsProvider smsProvider;
+
+    @Value("${sms.dispatch.batch-size:100}")
+    private int batchSize;
+
+    @Value("${sms.dispatch.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${sms.dispatch.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${sms.dispatch.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${sms.dispatch.retry-backoff-ms:2000}")
+    private long retryBackoffMs;
+
+    @Value("${sms.dispatch.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    @Value("${sms.dispatch.retention-hours:168}")
+    private long retentionHours;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private Thread dispatchThread;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong batchedMessageCount = new AtomicLong();
+    private final AtomicLong batchDurationMs = new AtomicLong();
+
+    // 초 단위 발송 완료 수 (최근 1분 처리량 계산용), this로 동기화
+    private final long[] sentPerSecondBuckets = new long[THROUGHPUT_WINDOW_SECONDS];
+    private final long[] bucketSeconds = new long[THROUGHPUT_WINDOW_SECONDS];
+
+    @PostConstruct
+    public void start() {
+        batchSize = Math.max(batchSize, 1);
+        maxAttempts = Math.max(maxAttempts, 1);
+
+        running = true;
+        dispatchThread = new Thread(this::dispatchLoop, "sms-dispatcher");
+        dispatchThread.setDaemon(true);
+        dispatchThread.start();
+        log.info("SMS 발송기 시작 - 묶음 크기: {}, 확인 주기: {}ms, 최대 시도 횟수: {}", batchSize, pollIntervalMs, maxAttempts);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatchThread.interrupt();
+        dispatchThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 발송 요청 (대기열 저장 후 즉시 반환)
+     *
+     * @return 발송 요청 ID (발송 상태 조회용)
+     */
+    public String enqueue(String phoneNumber, String text) {
+        SmsOutboxMessage message = outboxStore.enqueue(phoneNumber, text);
+        enqueuedCount.incrementAndGet();
+        wakeUps.release();
+        return message.getId();
+    }
+
+    /**
+     * 발송 상태 조회
+     *
+     * @throws IllegalArgumentException 발송 요청이 없거나 보관 기간이 지난 경우
+     */
+    public SmsDeliveryStatusResponseDto getDeliveryStatus(String messageId) {
+        SmsOutboxMessage message = outboxStore.findById(messageId);
+        if (message == null) {
+            throw new IllegalArgumentException("MESSAGE_NOT_FOUND: 발송 요청을 찾을 수 없습니다: " + messageId);
+        }
+        return SmsDeliveryStatusResponseDto.from(message);
+    }
+
+    /**
+     * 발송 통계 조회
+     */
+    public SmsDispatchStatsResponseDto getStats() {
+        long batches = batchCount.get();
+        return SmsDispatchStatsResponseDto.builder()
+                .pendingCount(outboxStore.countByStatus(SmsOutboxMessage.Status.PENDING))
+                .enqueuedCount(enqueuedCount.get())
+                .sentCount(sentCount.get())
+                .retryCount(retryCount.get())
+                .failedCount(failedCount.get())
+                .batchCount(batches)
+                .averageBatchSize(batches > 0 ? (double) batchedMessageCount.get() / batches : 0.0)
+                .averageBatchDurationMs(batches > 0 ? (double) batchDurationMs.get() / batches : 0.0)
+                .sentPerSecond((double) recentSentCount() / THROUGHPUT_WINDOW_SECONDS)
+                .build();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                int claimed = dispatchBatch();
+                if (claimed < batchSize) {
+                    // 대기열을 비웠으면 다음 요청 또는 확인 주기까지 대기
+                    wakeUps.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("SMS 발송 대기열 처리 중 오류 발생 - 오류: {}", e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 묶음 하나 선점 후 발송
+     *
+     * @return 선점한 메시지 수
+     */
+    int dispatchBatch() {
+        List<SmsOutboxMessage> claimed = outboxStore.claimBatch(batchSize, leaseMs);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 제공자 응답의 실패 항목을 수신번호(숫자만)로 구분하므로 같은 번호는 한 묶음에 하나만 발송
+        // 제외한 메시지는 재시도 시각을 현재로 미뤄 다음 선점에서 다른 대기 메시지보다 뒤에 오도록 함
+        List<SmsOutboxMessage> batch = new ArrayList<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        Date releasedUntil = new Date();
+        for (SmsOutboxMessage message : claimed) {
+            if (phoneNumbers.add(normalizePhoneNumber(message.getPhoneNumber()))) {
+                batch.add(message);
+            } else {
+                outboxStore.release(message, releasedUntil);
+            }
+        }
+
+        long startTime = System.currentTimeMillis();
+        Map<String, String> failures;
+        try {
+            Map<String, String> providerFailures = smsProvider.sendBatch(batch.stream()
+                    .map(message -> new SmsProvider.OutgoingSms(normalizePhoneNumber(message.getPhoneNumber()), message.getText()))
+                    .toList());
+            failures = new HashMap<>();
+            for (Map.Entry<String, String> failure : providerFailures.entrySet()) {
+                failures.put(normalizePhoneNumber(failure.getKey()), failure.getValue());
+            }
+        } catch (Exception e) {
+            log.warn("SMS 묶음 발송 요청 실패 - {}건, 오류: {}", batch.size(), e.getMessage());
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            failures = new HashMap<>();
+            for (SmsOutboxMessage message : batch) {
+                failures.put(normalizePhoneNumber(message.getPhoneNumber()), error);
+            }
+        }
+        long duration = System.currentTimeMillis() - startTime;
+
+        long retentionMillis = TimeUnit.HOURS.toMillis(retentionHours);
+        List<SmsOutboxMessage> sent = new ArrayList<>();
+        for (SmsOutboxMessage message : batch) {
+            String error = failures.get(normalizePhoneNumber(message.getPhoneNumber()));
+            if (error == null) {
+                sent.add(message);
+            } else if (message.getAttempts() < maxAttempts) {
+                outboxStore.markFailed(message, error, new Date(System.currentTimeMillis() + backoff(message.getAttempts())), retentionMillis);
+                retryCount.incrementAndGet();
+            } else {
+                outboxStore.markFailed(message, error, null, retentionMillis);
+                failedCount.incrementAndGet();
+                log.error("SMS 발송 최종 실패 - 요청ID: {}, 수신번호: {}, 시도: {}회, 사유: {}",
+                        message.getId(), message.getPhoneNumber(), message.getAttempts(), error);
+            }
+        }
+        outboxStore.markSent(sent, retentionMillis);
+
+        sentCount.addAndGet(sent.size());
+        batchCount.incrementAndGet();
+        batchedMessageCount.addAndGet(batch.size());
+        batchDurationMs.addAndGet(duration);
+        recordSent(sent.size());
+
+        log.info("SMS 묶음 발송 완료 - 발송: {}건, 실패: {}건, 소요시간: {}ms", sent.size(), batch.size() - sent.size(), duration);
+        return claimed.size();
+    }
+
+    /**
+     * 수신번호 정규화 (숫자만 남김, 010-1234-5678과 01012345678을 같은 번호로 취급)
+     */
+    static String normalizePhoneNumber(String phoneNumber) {
+        return phoneNumber == null ? "" : phoneNumber.replaceAll("[^0-9]", "");
+    }
+
+    /**
+     * 재시도 대기 시간 (시도 횟수마다 두 배, 최대 대기 시간 이하)
+     */
+    private long backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(retryBackoffMs << exponent, maxBackoffMs);
+    }
+
+    private synchronized void recordSent(int count) {
+        long second = System.currentTimeMillis() / 1000;
+        int index = (int) (second % THROUGHPUT_WINDOW_SECONDS);
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            sentPerSecondBuckets[index] = 0;
+        }
+        sentPerSecondBuckets[index] += count;
+    }
+
+    private synchronized long recentSentCount() {
+        long second = System.currentTimeMillis() / 1000;
+        long total = 0;
+        for (int i = 0; i < THROUGHPUT_WINDOW_SECONDS; i++) {
+            if (second - bucketSeconds[i] < THROUGHPUT_WINDOW_SECONDS) {
+                total += sentPerSecondBuckets[i];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,175 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import com.hana_ti.home_planner.domain.auth.model.SmsOutboxMessage;
+import com.hana_ti.home_planner.domain.auth.model.SmsOutboxMessage.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMS 발송 대기열 저장소 (MongoDB sms_outbox 컬렉션)
+ * 발송기는 대기 메시지를 선점 토큰으로 한 번에 선점하므로 여러 서버가 같은 대기열을 처리해도 중복 선점하지 않음
+ * 선점 후 선점 만료 시각까지 결과가 기록되지 않으면(서버 중단 등) 다시 선점 대상이 됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SmsOutboxStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(SmsOutboxMessage.class).createIndex(new Index()
+                    .on("status", Sort.Direction.ASC)
+                    .on("nextAttemptAt", Sort.Direction.ASC)
+                    .named("idx_status_next_attempt_at"));
+            mongoTemplate.indexOps(SmsOutboxMessage.class).createIndex(new Index()
+                    .on("claimToken", Sort.Direction.ASC)
+                    .sparse()
+                    .named("idx_claim_token"));
+            mongoTemplate.indexOps(SmsOutboxMessage.class).createIndex(new Index()
+                    .on("expireAt", Sort.Direction.ASC)
+                    .expire(0, TimeUnit.SECONDS)
+                    .named("idx_expire_at_ttl"));
+            log.info("SMS 발송 대기열 인덱스 확인 완료 - 컬렉션: {}", mongoTemplate.getCollectionName(SmsOutboxMessage.class));
+        } catch (Exception e) {
+            // 인덱스 확인 실패는 선점 조회 성능과 완료 문서 정리에만 영향을 주므로 기동은 계속 진행
+            log.error("SMS 발송 대기열 인덱스 확인 실패", e);
+        }
+    }
+
+    /**
+     * 발송 대기 메시지 저장
+     */
+    public SmsOutboxMessage enqueue(String phoneNumber, String text) {
+        Date now = new Date();
+        SmsOutboxMessage message = SmsOutboxMessage.builder()
+                .phoneNumber(phoneNumber)
+                .text(text)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        return mongoTemplate.insert(message);
+    }
+
+    /**
+     * 발송 가능한 메시지를 최대 batchSize개 선점 (요청 순, 선점 시 시도 횟수 증가)
+     */
+    public List<SmsOutboxMessage> claimBatch(int batchSize, long leaseMillis) {
+        Date now = new Date();
+        Query candidates = new Query(claimable(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"))
+                .limit(batchSize);
+        candidates.fields().include("_id");
+        List<String> ids = mongoTemplate.find(candidates, SmsOutboxMessage.class).stream()
+                .map(SmsOutboxMessage::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 조회 후 다른 서버가 먼저 선점한 메시지는 조건에서 제외됨
+        String claimToken = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                new Query(new Criteria().andOperator(Criteria.where("_id").in(ids), claimable(now))),
+                new Update()
+                        .set("status", Status.SENDING)
+                        .set("claimToken", claimToken)
+                        .set("leaseExpiresAt", new Date(now.getTime() + leaseMillis))
+                        .inc("attempts", 1),
+                SmsOutboxMessage.class);
+
+        return mongoTemplate.find(Query.query(Criteria.where("claimToken").is(claimToken))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt")), SmsOutboxMessage.class);
+    }
+
+    /**
+     * 발송 완료 기록
+     */
+    public void markSent(Collection<SmsOutboxMessage> messages, long retentionMillis) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Date now = new Date();
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(messages.stream().map(SmsOutboxMessage::getId).toList())
+                        .and("claimToken").is(messages.iterator().next().getClaimToken())),
+                new Update()
+                        .set("status", Status.SENT)
+                        .set("sentAt", now)
+                        .set("expireAt", new Date(now.getTime() + retentionMillis))
+                        .unset("claimToken")
+                        .unset("leaseExpiresAt")
+                        .unset("lastError"),
+                SmsOutboxMessage.class);
+    }
+
+    /**
+     * 발송 실패 기록 (재시도 시각이 있으면 대기 상태로 되돌리고, 없으면 최종 실패)
+     */
+    public void markFailed(SmsOutboxMessage message, String error, Date nextAttemptAt, long retentionMillis) {
+        Update update = new Update()
+                .set("lastError", error)
+                .unset("claimToken")
+                .unset("leaseExpiresAt");
+        if (nextAttemptAt != null) {
+            update.set("status", Status.PENDING).set("nextAttemptAt", nextAttemptAt);
+        } else {
+            update.set("status", Status.FAILED).set("expireAt", new Date(System.currentTimeMillis() + retentionMillis));
+        }
+        mongoTemplate.updateFirst(claimedBy(message), update, SmsOutboxMessage.class);
+    }
+
+    /**
+     * 선점 해제 (발송하지 않은 메시지를 시도 횟수 변경 없이 대기 상태로 되돌림)
+     *
+     * @param nextAttemptAt 다음 발송 가능 시각 (선점 순서가 재시도 시각 순이므로 늦추면 다른 대기 메시지 뒤로 밀림)
+     */
+    public void release(SmsOutboxMessage message, Date nextAttemptAt) {
+        mongoTemplate.updateFirst(claimedBy(message), new Update()
+                .set("status", Status.PENDING)
+                .set("nextAttemptAt", nextAttemptAt)
+                .inc("attempts", -1)
+                .unset("claimToken")
+                .unset("leaseExpiresAt"), SmsOutboxMessage.class);
+    }
+
+    public SmsOutboxMessage findById(String messageId) {
+        return mongoTemplate.findById(messageId, SmsOutboxMessage.class);
+    }
+
+    public long countByStatus(Status status) {
+        return mongoTemplate.count(Query.query(Criteria.where("status").is(status)), SmsOutboxMessage.class);
+    }
+
+    /**
+     * 선점 가능 조건 (재시도 시각이 지난 대기 메시지, 선점 만료된 발송 중 메시지)
+     */
+    private static Criteria claimable(Date now) {
+        return new Criteria().orOperator(
+                Criteria.where("status").is(Status.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(Status.SENDING).and("leaseExpiresAt").lt(now));
+    }
+
+    private static Query claimedBy(SmsOutboxMessage message) {
+        return Query.query(Criteria.where("_id").is(message.getId()).and("claimToken").is(message.getClaimToken()));
+    }
+}
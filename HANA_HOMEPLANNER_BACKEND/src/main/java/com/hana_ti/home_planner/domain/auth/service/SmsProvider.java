@@ -0,0 +1,29 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMS 발송 제공자
+ * 운영에서는 CoolSMS를 호출하고, 테스트/로컬에서는 sms.provider.fake-enabled=true로 가짜 제공자 사용
+ */
+public interface SmsProvider {
+
+    /**
+     * 여러 메시지를 한 번의 요청으로 발송 (한 묶음 안의 수신번호는 중복되지 않음)
+     *
+     * @param messages 발송할 메시지 목록
+     * @return 발송에 실패한 수신번호 → 실패 사유 (모두 성공하면 빈 맵)
+     * @throws RuntimeException 요청 자체가 실패한 경우 (묶음 전체 재시도)
+     */
+    Map<String, String> sendBatch(List<OutgoingSms> messages);
+
+    /**
+     * 발송할 메시지
+     *
+     * @param phoneNumber 수신번호
+     * @param text 메시지 내용
+     */
+    record OutgoingSms(String phoneNumber, String text) {
+    }
+}
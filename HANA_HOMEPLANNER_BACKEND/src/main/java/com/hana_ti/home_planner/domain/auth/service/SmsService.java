@@ -7,18 +7,12 @@ import com.hana_ti.home_planner.domain.auth.dto.SmsVerificationResponseDto;
 import com.hana_ti.home_planner.domain.auth.dto.SmsVerificationConfirmRequestDto;
 import com.hana_ti.home_planner.domain.auth.dto.SmsVerificationConfirmResponseDto;
 import com.hana_ti.home_planner.global.util.CiUtil;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.nurigo.sdk.NurigoApp;
-import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
-import net.nurigo.sdk.message.model.Message;
-import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -27,46 +21,24 @@ import java.util.concurrent.TimeUnit;
 public class SmsService {
 
     private final CiUtil ciUtil;
+    private final SmsVerificationStore verificationStore;
+    private final SmsDispatcher smsDispatcher;
 
-    @Value("${coolsms.key}")
-    private String smsApiKey;
-
-    @Value("${coolsms.secret}")
-    private String smsApiSecret;
-
-    @Value("${coolsms.from-number}")
-    private String fromNumber;
-
-    private DefaultMessageService messageService;
-
-    private final ConcurrentHashMap<String, VerificationData> verificationStorage = new ConcurrentHashMap<>();
-
-    @PostConstruct
-    public void init() {
-        this.messageService = NurigoApp.INSTANCE.initialize(smsApiKey, smsApiSecret, "https://api.coolsms.co.kr");
-        log.info("SMS 서비스 초기화 완료 - API Key: {}, From Number: {}", smsApiKey, fromNumber);
-    }
+    @Value("${sms.verification.ttl-seconds:300}")
+    private long verificationTtlSeconds;
 
     /**
-     * 일반 SMS 발송
+     * 일반 SMS 발송 (발송 대기열에 저장 후 즉시 반환, 발송 결과는 요청 ID로 조회)
      */
     public SmsSendResponseDto sendSms(SmsSendRequestDto request) {
         log.info("SMS 발송 시작 - 수신번호: {}, 메시지: {}", request.getPhoneNumber(), request.getMessage());
 
         try {
-            Message message = new Message();
-            message.setFrom(fromNumber);
-            message.setTo(request.getPhoneNumber());
-            message.setText(request.getMessage());
-
-            messageService.send(message);
+            String messageId = smsDispatcher.enqueue(request.getPhoneNumber(), request.getMessage());
 
-            log.info("SMS 발송 성공 - 수신번호: {}", request.getPhoneNumber());
-            return SmsSendResponseDto.success(request.getPhoneNumber(), request.getMessage());
+            log.info("SMS 발송 요청 완료 - 수신번호: {}, 요청ID: {}", request.getPhoneNumber(), messageId);
+            return SmsSendResponseDto.queued(request.getPhoneNumber(), request.getMessage(), messageId);
 
-        } catch (NurigoMessageNotReceivedException e) {
-            log.error("SMS 발송 실패 - 수신번호: {}, 실패 메시지: {}", request.getPhoneNumber(), e.getFailedMessageList());
-            return SmsSendResponseDto.failure(request.getPhoneNumber(), request.getMessage(), "SEND_FAILED");
         } catch (Exception e) {
             log.error("SMS 발송 중 오류 발생 - 수신번호: {}, 오류: {}", request.getPhoneNumber(), e.getMessage());
             return SmsSendResponseDto.failure(request.getPhoneNumber(), request.getMessage(), "ERROR");
@@ -74,42 +46,51 @@ public class SmsService {
     }
 
     /**
-     * 인증번호 SMS 발송
+     * 인증번호 SMS 발송 (인증번호 저장 후 발송 대기열에 저장)
      */
     public SmsVerificationResponseDto sendVerificationSms(SmsVerificationRequestDto request) {
         log.info("인증번호 SMS 발송 시작 - 수신번호: {}, 이름: {}", request.getPhoneNumber(), request.getName());
 
+        // 번호별 발송 횟수 제한
+        if (!verificationStore.tryAcquireSendPermit(request.getPhoneNumber())) {
+            log.warn("인증번호 SMS 발송 제한 - 수신번호: {}", request.getPhoneNumber());
+            return SmsVerificationResponseDto.failure(request.getPhoneNumber(), "TOO_MANY_REQUESTS", "인증번호 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
         try {
             // 6자리 인증번호 생성
             String verificationCode = generateVerificationCode();
             String message = String.format("[홈플래너] 인증번호: %s", verificationCode);
 
-            Message smsMessage = new Message();
-            smsMessage.setFrom(fromNumber);
-            smsMessage.setTo(request.getPhoneNumber());
-            smsMessage.setText(message);
-
-            messageService.send(smsMessage);
-
             // CI값 생성
             String ciValue = ciUtil.generateCi(request.getResidentNumber());
             log.info("CI값 생성 완료 - 주민번호: {}, CI: {}", request.getResidentNumber(), ciValue);
 
-            // 인증번호와 사용자 정보를 메모리에 저장 (5분 유효)
-            verificationStorage.put(request.getPhoneNumber(), new VerificationData(
-                    verificationCode, 
-                    System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5),
-                    request.getName(),
-                    ciValue
-            ));
+            // 발송 전에 인증번호와 사용자 정보를 저장 (저장소가 가득 차면 발송하지 않음)
+            try {
+                verificationStore.save(request.getPhoneNumber(), new SmsVerificationStore.Verification(
+                        verificationCode,
+                        System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(verificationTtlSeconds),
+                        request.getName(),
+                        ciValue
+                ));
+            } catch (IllegalStateException e) {
+                log.warn("인증번호 저장 실패 - 수신번호: {}, 사유: {}", request.getPhoneNumber(), e.getMessage());
+                return SmsVerificationResponseDto.failure(request.getPhoneNumber(), "STORE_FULL", "인증 요청이 많아 잠시 후 다시 시도해주세요.");
+            }
+
+            String messageId;
+            try {
+                messageId = smsDispatcher.enqueue(request.getPhoneNumber(), message);
+            } catch (Exception e) {
+                verificationStore.remove(request.getPhoneNumber());
+                throw e;
+            }
 
-            log.info("인증번호 SMS 발송 성공 - 수신번호: {}, 인증번호: {}, 이름: {}", 
-                    request.getPhoneNumber(), verificationCode, request.getName());
+            log.info("인증번호 SMS 발송 요청 완료 - 수신번호: {}, 인증번호: {}, 이름: {}, 요청ID: {}", 
+                    request.getPhoneNumber(), verificationCode, request.getName(), messageId);
             return SmsVerificationResponseDto.success(request.getPhoneNumber());
 
-        } catch (NurigoMessageNotReceivedException e) {
-            log.error("인증번호 SMS 발송 실패 - 수신번호: {}, 실패 메시지: {}", request.getPhoneNumber(), e.getFailedMessageList());
-            return SmsVerificationResponseDto.failure(request.getPhoneNumber(), "SEND_FAILED", "인증번호 발송에 실패했습니다.");
         } catch (Exception e) {
             log.error("인증번호 SMS 발송 중 오류 발생 - 수신번호: {}, 오류: {}", request.getPhoneNumber(), e.getMessage());
             return SmsVerificationResponseDto.failure(request.getPhoneNumber(), "ERROR", "인증번호 발송 중 오류가 발생했습니다.");
@@ -124,7 +105,7 @@ public class SmsService {
 
         try {
             // 저장된 인증번호 조회
-            VerificationData storedData = verificationStorage.get(request.getPhoneNumber());
+            SmsVerificationStore.Verification storedData = verificationStore.find(request.getPhoneNumber());
             
             if (storedData == null) {
                 log.warn("인증번호 검증 실패 - 수신번호: {} (인증번호가 존재하지 않음)", request.getPhoneNumber());
@@ -132,22 +113,22 @@ public class SmsService {
             }
 
             // 만료 시간 확인
-            if (System.currentTimeMillis() > storedData.getExpireTime()) {
+            if (System.currentTimeMillis() > storedData.expireTime()) {
                 log.warn("인증번호 검증 실패 - 수신번호: {} (인증번호 만료)", request.getPhoneNumber());
-                verificationStorage.remove(request.getPhoneNumber()); // 만료된 데이터 제거
+                verificationStore.remove(request.getPhoneNumber()); // 만료된 데이터 제거
                 return SmsVerificationConfirmResponseDto.failure(request.getPhoneNumber(), "EXPIRED", "인증번호가 만료되었습니다. 다시 발송해주세요.");
             }
 
             // 인증번호 일치 확인
-            if (!storedData.getCode().equals(request.getVerificationCode())) {
+            if (!storedData.code().equals(request.getVerificationCode())) {
                 log.warn("인증번호 검증 실패 - 수신번호: {} (인증번호 불일치)", request.getPhoneNumber());
                 return SmsVerificationConfirmResponseDto.failure(request.getPhoneNumber(), "INVALID", "인증번호가 일치하지 않습니다.");
             }
 
             // 인증 성공 - 저장된 인증번호 제거
-            String name = storedData.getName();
-            String ci = storedData.getCi();
-            verificationStorage.remove(request.getPhoneNumber());
+            String name = storedData.name();
+            String ci = storedData.ci();
+            verificationStore.remove(request.getPhoneNumber());
             log.info("인증번호 검증 성공 - 수신번호: {}, 이름: {}, CI: {}", request.getPhoneNumber(), name, ci);
             return SmsVerificationConfirmResponseDto.success(request.getPhoneNumber(), name, ci);
 
@@ -165,37 +146,4 @@ public class SmsService {
         int code = random.nextInt(900000) + 100000; // 100000 ~ 999999
         return String.valueOf(code);
     }
-
-    /**
-     * 인증번호 데이터 내부 클래스
-     */
-    private static class VerificationData {
-        private final String code;
-        private final long expireTime;
-        private final String name;
-        private final String ci;
-
-        public VerificationData(String code, long expireTime, String name, String ci) {
-            this.code = code;
-            this.expireTime = expireTime;
-            this.name = name;
-            this.ci = ci;
-        }
-
-        public String getCode() {
-            return code;
-        }
-
-        public long getExpireTime() {
-            return expireTime;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public String getCi() {
-            return ci;
-        }
-    }
 }
@@ -0,0 +1,42 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+/**
+ * SMS 인증번호 저장소
+ * 기본은 서버 메모리 저장소(sms.verification.store=memory)이며,
+ * 여러 서버로 운영할 때는 MongoDB 공유 저장소(sms.verification.store=mongo)를 사용
+ */
+public interface SmsVerificationStore {
+
+    /**
+     * 인증 정보 저장 (같은 번호의 기존 인증 정보는 교체)
+     *
+     * @throws IllegalStateException 저장소가 가득 찬 경우 (VERIFICATION_STORE_FULL)
+     */
+    void save(String phoneNumber, Verification verification);
+
+    /**
+     * 인증 정보 조회 (없으면 null, 만료 여부는 호출 측에서 확인)
+     */
+    Verification find(String phoneNumber);
+
+    /**
+     * 인증 정보 삭제
+     */
+    void remove(String phoneNumber);
+
+    /**
+     * 번호별 인증번호 발송 허용 여부 확인 (토큰 버킷, 허용 시 토큰 1개 소비)
+     */
+    boolean tryAcquireSendPermit(String phoneNumber);
+
+    /**
+     * 인증 정보
+     *
+     * @param code 인증번호
+     * @param expireTime 만료 시각 (epoch millis)
+     * @param name 이름
+     * @param ci CI값
+     */
+    record Verification(String code, long expireTime, String name, String ci) {
+    }
+}
@@ -19,6 +19,7 @@ import com.hana_ti.home_planner.domain.bank.repository.BankRepository;
 import com.hana_ti.home_planner.domain.bank.repository.TransactionHistoryRepository;
 import com.hana_ti.home_planner.domain.financial.entity.FinancialProduct;
 import com.hana_ti.home_planner.domain.financial.repository.FinancialProductRepository;
+import com.hana_ti.home_planner.domain.financial.service.FinancialCatalogSearchIndex;
 import com.hana_ti.home_planner.domain.savings.entity.PaymentSchedule;
 import com.hana_ti.home_planner.domain.savings.entity.SavingsProduct;
 import com.hana_ti.home_planner.domain.savings.entity.UserSavings;
@@ -53,6 +54,7 @@ public class BankService {
     private final TransactionHistoryRepository transactionHistoryRepository;
     private final FinancialProductRepository financialProductRepository;
     private final SavingsProductRepository savingsProductRepository;
+    private final FinancialCatalogSearchIndex financialCatalogSearchIndex;
 
     /**
      * 모든 은행 조회
@@ -120,7 +122,7 @@ public class BankService {
     public List<BankResponseDto> searchBanksByName(String bankName) {
         log.info("은행명 검색 시작 - 검색어: {}", bankName);
         
-        List<Bank> banks = bankRepository.findByBankNameContaining(bankName);
+        List<Bank> banks = financialCatalogSearchIndex.searchBanksByName(bankName);
         
         log.info("검색된 은행 수: {}개", banks.size());
         
@@ -0,0 +1,89 @@
+package com.hana_ti.home_planner.domain.calander.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 이벤트 월별 집계 (사용자, 연월, 거래유형, 이벤트유형, 상태 단위)
+ * 유형/상태가 없는 이벤트는 NONE으로 집계
+ */
+@Entity
+@Table(name = "MY_CALENDAR_MONTHLY_ROLLUP")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MyCalendarMonthlyRollup {
+
+    public static final String NONE = "NONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ROLLUP_ID")
+    private Long rollupId;
+
+    @Column(name = "USER_ID", length = 36, nullable = false)
+    private String userId;
+
+    @Column(name = "YEAR_MONTH", nullable = false)
+    private Integer yearMonth; // yyyyMM
+
+    @Column(name = "TRANSACTION_TYPE", length = 30, nullable = false)
+    private String transactionType;
+
+    @Column(name = "EVENT_TYPE", length = 30, nullable = false)
+    private String eventType;
+
+    @Column(name = "STATUS", length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "EVENT_COUNT", nullable = false)
+    private Long eventCount;
+
+    @Column(name = "AMOUNT_SUM", precision = 20, scale = 2, nullable = false)
+    private BigDecimal amountSum;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    public static MyCalendarMonthlyRollup create(String userId, int yearMonth, String transactionType, String eventType,
+                                                 String status, long eventCount, BigDecimal amountSum) {
+        MyCalendarMonthlyRollup rollup = new MyCalendarMonthlyRollup();
+        rollup.userId = userId;
+        rollup.yearMonth = yearMonth;
+        rollup.transactionType = transactionType;
+        rollup.eventType = eventType;
+        rollup.status = status;
+        rollup.eventCount = eventCount;
+        rollup.amountSum = amountSum;
+        rollup.updatedAt = LocalDateTime.now();
+        return rollup;
+    }
+
+    /**
+     * 재생성 값으로 교체 (값이 같으면 변경하지 않음)
+     */
+    public void replaceTotals(long eventCount, BigDecimal amountSum) {
+        if (this.eventCount == eventCount && this.amountSum.compareTo(amountSum) == 0) {
+            return;
+        }
+        this.eventCount = eventCount;
+        this.amountSum = amountSum;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public MyCalendarEvent.TransactionType getTransactionTypeValue() {
+        return NONE.equals(transactionType) ? null : MyCalendarEvent.TransactionType.valueOf(transactionType);
+    }
+
+    public MyCalendarEvent.EventType getEventTypeValue() {
+        return NONE.equals(eventType) ? null : MyCalendarEvent.EventType.valueOf(eventType);
+    }
+
+    public MyCalendarEvent.EventStatus getStatusValue() {
+        return NONE.equals(status) ? null : MyCalendarEvent.EventStatus.valueOf(status);
+    }
+}
@@ -102,4 +102,20 @@ public interface MyCalendarEventRepository extends JpaRepository<MyCalendarEvent
      * 사용자별 특정 제목의 캘린더 이벤트 목록 조회
      */
     List<MyCalendarEvent> findByUserIdAndTitle(String userId, String title);
+
+    /**
+     * 캘린더 이벤트가 있는 사용자 ID 목록 (월별 집계 재생성용)
+     */
+    @Query("SELECT DISTINCT e.userId FROM MyCalendarEvent e")
+    List<String> findDistinctUserIds();
+
+    /**
+     * 사용자별 월/거래유형/이벤트유형/상태 단위 건수와 금액 합계 (월별 집계 재생성용)
+     *
+     * @return [연도, 월, 거래유형, 이벤트유형, 상태, 건수, 금액 합계] 목록
+     */
+    @Query("SELECT YEAR(e.eventDate), MONTH(e.eventDate), e.transactionType, e.eventType, e.status, " +
+           "COUNT(e), SUM(e.amount) FROM MyCalendarEvent e WHERE e.userId = :userId " +
+           "GROUP BY YEAR(e.eventDate), MONTH(e.eventDate), e.transactionType, e.eventType, e.status")
+    List<Object[]> aggregateMonthlyByUserId(@Param("userId") String userId);
 }
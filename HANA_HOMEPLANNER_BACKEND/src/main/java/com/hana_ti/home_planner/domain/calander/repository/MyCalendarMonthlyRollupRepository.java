@@ -0,0 +1,36 @@
+package com.hana_ti.home_planner.domain.calander.repository;
+
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarMonthlyRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+
+@Repository
+public interface MyCalendarMonthlyRollupRepository extends JpaRepository<MyCalendarMonthlyRollup, Long> {
+
+    /**
+     * 사용자별 특정 월들의 집계 행 조회
+     */
+    List<MyCalendarMonthlyRollup> findByUserIdAndYearMonthIn(String userId, Collection<Integer> yearMonths);
+
+    /**
+     * 집계 행이 있는 사용자 ID 목록 (이벤트가 모두 삭제된 사용자의 집계 정리용)
+     */
+    @Query("SELECT DISTINCT r.userId FROM MyCalendarMonthlyRollup r")
+    List<String> findDistinctUserIds();
+
+    /**
+     * 사용자별 집계 행 조회 후 행 잠금 (SELECT ... FOR UPDATE, 재생성용)
+     * 잠금 중에는 같은 행에 대한 증감 반영이 재생성 트랜잭션 커밋까지 대기
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM MyCalendarMonthlyRollup r WHERE r.userId = :userId")
+    List<MyCalendarMonthlyRollup> findByUserIdForUpdate(@Param("userId") String userId);
+}
@@ -9,6 +9,7 @@ import com.hana_ti.home_planner.domain.calander.dto.RecurringEventRequestDto;
 import com.hana_ti.home_planner.domain.calander.dto.ConsumptionSummaryResponseDto;
 import com.hana_ti.home_planner.domain.calander.dto.TransactionHistoryRegistrationRequestDto;
 import com.hana_ti.home_planner.domain.calander.entity.MyCalendarEvent;
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarMonthlyRollup;
 import com.hana_ti.home_planner.domain.calander.repository.MyCalendarEventRepository;
 import com.hana_ti.home_planner.domain.bank.entity.Account;
 import com.hana_ti.home_planner.domain.bank.entity.TransactionHistory;
@@ -28,10 +29,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.DayOfWeek;
+import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -49,6 +52,7 @@ public class MyCalendarEventService {
     private final PaymentScheduleRepository paymentScheduleRepository;
     private final LoanContractRepository loanContractRepository;
     private final LoanRepaymentScheduleRepository loanRepaymentScheduleRepository;
+    private final MyCalendarRollupService myCalendarRollupService;
 
     /**
      * 캘린더 이벤트 생성
@@ -74,6 +78,7 @@ public class MyCalendarEventService {
         );
 
         MyCalendarEvent savedEvent = myCalendarEventRepository.save(event);
+        myCalendarRollupService.recordCreated(List.of(savedEvent));
         
         log.info("캘린더 이벤트 생성 완료 - 이벤트ID: {}", savedEvent.getEventId());
         
@@ -90,6 +95,8 @@ public class MyCalendarEventService {
         MyCalendarEvent event = myCalendarEventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("캘린더 이벤트를 찾을 수 없습니다. ID: " + eventId));
 
+        MyCalendarRollupService.Contribution before = MyCalendarRollupService.Contribution.of(event);
+
         if (updateDto.getTitle() != null) {
             event.updateEvent(updateDto.getTitle(), updateDto.getDescription(), updateDto.getAmount());
         }
@@ -99,6 +106,7 @@ public class MyCalendarEventService {
         }
 
         MyCalendarEvent updatedEvent = myCalendarEventRepository.save(event);
+        myCalendarRollupService.recordUpdated(before, updatedEvent);
         
         log.info("캘린더 이벤트 수정 완료 - 이벤트ID: {}", updatedEvent.getEventId());
         
@@ -112,11 +120,11 @@ public class MyCalendarEventService {
     public void deleteEvent(Long eventId) {
         log.info("캘린더 이벤트 삭제 시작 - 이벤트ID: {}", eventId);
 
-        if (!myCalendarEventRepository.existsById(eventId)) {
-            throw new IllegalArgumentException("캘린더 이벤트를 찾을 수 없습니다. ID: " + eventId);
-        }
+        MyCalendarEvent event = myCalendarEventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("캘린더 이벤트를 찾을 수 없습니다. ID: " + eventId));
 
-        myCalendarEventRepository.deleteById(eventId);
+        myCalendarEventRepository.delete(event);
+        myCalendarRollupService.recordDeleted(List.of(event));
         
         log.info("캘린더 이벤트 삭제 완료 - 이벤트ID: {}", eventId);
     }
@@ -264,6 +272,7 @@ public class MyCalendarEventService {
 
         // 모든 이벤트를 한 번에 저장
         List<MyCalendarEvent> savedEvents = myCalendarEventRepository.saveAll(createdEvents);
+        myCalendarRollupService.recordCreated(savedEvents);
 
         log.info("적금 상납 일정 등록 완료 - 생성된 이벤트 수: {}", savedEvents.size());
 
@@ -344,6 +353,7 @@ public class MyCalendarEventService {
 
         // 모든 이벤트를 한 번에 저장
         List<MyCalendarEvent> savedEvents = myCalendarEventRepository.saveAll(createdEvents);
+        myCalendarRollupService.recordCreated(savedEvents);
 
         log.info("대출 상환 일정 등록 완료 - 생성된 이벤트 수: {}", savedEvents.size());
 
@@ -387,6 +397,7 @@ public class MyCalendarEventService {
 
         // 5. 데이터베이스에 저장
         List<MyCalendarEvent> savedEvents = myCalendarEventRepository.saveAll(createdEvents);
+        myCalendarRollupService.recordCreated(savedEvents);
 
         log.info("반복일정 등록 완료 - 생성된 이벤트 수: {}", savedEvents.size());
 
@@ -413,6 +424,7 @@ public class MyCalendarEventService {
 
         // 일정 삭제
         myCalendarEventRepository.deleteByUserIdAndTitle(userId, title);
+        myCalendarRollupService.recordDeleted(eventsToDelete);
 
         log.info("제목으로 일정 삭제 완료 - 사용자ID: {}, 제목: {}, 삭제된 일정 수: {}", userId, title, deleteCount);
         return deleteCount;
@@ -498,36 +510,36 @@ public class MyCalendarEventService {
 
     /**
      * 소비 요약 조회
+     * 이벤트 목록 대신 월별 집계(해당 월 + 전월)를 한 번 조회하여 한 번의 순회로 필요한 합계를 모두 계산
      */
     public ConsumptionSummaryResponseDto getConsumptionSummary(String userId, Integer year, Integer month) {
         log.info("소비 요약 조회 시작 - 사용자ID: {}, 년도: {}, 월: {}", userId, year, month);
 
-        // 해당 월의 시작일과 종료일 계산
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.plusMonths(1).minusDays(1);
+        YearMonth targetMonth = YearMonth.of(year, month);
+        YearMonth prevMonth = targetMonth.minusMonths(1);
 
-        // 해당 월의 모든 이벤트 조회
-        List<MyCalendarEvent> events = myCalendarEventRepository.findByUserIdAndEventDateBetween(userId, startDate, endDate);
-
-        // 전월 데이터 조회 (비교용)
-        LocalDate prevStartDate = startDate.minusMonths(1);
-        LocalDate prevEndDate = prevStartDate.plusMonths(1).minusDays(1);
-        List<MyCalendarEvent> prevEvents = myCalendarEventRepository.findByUserIdAndEventDateBetween(userId, prevStartDate, prevEndDate);
+        // 해당 월과 전월(비교용) 집계 조회
+        MonthlyTotals totals = new MonthlyTotals();
+        MonthlyTotals prevTotals = new MonthlyTotals();
+        int targetKey = targetMonth.getYear() * 100 + targetMonth.getMonthValue();
+        for (MyCalendarMonthlyRollup rollup : myCalendarRollupService.findMonthlyRollups(userId, List.of(targetMonth, prevMonth))) {
+            (rollup.getYearMonth() == targetKey ? totals : prevTotals).add(rollup);
+        }
 
         // 1. 기본 소비 통계 계산
-        ConsumptionSummaryResponseDto.BasicStatistics basicStats = calculateBasicStatistics(events, prevEvents);
+        ConsumptionSummaryResponseDto.BasicStatistics basicStats = calculateBasicStatistics(totals, prevTotals, targetMonth);
 
         // 2. 카테고리별 소비 분석
-        ConsumptionSummaryResponseDto.CategoryAnalysis categoryAnalysis = analyzeCategoryExpense(events);
+        ConsumptionSummaryResponseDto.CategoryAnalysis categoryAnalysis = analyzeCategoryExpense(totals);
 
         // 3. 금융 상품 관련 분석
-        ConsumptionSummaryResponseDto.FinancialProductAnalysis financialAnalysis = analyzeFinancialProducts(events);
+        ConsumptionSummaryResponseDto.FinancialProductAnalysis financialAnalysis = analyzeFinancialProducts(totals);
 
         // 4. 소비 인사이트 및 추천
-        ConsumptionSummaryResponseDto.ConsumptionInsights insights = generateInsights(events, basicStats, categoryAnalysis);
+        ConsumptionSummaryResponseDto.ConsumptionInsights insights = generateInsights(totals, basicStats, categoryAnalysis);
 
         // 5. 목표 기반 분석
-        ConsumptionSummaryResponseDto.GoalBasedAnalysis goalAnalysis = analyzeGoals(events, basicStats);
+        ConsumptionSummaryResponseDto.GoalBasedAnalysis goalAnalysis = analyzeGoals(totals, basicStats);
 
         log.info("소비 요약 조회 완료 - 사용자ID: {}", userId);
 
@@ -546,45 +558,18 @@ public class MyCalendarEventService {
      * 기본 소비 통계 계산
      */
     private ConsumptionSummaryResponseDto.BasicStatistics calculateBasicStatistics(
-            List<MyCalendarEvent> events, List<MyCalendarEvent> prevEvents) {
+            MonthlyTotals totals, MonthlyTotals prevTotals, YearMonth targetMonth) {
         
-        BigDecimal totalIncome = events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.DEPOSIT)
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalExpense = events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.WITHDRAW)
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        int incomeCount = (int) events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.DEPOSIT)
-                .count();
-
-        int expenseCount = (int) events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.WITHDRAW)
-                .count();
-
+        BigDecimal totalIncome = totals.income;
+        BigDecimal totalExpense = totals.expense;
         BigDecimal netAmount = totalIncome.subtract(totalExpense);
 
         // 일평균 소비액 (해당 월의 일수로 나눔)
-        int daysInMonth = events.isEmpty() ? 30 : 
-                (int) events.stream()
-                        .map(MyCalendarEvent::getEventDate)
-                        .max(LocalDate::compareTo)
-                        .orElse(LocalDate.now())
-                        .lengthOfMonth();
+        int daysInMonth = totals.eventCount == 0 ? 30 : targetMonth.lengthOfMonth();
         BigDecimal avgDailyExpense = totalExpense.divide(BigDecimal.valueOf(daysInMonth), 2, java.math.RoundingMode.HALF_UP);
 
         // 전월 대비 변화율 계산
-        BigDecimal prevExpense = prevEvents.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.WITHDRAW)
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal prevExpense = prevTotals.expense;
 
         BigDecimal expenseChangeRate = BigDecimal.ZERO;
         String trend = "유지";
@@ -605,9 +590,9 @@ public class MyCalendarEventService {
                 .totalExpense(totalExpense)
                 .netAmount(netAmount)
                 .avgDailyExpense(avgDailyExpense)
-                .totalTransactionCount(events.size())
-                .incomeCount(incomeCount)
-                .expenseCount(expenseCount)
+                .totalTransactionCount((int) totals.eventCount)
+                .incomeCount((int) totals.incomeCount)
+                .expenseCount((int) totals.expenseCount)
                 .expenseChangeRate(expenseChangeRate)
                 .expenseChangeTrend(trend)
                 .build();
@@ -616,31 +601,14 @@ public class MyCalendarEventService {
     /**
      * 카테고리별 소비 분석
      */
-    private ConsumptionSummaryResponseDto.CategoryAnalysis analyzeCategoryExpense(List<MyCalendarEvent> events) {
-        // 출금만 필터링
-        List<MyCalendarEvent> expenses = events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.WITHDRAW)
-                .collect(Collectors.toList());
-
-        BigDecimal totalExpense = expenses.stream()
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 카테고리별 그룹화
-        Map<MyCalendarEvent.EventType, List<MyCalendarEvent>> groupedByCategory = expenses.stream()
-                .collect(Collectors.groupingBy(MyCalendarEvent::getEventType));
+    private ConsumptionSummaryResponseDto.CategoryAnalysis analyzeCategoryExpense(MonthlyTotals totals) {
+        BigDecimal totalExpense = totals.expense;
 
-        // 카테고리별 소비 계산
-        List<ConsumptionSummaryResponseDto.CategoryExpense> categoryExpenses = groupedByCategory.entrySet().stream()
+        // 카테고리별 소비 계산 (출금만)
+        List<ConsumptionSummaryResponseDto.CategoryExpense> categoryExpenses = totals.expenseCountByCategory.entrySet().stream()
                 .map(entry -> {
                     MyCalendarEvent.EventType eventType = entry.getKey();
-                    List<MyCalendarEvent> categoryEvents = entry.getValue();
-                    
-                    BigDecimal amount = categoryEvents.stream()
-                            .map(MyCalendarEvent::getAmount)
-                            .filter(java.util.Objects::nonNull)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+                    BigDecimal amount = totals.expenseByCategory.getOrDefault(eventType, BigDecimal.ZERO);
                     
                     BigDecimal percentage = totalExpense.compareTo(BigDecimal.ZERO) > 0 
                             ? amount.divide(totalExpense, 4, java.math.RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
@@ -650,7 +618,7 @@ public class MyCalendarEventService {
                             .category(eventType.name())
                             .categoryDescription(eventType.getDescription())
                             .amount(amount)
-                            .count(categoryEvents.size())
+                            .count(entry.getValue().intValue())
                             .percentage(percentage)
                             .build();
                 })
@@ -679,64 +647,37 @@ public class MyCalendarEventService {
     /**
      * 금융 상품 관련 분석
      */
-    private ConsumptionSummaryResponseDto.FinancialProductAnalysis analyzeFinancialProducts(List<MyCalendarEvent> events) {
-        BigDecimal totalExpense = events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.WITHDRAW)
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalIncome = events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.DEPOSIT)
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private ConsumptionSummaryResponseDto.FinancialProductAnalysis analyzeFinancialProducts(MonthlyTotals totals) {
+        BigDecimal totalExpense = totals.expense;
+        BigDecimal totalIncome = totals.income;
 
         // 대출 상환
-        List<MyCalendarEvent> loanEvents = events.stream()
-                .filter(e -> e.getEventType() == MyCalendarEvent.EventType.LOAN)
-                .collect(Collectors.toList());
-        BigDecimal loanAmount = loanEvents.stream()
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal loanAmount = totals.amountOf(MyCalendarEvent.EventType.LOAN);
         BigDecimal loanRate = totalExpense.compareTo(BigDecimal.ZERO) > 0 
                 ? loanAmount.divide(totalExpense, 4, java.math.RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
                 : BigDecimal.ZERO;
 
         // 적금 납입
-        List<MyCalendarEvent> savingsEvents = events.stream()
-                .filter(e -> e.getEventType() == MyCalendarEvent.EventType.SAVINGS)
-                .collect(Collectors.toList());
-        BigDecimal savingsAmount = savingsEvents.stream()
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal savingsAmount = totals.amountOf(MyCalendarEvent.EventType.SAVINGS);
         BigDecimal savingsRate = totalIncome.compareTo(BigDecimal.ZERO) > 0 
                 ? savingsAmount.divide(totalIncome, 4, java.math.RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
                 : BigDecimal.ZERO;
 
         // 카드 사용
-        List<MyCalendarEvent> cardEvents = events.stream()
-                .filter(e -> e.getEventType() == MyCalendarEvent.EventType.CARD)
-                .collect(Collectors.toList());
-        BigDecimal cardAmount = cardEvents.stream()
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal cardAmount = totals.amountOf(MyCalendarEvent.EventType.CARD);
         BigDecimal cardRate = totalExpense.compareTo(BigDecimal.ZERO) > 0 
                 ? cardAmount.divide(totalExpense, 4, java.math.RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
                 : BigDecimal.ZERO;
 
         return ConsumptionSummaryResponseDto.FinancialProductAnalysis.builder()
                 .loanRepaymentAmount(loanAmount)
-                .loanRepaymentCount(loanEvents.size())
+                .loanRepaymentCount(totals.countOf(MyCalendarEvent.EventType.LOAN))
                 .loanRepaymentRate(loanRate)
                 .savingsDepositAmount(savingsAmount)
-                .savingsDepositCount(savingsEvents.size())
+                .savingsDepositCount(totals.countOf(MyCalendarEvent.EventType.SAVINGS))
                 .savingsDepositRate(savingsRate)
                 .cardExpenseAmount(cardAmount)
-                .cardExpenseCount(cardEvents.size())
+                .cardExpenseCount(totals.countOf(MyCalendarEvent.EventType.CARD))
                 .cardExpenseRate(cardRate)
                 .build();
     }
@@ -745,7 +686,7 @@ public class MyCalendarEventService {
      * 소비 인사이트 및 추천 생성
      */
     private ConsumptionSummaryResponseDto.ConsumptionInsights generateInsights(
-            List<MyCalendarEvent> events,
+            MonthlyTotals totals,
             ConsumptionSummaryResponseDto.BasicStatistics basicStats,
             ConsumptionSummaryResponseDto.CategoryAnalysis categoryAnalysis) {
         
@@ -782,7 +723,7 @@ public class MyCalendarEventService {
         }
 
         // 소비 패턴 분석
-        BigDecimal fixedExpenseRate = calculateFixedExpenseRate(events);
+        BigDecimal fixedExpenseRate = calculateFixedExpenseRate(totals);
         BigDecimal variableExpenseRate = BigDecimal.valueOf(100).subtract(fixedExpenseRate);
         String concentration = categoryAnalysis.getTopCategories().isEmpty() ? "낮음" :
                 categoryAnalysis.getTopCategories().get(0).getPercentage().compareTo(BigDecimal.valueOf(50)) > 0 ? "높음" : "보통";
@@ -805,7 +746,7 @@ public class MyCalendarEventService {
     /**
      * 고정비 비율 계산
      */
-    private BigDecimal calculateFixedExpenseRate(List<MyCalendarEvent> events) {
+    private BigDecimal calculateFixedExpenseRate(MonthlyTotals totals) {
         // 고정비로 간주되는 카테고리
         List<MyCalendarEvent.EventType> fixedCategories = Arrays.asList(
                 MyCalendarEvent.EventType.UTILITY,
@@ -815,17 +756,10 @@ public class MyCalendarEventService {
                 MyCalendarEvent.EventType.LOAN
         );
 
-        BigDecimal totalExpense = events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.WITHDRAW)
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalExpense = totals.expense;
 
-        BigDecimal fixedExpense = events.stream()
-                .filter(e -> e.getTransactionType() == MyCalendarEvent.TransactionType.WITHDRAW)
-                .filter(e -> fixedCategories.contains(e.getEventType()))
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
+        BigDecimal fixedExpense = fixedCategories.stream()
+                .map(category -> totals.expenseByCategory.getOrDefault(category, BigDecimal.ZERO))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         return totalExpense.compareTo(BigDecimal.ZERO) > 0 
@@ -837,15 +771,11 @@ public class MyCalendarEventService {
      * 목표 기반 분석
      */
     private ConsumptionSummaryResponseDto.GoalBasedAnalysis analyzeGoals(
-            List<MyCalendarEvent> events,
+            MonthlyTotals totals,
             ConsumptionSummaryResponseDto.BasicStatistics basicStats) {
         
         // 적금 목표 분석
-        BigDecimal actualSavings = events.stream()
-                .filter(e -> e.getEventType() == MyCalendarEvent.EventType.SAVINGS)
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal actualSavings = totals.amountOf(MyCalendarEvent.EventType.SAVINGS);
 
         // 목표 적금액 (수입의 20%로 가정)
         BigDecimal targetSavings = basicStats.getTotalIncome().multiply(BigDecimal.valueOf(0.2));
@@ -876,21 +806,8 @@ public class MyCalendarEventService {
                 .build();
 
         // 대출 목표 분석
-        BigDecimal actualLoanRepayment = events.stream()
-                .filter(e -> e.getEventType() == MyCalendarEvent.EventType.LOAN)
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        List<MyCalendarEvent> scheduledLoans = events.stream()
-                .filter(e -> e.getEventType() == MyCalendarEvent.EventType.LOAN)
-                .filter(e -> e.getStatus() == MyCalendarEvent.EventStatus.SCHEDULED)
-                .collect(Collectors.toList());
-
-        BigDecimal plannedLoanRepayment = scheduledLoans.stream()
-                .map(MyCalendarEvent::getAmount)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal actualLoanRepayment = totals.amountOf(MyCalendarEvent.EventType.LOAN);
+        BigDecimal plannedLoanRepayment = totals.scheduledLoanAmount;
 
         BigDecimal loanAchievementRate = plannedLoanRepayment.compareTo(BigDecimal.ZERO) > 0 
                 ? actualLoanRepayment.divide(plannedLoanRepayment, 4, java.math.RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
@@ -1013,6 +930,7 @@ public class MyCalendarEventService {
         }
 
         List<MyCalendarEvent> savedEvents = myCalendarEventRepository.saveAll(newEvents);
+        myCalendarRollupService.recordCreated(savedEvents);
         
         log.info("계좌 거래내역 캘린더 등록 완료 - 새로 등록된 이벤트 수: {}, 전체 조회된 거래내역 수: {}, 중복 제외된 수: {}", 
                 savedEvents.size(), transactions.size(), calendarEvents.size() - newEvents.size());
@@ -1079,4 +997,63 @@ public class MyCalendarEventService {
             case WITHDRAWAL, LOAN_OUT -> MyCalendarEvent.TransactionType.WITHDRAW;
         };
     }
+
+    /**
+     * 한 달치 월별 집계 합계 (소비 요약 계산용, 금액이 없는 이벤트는 건수에만 포함)
+     */
+    private static final class MonthlyTotals {
+        private long eventCount;
+        private BigDecimal income = BigDecimal.ZERO;
+        private long incomeCount;
+        private BigDecimal expense = BigDecimal.ZERO;
+        private long expenseCount;
+        // 출금 카테고리별 금액/건수 (카테고리 없는 이벤트 제외)
+        private final Map<MyCalendarEvent.EventType, BigDecimal> expenseByCategory = new EnumMap<>(MyCalendarEvent.EventType.class);
+        private final Map<MyCalendarEvent.EventType, Long> expenseCountByCategory = new EnumMap<>(MyCalendarEvent.EventType.class);
+        // 거래 유형과 무관한 이벤트 유형별 금액/건수
+        private final Map<MyCalendarEvent.EventType, BigDecimal> amountByEventType = new EnumMap<>(MyCalendarEvent.EventType.class);
+        private final Map<MyCalendarEvent.EventType, Long> countByEventType = new EnumMap<>(MyCalendarEvent.EventType.class);
+        private BigDecimal scheduledLoanAmount = BigDecimal.ZERO;
+
+        void add(MyCalendarMonthlyRollup rollup) {
+            long count = rollup.getEventCount();
+            if (count == 0) {
+                // 삭제/수정으로 이벤트가 모두 빠진 집계 행은 이벤트가 없는 것과 같음 (빈 카테고리가 응답에 포함되지 않도록)
+                return;
+            }
+            BigDecimal amount = rollup.getAmountSum();
+            MyCalendarEvent.TransactionType transactionType = rollup.getTransactionTypeValue();
+            MyCalendarEvent.EventType eventType = rollup.getEventTypeValue();
+
+            eventCount += count;
+            if (transactionType == MyCalendarEvent.TransactionType.DEPOSIT) {
+                income = income.add(amount);
+                incomeCount += count;
+            } else if (transactionType == MyCalendarEvent.TransactionType.WITHDRAW) {
+                expense = expense.add(amount);
+                expenseCount += count;
+                if (eventType != null) {
+                    expenseByCategory.merge(eventType, amount, BigDecimal::add);
+                    expenseCountByCategory.merge(eventType, count, Long::sum);
+                }
+            }
+
+            if (eventType != null) {
+                amountByEventType.merge(eventType, amount, BigDecimal::add);
+                countByEventType.merge(eventType, count, Long::sum);
+                if (eventType == MyCalendarEvent.EventType.LOAN
+                        && rollup.getStatusValue() == MyCalendarEvent.EventStatus.SCHEDULED) {
+                    scheduledLoanAmount = scheduledLoanAmount.add(amount);
+                }
+            }
+        }
+
+        BigDecimal amountOf(MyCalendarEvent.EventType eventType) {
+            return amountByEventType.getOrDefault(eventType, BigDecimal.ZERO);
+        }
+
+        int countOf(MyCalendarEvent.EventType eventType) {
+            return countByEventType.getOrDefault(eventType, 0L).intValue();
+        }
+    }
 }
@@ -0,0 +1,299 @@
+package com.hana_ti.home_planner.domain.calander.service;
+
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarEvent;
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarMonthlyRollup;
+import com.hana_ti.home_planner.domain.calander.repository.MyCalendarEventRepository;
+import com.hana_ti.home_planner.domain.calander.repository.MyCalendarMonthlyRollupRepository;
+import com.hana_ti.home_planner.global.lock.ScheduledJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캘린더 이벤트 월별 집계 관리
+ * 이벤트 생성/수정/삭제 시 호출 측 트랜잭션 안에서 (사용자, 연월, 거래유형, 이벤트유형, 상태) 단위 건수/금액을 증감하고,
+ * 누락/경합으로 어긋난 집계는 매일 사용자별 전체 재생성으로 보정 (집계 테이블이 비어 있으면 기동 시 전체 생성)
+ * 재생성은 작업 잠금으로 여러 서버 중 한 서버에서만 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MyCalendarRollupService {
+
+    private static final String REBUILD_JOB_NAME = "calendar-monthly-rollup-rebuild";
+
+    // 집계 행 증감 (없으면 생성, 증감 후 건수가 0이면 삭제). 증감은 JDBC로 실행하여 고유 인덱스 위반 시에도 호출 측 트랜잭션이 롤백 전용으로 표시되지 않음
+    private static final String MERGE_DELTA_SQL = "MERGE INTO MY_CALENDAR_MONTHLY_ROLLUP r " +
+            "USING (SELECT :userId USER_ID, :yearMonth YEAR_MONTH, :transactionType TRANSACTION_TYPE, " +
+            "              :eventType EVENT_TYPE, :status STATUS FROM DUAL) s " +
+            "ON (r.USER_ID = s.USER_ID AND r.YEAR_MONTH = s.YEAR_MONTH AND r.TRANSACTION_TYPE = s.TRANSACTION_TYPE " +
+            "    AND r.EVENT_TYPE = s.EVENT_TYPE AND r.STATUS = s.STATUS) " +
+            "WHEN MATCHED THEN UPDATE SET r.EVENT_COUNT = r.EVENT_COUNT + :countDelta, " +
+            "    r.AMOUNT_SUM = r.AMOUNT_SUM + :amountDelta, r.UPDATED_AT = SYSTIMESTAMP " +
+            "    DELETE WHERE r.EVENT_COUNT = 0 " +
+            "WHEN NOT MATCHED THEN INSERT (USER_ID, YEAR_MONTH, TRANSACTION_TYPE, EVENT_TYPE, STATUS, EVENT_COUNT, AMOUNT_SUM, UPDATED_AT) " +
+            "    VALUES (s.USER_ID, s.YEAR_MONTH, s.TRANSACTION_TYPE, s.EVENT_TYPE, s.STATUS, :countDelta, :amountDelta, SYSTIMESTAMP)";
+
+    private final MyCalendarEventRepository myCalendarEventRepository;
+    private final MyCalendarMonthlyRollupRepository myCalendarMonthlyRollupRepository;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledJobLock scheduledJobLock;
+
+    @Value("${calendar.rollup.rebuild-lock-lease-minutes:120}")
+    private long rebuildLockLeaseMinutes;
+
+    /**
+     * 사용자별 특정 월들의 집계 행 조회
+     */
+    @Transactional(readOnly = true)
+    public List<MyCalendarMonthlyRollup> findMonthlyRollups(String userId, Collection<YearMonth> months) {
+        return myCalendarMonthlyRollupRepository.findByUserIdAndYearMonthIn(
+                userId, months.stream().map(MyCalendarRollupService::toYearMonthKey).toList());
+    }
+
+    /**
+     * 생성된 이벤트 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<MyCalendarEvent> events) {
+        Map<Contribution, Delta> deltas = new LinkedHashMap<>();
+        events.forEach(event -> accumulate(deltas, Contribution.of(event), 1));
+        apply(deltas);
+    }
+
+    /**
+     * 삭제된 이벤트 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Collection<MyCalendarEvent> events) {
+        Map<Contribution, Delta> deltas = new LinkedHashMap<>();
+        events.forEach(event -> accumulate(deltas, Contribution.of(event), -1));
+        apply(deltas);
+    }
+
+    /**
+     * 수정된 이벤트 반영 (수정 전 집계 기여분을 빼고 수정 후 기여분을 더함)
+     *
+     * @param before 수정 전 이벤트의 집계 기여분 ({@link Contribution#of}로 수정 전에 추출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Contribution before, MyCalendarEvent after) {
+        Contribution current = Contribution.of(after);
+        if (current.equals(before)) {
+            return;
+        }
+        Map<Contribution, Delta> deltas = new LinkedHashMap<>();
+        accumulate(deltas, before, -1);
+        accumulate(deltas, current, 1);
+        apply(deltas);
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 전체 생성 (도입 전 이벤트 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (myCalendarMonthlyRollupRepository.count() == 0 && myCalendarEventRepository.count() > 0) {
+                rebuildAllExclusively();
+            }
+        } catch (Exception e) {
+            // 집계 생성 실패 시에도 기동은 계속 진행 (정기 재생성에서 다시 시도)
+            log.error("캘린더 월별 집계 초기 생성 실패", e);
+        }
+    }
+
+    /**
+     * 증분 반영 중 경합/누락으로 어긋난 집계 보정을 위한 주기적 전체 재생성
+     */
+    @Scheduled(cron = "${calendar.rollup.full-rebuild-cron:0 40 4 * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuildAllExclusively();
+        } catch (Exception e) {
+            log.error("캘린더 월별 집계 재생성 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 잠금을 선점한 경우에만 전체 재생성 (다른 서버에서 실행 중이면 건너뜀)
+     */
+    private void rebuildAllExclusively() {
+        if (!scheduledJobLock.tryLock(REBUILD_JOB_NAME, Duration.ofMinutes(rebuildLockLeaseMinutes))) {
+            return;
+        }
+        try {
+            rebuildAll();
+        } finally {
+            scheduledJobLock.unlock(REBUILD_JOB_NAME);
+        }
+    }
+
+    /**
+     * 전체 사용자 집계 재생성 (사용자별 트랜잭션, 실패한 사용자는 건너뛰고 다음 재생성에서 다시 시도)
+     * 이벤트가 모두 삭제된 사용자의 남은 집계 행도 정리되도록 집계 테이블의 사용자도 포함
+     */
+    public void rebuildAll() {
+        long startTime = System.currentTimeMillis();
+        Set<String> userIds = new LinkedHashSet<>(myCalendarEventRepository.findDistinctUserIds());
+        userIds.addAll(myCalendarMonthlyRollupRepository.findDistinctUserIds());
+
+        int rowCount = 0;
+        int failedUserCount = 0;
+        for (String userId : userIds) {
+            try {
+                Integer rebuilt = transactionTemplate.execute(status -> rebuildUser(userId));
+                rowCount += rebuilt != null ? rebuilt : 0;
+            } catch (Exception e) {
+                failedUserCount++;
+                log.warn("캘린더 월별 집계 사용자 재생성 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+            }
+        }
+
+        log.info("캘린더 월별 집계 재생성 완료 - 사용자 수: {}명, 실패: {}명, 집계 행 수: {}개, 소요시간: {}ms",
+                userIds.size(), failedUserCount, rowCount, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 사용자 집계 재생성 (이벤트 테이블의 월별 그룹 집계 값으로 교체)
+     * 기존 집계 행을 먼저 잠그고 이벤트를 집계하므로, 잠금 전에 커밋된 증감은 집계 결과에 포함되고
+     * 잠금 이후의 증감은 이 트랜잭션 커밋까지 대기한 뒤 재생성 값 위에 더해짐
+     * 행을 지우고 다시 넣지 않고 키별로 값만 교체하므로 동시 증감이 삭제로 사라지지 않음
+     *
+     * @return 재생성 후 집계 행 수
+     */
+    int rebuildUser(String userId) {
+        Map<Contribution, MyCalendarMonthlyRollup> existing = new HashMap<>();
+        for (MyCalendarMonthlyRollup rollup : myCalendarMonthlyRollupRepository.findByUserIdForUpdate(userId)) {
+            existing.put(new Contribution(rollup.getUserId(), rollup.getYearMonth(), rollup.getTransactionType(),
+                    rollup.getEventType(), rollup.getStatus(), null), rollup);
+        }
+
+        int rowCount = 0;
+        for (Object[] row : myCalendarEventRepository.aggregateMonthlyByUserId(userId)) {
+            Contribution key = new Contribution(
+                    userId,
+                    ((Number) row[0]).intValue() * 100 + ((Number) row[1]).intValue(),
+                    nameOrNone((Enum<?>) row[2]),
+                    nameOrNone((Enum<?>) row[3]),
+                    nameOrNone((Enum<?>) row[4]),
+                    null);
+            long eventCount = ((Number) row[5]).longValue();
+            BigDecimal amountSum = row[6] != null ? (BigDecimal) row[6] : BigDecimal.ZERO;
+
+            MyCalendarMonthlyRollup rollup = existing.remove(key);
+            if (rollup != null) {
+                rollup.replaceTotals(eventCount, amountSum);
+            } else {
+                // 같은 키를 동시 증감이 먼저 생성 중이면 고유 인덱스 위반으로 이 사용자만 실패 (다음 재생성에서 보정)
+                myCalendarMonthlyRollupRepository.save(MyCalendarMonthlyRollup.create(userId, key.yearMonth(),
+                        key.transactionType(), key.eventType(), key.status(), eventCount, amountSum));
+            }
+            rowCount++;
+        }
+
+        // 이벤트가 남지 않은 집계 행 제거
+        myCalendarMonthlyRollupRepository.deleteAll(existing.values());
+        return rowCount;
+    }
+
+    private void apply(Map<Contribution, Delta> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta.count == 0 && delta.amount.signum() == 0) {
+                return;
+            }
+            mergeDelta(key, delta);
+        });
+    }
+
+    /**
+     * 집계 행 증감 반영
+     * 같은 키의 행을 두 트랜잭션이 동시에 처음 생성하면 늦은 쪽은 상대 커밋까지 대기한 뒤 고유 인덱스 위반으로 실패하므로,
+     * 한 번 더 실행하여 생성된 행에 증감 반영
+     */
+    private void mergeDelta(Contribution key, Delta delta) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", key.userId())
+                .addValue("yearMonth", key.yearMonth())
+                .addValue("transactionType", key.transactionType())
+                .addValue("eventType", key.eventType())
+                .addValue("status", key.status())
+                .addValue("countDelta", delta.count)
+                .addValue("amountDelta", delta.amount);
+        try {
+            namedParameterJdbcTemplate.update(MERGE_DELTA_SQL, parameters);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("캘린더 월별 집계 동시 생성 충돌로 증감 재시도 - 사용자: {}, 연월: {}", key.userId(), key.yearMonth());
+            namedParameterJdbcTemplate.update(MERGE_DELTA_SQL, parameters);
+        }
+    }
+
+    /**
+     * 집계 키별 증감 누적 (금액은 키 구분에 사용하지 않음)
+     */
+    private static void accumulate(Map<Contribution, Delta> deltas, Contribution contribution, int sign) {
+        Delta delta = deltas.computeIfAbsent(contribution.withoutAmount(), key -> new Delta());
+        delta.count += sign;
+        if (contribution.amount() != null) {
+            delta.amount = sign > 0 ? delta.amount.add(contribution.amount()) : delta.amount.subtract(contribution.amount());
+        }
+    }
+
+    static int toYearMonthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private static String nameOrNone(Enum<?> value) {
+        return value != null ? value.name() : MyCalendarMonthlyRollup.NONE;
+    }
+
+    /**
+     * 이벤트 하나의 집계 기여분 (집계 키 + 금액)
+     */
+    public record Contribution(String userId, int yearMonth, String transactionType, String eventType,
+                               String status, BigDecimal amount) {
+
+        public static Contribution of(MyCalendarEvent event) {
+            LocalDate eventDate = event.getEventDate();
+            return new Contribution(
+                    event.getUserId(),
+                    toYearMonthKey(YearMonth.from(eventDate)),
+                    nameOrNone(event.getTransactionType()),
+                    nameOrNone(event.getEventType()),
+                    nameOrNone(event.getStatus()),
+                    event.getAmount());
+        }
+
+        Contribution withoutAmount() {
+            return new Contribution(userId, yearMonth, transactionType, eventType, status, null);
+        }
+    }
+
+    private static final class Delta {
+        private long count;
+        private BigDecimal amount = BigDecimal.ZERO;
+    }
+}
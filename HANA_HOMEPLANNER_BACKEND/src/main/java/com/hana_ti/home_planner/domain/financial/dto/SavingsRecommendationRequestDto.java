@@ -26,4 +26,8 @@ public class SavingsRecommendationRequestDto {
     @NotNull(message = "월 저축액은 필수입니다")
     @DecimalMin(value = "0", message = "월 저축액은 0원 이상이어야 합니다")
     private BigDecimal monthlySaving; // 사용자가 가능한 월 저축액
+
+    @Min(value = 1, message = "추천 개수는 1개 이상이어야 합니다")
+    @Max(value = 10, message = "추천 개수는 10개 이하여야 합니다")
+    private Integer recommendCount; // 추천 상품 개수 (미입력 시 1개)
 }
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -14,6 +15,8 @@ import java.math.BigDecimal;
 public class SavingsRecommendationResponseDto {
     
     private RecommendedSavingsProductDto recommendedProduct;
+
+    private List<RecommendedSavingsProductDto> alternativeProducts; // 차순위 추천 상품 (점수 내림차순)
     
     @Data
     @NoArgsConstructor
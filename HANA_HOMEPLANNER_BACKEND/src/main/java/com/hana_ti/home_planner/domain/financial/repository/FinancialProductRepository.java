@@ -50,4 +50,10 @@ public interface FinancialProductRepository extends JpaRepository<FinancialProdu
      */
     @Query("SELECT fp FROM FinancialProduct fp JOIN FETCH fp.bank WHERE fp.productId = :productId")
     Optional<FinancialProduct> findByIdWithBank(@Param("productId") String productId);
+
+    /**
+     * 은행 정보와 함께 전체 상품 조회 (검색 인덱스 생성용)
+     */
+    @Query("SELECT fp FROM FinancialProduct fp JOIN FETCH fp.bank")
+    List<FinancialProduct> findAllWithBank();
 }
@@ -0,0 +1,88 @@
+package com.hana_ti.home_planner.domain.financial.service;
+
+import com.hana_ti.home_planner.domain.bank.entity.Bank;
+import com.hana_ti.home_planner.domain.bank.repository.BankRepository;
+import com.hana_ti.home_planner.domain.financial.entity.FinancialProduct;
+import com.hana_ti.home_planner.domain.financial.repository.FinancialProductRepository;
+import com.hana_ti.home_planner.global.util.NGramSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 금융상품명/은행명 n-gram 검색 인덱스
+ * LIKE '%검색어%' 쿼리 대신 메모리 역색인으로 부분일치 및 오타허용 검색 수행
+ * 애플리케이션 기동 시 및 주기적으로 카탈로그를 다시 읽어 인덱스 전체를 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FinancialCatalogSearchIndex {
+
+    private final FinancialProductRepository financialProductRepository;
+    private final BankRepository bankRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 상품명으로 금융상품 검색
+     */
+    public List<FinancialProduct> searchProductsByName(String productName) {
+        return getSnapshot().productNameIndex().search(productName);
+    }
+
+    /**
+     * 은행명으로 금융상품 검색
+     */
+    public List<FinancialProduct> searchProductsByBankName(String bankName) {
+        return getSnapshot().productBankNameIndex().search(bankName);
+    }
+
+    /**
+     * 은행명으로 은행 검색
+     */
+    public List<Bank> searchBanksByName(String bankName) {
+        return getSnapshot().bankNameIndex().search(bankName);
+    }
+
+    /**
+     * 카탈로그 재조회 후 인덱스 재생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${catalog.search-index.refresh-interval-ms:600000}",
+            initialDelayString = "${catalog.search-index.refresh-interval-ms:600000}")
+    public synchronized void refresh() {
+        long startTime = System.currentTimeMillis();
+
+        List<FinancialProduct> products = financialProductRepository.findAllWithBank();
+        List<Bank> banks = bankRepository.findAll();
+
+        snapshot = new Snapshot(
+                NGramSearchIndex.build(products, FinancialProduct::getProductName),
+                NGramSearchIndex.build(products, product -> product.getBank().getBankName()),
+                NGramSearchIndex.build(banks, Bank::getBankName)
+        );
+
+        log.info("금융상품 검색 인덱스 갱신 완료 - 상품: {}개, 은행: {}개, 소요시간: {}ms",
+                products.size(), banks.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private record Snapshot(NGramSearchIndex<FinancialProduct> productNameIndex,
+                            NGramSearchIndex<FinancialProduct> productBankNameIndex,
+                            NGramSearchIndex<Bank> bankNameIndex) {
+    }
+}
@@ -27,6 +27,7 @@ public class FinancialProductService {
     private final FinancialProductRepository financialProductRepository;
     private final SavingsProductRepository savingsProductRepository;
     private final LoanProductRepository loanProductRepository;
+    private final FinancialCatalogSearchIndex financialCatalogSearchIndex;
 
     /**
      * 모든 금융상품 조회
@@ -206,7 +207,7 @@ public class FinancialProductService {
     public List<FinancialProductResponseDto> searchProductsByName(String productName) {
         log.info("상품명 검색 시작 - 검색어: {}", productName);
         
-        List<FinancialProduct> products = financialProductRepository.findByProductNameContaining(productName);
+        List<FinancialProduct> products = financialCatalogSearchIndex.searchProductsByName(productName);
         
         log.info("검색된 금융상품 수: {}개", products.size());
         
@@ -221,7 +222,7 @@ public class FinancialProductService {
     public List<FinancialProductResponseDto> searchProductsByBankName(String bankName) {
         log.info("은행명으로 금융상품 검색 시작 - 검색어: {}", bankName);
         
-        List<FinancialProduct> products = financialProductRepository.findByBankNameContaining(bankName);
+        List<FinancialProduct> products = financialCatalogSearchIndex.searchProductsByBankName(bankName);
         
         log.info("검색된 금융상품 수: {}개", products.size());
         
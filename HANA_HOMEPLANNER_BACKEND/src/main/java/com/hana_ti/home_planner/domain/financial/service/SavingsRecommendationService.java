@@ -2,7 +2,7 @@ package com.hana_ti.home_planner.domain.financial.service;
 
 import com.hana_ti.home_planner.domain.financial.dto.SavingsRecommendationRequestDto;
 import com.hana_ti.home_planner.domain.financial.dto.SavingsRecommendationResponseDto;
-import com.hana_ti.home_planner.domain.financial.repository.FinancialProductRepository;
+import com.hana_ti.home_planner.domain.financial.entity.FinancialProduct;
 import com.hana_ti.home_planner.domain.savings.entity.SavingsProduct;
 import com.hana_ti.home_planner.domain.savings.repository.SavingsProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,8 +12,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +25,6 @@ import java.util.List;
 public class SavingsRecommendationService {
 
     private final SavingsProductRepository savingsProductRepository;
-    private final FinancialProductRepository financialProductRepository;
 
     /**
      * 적금 상품 추천 메인 로직
@@ -32,8 +34,8 @@ public class SavingsRecommendationService {
                 request.getTargetAmount(), request.getRemainingMonths(), 
                 request.getMonthlySaving());
 
-        // 1. 모든 적금 상품 조회
-        List<SavingsProduct> allProducts = savingsProductRepository.findAll();
+        // 1. 모든 적금 상품 조회 (금융상품/은행 정보 포함 단일 쿼리)
+        List<SavingsProduct> allProducts = savingsProductRepository.findAllWithFinancialProductAndBank();
         log.info("전체 적금 상품 조회 완료 - 총 {}개 상품", allProducts.size());
 
         // 2. 조건 필터링
@@ -45,12 +47,14 @@ public class SavingsRecommendationService {
             return createEmptyResponse();
         }
 
-        // 3. 우선순위 스코어링 및 최적 상품 선택
-        SavingsProduct bestProduct = selectBestProduct(filteredProducts, request);
-        log.info("최적 상품 선택 완료 - 상품ID: {}", bestProduct.getProductId());
+        // 3. 우선순위 스코어링 및 상위 상품 선택
+        int recommendCount = request.getRecommendCount() != null ? request.getRecommendCount() : 1;
+        List<SavingsProduct> topProducts = selectTopProducts(filteredProducts, request, recommendCount);
+        log.info("최적 상품 선택 완료 - 상품ID: {}, 선택 상품 수: {}", 
+                topProducts.get(0).getProductId(), topProducts.size());
 
         // 4. 응답 생성
-        return createRecommendationResponse(bestProduct, request);
+        return createRecommendationResponse(topProducts, request);
     }
 
     /**
@@ -94,13 +98,32 @@ public class SavingsRecommendationService {
     }
 
     /**
-     * 우선순위 스코어링으로 최적 상품 선택
+     * 우선순위 스코어링으로 상위 K개 상품 선택
+     * 크기 K의 최소 힙을 유지하여 전체 정렬 없이 O(n log K)로 선택
      */
-    private SavingsProduct selectBestProduct(List<SavingsProduct> products, 
-                                           SavingsRecommendationRequestDto request) {
-        return products.stream()
-                .max(Comparator.comparingDouble(product -> calculateScore(product, request)))
-                .orElse(products.get(0));
+    private List<SavingsProduct> selectTopProducts(List<SavingsProduct> products, 
+                                                  SavingsRecommendationRequestDto request, int k) {
+        PriorityQueue<ScoredProduct> heap = new PriorityQueue<>(k, Comparator.comparingDouble(ScoredProduct::score));
+
+        for (SavingsProduct product : products) {
+            double score = calculateScore(product, request);
+            if (heap.size() < k) {
+                heap.offer(new ScoredProduct(product, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.offer(new ScoredProduct(product, score));
+            }
+        }
+
+        List<SavingsProduct> topProducts = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            topProducts.add(heap.poll().product());
+        }
+        Collections.reverse(topProducts);
+        return topProducts;
+    }
+
+    private record ScoredProduct(SavingsProduct product, double score) {
     }
 
     /**
@@ -159,10 +182,27 @@ public class SavingsRecommendationService {
     /**
      * 추천 응답 생성
      */
-    private SavingsRecommendationResponseDto createRecommendationResponse(SavingsProduct product, 
+    private SavingsRecommendationResponseDto createRecommendationResponse(List<SavingsProduct> topProducts, 
                                                                         SavingsRecommendationRequestDto request) {
-        // FinancialProduct 정보 조회
-        var financialProduct = financialProductRepository.findByIdWithBank(product.getProductId()).orElse(null);
+        var recommendedProduct = createRecommendedProduct(topProducts.get(0), request);
+
+        var alternativeProducts = topProducts.stream()
+                .skip(1)
+                .map(product -> createRecommendedProduct(product, request))
+                .toList();
+
+        return SavingsRecommendationResponseDto.builder()
+                .recommendedProduct(recommendedProduct)
+                .alternativeProducts(alternativeProducts)
+                .build();
+    }
+
+    /**
+     * 추천 상품 DTO 생성 (금융상품/은행 정보는 사전 조회된 연관 엔티티 사용)
+     */
+    private SavingsRecommendationResponseDto.RecommendedSavingsProductDto createRecommendedProduct(
+            SavingsProduct product, SavingsRecommendationRequestDto request) {
+        FinancialProduct financialProduct = product.getFinancialProduct();
         
         // 예상 만기 수령액 계산
         BigDecimal expectedAmount = calculateExpectedMaturityAmount(
@@ -208,9 +248,7 @@ public class SavingsRecommendationService {
         log.info("적금 추천 완료 - 상품명: {}, 예상만기금액: {}, 달성률: {}%", 
                 recommendedProduct.getProdName(), expectedAmount, achievementRate);
         
-        return SavingsRecommendationResponseDto.builder()
-                .recommendedProduct(recommendedProduct)
-                .build();
+        return recommendedProduct;
     }
 
     /**
@@ -288,6 +326,7 @@ public class SavingsRecommendationService {
         
         return SavingsRecommendationResponseDto.builder()
                 .recommendedProduct(emptyProduct)
+                .alternativeProducts(List.of())
                 .build();
     }
 }
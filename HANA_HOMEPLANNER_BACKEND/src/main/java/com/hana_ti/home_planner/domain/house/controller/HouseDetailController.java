@@ -1,14 +1,27 @@
 package com.hana_ti.home_planner.domain.house.controller;
 
-import com.hana_ti.home_planner.domain.house.dto.HouseDetailResponseDto;
+import com.hana_ti.home_planner.domain.house.dto.HouseFacetSearchRequestDto;
+import com.hana_ti.home_planner.domain.house.dto.HouseFacetSearchResponseDto;
+import com.hana_ti.home_planner.domain.house.dto.HouseViewportResponseDto;
+import com.hana_ti.home_planner.domain.house.dto.SimilarHouseResponseDto;
+import com.hana_ti.home_planner.domain.house.service.HouseDetailReadModel;
+import com.hana_ti.home_planner.domain.house.service.HouseFacetSearchService;
+import com.hana_ti.home_planner.domain.house.service.HouseMapViewportService;
+import com.hana_ti.home_planner.domain.house.service.HouseResponseCache;
 import com.hana_ti.home_planner.domain.house.service.HouseSalesInfoService;
+import com.hana_ti.home_planner.domain.house.service.HouseSimilarityService;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,6 +32,10 @@ import java.util.List;
 public class HouseDetailController {
 
     private final HouseSalesInfoService houseSalesInfoService;
+    private final HouseMapViewportService houseMapViewportService;
+    private final HouseFacetSearchService houseFacetSearchService;
+    private final HouseSimilarityService houseSimilarityService;
+    private final HouseResponseCache houseResponseCache;
 
     /**
      * 전체 주택 상세 정보 조회 (좌표 포함)
@@ -31,13 +48,76 @@ public class HouseDetailController {
      * - 가격 정보 요약 (주택형 수, 면적 범위, 분양가 범위, 세대수 등)
      */
     @GetMapping("/details")
-    public ResponseEntity<ApiResponse<List<HouseDetailResponseDto>>> getAllHouseDetails() {
+    public ResponseEntity<byte[]> getAllHouseDetails(WebRequest webRequest) {
         log.info("전체 주택 상세 정보 조회 API 호출 (좌표 포함)");
 
-        List<HouseDetailResponseDto> result = houseSalesInfoService.getAllHouseDetailsWithCoordinates();
+        HouseDetailReadModel.Snapshot snapshot = houseSalesInfoService.getHouseDetailSnapshot();
 
-        log.info("전체 주택 상세 정보 조회 완료 - 조회된 정보 수: {}개", result.size());
+        // 응답 버전은 실제 응답에 사용하는 스냅샷 기준 (변경 감지 직후 스냅샷 교체 전 요청이 새 버전으로 캐시되지 않도록)
+        // 적재 없이 재생성된 스냅샷(기존 행 수정/삭제 반영)도 새 버전이 되도록 스냅샷 생성 시각 포함
+        HouseResponseCache.DataVersion version = new HouseResponseCache.DataVersion(snapshot.tag(), snapshot.builtAt());
 
-        return ResponseEntity.ok(ApiResponse.success("주택 상세 정보 조회 완료", result));
+        return houseResponseCache.respond("house-details", version, webRequest, () -> {
+            log.info("전체 주택 상세 정보 조회 완료 - 조회된 정보 수: {}개", snapshot.details().size());
+            return ApiResponse.success("주택 상세 정보 조회 완료", snapshot.details());
+        });
+    }
+
+    /**
+     * 지도 화면 영역 주택 조회
+     * GET /api/house/details/viewport?swLat=37.4&swLng=126.8&neLat=37.7&neLng=127.2&level=8
+     *
+     * 카카오맵 레벨에 따라 응답 형태가 달라집니다.
+     * - 레벨 6 이하: 화면 영역 내 개별 주택 (HOUSE)
+     * - 레벨 7 이상 또는 개별 주택 수 초과: 격자 클러스터 및 지역별 평균 주택 가격 (CLUSTER)
+     */
+    @GetMapping("/details/viewport")
+    public ResponseEntity<ApiResponse<HouseViewportResponseDto>> getHouseDetailsInViewport(
+            @RequestParam double swLat,
+            @RequestParam double swLng,
+            @RequestParam double neLat,
+            @RequestParam double neLng,
+            @RequestParam int level) {
+        log.info("지도 화면 영역 주택 조회 API 호출 - 영역: ({}, {}) ~ ({}, {}), 레벨: {}", swLat, swLng, neLat, neLng, level);
+
+        HouseViewportResponseDto response = houseMapViewportService.getViewport(swLat, swLng, neLat, neLng, level);
+
+        log.info("지도 화면 영역 주택 조회 완료 - 모드: {}, 주택 수: {}개", response.getMode(), response.getTotalCount());
+
+        return ResponseEntity.ok(ApiResponse.success("지도 화면 영역 주택 조회 완료", response));
+    }
+
+    /**
+     * 주택 통합 패싯 검색
+     * POST /api/house/search
+     *
+     * 지역, 지정 여부, 주택구분, 분양가/면적 범위, 입주예정월, 모집공고일 조건을 한 번에 적용하고
+     * 항목별 값 건수(패싯)를 함께 반환합니다. 같은 항목 내 복수 값은 OR, 항목 간은 AND 조건입니다.
+     */
+    @PostMapping("/search")
+    public ResponseEntity<ApiResponse<HouseFacetSearchResponseDto>> searchHouses(
+            @RequestBody HouseFacetSearchRequestDto requestDto) {
+        log.info("주택 통합 패싯 검색 API 호출 - 요청: {}", requestDto);
+
+        HouseFacetSearchResponseDto response = houseFacetSearchService.search(requestDto);
+
+        return ResponseEntity.ok(ApiResponse.success("주택 통합 검색 완료", response));
+    }
+
+    /**
+     * 유사 주택 조회
+     * GET /api/house/details/{houseManagementNumber}/similar?k=10
+     *
+     * 위치, 분양가, 공급면적, 공급규모, 규제 지정 여부가 비슷한 주택을 유사도 순으로 반환합니다.
+     */
+    @GetMapping("/details/{houseManagementNumber}/similar")
+    public ResponseEntity<ApiResponse<List<SimilarHouseResponseDto>>> getSimilarHouses(
+            @PathVariable Long houseManagementNumber,
+            @RequestParam(name = "k", defaultValue = "10") int k) {
+        log.info("유사 주택 조회 API 호출 - 주택관리번호: {}, 개수: {}", houseManagementNumber, k);
+
+        List<SimilarHouseResponseDto> similarHouses = houseSimilarityService.findSimilarHouses(houseManagementNumber, k);
+
+        return ResponseEntity.ok(ApiResponse.success("유사 주택 조회 완료", similarHouses));
     }
 }
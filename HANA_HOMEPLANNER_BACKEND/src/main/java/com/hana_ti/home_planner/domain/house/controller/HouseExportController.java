@@ -0,0 +1,51 @@
+package com.hana_ti.home_planner.domain.house.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hana_ti.home_planner.domain.house.service.HousePriceInfoService;
+import com.hana_ti.home_planner.domain.house.service.HouseSalesInfoService;
+import com.hana_ti.home_planner.global.util.NdjsonWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/house/export")
+@RequiredArgsConstructor
+@Slf4j
+public class HouseExportController {
+
+    private final HouseSalesInfoService houseSalesInfoService;
+    private final HousePriceInfoService housePriceInfoService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 주택 판매 정보 내보내기 (NDJSON 스트리밍)
+     * GET /api/house/export/sales-info?gzip=true
+     */
+    @GetMapping("/sales-info")
+    public ResponseEntity<StreamingResponseBody> exportHouseSalesInfo(
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("주택 판매 정보 내보내기 API 호출 - gzip: {}", gzip);
+
+        return NdjsonWriter.streamingResponse("house-sales-info", gzip, objectMapper,
+                houseSalesInfoService::exportAllHouseSalesInfo);
+    }
+
+    /**
+     * 전체 주택 가격 정보 내보내기 (NDJSON 스트리밍)
+     * GET /api/house/export/price-info?gzip=true
+     */
+    @GetMapping("/price-info")
+    public ResponseEntity<StreamingResponseBody> exportHousePriceInfo(
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        log.info("주택 가격 정보 내보내기 API 호출 - gzip: {}", gzip);
+
+        return NdjsonWriter.streamingResponse("house-price-info", gzip, objectMapper,
+                housePriceInfoService::exportAllHousePriceInfo);
+    }
+}
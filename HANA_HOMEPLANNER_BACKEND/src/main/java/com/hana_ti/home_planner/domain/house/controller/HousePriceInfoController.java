@@ -1,8 +1,12 @@
 package com.hana_ti.home_planner.domain.house.controller;
 
+import com.hana_ti.home_planner.domain.house.dto.HousePriceDistributionResponseDto;
 import com.hana_ti.home_planner.domain.house.dto.HousePriceInfoResponseDto;
+import com.hana_ti.home_planner.domain.house.service.HousePriceAggregateStore;
 import com.hana_ti.home_planner.domain.house.service.HousePriceInfoService;
+import com.hana_ti.home_planner.domain.house.service.HouseResponseCache;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
+import com.hana_ti.home_planner.global.dto.CursorPageResponse;
 import com.hana_ti.home_planner.global.dto.ErrorResponse;
 import com.hana_ti.home_planner.global.util.NumberUtil;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -22,6 +27,8 @@ import java.util.Optional;
 public class HousePriceInfoController {
 
     private final HousePriceInfoService housePriceInfoService;
+    private final HousePriceAggregateStore housePriceAggregateStore;
+    private final HouseResponseCache houseResponseCache;
 
     /**
      * 모든 주택 가격 정보 조회 (페이징 포함)
@@ -38,6 +45,21 @@ public class HousePriceInfoController {
         return ResponseEntity.ok(ApiResponse.success("주택 가격 정보 조회 완료", result));
     }
 
+    /**
+     * 모든 주택 가격 정보 조회 (커서 기반 페이징)
+     * GET /api/house/price-info/cursor?size=10&cursor={nextCursor}
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<HousePriceInfoResponseDto>>> getAllHousePriceInfoWithCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        log.info("모든 주택 가격 정보 조회 API 호출 (커서 페이징) - 크기: {}", size);
+
+        CursorPageResponse<HousePriceInfoResponseDto> result = housePriceInfoService.getAllHousePriceInfoWithCursor(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("주택 가격 정보 조회 완료", result));
+    }
+
     /**
      * 모든 주택 가격 정보 조회 (페이징 없음)
      * GET /api/house/price-info/all
@@ -234,17 +256,42 @@ public class HousePriceInfoController {
         return ResponseEntity.ok(ApiResponse.success("복합 검색 완료", result));
     }
 
+    /**
+     * 복합 검색 (커서 기반 페이징)
+     * GET /api/house/price-info/search/complex/cursor?houseType={houseType}&minPrice={minPrice}&maxPrice={maxPrice}&minArea={minArea}&maxArea={maxArea}&minHouseholds={minHouseholds}&size={size}&cursor={nextCursor}
+     */
+    @GetMapping("/search/complex/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<HousePriceInfoResponseDto>>> searchByComplexConditionsWithCursor(
+            @RequestParam(name = "houseType", required = false) String houseType,
+            @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+            @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(name = "minArea", required = false) BigDecimal minArea,
+            @RequestParam(name = "maxArea", required = false) BigDecimal maxArea,
+            @RequestParam(name = "minHouseholds", required = false) BigDecimal minHouseholds,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        log.info("복합 검색 API 호출 (커서 페이징) - 주택형: {}, 가격범위: {}-{}, 면적범위: {}-{}, 최소세대수: {}", 
+                houseType, minPrice, maxPrice, minArea, maxArea, minHouseholds);
+
+        CursorPageResponse<HousePriceInfoResponseDto> result = housePriceInfoService.searchByComplexConditionsWithCursor(
+                houseType, minPrice, maxPrice, minArea, maxArea, minHouseholds, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("복합 검색 완료", result));
+    }
+
     /**
      * 주택형별 평균 분양최고금액 조회
      * GET /api/house/price-info/stats/average-price-by-house-type
      */
     @GetMapping("/stats/average-price-by-house-type")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getAverageMaxSalePriceByHouseType() {
+    public ResponseEntity<byte[]> getAverageMaxSalePriceByHouseType(WebRequest webRequest) {
         log.info("주택형별 평균 분양최고금액 조회 API 호출");
 
-        List<Object[]> result = housePriceInfoService.getAverageMaxSalePriceByHouseType();
+        // 응답 버전과 본문은 같은 가격 집계 기준 (버전 확인 후 집계가 교체되어도 이전 버전으로 새 본문이 캐시되지 않도록)
+        HousePriceAggregateStore.Aggregates aggregates = housePriceAggregateStore.getAggregates();
 
-        return ResponseEntity.ok(ApiResponse.success("주택형별 평균 분양최고금액 조회 완료", result));
+        return houseResponseCache.respond("price-stats-by-house-type", aggregates.responseVersion(), webRequest, () ->
+                ApiResponse.success("주택형별 평균 분양최고금액 조회 완료", housePriceInfoService.getAverageMaxSalePriceByHouseType(aggregates)));
     }
 
     /**
@@ -252,11 +299,46 @@ public class HousePriceInfoController {
      * GET /api/house/price-info/stats/average-price-by-supply-area
      */
     @GetMapping("/stats/average-price-by-supply-area")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getAverageMaxSalePriceBySupplyArea() {
+    public ResponseEntity<byte[]> getAverageMaxSalePriceBySupplyArea(WebRequest webRequest) {
         log.info("주택공급면적별 평균 분양최고금액 조회 API 호출");
 
-        List<Object[]> result = housePriceInfoService.getAverageMaxSalePriceBySupplyArea();
+        HousePriceAggregateStore.Aggregates aggregates = housePriceAggregateStore.getAggregates();
+
+        return houseResponseCache.respond("price-stats-by-supply-area", aggregates.responseVersion(), webRequest, () ->
+                ApiResponse.success("주택공급면적별 평균 분양최고금액 조회 완료", housePriceInfoService.getAverageMaxSalePriceBySupplyArea(aggregates)));
+    }
+
+    /**
+     * 분양최고금액 분위수 조회 (근사값)
+     * GET /api/house/price-info/stats/price-percentiles?houseType=84&minArea=100&maxArea=120&percentiles=10,50,90
+     */
+    @GetMapping("/stats/price-percentiles")
+    public ResponseEntity<ApiResponse<HousePriceDistributionResponseDto>> getPricePercentiles(
+            @RequestParam(required = false) String houseType,
+            @RequestParam(required = false) BigDecimal minArea,
+            @RequestParam(required = false) BigDecimal maxArea,
+            @RequestParam(name = "percentiles", defaultValue = "10,25,50,75,90") List<Integer> percentiles) {
+        log.info("분양최고금액 분위수 조회 API 호출 - 주택형: {}, 면적: {}~{}", houseType, minArea, maxArea);
+
+        HousePriceDistributionResponseDto result = housePriceInfoService.getPricePercentiles(houseType, minArea, maxArea, percentiles);
+
+        return ResponseEntity.ok(ApiResponse.success("분양최고금액 분위수 조회 완료", result));
+    }
+
+    /**
+     * 분양최고금액 히스토그램 조회 (근사값)
+     * GET /api/house/price-info/stats/price-histogram?houseType=84&bins=20
+     */
+    @GetMapping("/stats/price-histogram")
+    public ResponseEntity<ApiResponse<HousePriceDistributionResponseDto>> getPriceHistogram(
+            @RequestParam(required = false) String houseType,
+            @RequestParam(required = false) BigDecimal minArea,
+            @RequestParam(required = false) BigDecimal maxArea,
+            @RequestParam(name = "bins", defaultValue = "20") int bins) {
+        log.info("분양최고금액 히스토그램 조회 API 호출 - 주택형: {}, 면적: {}~{}, 구간 수: {}", houseType, minArea, maxArea, bins);
+
+        HousePriceDistributionResponseDto result = housePriceInfoService.getPriceHistogram(houseType, minArea, maxArea, bins);
 
-        return ResponseEntity.ok(ApiResponse.success("주택공급면적별 평균 분양최고금액 조회 완료", result));
+        return ResponseEntity.ok(ApiResponse.success("분양최고금액 히스토그램 조회 완료", result));
     }
-}
\ No newline at end of file
+}
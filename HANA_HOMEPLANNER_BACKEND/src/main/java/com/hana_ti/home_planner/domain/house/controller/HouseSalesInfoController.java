@@ -3,6 +3,7 @@ package com.hana_ti.home_planner.domain.house.controller;
 import com.hana_ti.home_planner.domain.house.dto.HouseSalesInfoResponseDto;
 import com.hana_ti.home_planner.domain.house.service.HouseSalesInfoService;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
+import com.hana_ti.home_planner.global.dto.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -41,6 +42,26 @@ public class HouseSalesInfoController {
         return ResponseEntity.ok(ApiResponse.success("주소 기반 검색 완료", result));
     }
 
+    /**
+     * 주소 기반 검색 (커서 기반 페이징)
+     * GET /api/house/sales-info/search/address/cursor?sido=서울특별시&sigungu=강남구&size=10&cursor={nextCursor}
+     */
+    @GetMapping("/search/address/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<HouseSalesInfoResponseDto>>> searchByAddressWithCursor(
+            @RequestParam(name = "sido", required = false) String sido,
+            @RequestParam(name = "sigungu", required = false) String sigungu,
+            @RequestParam(name = "eupmyeondong", required = false) String eupmyeondong,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        log.info("주소 기반 검색 API 호출 (커서 페이징) - 시도: {}, 시군구: {}, 읍면동: {}, 크기: {}", 
+                sido, sigungu, eupmyeondong, size);
+
+        CursorPageResponse<HouseSalesInfoResponseDto> result = houseSalesInfoService.searchByAddressWithCursor(
+                sido, sigungu, eupmyeondong, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("주소 기반 검색 완료", result));
+    }
+
     /**
      * 모든 주택 판매 정보 조회 (페이징 포함)
      * GET /api/house/sales-info?page=0&size=10
@@ -56,6 +77,21 @@ public class HouseSalesInfoController {
         return ResponseEntity.ok(ApiResponse.success("주택 판매 정보 조회 완료", result));
     }
 
+    /**
+     * 모든 주택 판매 정보 조회 (커서 기반 페이징)
+     * GET /api/house/sales-info/cursor?size=10&cursor={nextCursor}
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<HouseSalesInfoResponseDto>>> getAllHouseSalesInfoWithCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        log.info("모든 주택 판매 정보 조회 API 호출 (커서 페이징) - 크기: {}", size);
+
+        CursorPageResponse<HouseSalesInfoResponseDto> result = houseSalesInfoService.getAllHouseSalesInfoWithCursor(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("주택 판매 정보 조회 완료", result));
+    }
+
     /**
      * 모든 주택 판매 정보 조회 (페이징 없음)
      * GET /api/house/sales-info/all
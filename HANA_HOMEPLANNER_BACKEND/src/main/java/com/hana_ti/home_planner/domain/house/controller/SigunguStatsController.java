@@ -2,12 +2,15 @@ package com.hana_ti.home_planner.domain.house.controller;
 
 import com.hana_ti.home_planner.domain.house.dto.SigunguStatsRequestDto;
 import com.hana_ti.home_planner.domain.house.dto.SigunguStatsResponseDto;
+import com.hana_ti.home_planner.domain.house.service.HouseResponseCache;
+import com.hana_ti.home_planner.domain.house.service.SigunguStatsCube;
 import com.hana_ti.home_planner.domain.house.service.SigunguStatsService;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +21,8 @@ import java.util.List;
 public class SigunguStatsController {
 
     private final SigunguStatsService sigunguStatsService;
+    private final SigunguStatsCube sigunguStatsCube;
+    private final HouseResponseCache houseResponseCache;
 
     /**
      * 시군구별 분양가 집계 조회 (POST - 복잡한 필터 조건)
@@ -92,12 +97,14 @@ public class SigunguStatsController {
      * @return 전체 시군구별 분양가 집계 결과
      */
     @GetMapping("/all")
-    public ResponseEntity<ApiResponse<List<SigunguStatsResponseDto>>> getAllSigunguStats() {
+    public ResponseEntity<byte[]> getAllSigunguStats(WebRequest webRequest) {
         log.info("전체 시군구별 분양가 집계 조회 API 호출");
 
-        List<SigunguStatsResponseDto> results = sigunguStatsService.getAllSigunguStats();
+        // 응답 버전과 본문은 같은 집계 큐브 기준 (버전 확인 후 큐브가 재생성되어도 이전 버전으로 새 본문이 캐시되지 않도록)
+        SigunguStatsCube.Cube cube = sigunguStatsCube.getCube();
 
-        return ResponseEntity.ok(ApiResponse.success("전체 시군구별 분양가 집계 조회 완료", results));
+        return houseResponseCache.respond("sigungu-stats-all", cube.responseVersion(), webRequest, () ->
+                ApiResponse.success("전체 시군구별 분양가 집계 조회 완료", sigunguStatsService.getAllSigunguStats(cube)));
     }
 
     /**
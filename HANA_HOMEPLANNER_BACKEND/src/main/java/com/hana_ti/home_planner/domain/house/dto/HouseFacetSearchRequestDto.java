@@ -0,0 +1,107 @@
+package com.hana_ti.home_planner.domain.house.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HouseFacetSearchRequestDto {
+
+    /**
+     * 시도 (예: 서울특별시, 경기도) - 복수 선택 시 OR
+     */
+    private List<String> regions;
+
+    /**
+     * 시도 + 시군구 (예: 서울특별시 강남구) - 복수 선택 시 OR
+     */
+    private List<String> sigungus;
+
+    /**
+     * 주택구분코드명 (예: APT, 오피스텔) - 복수 선택 시 OR
+     */
+    private List<String> houseTypes;
+
+    /**
+     * 주택상세구분코드명 (예: 민영, 국민) - 복수 선택 시 OR
+     */
+    private List<String> houseDetailTypes;
+
+    /**
+     * 청약홈 분양구분 (예: 분양주택, 분양전환 가능임대) - 복수 선택 시 OR
+     */
+    private List<String> rentTypes;
+
+    /**
+     * 분양가 구간 (예: 3억~5억) - 복수 선택 시 OR
+     */
+    private List<String> priceBands;
+
+    /**
+     * 입주예정 연도 (예: 2027) - 복수 선택 시 OR
+     */
+    private List<String> moveInYears;
+
+    /**
+     * 투기과열지구 여부 (Y/N)
+     */
+    private String speculationOverheated;
+
+    /**
+     * 조정대상지역 여부 (Y/N)
+     */
+    private String adjustmentTarget;
+
+    /**
+     * 분양가상한제 여부 (Y/N)
+     */
+    private String salePriceCeiling;
+
+    /**
+     * 분양가 범위 (만원) - 주택형별 분양가 범위가 조건과 겹치는 주택
+     */
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+
+    /**
+     * 공급면적 범위 (㎡) - 주택형별 공급면적 범위가 조건과 겹치는 주택
+     */
+    private BigDecimal minArea;
+    private BigDecimal maxArea;
+
+    /**
+     * 입주예정월 범위 (yyyyMM)
+     */
+    private String moveInFrom;
+    private String moveInTo;
+
+    /**
+     * 모집공고일 범위
+     */
+    private LocalDate recruitmentFrom;
+    private LocalDate recruitmentTo;
+
+    /**
+     * 청약 접수 시작일 범위 (청약홈 분양정보 기준)
+     */
+    private LocalDate receiptFrom;
+    private LocalDate receiptTo;
+
+    /**
+     * 페이지 번호 (0부터)
+     */
+    private Integer page;
+
+    /**
+     * 페이지 크기
+     */
+    private Integer size;
+}
@@ -0,0 +1,25 @@
+package com.hana_ti.home_planner.domain.house.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class HouseFacetSearchResponseDto {
+
+    private long totalCount; // 조건에 일치하는 전체 주택 수
+    private int page; // 현재 페이지 (0부터)
+    private int size; // 페이지 크기
+    private List<HouseDetailResponseDto> houses; // 모집공고일 최신순 주택 목록
+    private Map<String, List<FacetCountDto>> facets; // 항목별 값 건수 (해당 항목 조건만 제외한 결과 기준)
+
+    @Getter
+    @Builder
+    public static class FacetCountDto {
+        private String value;
+        private long count;
+    }
+}
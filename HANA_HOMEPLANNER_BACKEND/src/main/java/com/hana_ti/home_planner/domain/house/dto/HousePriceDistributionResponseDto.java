@@ -0,0 +1,37 @@
+package com.hana_ti.home_planner.domain.house.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+public class HousePriceDistributionResponseDto {
+
+    private String houseType; // 주택형 조건 (부분 일치)
+    private BigDecimal minArea; // 최소 주택공급면적 조건
+    private BigDecimal maxArea; // 최대 주택공급면적 조건
+    private long count; // 분양최고금액이 있는 주택형 수
+    private BigDecimal minPrice; // 최소 분양최고금액
+    private BigDecimal avgPrice; // 평균 분양최고금액
+    private BigDecimal maxPrice; // 최대 분양최고금액
+    private List<PercentileDto> percentiles; // 분위수 (근사값, 상대 오차 1% 이내)
+    private List<HistogramBinDto> histogram; // 분양최고금액 구간별 건수 (근사값)
+
+    @Getter
+    @Builder
+    public static class PercentileDto {
+        private int percentile; // 백분위 (0~100)
+        private BigDecimal price; // 분양최고금액
+    }
+
+    @Getter
+    @Builder
+    public static class HistogramBinDto {
+        private BigDecimal lowerBound; // 구간 하한 (이상)
+        private BigDecimal upperBound; // 구간 상한 (미만, 마지막 구간은 이하)
+        private long count; // 구간 내 건수
+    }
+}
@@ -0,0 +1,41 @@
+package com.hana_ti.home_planner.domain.house.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+public class HouseViewportResponseDto {
+
+    private int level; // 적용된 카카오맵 레벨
+    private String mode; // CLUSTER: 격자 클러스터, HOUSE: 개별 주택
+    private long totalCount; // 화면 영역 내 주택 수
+    private boolean truncated; // 최대 응답 개수 초과로 일부만 반환했는지 여부
+    private List<ClusterDto> clusters; // 클러스터 목록 (CLUSTER 모드)
+    private List<HouseDetailResponseDto> houses; // 개별 주택 목록 (HOUSE 모드)
+    private List<RegionPriceMarkerDto> regionPrices; // 지역별 평균 주택 가격 마커 (CLUSTER 모드)
+
+    @Getter
+    @Builder
+    public static class ClusterDto {
+        private BigDecimal lat; // 클러스터 중심 위도 (소속 주택 평균)
+        private BigDecimal lon; // 클러스터 중심 경도 (소속 주택 평균)
+        private long count; // 소속 주택 수
+        private BigDecimal minPrice; // 최소 분양최고금액
+        private BigDecimal avgPrice; // 평균 분양최고금액
+        private BigDecimal maxPrice; // 최대 분양최고금액
+    }
+
+    @Getter
+    @Builder
+    public static class RegionPriceMarkerDto {
+        private String region;
+        private BigDecimal year;
+        private BigDecimal lat; // 지역 내 주택 좌표 평균
+        private BigDecimal lon;
+        private AvgHomePriceMapMarkerDto.PriceInfo priceInfo;
+    }
+}
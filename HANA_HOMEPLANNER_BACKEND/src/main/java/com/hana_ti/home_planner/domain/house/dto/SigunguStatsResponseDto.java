@@ -47,19 +47,4 @@ public class SigunguStatsResponseDto {
      * 세대수 가중평균 분양가
      */
     private BigDecimal weightedAvgPrice;
-
-    /**
-     * 네이티브 쿼리 결과를 DTO로 변환하는 정적 팩토리 메소드
-     */
-    public static SigunguStatsResponseDto fromNativeQueryResult(Object[] result) {
-        return SigunguStatsResponseDto.builder()
-                .regionLarge((String) result[0])
-                .sigungu((String) result[1])
-                .complexCount(((Number) result[2]).longValue())
-                .minPrice(result[3] != null ? new BigDecimal(result[3].toString()) : null)
-                .avgPrice(result[4] != null ? new BigDecimal(result[4].toString()) : null)
-                .maxPrice(result[5] != null ? new BigDecimal(result[5].toString()) : null)
-                .weightedAvgPrice(result[6] != null ? new BigDecimal(result[6].toString()) : null)
-                .build();
-    }
 }
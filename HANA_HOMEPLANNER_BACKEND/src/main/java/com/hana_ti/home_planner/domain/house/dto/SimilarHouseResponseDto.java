@@ -0,0 +1,15 @@
+package com.hana_ti.home_planner.domain.house.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+public class SimilarHouseResponseDto {
+
+    private HouseDetailResponseDto house; // 유사 주택 상세 정보
+    private BigDecimal similarity; // 유사도 (0~1, 1에 가까울수록 유사)
+    private BigDecimal distanceKm; // 기준 주택과의 거리 (좌표가 없으면 null)
+}
@@ -1,5 +1,6 @@
 package com.hana_ti.home_planner.domain.house.entity;
 
+import com.hana_ti.home_planner.domain.house.util.HouseAddressParser;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -70,4 +71,26 @@ public class HouseSalesInfo {
 
     @Column(name = "모집공고홈페이지주소", length = 256)
     private String recruitmentAnnouncementHomepageUrl;
+
+    // 공급위치에서 추출한 지역 정보 (저장 시점에 정규화, 주소 검색 인덱스 대상)
+    @Column(name = "시도", length = 50)
+    private String sido;
+
+    @Column(name = "시군구", length = 50)
+    private String sigungu;
+
+    @Column(name = "읍면동", length = 50)
+    private String eupmyeondong;
+
+    /**
+     * 공급위치 기반 지역 정보 정규화
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizeAddress() {
+        String[] addressInfo = HouseAddressParser.parse(this.supplyLocation);
+        this.sido = addressInfo[0];
+        this.sigungu = addressInfo[1];
+        this.eupmyeondong = addressInfo[2];
+    }
 }
@@ -0,0 +1,20 @@
+package com.hana_ti.home_planner.domain.house.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주택 판매/가격 데이터 적재 감지 이벤트
+ * previousVersion이 null이면 최초 적재(기동 시)로 전체 재생성 대상
+ */
+@Getter
+@RequiredArgsConstructor
+public class HouseDataChangedEvent {
+
+    private final HouseDataVersion previousVersion;
+    private final HouseDataVersion currentVersion;
+
+    public boolean isInitialLoad() {
+        return previousVersion == null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.hana_ti.home_planner.domain.house.event;
+
+/**
+ * 주택 판매/가격 데이터 버전 (행 수 및 최대 주택관리번호)
+ * 크롤러/SQL 적재는 신규 주택관리번호를 추가하는 형태이므로 두 값으로 적재 여부를 판단
+ */
+public record HouseDataVersion(long salesCount, long salesMaxId, long priceCount, long priceMaxId) {
+
+    /**
+     * 버전 식별 문자열 (따옴표 없음)
+     */
+    public String tag() {
+        return Long.toHexString(salesCount) + "-" + Long.toHexString(salesMaxId)
+                + "-" + Long.toHexString(priceCount) + "-" + Long.toHexString(priceMaxId);
+    }
+
+    /**
+     * 버전 기반 ETag 값 (따옴표 포함)
+     */
+    public String etag() {
+        return "\"" + tag() + "\"";
+    }
+}
@@ -0,0 +1,94 @@
+package com.hana_ti.home_planner.domain.house.model;
+
+import com.hana_ti.home_planner.domain.house.dto.SubscriptionInfoDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청약홈 분양정보(APT 분양공고 상세) 로컬 동기화 문서
+ * 날짜 필드는 API 원본 형식(yyyy-MM-dd) 문자열로 저장하여 문자열 범위 조회로 날짜 비교
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "subscription_announcement")
+public class SubscriptionAnnouncement {
+
+    private static final String NO_INFO = "정보 없음";
+
+    @Id
+    private String id; // 주택관리번호_공고번호
+
+    @Field("HOUSE_MANAGE_NO")
+    private String houseManageNo;
+
+    @Field("PBLANC_NO")
+    private String pblancNo;
+
+    @Field("HOUSE_SECD")
+    private String houseSecd;
+
+    @Field("HOUSE_DTL_SECD_NM")
+    private String houseSecdNm;
+
+    @Field("HOUSE_NM")
+    private String houseNm;
+
+    @Field("RCEPT_BGNDE")
+    private String rceptBgnDe;
+
+    @Field("RCEPT_ENDDE")
+    private String rceptEndDe;
+
+    @Field("SUBSCRPT_AREA_CODE_NM")
+    private String subscrptAreaCodeNm;
+
+    @Field("PBLANC_URL")
+    private String pblancUrl;
+
+    @Field("RCRIT_PBLANC_DE")
+    private String rcruitPblancDe;
+
+    @Field("PRZWNER_PRESNATN_DE")
+    private String prizeWnerPresnatnDe;
+
+    @Field("CNTRCT_CNCLS_DE")
+    private String cntrctCnclsDe;
+
+    @Field("SYNCED_AT")
+    private LocalDateTime syncedAt; // 마지막 동기화 시각
+
+    public static String createId(String houseManageNo, String pblancNo) {
+        return houseManageNo + "_" + pblancNo;
+    }
+
+    /**
+     * 캘린더 응답 DTO 변환 (값이 없는 항목은 "정보 없음")
+     */
+    public SubscriptionInfoDto toInfoDto() {
+        return SubscriptionInfoDto.of(
+                orNoInfo(houseSecd),
+                orNoInfo(houseSecdNm),
+                orNoInfo(houseNm),
+                orNoInfo(rceptBgnDe),
+                orNoInfo(rceptEndDe),
+                orNoInfo(subscrptAreaCodeNm),
+                orNoInfo(pblancUrl),
+                orNoInfo(rcruitPblancDe),
+                orNoInfo(prizeWnerPresnatnDe),
+                orNoInfo(cntrctCnclsDe)
+        );
+    }
+
+    private static String orNoInfo(String value) {
+        return value != null ? value : NO_INFO;
+    }
+}
@@ -3,9 +3,23 @@ package com.hana_ti.home_planner.domain.house.repository;
 import com.hana_ti.home_planner.domain.house.entity.AvgHomePrice;
 import com.hana_ti.home_planner.domain.house.entity.AvgHomePriceId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface AvgHomePriceRepository extends JpaRepository<AvgHomePrice, AvgHomePriceId> {
 
-}
\ No newline at end of file
+    /**
+     * 평균 주택 가격 데이터 버전 조회 (행 수, 최대 연도, 가격 합계)
+     * 가격 합계를 포함하여 기존 행의 값 수정도 감지
+     */
+    @Query(value = """
+            SELECT COUNT(*),
+                   NVL(MAX(YEAR), 0),
+                   NVL(SUM(NVL(SIZE_60_LESS, 0) + NVL(SIZE_60_OVER_85_LESS, 0) + NVL(SIZE_85_MORE, 0)), 0)
+            FROM avg_home_price
+            """, nativeQuery = true)
+    List<Object[]> findDataVersionRaw();
+}
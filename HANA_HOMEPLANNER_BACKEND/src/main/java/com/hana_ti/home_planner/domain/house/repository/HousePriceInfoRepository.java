@@ -2,16 +2,20 @@ package com.hana_ti.home_planner.domain.house.repository;
 
 import com.hana_ti.home_planner.domain.house.entity.HousePricesInfo;
 import com.hana_ti.home_planner.domain.house.entity.HousePricesInfoId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface HousePriceInfoRepository extends JpaRepository<HousePricesInfo, HousePricesInfoId> {
@@ -55,6 +59,59 @@ public interface HousePriceInfoRepository extends JpaRepository<HousePricesInfo,
             @Param("minHouseholds") BigDecimal minHouseholds,
             Pageable pageable);
 
+    /**
+     * 주택 가격 정보 조회 (키셋 페이지네이션)
+     * (주택관리번호, 주택형) 오름차순으로 마지막 행 다음부터 limit건 조회 (기본키 인덱스 사용, COUNT 없음)
+     */
+    @Query(value = """
+            SELECT *
+            FROM house_prices_info
+            WHERE 주택관리번호 > :lastId
+               OR (주택관리번호 = :lastId AND 주택형 > :lastHouseType)
+            ORDER BY 주택관리번호, 주택형
+            FETCH FIRST :limit ROWS ONLY
+            """, nativeQuery = true)
+    List<HousePricesInfo> findAllAfter(
+            @Param("lastId") BigDecimal lastId,
+            @Param("lastHouseType") String lastHouseType,
+            @Param("limit") int limit);
+
+    /**
+     * 복합 검색 조건 조회 (키셋 페이지네이션)
+     * findByComplexSearch와 동일한 조건을 (주택관리번호, 주택형) 오름차순 키셋으로 조회
+     */
+    @Query(value = """
+            SELECT *
+            FROM house_prices_info
+            WHERE (:houseType     IS NULL OR 주택형 LIKE '%' || :houseType || '%')
+              AND (:minPrice      IS NULL OR 공급금액_분양최고금액 >= :minPrice)
+              AND (:maxPrice      IS NULL OR 공급금액_분양최고금액 <= :maxPrice)
+              AND (:minArea       IS NULL OR 주택공급면적 >= :minArea)
+              AND (:maxArea       IS NULL OR 주택공급면적 <= :maxArea)
+              AND (:minHouseholds IS NULL OR 일반공급세대수 >= :minHouseholds)
+              AND (주택관리번호 > :lastId
+                   OR (주택관리번호 = :lastId AND 주택형 > :lastHouseType))
+            ORDER BY 주택관리번호, 주택형
+            FETCH FIRST :limit ROWS ONLY
+            """, nativeQuery = true)
+    List<HousePricesInfo> findByComplexSearchAfter(
+            @Param("houseType") String houseType,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("minArea") BigDecimal minArea,
+            @Param("maxArea") BigDecimal maxArea,
+            @Param("minHouseholds") BigDecimal minHouseholds,
+            @Param("lastId") BigDecimal lastId,
+            @Param("lastHouseType") String lastHouseType,
+            @Param("limit") int limit);
+
+    /**
+     * 전체 주택 가격 정보 스트리밍 조회 (내보내기용, 트랜잭션 내에서 사용 후 반드시 close)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT h FROM HousePricesInfo h ORDER BY h.houseManagementNumber, h.houseType")
+    Stream<HousePricesInfo> streamAllForExport();
+
     // 기존 메서드들 (페이징 없는 버전)
     
     /**
@@ -98,4 +155,19 @@ public interface HousePriceInfoRepository extends JpaRepository<HousePricesInfo,
      */
     @Query("SELECT h.houseSupplyArea, AVG(h.supplyAmountMaxSalePrice) FROM HousePricesInfo h GROUP BY h.houseSupplyArea ORDER BY h.houseSupplyArea ASC")
     List<Object[]> findAverageMaxSalePriceBySupplyArea();
+
+    /**
+     * 가격 집계용 주택형, 주택공급면적, 분양최고금액 조회 (주택관리번호 기준 이후 행)
+     */
+    @Query(value = """
+            SELECT 주택형, 주택공급면적, 공급금액_분양최고금액
+            FROM house_prices_info
+            WHERE 주택관리번호 > :fromId
+            """, nativeQuery = true)
+    List<Object[]> findPriceAggregateRowsAfter(@Param("fromId") long fromId);
+
+    /**
+     * 주택관리번호 기준 이후 행 수 조회 (증분 적재 여부 판단용)
+     */
+    long countByHouseManagementNumberGreaterThan(BigDecimal houseManagementNumber);
 }
\ No newline at end of file
@@ -1,65 +1,42 @@
 package com.hana_ti.home_planner.domain.house.repository;
 
 import com.hana_ti.home_planner.domain.house.entity.HouseSalesInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface HouseSalesInfoRepository extends JpaRepository<HouseSalesInfo, Long> {
 
     /**
-     * 주소 기반 검색 (정규식으로 시도, 시군구, 읍면동 파싱)
+     * 주소 기반 검색 (정규화된 시도, 시군구, 읍면동 컬럼 동등 비교)
+     * 정렬은 키셋 조회(searchByAddressAfter)와 동일 (모집공고일이 없는 행은 가장 뒤)
      */
     @Query(
         value = """
-            WITH norm AS (
-              SELECT
-                t.*,
-                REGEXP_REPLACE(TRIM(공급위치), '[[:space:]]+', ' ') AS 공급위치_norm
-              FROM house_sales_info t
-            ),
-            addr AS (
-              SELECT
-                n.*,
-                REGEXP_SUBSTR(공급위치_norm, '^[^ ]+') AS sido,                             -- 시/도
-                REGEXP_SUBSTR(공급위치_norm, '^[^ ]+ ([^ ]+)', 1, 1, NULL, 1) AS sigungu,   -- 시/군/구
-                REGEXP_SUBSTR(공급위치_norm, '^[^ ]+ [^ ]+ ([^ ]+)', 1, 1, NULL, 1) AS eupmyeondong -- 읍/면/동 (토큰 기준)
-              FROM norm n
-            )
-            SELECT /*+ INDEX_FFS(addr) */ *
-            FROM addr
-            WHERE (:sido    IS NULL OR sido = :sido)
-              AND (:sigungu IS NULL OR sigungu = :sigungu)
-              AND (:emd     IS NULL OR 공급위치_norm LIKE :emdPrefix)
-            ORDER BY 모집공고일 DESC
+            SELECT *
+            FROM house_sales_info
+            WHERE (:sido    IS NULL OR 시도 = :sido)
+              AND (:sigungu IS NULL OR 시군구 = :sigungu)
+              AND (:emd     IS NULL OR 읍면동 = :emd)
+            ORDER BY NVL(모집공고일, DATE '0001-01-01') DESC, 주택관리번호 DESC
         """,
         countQuery = """
-            WITH norm AS (
-              SELECT
-                t.*,
-                REGEXP_REPLACE(TRIM(공급위치), '[[:space:]]+', ' ') AS 공급위치_norm
-              FROM house_sales_info t
-            ),
-            addr AS (
-              SELECT
-                n.*,
-                REGEXP_SUBSTR(공급위치_norm, '^[^ ]+') AS sido,                             -- 시/도
-                REGEXP_SUBSTR(공급위치_norm, '^[^ ]+ ([^ ]+)', 1, 1, NULL, 1) AS sigungu,   -- 시/군/구
-                REGEXP_SUBSTR(공급위치_norm, '^[^ ]+ [^ ]+ ([^ ]+)', 1, 1, NULL, 1) AS eupmyeondong -- 읍/면/동 (토큰 기준)
-              FROM norm n
-            )
             SELECT COUNT(*)
-            FROM addr
-            WHERE (:sido    IS NULL OR sido = :sido)
-              AND (:sigungu IS NULL OR sigungu = :sigungu)
-              AND (:emd     IS NULL OR 공급위치_norm LIKE :emdPrefix)
+            FROM house_sales_info
+            WHERE (:sido    IS NULL OR 시도 = :sido)
+              AND (:sigungu IS NULL OR 시군구 = :sigungu)
+              AND (:emd     IS NULL OR 읍면동 = :emd)
         """,
         nativeQuery = true
     )
@@ -67,10 +44,61 @@ public interface HouseSalesInfoRepository extends JpaRepository<HouseSalesInfo,
             @Param("sido") String sido,
             @Param("sigungu") String sigungu,
             @Param("emd") String emd,
-            @Param("emdPrefix") String emdPrefix,
             Pageable pageable
     );
 
+    /**
+     * 주소 기반 검색 (키셋 페이지네이션)
+     * (모집공고일, 주택관리번호) 내림차순으로 마지막 행 다음부터 limit건 조회
+     * 모집공고일이 없는 행은 0001-01-01로 간주하여 가장 뒤에 정렬
+     */
+    @Query(
+        value = """
+            SELECT *
+            FROM house_sales_info
+            WHERE (:sido    IS NULL OR 시도 = :sido)
+              AND (:sigungu IS NULL OR 시군구 = :sigungu)
+              AND (:emd     IS NULL OR 읍면동 = :emd)
+              AND (NVL(모집공고일, DATE '0001-01-01') < :lastDate
+                   OR (NVL(모집공고일, DATE '0001-01-01') = :lastDate AND 주택관리번호 < :lastId))
+            ORDER BY NVL(모집공고일, DATE '0001-01-01') DESC, 주택관리번호 DESC
+            FETCH FIRST :limit ROWS ONLY
+        """,
+        nativeQuery = true
+    )
+    List<HouseSalesInfo> searchByAddressAfter(
+            @Param("sido") String sido,
+            @Param("sigungu") String sigungu,
+            @Param("emd") String emd,
+            @Param("lastDate") LocalDate lastDate,
+            @Param("lastId") Long lastId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 지역 정보 미정규화 행 조회 (백필용, 주택관리번호 오름차순 키셋)
+     */
+    @Query(
+        value = """
+            SELECT *
+            FROM house_sales_info
+            WHERE 시도 IS NULL
+              AND 공급위치 IS NOT NULL
+              AND 주택관리번호 > :lastId
+            ORDER BY 주택관리번호
+            FETCH FIRST :limit ROWS ONLY
+        """,
+        nativeQuery = true
+    )
+    List<HouseSalesInfo> findAddressBackfillTargets(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * 전체 주택 판매 정보 스트리밍 조회 (내보내기용, 트랜잭션 내에서 사용 후 반드시 close)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT h FROM HouseSalesInfo h ORDER BY h.houseManagementNumber")
+    Stream<HouseSalesInfo> streamAllForExport();
+
     /**
      * 공급지역명으로 검색
      */
@@ -108,8 +136,9 @@ public interface HouseSalesInfoRepository extends JpaRepository<HouseSalesInfo,
 
 
     /**
-     * 전체 주택 상세 정보 조회 (좌표 및 가격 정보 포함)
+     * 주택 상세 정보 조회 (좌표 및 가격 정보 포함)
      * 주택 판매 정보, 주소 좌표, 가격 정보 요약을 통합하여 조회합니다.
+     * fromId보다 큰 주택관리번호만 조회하며, 0이면 전체 조회 (읽기 모델 증분 갱신용)
      */
     @Query(value = """
         SELECT 
@@ -131,9 +160,9 @@ public interface HouseSalesInfoRepository extends JpaRepository<HouseSalesInfo,
             h.대규모택지개발지구 as largeScaleLandDevelopmentDistrict,
             h.수도권내민영공공주택지구 as metropolitanPrivatePublicHousingDistrict,
             h.모집공고홈페이지주소 as recruitmentAnnouncementHomepageUrl,
-            REGEXP_SUBSTR(REGEXP_REPLACE(TRIM(h.공급위치), '[[:space:]]+', ' '), '^[^ ]+') as sido,
-            REGEXP_SUBSTR(REGEXP_REPLACE(TRIM(h.공급위치), '[[:space:]]+', ' '), '^[^ ]+ ([^ ]+)', 1, 1, NULL, 1) as sigungu,
-            REGEXP_SUBSTR(REGEXP_REPLACE(TRIM(h.공급위치), '[[:space:]]+', ' '), '^[^ ]+ [^ ]+ ([^ ]+)', 1, 1, NULL, 1) as eupmyeondong,
+            h.시도 as sido,
+            h.시군구 as sigungu,
+            h.읍면동 as eupmyeondong,
             a.road_nm as roadNm,
             a.lat,
             a.lon,
@@ -146,9 +175,9 @@ public interface HouseSalesInfoRepository extends JpaRepository<HouseSalesInfo,
             COALESCE(ps.total_special_supply_households, 0) as totalSpecialSupplyHouseholds
         FROM house_sales_info h
         LEFT JOIN address a ON (
-            a.sido = REGEXP_SUBSTR(REGEXP_REPLACE(TRIM(h.공급위치), '[[:space:]]+', ' '), '^[^ ]+')
-            AND a.sigungu = REGEXP_SUBSTR(REGEXP_REPLACE(TRIM(h.공급위치), '[[:space:]]+', ' '), '^[^ ]+ ([^ ]+)', 1, 1, NULL, 1)
-            AND a.eupmyeondong = REGEXP_SUBSTR(REGEXP_REPLACE(TRIM(h.공급위치), '[[:space:]]+', ' '), '^[^ ]+ [^ ]+ ([^ ]+)', 1, 1, NULL, 1)
+            a.sido = h.시도
+            AND a.sigungu = h.시군구
+            AND a.eupmyeondong = h.읍면동
         )
         LEFT JOIN (
             SELECT 
@@ -161,9 +190,29 @@ public interface HouseSalesInfoRepository extends JpaRepository<HouseSalesInfo,
                 SUM(일반공급세대수) as total_general_supply_households,
                 SUM(특별공급세대수) as total_special_supply_households
             FROM house_prices_info
+            WHERE 주택관리번호 > :fromId
             GROUP BY 주택관리번호
         ) ps ON h.주택관리번호 = ps.주택관리번호
+        WHERE h.주택관리번호 > :fromId
         ORDER BY h.모집공고일 DESC
         """, nativeQuery = true)
-    List<Object[]> findAllHouseDetailsWithCoordinatesRaw();
+    List<Object[]> findHouseDetailsWithCoordinatesRaw(@Param("fromId") Long fromId);
+
+    /**
+     * 주택 판매/가격 데이터 버전 조회 (행 수, 최대 주택관리번호)
+     */
+    @Query(value = """
+        SELECT
+            (SELECT COUNT(*) FROM house_sales_info) as salesCount,
+            (SELECT NVL(MAX(주택관리번호), 0) FROM house_sales_info) as salesMaxId,
+            (SELECT COUNT(*) FROM house_prices_info) as priceCount,
+            (SELECT NVL(MAX(주택관리번호), 0) FROM house_prices_info) as priceMaxId
+        FROM DUAL
+        """, nativeQuery = true)
+    List<Object[]> findHouseDataVersionRaw();
+
+    /**
+     * 주택관리번호 기준 이후 행 수 조회 (증분 적재 여부 판단용)
+     */
+    long countByHouseManagementNumberGreaterThan(Long houseManagementNumber);
 }
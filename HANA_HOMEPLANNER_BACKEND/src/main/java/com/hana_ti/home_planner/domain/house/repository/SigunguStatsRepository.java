@@ -3,7 +3,6 @@ package com.hana_ti.home_planner.domain.house.repository;
 import com.hana_ti.home_planner.domain.house.entity.HouseSalesInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,11 +12,12 @@ import java.util.List;
 public interface SigunguStatsRepository extends JpaRepository<HouseSalesInfo, Long> {
 
     /**
-     * 시군구별 분양가 집계 쿼리
-     * 복잡한 WITH절과 집계 쿼리를 사용하여 지역별 분양가 통계를 조회합니다.
+     * 시군구별 분양가 집계 큐브 쿼리
+     * 필터 조건(주택구분, 주택상세구분, Y/N 지정 여부 7종) 조합별로 시군구 집계를 한 번에 조회합니다.
+     * 평균은 롤업이 가능하도록 합계와 건수로 반환하며, 필터 적용은 SigunguStatsCube에서 메모리로 처리합니다.
      */
     @Query(value = """
-            /* 시군구별 분양가 집계 (필터 포함) */
+            /* 시군구별 분양가 집계 큐브 (필터 조합별) */
             WITH pattern_src AS (  -- ① 지역별 키워드 정의
               SELECT '경기' region, '가평,고양,과천,광명,광주,구리,군포,김포,남양주,동두천,부천,성남,수원,시흥,안산,안성,안양,양주,양평,여주,연천,오산,용인,의왕,의정부,이천,파주,평택,포천,하남,화성' list FROM dual
               UNION ALL SELECT '인천','중구,동구,미추홀,연수,남동,부평,계양,서구,강화,옹진' FROM dual
@@ -32,31 +32,34 @@ public interface SigunguStatsRepository extends JpaRepository<HouseSalesInfo, Lo
                  AND PRIOR region = region
                  AND PRIOR SYS_GUID() IS NOT NULL
             ),
-            sales AS (             -- ③ sales 필터 + 주소 정규화 + 대분류 지역 표준화
+            sales AS (             -- ③ 필터 속성 + 주소 정규화 + 대분류 지역 표준화
               SELECT
                 s.주택관리번호                                   AS house_manage_no,
                 CASE WHEN s.공급지역명 IN ('서울','서울특별시') THEN '서울'
                      WHEN s.공급지역명 IN ('경기','경기도')     THEN '경기'
                      WHEN s.공급지역명 IN ('인천','인천광역시') THEN '인천'
                      ELSE NULL END                                 AS region_large,
-                UPPER(REGEXP_REPLACE(TRIM(s.공급위치), '\\s+', ' ')) AS addr
+                UPPER(REGEXP_REPLACE(TRIM(s.공급위치), '\\s+', ' ')) AS addr,
+                s.주택구분코드명                                 AS house_div_nm,
+                s.주택상세구분코드명                             AS house_detail_div_nm,
+                NVL(s.투기과열지구,'N')                          AS overheat,
+                NVL(s.조정대상지역,'N')                          AS adjust,
+                NVL(s.분양가상한제,'N')                          AS pricecap,
+                NVL(s.정비사업,'N')                              AS redev,
+                NVL(s.공공주택지구,'N')                          AS public_district,
+                NVL(s.대규모택지개발지구,'N')                    AS large_district,
+                NVL(s.수도권내민영공공주택지구,'N')              AS capital_district
               FROM house_sales_info s
               WHERE s.공급지역명 IN ('서울','서울특별시','경기','경기도','인천','인천광역시')
-                AND (:p_house_div_nm         IS NULL OR s.주택구분코드명        = :p_house_div_nm)
-                AND (:p_house_detail_div_nm  IS NULL OR s.주택상세구분코드명    = :p_house_detail_div_nm)
-                AND (:p_overheat             IS NULL OR NVL(s.투기과열지구,'N')       = :p_overheat)
-                AND (:p_adjust               IS NULL OR NVL(s.조정대상지역,'N')       = :p_adjust)
-                AND (:p_pricecap             IS NULL OR NVL(s.분양가상한제,'N')       = :p_pricecap)
-                AND (:p_redev                IS NULL OR NVL(s.정비사업,'N')           = :p_redev)
-                AND (:p_public               IS NULL OR NVL(s.공공주택지구,'N')       = :p_public)
-                AND (:p_large                IS NULL OR NVL(s.대규모택지개발지구,'N') = :p_large)
-                AND (:p_capital              IS NULL OR NVL(s.수도권내민영공공주택지구,'N') = :p_capital)
             ),
             matched AS (           -- ④ 시군구 키워드 매칭 (한 단지당 다중 매칭 방지: DISTINCT)
               SELECT DISTINCT
                 p.region,
                 p.kw,
-                x.house_manage_no
+                x.house_manage_no,
+                x.house_div_nm, x.house_detail_div_nm,
+                x.overheat, x.adjust, x.pricecap, x.redev,
+                x.public_district, x.large_district, x.capital_district
               FROM sales x
               JOIN patterns p
                 ON p.region = x.region_large
@@ -66,6 +69,9 @@ public interface SigunguStatsRepository extends JpaRepository<HouseSalesInfo, Lo
               SELECT
                 m.region,
                 m.house_manage_no,
+                m.house_div_nm, m.house_detail_div_nm,
+                m.overheat, m.adjust, m.pricecap, m.redev,
+                m.public_district, m.large_district, m.capital_district,
                 CASE
                   WHEN m.region = '경기'
                     THEN CASE WHEN m.kw IN ('가평','양평','연천') THEN m.kw || '군' ELSE m.kw || '시' END
@@ -85,35 +91,28 @@ public interface SigunguStatsRepository extends JpaRepository<HouseSalesInfo, Lo
                 NVL(p.일반공급세대수,0) + NVL(p.특별공급세대수,0) AS hh_cnt
               FROM house_prices_info p
             )
-            -- ⑦ 최종: 시군구별 집계
+            -- ⑦ 최종: 시군구 × 필터 조합별 집계 (단지는 조합 하나에만 속하므로 단지수는 합산 가능)
             SELECT
               s.region                         AS region_large,     -- 서울/경기/인천
               s.sigungu_name                   AS sigungu,          -- 예: 고양시, 강남구, 강화군
+              s.house_div_nm,
+              s.house_detail_div_nm,
+              s.overheat, s.adjust, s.pricecap, s.redev,
+              s.public_district, s.large_district, s.capital_district,
               COUNT(DISTINCT s.house_manage_no) AS complex_cnt,     -- 단지수
               MIN(pr.price)                    AS min_price,
-              ROUND(AVG(pr.price))             AS avg_price,
               MAX(pr.price)                    AS max_price,
-              ROUND(
-                CASE WHEN SUM(CASE WHEN pr.price IS NOT NULL THEN pr.hh_cnt END) = 0 THEN NULL
-                     ELSE SUM(CASE WHEN pr.price IS NOT NULL THEN pr.price*pr.hh_cnt END)
-                          / SUM(CASE WHEN pr.price IS NOT NULL THEN pr.hh_cnt END)
-                END
-              )                                 AS wavg_price       -- 세대수 가중평균
+              COUNT(pr.price)                  AS price_cnt,        -- 평균 계산용 건수
+              SUM(pr.price)                    AS price_sum,        -- 평균 계산용 합계
+              SUM(CASE WHEN pr.price IS NOT NULL THEN pr.price*pr.hh_cnt END) AS weighted_price_sum,
+              SUM(CASE WHEN pr.price IS NOT NULL THEN pr.hh_cnt END)          AS household_sum
             FROM sigungu_named s
             JOIN price pr
               ON pr.house_manage_no = s.house_manage_no
-            GROUP BY s.region, s.sigungu_name
-            ORDER BY s.region, s.sigungu_name
+            GROUP BY s.region, s.sigungu_name,
+                     s.house_div_nm, s.house_detail_div_nm,
+                     s.overheat, s.adjust, s.pricecap, s.redev,
+                     s.public_district, s.large_district, s.capital_district
             """, nativeQuery = true)
-    List<Object[]> getSigunguStats(
-            @Param("p_house_div_nm") String houseDivisionName,
-            @Param("p_house_detail_div_nm") String houseDetailDivisionName,
-            @Param("p_overheat") String speculationOverheated,
-            @Param("p_adjust") String adjustmentTargetArea,
-            @Param("p_pricecap") String salePriceCeiling,
-            @Param("p_redev") String improvementProject,
-            @Param("p_public") String publicHousingDistrict,
-            @Param("p_large") String largeScaleLandDevelopment,
-            @Param("p_capital") String metropolitanPrivatePublicHousing
-    );
+    List<Object[]> getSigunguStatsCube();
 }
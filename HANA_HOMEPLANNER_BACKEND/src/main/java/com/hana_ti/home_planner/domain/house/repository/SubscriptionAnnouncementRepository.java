@@ -0,0 +1,26 @@
+package com.hana_ti.home_planner.domain.house.repository;
+
+import com.hana_ti.home_planner.domain.house.model.SubscriptionAnnouncement;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SubscriptionAnnouncementRepository extends MongoRepository<SubscriptionAnnouncement, String> {
+
+    /**
+     * 청약 접수 기간이 검색 범위와 겹치는 공고 조회
+     * (청약 시작일 <= 검색종료일 AND 청약 종료일 >= 검색시작일)
+     */
+    @Query("{ 'RCEPT_BGNDE': { $lte: ?1 }, 'RCEPT_ENDDE': { $gte: ?0 } }")
+    List<SubscriptionAnnouncement> findReceptionOverlapping(String startDate, String endDate, Sort sort);
+
+    /**
+     * 동기화 시각 이전에 마지막으로 반영된 공고 삭제 (전체 동기화 후 정리용)
+     */
+    long deleteBySyncedAtBefore(LocalDateTime syncedAt);
+}
@@ -0,0 +1,72 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.event.HouseDataChangedEvent;
+import com.hana_ti.home_planner.domain.house.event.HouseDataVersion;
+import com.hana_ti.home_planner.domain.house.repository.HouseSalesInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주택 판매/가격 데이터 적재 감지
+ * 데이터는 백엔드 외부(크롤러/SQL 스크립트)에서 적재되므로 버전을 주기적으로 확인하고,
+ * 변경 시 지역 정보 백필 후 HouseDataChangedEvent를 발행하여 읽기 모델들이 갱신되도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HouseDataChangeDetector {
+
+    private final HouseSalesInfoRepository houseSalesInfoRepository;
+    private final HouseSalesInfoAddressBackfillService houseSalesInfoAddressBackfillService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile HouseDataVersion currentVersion;
+
+    /**
+     * 데이터 버전 확인 후 변경 시 이벤트 발행
+     * 적재 작업 직후 즉시 반영이 필요하면 직접 호출
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${house.data-version.poll-interval-ms:60000}",
+            initialDelayString = "${house.data-version.poll-interval-ms:60000}")
+    public synchronized void checkForChanges() {
+        HouseDataVersion latestVersion = loadVersion();
+        HouseDataVersion previousVersion = currentVersion;
+        if (latestVersion.equals(previousVersion)) {
+            return;
+        }
+
+        log.info("주택 데이터 변경 감지 - 이전: {}, 현재: {}", previousVersion, latestVersion);
+
+        houseSalesInfoAddressBackfillService.backfill();
+        currentVersion = latestVersion;
+        eventPublisher.publishEvent(new HouseDataChangedEvent(previousVersion, latestVersion));
+    }
+
+    /**
+     * 현재 반영된 데이터 버전 (기동 전이면 즉시 조회)
+     */
+    public HouseDataVersion getCurrentVersion() {
+        HouseDataVersion version = currentVersion;
+        if (version == null) {
+            checkForChanges();
+            version = currentVersion;
+        }
+        return version;
+    }
+
+    private HouseDataVersion loadVersion() {
+        Object[] row = houseSalesInfoRepository.findHouseDataVersionRaw().get(0);
+        return new HouseDataVersion(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                ((Number) row[3]).longValue()
+        );
+    }
+}
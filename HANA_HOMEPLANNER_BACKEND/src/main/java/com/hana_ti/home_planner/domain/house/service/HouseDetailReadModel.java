@@ -0,0 +1,276 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.dto.HouseDetailResponseDto;
+import com.hana_ti.home_planner.domain.house.event.HouseDataChangedEvent;
+import com.hana_ti.home_planner.domain.house.event.HouseDataVersion;
+import com.hana_ti.home_planner.domain.house.repository.HousePriceInfoRepository;
+import com.hana_ti.home_planner.domain.house.repository.HouseSalesInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주택 상세 정보 읽기 모델 (/api/house/details)
+ * 주택 판매 정보 + 주소 좌표 + 가격 요약 조인 결과를 메모리 스냅샷으로 유지하고,
+ * 데이터 적재 감지 시 신규 주택관리번호 구간만 다시 조회하여 증분 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HouseDetailReadModel {
+
+    // 모집공고일 내림차순 (공고일 없는 주택은 Oracle DESC 정렬과 동일하게 앞쪽), 동일 공고일은 주택관리번호 내림차순
+    private static final Comparator<HouseDetailResponseDto> DETAIL_ORDER = Comparator
+            .comparing(HouseDetailResponseDto::getRecruitmentAnnouncementDate,
+                    Comparator.nullsFirst(Comparator.<String>reverseOrder()))
+            .thenComparing(HouseDetailResponseDto::getHouseManagementNumber,
+                    Comparator.nullsLast(Comparator.<Long>reverseOrder()));
+
+    private final HouseSalesInfoRepository houseSalesInfoRepository;
+    private final HousePriceInfoRepository housePriceInfoRepository;
+    private final HouseDataChangeDetector houseDataChangeDetector;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 현재 스냅샷 조회 (미생성 시 전체 생성)
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 버전 최초 확인 시 발행되는 변경 이벤트로 스냅샷이 생성될 수 있으므로 재확인
+            HouseDataVersion version = houseDataChangeDetector.getCurrentVersion();
+            current = snapshot;
+            if (current == null) {
+                rebuild(version);
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 주택관리번호로 상세 정보 조회
+     */
+    public HouseDetailResponseDto getDetail(Long houseManagementNumber) {
+        return getSnapshot().detailsById().get(houseManagementNumber);
+    }
+
+    /**
+     * 데이터 적재 감지 시 갱신 (신규 주택관리번호만 추가된 경우 증분, 그 외 전체 재생성)
+     */
+    @EventListener
+    public void onHouseDataChanged(HouseDataChangedEvent event) {
+        Snapshot current = snapshot;
+        HouseDataVersion previousVersion = event.getPreviousVersion();
+
+        if (event.isInitialLoad() || current == null || !current.version().equals(previousVersion)
+                || !isAppendOnly(previousVersion, event.getCurrentVersion())) {
+            rebuild(event.getCurrentVersion());
+            return;
+        }
+
+        applyIncrement(current, event.getCurrentVersion());
+    }
+
+    /**
+     * 적재 외 수정(기존 행 변경/삭제) 반영을 위한 주기적 전체 재생성
+     */
+    @Scheduled(cron = "${house.detail-read-model.full-rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        rebuild(houseDataChangeDetector.getCurrentVersion());
+    }
+
+    private synchronized void rebuild(HouseDataVersion version) {
+        long startTime = System.currentTimeMillis();
+
+        List<HouseDetailResponseDto> details = houseSalesInfoRepository.findHouseDetailsWithCoordinatesRaw(0L).stream()
+                .map(this::mapToHouseDetailResponseDto)
+                .collect(Collectors.toList());
+
+        snapshot = Snapshot.of(details, version, nextBuiltAt());
+
+        log.info("주택 상세 정보 읽기 모델 전체 생성 완료 - 주택 수: {}개, 소요시간: {}ms",
+                details.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private synchronized void applyIncrement(Snapshot current, HouseDataVersion version) {
+        long startTime = System.currentTimeMillis();
+        long fromId = Math.min(current.version().salesMaxId(), current.version().priceMaxId());
+
+        List<HouseDetailResponseDto> changedDetails = houseSalesInfoRepository.findHouseDetailsWithCoordinatesRaw(fromId).stream()
+                .map(this::mapToHouseDetailResponseDto)
+                .toList();
+
+        Map<Long, HouseDetailResponseDto> merged = new LinkedHashMap<>(current.detailsById());
+        changedDetails.forEach(detail -> merged.put(detail.getHouseManagementNumber(), detail));
+
+        snapshot = Snapshot.of(new ArrayList<>(merged.values()), version, nextBuiltAt());
+
+        log.info("주택 상세 정보 읽기 모델 증분 갱신 완료 - 기준 주택관리번호: {}, 갱신 주택 수: {}개, 전체: {}개, 소요시간: {}ms",
+                fromId, changedDetails.size(), merged.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 새 스냅샷 생성 시각 (같은 밀리초에 다시 생성되어도 이전 스냅샷과 구분되도록 단조 증가)
+     */
+    private long nextBuiltAt() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        return current != null && current.builtAt() >= now ? current.builtAt() + 1 : now;
+    }
+
+    /**
+     * 이전 버전 이후 늘어난 행이 모두 이전 최대 주택관리번호보다 큰 경우에만 증분 적재로 판단
+     */
+    private boolean isAppendOnly(HouseDataVersion previous, HouseDataVersion current) {
+        long addedSales = current.salesCount() - previous.salesCount();
+        long addedPrices = current.priceCount() - previous.priceCount();
+        if (addedSales < 0 || addedPrices < 0) {
+            return false;
+        }
+
+        return houseSalesInfoRepository.countByHouseManagementNumberGreaterThan(previous.salesMaxId()) == addedSales
+                && housePriceInfoRepository.countByHouseManagementNumberGreaterThan(
+                        BigDecimal.valueOf(previous.priceMaxId())) == addedPrices;
+    }
+
+    /**
+     * Object[] 배열을 HouseDetailResponseDto로 매핑
+     */
+    private HouseDetailResponseDto mapToHouseDetailResponseDto(Object[] row) {
+        return HouseDetailResponseDto.builder()
+                // 기본 주택 정보 (0-17)
+                .houseManagementNumber(convertToLong(row[0]))
+                .houseName(convertToString(row[1]))
+                .houseTypeCodeName(convertToString(row[2]))
+                .houseDetailTypeCodeName(convertToString(row[3]))
+                .supplyAreaName(convertToString(row[4]))
+                .supplyLocation(convertToString(row[5]))
+                .supplyScale(convertToLong(row[6]))
+                .recruitmentAnnouncementDate(convertToString(row[7]))
+                .homepageUrl(convertToString(row[8]))
+                .moveInExpectedMonth(convertToString(row[9]))
+                .speculationOverheatedArea(convertToString(row[10]))
+                .adjustmentTargetArea(convertToString(row[11]))
+                .salePriceCeilingSystem(convertToString(row[12]))
+                .improvementProject(convertToString(row[13]))
+                .publicHousingDistrict(convertToString(row[14]))
+                .largeScaleLandDevelopmentDistrict(convertToString(row[15]))
+                .metropolitanPrivatePublicHousingDistrict(convertToString(row[16]))
+                .recruitmentAnnouncementHomepageUrl(convertToString(row[17]))
+                // 주소 정보 (18-21)
+                .sido(convertToString(row[18]))
+                .sigungu(convertToString(row[19]))
+                .eupmyeondong(convertToString(row[20]))
+                .roadNm(convertToString(row[21]))
+                // 좌표 정보 (22-23)
+                .lat(convertToBigDecimal(row[22]))
+                .lon(convertToBigDecimal(row[23]))
+                // 가격 정보 요약 (24-30)
+                .totalHouseTypes(convertToInteger(row[24]))
+                .minSupplyArea(convertToBigDecimal(row[25]))
+                .maxSupplyArea(convertToBigDecimal(row[26]))
+                .minSalePrice(convertToBigDecimal(row[27]))
+                .maxSalePrice(convertToBigDecimal(row[28]))
+                .totalGeneralSupplyHouseholds(convertToBigDecimal(row[29]))
+                .totalSpecialSupplyHouseholds(convertToBigDecimal(row[30]))
+                .build();
+    }
+
+    /**
+     * 타입 변환 유틸리티 메서드들
+     */
+    private String convertToString(Object obj) {
+        return obj != null ? obj.toString() : null;
+    }
+
+    private Long convertToLong(Object obj) {
+        if (obj == null) return null;
+        if (obj instanceof Number) {
+            return ((Number) obj).longValue();
+        }
+        try {
+            return Long.parseLong(obj.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Long 변환 실패: {}", obj);
+            return null;
+        }
+    }
+
+    private Integer convertToInteger(Object obj) {
+        if (obj == null) return null;
+        if (obj instanceof Number) {
+            return ((Number) obj).intValue();
+        }
+        try {
+            return Integer.parseInt(obj.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Integer 변환 실패: {}", obj);
+            return null;
+        }
+    }
+
+    private BigDecimal convertToBigDecimal(Object obj) {
+        if (obj == null) return null;
+        if (obj instanceof BigDecimal) {
+            return (BigDecimal) obj;
+        }
+        if (obj instanceof Number) {
+            return BigDecimal.valueOf(((Number) obj).doubleValue());
+        }
+        try {
+            return new BigDecimal(obj.toString());
+        } catch (NumberFormatException e) {
+            log.warn("BigDecimal 변환 실패: {}", obj);
+            return null;
+        }
+    }
+
+    /**
+     * 불변 스냅샷 (정렬된 목록, 주택관리번호 색인, 데이터 버전, 생성 시각, ETag)
+     * 적재 없이 재생성된 스냅샷(기존 행 수정/삭제 반영)도 구분되도록 태그에 생성 시각 포함
+     */
+    public record Snapshot(List<HouseDetailResponseDto> details,
+                           Map<Long, HouseDetailResponseDto> detailsById,
+                           HouseDataVersion version,
+                           long builtAt,
+                           String etag) {
+
+        private static Snapshot of(List<HouseDetailResponseDto> details, HouseDataVersion version, long builtAt) {
+            List<HouseDetailResponseDto> sorted = new ArrayList<>(details);
+            sorted.sort(DETAIL_ORDER);
+
+            Map<Long, HouseDetailResponseDto> byId = sorted.stream()
+                    .filter(detail -> detail.getHouseManagementNumber() != null)
+                    .collect(Collectors.toMap(HouseDetailResponseDto::getHouseManagementNumber, Function.identity(),
+                            (first, second) -> first, LinkedHashMap::new));
+
+            return new Snapshot(List.copyOf(sorted), Collections.unmodifiableMap(byId),
+                    version, builtAt, "\"" + tag(version, builtAt) + "\"");
+        }
+
+        /**
+         * 스냅샷 식별 문자열 (데이터 버전 + 생성 시각, 따옴표 없음)
+         */
+        public String tag() {
+            return tag(version, builtAt);
+        }
+
+        private static String tag(HouseDataVersion version, long builtAt) {
+            return version.tag() + "-" + Long.toHexString(builtAt);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeData;
+import com.hana_ti.home_planner.domain.house.dto.HouseDetailResponseDto;
+import com.hana_ti.home_planner.domain.house.dto.HouseFacetSearchRequestDto;
+import com.hana_ti.home_planner.domain.house.dto.HouseFacetSearchResponseDto;
+import com.hana_ti.home_planner.global.util.FacetIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 주택 통합 패싯 검색 서비스
+ * 주택 상세 스냅샷(판매 + 가격 요약 + 좌표)과 청약홈 분양정보를 비트셋 역색인으로 구성하여
+ * 지역, 지정 여부, 주택구분, 분양가/면적 범위, 입주예정월, 모집공고일 조건 검색과 패싯 건수를 한 번에 반환
+ * 주택 상세 스냅샷이 적재 감지로 갱신되면 메모리 내 스냅샷에서 색인만 다시 생성 (DB 조회 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HouseFacetSearchService {
+
+    // 범주형 항목
+    private static final String FACET_REGION = "region";
+    private static final String FACET_SIGUNGU = "sigungu";
+    private static final String FACET_HOUSE_TYPE = "houseType";
+    private static final String FACET_HOUSE_DETAIL_TYPE = "houseDetailType";
+    private static final String FACET_RENT_TYPE = "rentType";
+    private static final String FACET_PRICE_BAND = "priceBand";
+    private static final String FACET_MOVE_IN_YEAR = "moveInYear";
+    private static final String FACET_SPECULATION_OVERHEATED = "speculationOverheated";
+    private static final String FACET_ADJUSTMENT_TARGET = "adjustmentTarget";
+    private static final String FACET_SALE_PRICE_CEILING = "salePriceCeiling";
+
+    // 범위 항목
+    private static final String RANGE_MIN_PRICE = "minSalePrice";
+    private static final String RANGE_MAX_PRICE = "maxSalePrice";
+    private static final String RANGE_MIN_AREA = "minSupplyArea";
+    private static final String RANGE_MAX_AREA = "maxSupplyArea";
+    private static final String RANGE_MOVE_IN_MONTH = "moveInMonth";
+    private static final String RANGE_RECRUITMENT_DATE = "recruitmentDate";
+    private static final String RANGE_RECEIPT_DATE = "receiptDate";
+
+    // 공급면적은 소수점 둘째 자리까지 정수로 색인
+    private static final int AREA_SCALE = 2;
+
+    // 분양가 구간 (최저 분양가 기준, 만원)
+    private static final long[] PRICE_BAND_BOUNDS = {30000, 50000, 70000, 100000};
+    private static final String[] PRICE_BAND_LABELS = {"3억 미만", "3억~5억", "5억~7억", "7억~10억", "10억 이상"};
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final HouseDetailReadModel houseDetailReadModel;
+    private final MongoTemplate mongoTemplate;
+
+    private volatile Map<Long, ApplyHomeSummary> applyHomeSummaries;
+    private volatile SearchIndex searchIndex;
+
+    /**
+     * 통합 패싯 검색
+     */
+    public HouseFacetSearchResponseDto search(HouseFacetSearchRequestDto request) {
+        int page = request.getPage() != null ? request.getPage() : 0;
+        int size = request.getSize() != null ? request.getSize() : DEFAULT_PAGE_SIZE;
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("INVALID_PAGE: 페이지는 0 이상, 크기는 1에서 " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        Map<String, Set<String>> termFilters = new HashMap<>();
+        putTerms(termFilters, FACET_REGION, request.getRegions());
+        putTerms(termFilters, FACET_SIGUNGU, request.getSigungus());
+        putTerms(termFilters, FACET_HOUSE_TYPE, request.getHouseTypes());
+        putTerms(termFilters, FACET_HOUSE_DETAIL_TYPE, request.getHouseDetailTypes());
+        putTerms(termFilters, FACET_RENT_TYPE, request.getRentTypes());
+        putTerms(termFilters, FACET_PRICE_BAND, request.getPriceBands());
+        putTerms(termFilters, FACET_MOVE_IN_YEAR, request.getMoveInYears());
+        putFlag(termFilters, FACET_SPECULATION_OVERHEATED, request.getSpeculationOverheated());
+        putFlag(termFilters, FACET_ADJUSTMENT_TARGET, request.getAdjustmentTarget());
+        putFlag(termFilters, FACET_SALE_PRICE_CEILING, request.getSalePriceCeiling());
+
+        // 주택형별 분양가/면적 범위가 조건 범위와 겹치는 주택 (최대값 >= 조건 최소, 최소값 <= 조건 최대)
+        Map<String, FacetIndex.LongRange> rangeFilters = new HashMap<>();
+        putRange(rangeFilters, RANGE_MAX_PRICE, toLong(request.getMinPrice(), 0), null);
+        putRange(rangeFilters, RANGE_MIN_PRICE, null, toLong(request.getMaxPrice(), 0));
+        putRange(rangeFilters, RANGE_MAX_AREA, toLong(request.getMinArea(), AREA_SCALE), null);
+        putRange(rangeFilters, RANGE_MIN_AREA, null, toLong(request.getMaxArea(), AREA_SCALE));
+        putRange(rangeFilters, RANGE_MOVE_IN_MONTH, toYearMonth(request.getMoveInFrom()), toYearMonth(request.getMoveInTo()));
+        putRange(rangeFilters, RANGE_RECRUITMENT_DATE, toDateNumber(request.getRecruitmentFrom()), toDateNumber(request.getRecruitmentTo()));
+        putRange(rangeFilters, RANGE_RECEIPT_DATE, toDateNumber(request.getReceiptFrom()), toDateNumber(request.getReceiptTo()));
+
+        // 큰 페이지 번호에서 int 곱셈이 넘치지 않도록 long으로 계산 (문서 수를 넘는 위치는 빈 결과)
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        FacetIndex.Result<HouseDetailResponseDto> result = getSearchIndex().index()
+                .search(termFilters, rangeFilters, offset, size);
+
+        Map<String, List<HouseFacetSearchResponseDto.FacetCountDto>> facets = new LinkedHashMap<>();
+        result.facetCounts().forEach((field, counts) -> facets.put(field, counts.entrySet().stream()
+                .map(entry -> HouseFacetSearchResponseDto.FacetCountDto.builder()
+                        .value(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .toList()));
+
+        log.info("주택 통합 패싯 검색 완료 - 조건 항목 수: {}, 범위 조건 수: {}, 결과: {}건",
+                termFilters.size(), rangeFilters.size(), result.totalCount());
+
+        return HouseFacetSearchResponseDto.builder()
+                .totalCount(result.totalCount())
+                .page(page)
+                .size(size)
+                .houses(result.items())
+                .facets(facets)
+                .build();
+    }
+
+    /**
+     * 청약홈 분양정보 요약 갱신 (청약홈 데이터는 별도 수집기로 적재되므로 주기적으로 확인)
+     */
+    @Scheduled(fixedDelayString = "${house.facet-search.apply-home-refresh-ms:600000}",
+            initialDelayString = "${house.facet-search.apply-home-refresh-ms:600000}")
+    public synchronized void refreshApplyHomeSummaries() {
+        long startTime = System.currentTimeMillis();
+
+        Query query = new Query();
+        query.fields().include("HOUSE_MANAGE_NO").include("RENT_SECD_NM").include("RCEPT_BGNDE");
+
+        Map<Long, ApplyHomeSummary> summaries = new HashMap<>();
+        for (ApplyHomeData data : mongoTemplate.find(query, ApplyHomeData.class)) {
+            Long houseManagementNumber = parseHouseManageNo(data.getHouseManageNo());
+            if (houseManagementNumber == null) {
+                continue;
+            }
+            ApplyHomeSummary summary = new ApplyHomeSummary(data.getRentTypeName(), toDateNumber(data.getReceiptStartDate()));
+            // 같은 주택에 공고가 여러 건이면 접수 시작일이 최신인 공고 기준
+            summaries.merge(houseManagementNumber, summary, (existing, candidate) ->
+                    compareNullable(candidate.receiptDate(), existing.receiptDate()) > 0 ? candidate : existing);
+        }
+
+        if (!summaries.equals(applyHomeSummaries)) {
+            applyHomeSummaries = Map.copyOf(summaries);
+            log.info("청약홈 분양정보 요약 갱신 완료 - 주택 수: {}개, 소요시간: {}ms",
+                    summaries.size(), System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * 검색 색인 조회 (주택 상세 스냅샷 또는 청약홈 요약이 교체되었으면 재생성)
+     */
+    private SearchIndex getSearchIndex() {
+        if (applyHomeSummaries == null) {
+            refreshApplyHomeSummaries();
+        }
+        HouseDetailReadModel.Snapshot source = houseDetailReadModel.getSnapshot();
+        Map<Long, ApplyHomeSummary> summaries = applyHomeSummaries;
+
+        SearchIndex current = searchIndex;
+        if (current != null && current.source() == source && current.applyHomeSummaries() == summaries) {
+            return current;
+        }
+        synchronized (this) {
+            current = searchIndex;
+            if (current == null || current.source() != source || current.applyHomeSummaries() != summaries) {
+                current = buildSearchIndex(source, summaries);
+                searchIndex = current;
+            }
+        }
+        return current;
+    }
+
+    private SearchIndex buildSearchIndex(HouseDetailReadModel.Snapshot source, Map<Long, ApplyHomeSummary> summaries) {
+        long startTime = System.currentTimeMillis();
+
+        // 검색 결과는 색인 순서를 유지하므로 모집공고일 최신순으로 정렬하여 색인
+        List<HouseDetailResponseDto> documents = new ArrayList<>(source.details());
+        documents.sort(Comparator
+                .comparing((HouseDetailResponseDto detail) -> toDateNumber(detail.getRecruitmentAnnouncementDate()),
+                        Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(HouseDetailResponseDto::getHouseManagementNumber, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        Function<HouseDetailResponseDto, ApplyHomeSummary> applyHome =
+                detail -> summaries.get(detail.getHouseManagementNumber());
+
+        Map<String, Function<HouseDetailResponseDto, String>> termFields = new LinkedHashMap<>();
+        termFields.put(FACET_REGION, HouseDetailResponseDto::getSido);
+        termFields.put(FACET_SIGUNGU, detail -> detail.getSido() != null && detail.getSigungu() != null
+                ? detail.getSido() + " " + detail.getSigungu() : null);
+        termFields.put(FACET_HOUSE_TYPE, HouseDetailResponseDto::getHouseTypeCodeName);
+        termFields.put(FACET_HOUSE_DETAIL_TYPE, HouseDetailResponseDto::getHouseDetailTypeCodeName);
+        termFields.put(FACET_RENT_TYPE, detail -> {
+            ApplyHomeSummary summary = applyHome.apply(detail);
+            return summary != null ? summary.rentTypeName() : null;
+        });
+        termFields.put(FACET_PRICE_BAND, detail -> priceBand(detail.getMinSalePrice()));
+        termFields.put(FACET_MOVE_IN_YEAR, detail -> {
+            Long yearMonth = toYearMonth(detail.getMoveInExpectedMonth());
+            return yearMonth != null ? String.valueOf(yearMonth / 100) : null;
+        });
+        termFields.put(FACET_SPECULATION_OVERHEATED, HouseDetailResponseDto::getSpeculationOverheatedArea);
+        termFields.put(FACET_ADJUSTMENT_TARGET, HouseDetailResponseDto::getAdjustmentTargetArea);
+        termFields.put(FACET_SALE_PRICE_CEILING, HouseDetailResponseDto::getSalePriceCeilingSystem);
+
+        Map<String, Function<HouseDetailResponseDto, Long>> rangeFields = new LinkedHashMap<>();
+        rangeFields.put(RANGE_MIN_PRICE, detail -> toLong(detail.getMinSalePrice(), 0));
+        rangeFields.put(RANGE_MAX_PRICE, detail -> toLong(detail.getMaxSalePrice(), 0));
+        rangeFields.put(RANGE_MIN_AREA, detail -> toLong(detail.getMinSupplyArea(), AREA_SCALE));
+        rangeFields.put(RANGE_MAX_AREA, detail -> toLong(detail.getMaxSupplyArea(), AREA_SCALE));
+        rangeFields.put(RANGE_MOVE_IN_MONTH, detail -> toYearMonth(detail.getMoveInExpectedMonth()));
+        rangeFields.put(RANGE_RECRUITMENT_DATE, detail -> toDateNumber(detail.getRecruitmentAnnouncementDate()));
+        rangeFields.put(RANGE_RECEIPT_DATE, detail -> {
+            ApplyHomeSummary summary = applyHome.apply(detail);
+            return summary != null ? summary.receiptDate() : null;
+        });
+
+        FacetIndex<HouseDetailResponseDto> index = FacetIndex.build(documents, termFields, rangeFields);
+
+        log.info("주택 통합 패싯 검색 색인 생성 완료 - 주택 수: {}개, 청약홈 연계: {}개, 소요시간: {}ms",
+                index.size(), summaries.size(), System.currentTimeMillis() - startTime);
+
+        return new SearchIndex(source, summaries, index);
+    }
+
+    private static void putTerms(Map<String, Set<String>> termFilters, String field, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            termFilters.put(field, new LinkedHashSet<>(values));
+        }
+    }
+
+    private static void putFlag(Map<String, Set<String>> termFilters, String field, String value) {
+        if (value == null) {
+            return;
+        }
+        if (!"Y".equals(value) && !"N".equals(value)) {
+            throw new IllegalArgumentException("INVALID_FLAG: " + field + " 값은 Y 또는 N이어야 합니다.");
+        }
+        termFilters.put(field, Set.of(value));
+    }
+
+    private static void putRange(Map<String, FacetIndex.LongRange> rangeFilters, String field, Long min, Long max) {
+        FacetIndex.LongRange range = new FacetIndex.LongRange(min, max);
+        if (!range.isUnbounded()) {
+            rangeFilters.put(field, range);
+        }
+    }
+
+    private static String priceBand(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        long value = price.longValue();
+        for (int i = 0; i < PRICE_BAND_BOUNDS.length; i++) {
+            if (value < PRICE_BAND_BOUNDS[i]) {
+                return PRICE_BAND_LABELS[i];
+            }
+        }
+        return PRICE_BAND_LABELS[PRICE_BAND_LABELS.length - 1];
+    }
+
+    private static Long toLong(BigDecimal value, int scale) {
+        return value != null ? value.movePointRight(scale).longValue() : null;
+    }
+
+    /**
+     * 입주예정월 문자열(202712, 2027.12, 2027-12 등)을 yyyyMM 정수로 변환
+     */
+    private static Long toYearMonth(String value) {
+        String digits = value != null ? value.replaceAll("[^0-9]", "") : "";
+        return digits.length() >= 6 ? Long.valueOf(digits.substring(0, 6)) : null;
+    }
+
+    /**
+     * 날짜 문자열(2025-01-15, 2025-01-15 00:00:00.0 등)을 yyyyMMdd 정수로 변환
+     */
+    private static Long toDateNumber(String value) {
+        String digits = value != null ? value.replaceAll("[^0-9]", "") : "";
+        return digits.length() >= 8 ? Long.valueOf(digits.substring(0, 8)) : null;
+    }
+
+    private static Long toDateNumber(LocalDate date) {
+        return date != null ? (long) (date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth()) : null;
+    }
+
+    private static Long parseHouseManageNo(String value) {
+        try {
+            return value != null ? Long.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int compareNullable(Long a, Long b) {
+        return Comparator.nullsFirst(Comparator.<Long>naturalOrder()).compare(a, b);
+    }
+
+    private record SearchIndex(HouseDetailReadModel.Snapshot source,
+                               Map<Long, ApplyHomeSummary> applyHomeSummaries,
+                               FacetIndex<HouseDetailResponseDto> index) {
+    }
+
+    /**
+     * 청약홈 분양정보 요약 (분양구분명, 접수 시작일 yyyyMMdd)
+     */
+    private record ApplyHomeSummary(String rentTypeName, Long receiptDate) {
+    }
+}
@@ -0,0 +1,410 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.dto.AvgHomePriceMapMarkerDto;
+import com.hana_ti.home_planner.domain.house.dto.HouseDetailResponseDto;
+import com.hana_ti.home_planner.domain.house.dto.HouseViewportResponseDto;
+import com.hana_ti.home_planner.domain.house.entity.AvgHomePrice;
+import com.hana_ti.home_planner.domain.house.repository.AvgHomePriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 지도 화면 영역(viewport) 조회 서비스
+ * 주택 상세 스냅샷을 균등 격자 공간 색인으로 구성하여 화면 영역 내 주택만 조회하고,
+ * 축소 레벨에서는 레벨별로 미리 집계한 격자 클러스터(개수, 분양가 최소/평균/최대)를 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HouseMapViewportService {
+
+    // 카카오맵 레벨 범위 (1: 가장 확대, 14: 가장 축소)
+    private static final int MIN_LEVEL = 1;
+    private static final int MAX_LEVEL = 14;
+
+    // 개별 주택을 표시하는 최대 레벨 (프론트엔드 표시 기준과 동일)
+    private static final int INDIVIDUAL_MAX_LEVEL = 6;
+
+    // 레벨 1에서 화면 1픽셀당 경위도 크기 (레벨이 1 증가할 때마다 2배)
+    private static final double DEGREES_PER_PIXEL_LEVEL1 = 0.0000025;
+
+    // 클러스터 격자 한 칸의 화면상 크기 (픽셀)
+    private static final int CLUSTER_CELL_PIXELS = 80;
+
+    private static final int COORDINATE_SCALE = 7;
+    private static final int PRICE_SCALE = 2;
+
+    private final HouseDetailReadModel houseDetailReadModel;
+    private final AvgHomePriceRepository avgHomePriceRepository;
+
+    @Value("${house.viewport.max-houses:300}")
+    private int maxHouses;
+
+    @Value("${house.viewport.max-clusters:500}")
+    private int maxClusters;
+
+    private volatile GridIndex gridIndex;
+
+    /**
+     * 화면 영역 조회
+     *
+     * @param swLat 남서쪽 위도
+     * @param swLng 남서쪽 경도
+     * @param neLat 북동쪽 위도
+     * @param neLng 북동쪽 경도
+     * @param level 카카오맵 레벨
+     */
+    public HouseViewportResponseDto getViewport(double swLat, double swLng, double neLat, double neLng, int level) {
+        if (swLat > neLat || swLng > neLng) {
+            throw new IllegalArgumentException("INVALID_BOUNDS: 남서쪽 좌표가 북동쪽 좌표보다 클 수 없습니다.");
+        }
+        int appliedLevel = Math.max(MIN_LEVEL, Math.min(MAX_LEVEL, level));
+        Bounds bounds = new Bounds(swLat, swLng, neLat, neLng);
+        GridIndex index = getGridIndex();
+
+        if (appliedLevel <= INDIVIDUAL_MAX_LEVEL) {
+            List<HouseDetailResponseDto> houses = findHouses(index, bounds, maxHouses + 1);
+            if (houses.size() <= maxHouses) {
+                return HouseViewportResponseDto.builder()
+                        .level(appliedLevel)
+                        .mode("HOUSE")
+                        .totalCount(houses.size())
+                        .truncated(false)
+                        .houses(houses)
+                        .clusters(List.of())
+                        .regionPrices(List.of())
+                        .build();
+            }
+            // 개별 표시 한도를 넘으면 가장 확대된 클러스터 레벨로 대체
+            log.debug("화면 영역 내 주택 수 초과로 클러스터 응답 - 요청 레벨: {}", appliedLevel);
+            appliedLevel = INDIVIDUAL_MAX_LEVEL + 1;
+        }
+
+        return findClusters(index, bounds, appliedLevel);
+    }
+
+    private HouseViewportResponseDto findClusters(GridIndex index, Bounds bounds, int level) {
+        Grid<HouseViewportResponseDto.ClusterDto> grid = index.clusterGrids().get(level);
+
+        List<HouseViewportResponseDto.ClusterDto> clusters = new ArrayList<>();
+        boolean truncated = false;
+        for (HouseViewportResponseDto.ClusterDto cluster : grid.cellsIn(bounds)) {
+            if (!bounds.contains(cluster.getLat().doubleValue(), cluster.getLon().doubleValue())) {
+                continue;
+            }
+            if (clusters.size() < maxClusters) {
+                clusters.add(cluster);
+            } else {
+                truncated = true;
+            }
+        }
+
+        List<HouseViewportResponseDto.RegionPriceMarkerDto> regionPrices = index.regionPrices().stream()
+                .filter(marker -> bounds.contains(marker.getLat().doubleValue(), marker.getLon().doubleValue()))
+                .toList();
+
+        return HouseViewportResponseDto.builder()
+                .level(level)
+                .mode("CLUSTER")
+                .totalCount(countHouses(index, bounds))
+                .truncated(truncated)
+                .clusters(clusters)
+                .houses(List.of())
+                .regionPrices(regionPrices)
+                .build();
+    }
+
+    /**
+     * 화면 영역 내 주택 수 (클러스터는 격자 칸 단위라 경계 칸 전체를 더하면 영역 밖 주택까지 포함되므로 개별 주택 격자로 계산)
+     * 영역 안쪽 칸은 칸의 주택 수를 그대로 더하고, 영역 경계에 걸친 칸만 주택 좌표를 확인
+     */
+    private long countHouses(GridIndex index, Bounds bounds) {
+        return index.houseGrid().countIn(bounds, List::size, cell -> cell.stream()
+                .filter(house -> bounds.contains(house.getLat().doubleValue(), house.getLon().doubleValue()))
+                .count());
+    }
+
+    private List<HouseDetailResponseDto> findHouses(GridIndex index, Bounds bounds, int limit) {
+        List<HouseDetailResponseDto> houses = new ArrayList<>();
+        for (List<HouseDetailResponseDto> cell : index.houseGrid().cellsIn(bounds)) {
+            for (HouseDetailResponseDto house : cell) {
+                if (bounds.contains(house.getLat().doubleValue(), house.getLon().doubleValue())) {
+                    houses.add(house);
+                    if (houses.size() >= limit) {
+                        return houses;
+                    }
+                }
+            }
+        }
+        return houses;
+    }
+
+    /**
+     * 공간 색인 조회 (주택 상세 스냅샷이 교체되었으면 재생성)
+     */
+    private GridIndex getGridIndex() {
+        HouseDetailReadModel.Snapshot source = houseDetailReadModel.getSnapshot();
+        GridIndex current = gridIndex;
+        if (current != null && current.source() == source) {
+            return current;
+        }
+        synchronized (this) {
+            current = gridIndex;
+            if (current == null || current.source() != source) {
+                current = buildGridIndex(source);
+                gridIndex = current;
+            }
+        }
+        return current;
+    }
+
+    private GridIndex buildGridIndex(HouseDetailReadModel.Snapshot source) {
+        long startTime = System.currentTimeMillis();
+
+        List<HouseDetailResponseDto> located = source.details().stream()
+                .filter(detail -> detail.getLat() != null && detail.getLon() != null)
+                .toList();
+
+        // 개별 주택 격자는 개별 표시 최대 레벨의 클러스터 격자 크기 사용
+        Map<Long, List<HouseDetailResponseDto>> houseCells = new HashMap<>();
+        double houseCellSize = cellSize(INDIVIDUAL_MAX_LEVEL);
+        for (HouseDetailResponseDto detail : located) {
+            long key = cellKey(detail.getLat().doubleValue(), detail.getLon().doubleValue(), houseCellSize);
+            houseCells.computeIfAbsent(key, k -> new ArrayList<>()).add(detail);
+        }
+
+        Map<Integer, Grid<HouseViewportResponseDto.ClusterDto>> clusterGrids = new HashMap<>();
+        for (int level = INDIVIDUAL_MAX_LEVEL + 1; level <= MAX_LEVEL; level++) {
+            double size = cellSize(level);
+            Map<Long, ClusterAccumulator> accumulators = new HashMap<>();
+            for (HouseDetailResponseDto detail : located) {
+                long key = cellKey(detail.getLat().doubleValue(), detail.getLon().doubleValue(), size);
+                accumulators.computeIfAbsent(key, k -> new ClusterAccumulator()).add(detail);
+            }
+
+            Map<Long, HouseViewportResponseDto.ClusterDto> cells = new HashMap<>(accumulators.size() * 2);
+            accumulators.forEach((key, accumulator) -> cells.put(key, accumulator.toDto()));
+            clusterGrids.put(level, new Grid<>(size, cells));
+        }
+
+        List<HouseViewportResponseDto.RegionPriceMarkerDto> regionPrices = buildRegionPrices(located);
+
+        log.info("지도 공간 색인 생성 완료 - 좌표 보유 주택: {}개, 지역 가격 마커: {}개, 소요시간: {}ms",
+                located.size(), regionPrices.size(), System.currentTimeMillis() - startTime);
+
+        return new GridIndex(source, new Grid<>(houseCellSize, houseCells), clusterGrids, regionPrices);
+    }
+
+    /**
+     * 지역별 평균 주택 가격 마커 생성 (지역별 최신 연도 기준)
+     * 평균 주택 가격 테이블에는 좌표가 없으므로 해당 시도 주택 좌표의 평균을 마커 위치로 사용
+     */
+    private List<HouseViewportResponseDto.RegionPriceMarkerDto> buildRegionPrices(List<HouseDetailResponseDto> located) {
+        Map<String, AvgHomePrice> latestByRegion = new HashMap<>();
+        for (AvgHomePrice avgHomePrice : avgHomePriceRepository.findAll()) {
+            if (avgHomePrice.getRegion() == null || avgHomePrice.getYear() == null) {
+                continue;
+            }
+            latestByRegion.merge(avgHomePrice.getRegion(), avgHomePrice,
+                    (existing, candidate) -> candidate.getYear().compareTo(existing.getYear()) > 0 ? candidate : existing);
+        }
+
+        Map<String, double[]> sidoCentroids = new HashMap<>();
+        for (HouseDetailResponseDto detail : located) {
+            if (detail.getSido() == null) {
+                continue;
+            }
+            double[] sum = sidoCentroids.computeIfAbsent(detail.getSido(), k -> new double[3]);
+            sum[0] += detail.getLat().doubleValue();
+            sum[1] += detail.getLon().doubleValue();
+            sum[2]++;
+        }
+
+        List<HouseViewportResponseDto.RegionPriceMarkerDto> markers = new ArrayList<>();
+        for (AvgHomePrice avgHomePrice : latestByRegion.values()) {
+            double latSum = 0;
+            double lonSum = 0;
+            double count = 0;
+            for (Map.Entry<String, double[]> entry : sidoCentroids.entrySet()) {
+                // 지역명은 "서울", 시도명은 "서울특별시" 형태
+                if (entry.getKey().startsWith(avgHomePrice.getRegion())) {
+                    latSum += entry.getValue()[0];
+                    lonSum += entry.getValue()[1];
+                    count += entry.getValue()[2];
+                }
+            }
+            if (count == 0) {
+                continue;
+            }
+
+            AvgHomePriceMapMarkerDto source = AvgHomePriceMapMarkerDto.from(avgHomePrice);
+            markers.add(HouseViewportResponseDto.RegionPriceMarkerDto.builder()
+                    .region(source.getRegion())
+                    .year(source.getYear())
+                    .lat(toCoordinate(latSum / count))
+                    .lon(toCoordinate(lonSum / count))
+                    .priceInfo(source.getPriceInfo())
+                    .build());
+        }
+        return List.copyOf(markers);
+    }
+
+    private static double cellSize(int level) {
+        return DEGREES_PER_PIXEL_LEVEL1 * (1 << (level - 1)) * CLUSTER_CELL_PIXELS;
+    }
+
+    private static int cellX(double lon, double cellSize) {
+        return (int) Math.floor((lon + 180.0) / cellSize);
+    }
+
+    private static int cellY(double lat, double cellSize) {
+        return (int) Math.floor((lat + 90.0) / cellSize);
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static long cellKey(double lat, double lon, double cellSize) {
+        return cellKey(cellX(lon, cellSize), cellY(lat, cellSize));
+    }
+
+    private static BigDecimal toCoordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(COORDINATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private record Bounds(double swLat, double swLng, double neLat, double neLng) {
+
+        boolean contains(double lat, double lon) {
+            return lat >= swLat && lat <= neLat && lon >= swLng && lon <= neLng;
+        }
+    }
+
+    /**
+     * 격자 한 레벨 (격자 크기, 격자 키 → 값)
+     */
+    private record Grid<V>(double cellSize, Map<Long, V> cells) {
+
+        /**
+         * 화면 영역과 겹치는 격자 값 조회
+         */
+        Collection<V> cellsIn(Bounds bounds) {
+            List<V> result = new ArrayList<>();
+            forEachCellIn(bounds, (x, y, value) -> result.add(value));
+            return result;
+        }
+
+        /**
+         * 화면 영역 내 값 개수 합계
+         * 경계 칸(영역 모서리가 있는 첫/마지막 행과 열)이 아닌 칸은 영역에 완전히 포함되므로 cellCount, 경계 칸은 boundaryCount로 계산
+         */
+        long countIn(Bounds bounds, ToLongFunction<V> cellCount, ToLongFunction<V> boundaryCount) {
+            int minX = cellX(bounds.swLng(), cellSize);
+            int maxX = cellX(bounds.neLng(), cellSize);
+            int minY = cellY(bounds.swLat(), cellSize);
+            int maxY = cellY(bounds.neLat(), cellSize);
+
+            long[] total = {0};
+            forEachCellIn(bounds, (x, y, value) -> {
+                boolean inner = x > minX && x < maxX && y > minY && y < maxY;
+                total[0] += inner ? cellCount.applyAsLong(value) : boundaryCount.applyAsLong(value);
+            });
+            return total[0];
+        }
+
+        /**
+         * 화면 영역과 겹치는 격자 칸 순회
+         * 영역 내 격자 칸 수가 실제 채워진 칸 수보다 많으면 채워진 칸 전체를 순회
+         */
+        private void forEachCellIn(Bounds bounds, CellVisitor<V> visitor) {
+            int minX = cellX(bounds.swLng(), cellSize);
+            int maxX = cellX(bounds.neLng(), cellSize);
+            int minY = cellY(bounds.swLat(), cellSize);
+            int maxY = cellY(bounds.neLat(), cellSize);
+
+            long rangeSize = (long) (maxX - minX + 1) * (maxY - minY + 1);
+            if (rangeSize > cells.size()) {
+                cells.forEach((key, value) -> {
+                    int x = (int) (key >> 32);
+                    int y = (int) (long) key;
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        visitor.visit(x, y, value);
+                    }
+                });
+                return;
+            }
+
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    V value = cells.get(cellKey(x, y));
+                    if (value != null) {
+                        visitor.visit(x, y, value);
+                    }
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface CellVisitor<V> {
+        void visit(int x, int y, V value);
+    }
+
+    private record GridIndex(HouseDetailReadModel.Snapshot source,
+                             Grid<List<HouseDetailResponseDto>> houseGrid,
+                             Map<Integer, Grid<HouseViewportResponseDto.ClusterDto>> clusterGrids,
+                             List<HouseViewportResponseDto.RegionPriceMarkerDto> regionPrices) {
+    }
+
+    /**
+     * 격자 칸 단위 집계 (좌표 합계, 분양최고금액 최소/합계/최대)
+     */
+    private static final class ClusterAccumulator {
+        private long count;
+        private double latSum;
+        private double lonSum;
+        private long priceCount;
+        private BigDecimal priceSum = BigDecimal.ZERO;
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+
+        void add(HouseDetailResponseDto detail) {
+            count++;
+            latSum += detail.getLat().doubleValue();
+            lonSum += detail.getLon().doubleValue();
+
+            BigDecimal price = detail.getMaxSalePrice();
+            if (price == null || price.signum() <= 0) {
+                return;
+            }
+            priceCount++;
+            priceSum = priceSum.add(price);
+            minPrice = minPrice == null || price.compareTo(minPrice) < 0 ? price : minPrice;
+            maxPrice = maxPrice == null || price.compareTo(maxPrice) > 0 ? price : maxPrice;
+        }
+
+        HouseViewportResponseDto.ClusterDto toDto() {
+            return HouseViewportResponseDto.ClusterDto.builder()
+                    .lat(toCoordinate(latSum / count))
+                    .lon(toCoordinate(lonSum / count))
+                    .count(count)
+                    .minPrice(minPrice)
+                    .avgPrice(priceCount > 0
+                            ? priceSum.divide(BigDecimal.valueOf(priceCount), PRICE_SCALE, RoundingMode.HALF_UP)
+                            : null)
+                    .maxPrice(maxPrice)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.event.HouseDataChangedEvent;
+import com.hana_ti.home_planner.domain.house.event.HouseDataVersion;
+import com.hana_ti.home_planner.domain.house.repository.HousePriceInfoRepository;
+import com.hana_ti.home_planner.global.util.QuantileSketch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 주택 가격 집계 저장소
+ * (주택형, 주택공급면적) 단위로 건수, 합계, 최소/최대, 분위수 스케치를 메모리에 보관하고,
+ * 가격 정보 적재 시 신규 행만 반영 (적재 외 수정은 주기적 전체 재생성으로 반영)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HousePriceAggregateStore {
+
+    private final HousePriceInfoRepository housePriceInfoRepository;
+    private final HouseDataChangeDetector houseDataChangeDetector;
+
+    @Value("${house.price-aggregate.relative-accuracy:0.01}")
+    private double relativeAccuracy;
+
+    private volatile Aggregates aggregates;
+
+    /**
+     * 주택형별 평균 분양최고금액 (평균 내림차순, 가격 없는 주택형 우선)
+     *
+     * @param aggregates 응답 버전을 읽은 집계 (버전과 본문이 같은 집계 기준이 되도록 호출자가 전달)
+     * @return [주택형, 평균 분양최고금액] 목록
+     */
+    public List<Object[]> getAverageMaxSalePriceByHouseType(Aggregates aggregates) {
+        return averageBy(aggregates, CellKey::houseType, Comparator.nullsFirst(Comparator.<Double>reverseOrder()), false);
+    }
+
+    /**
+     * 주택공급면적별 평균 분양최고금액 (주택공급면적 오름차순, 면적 없는 행은 마지막)
+     *
+     * @param aggregates 응답 버전을 읽은 집계
+     * @return [주택공급면적, 평균 분양최고금액] 목록
+     */
+    public List<Object[]> getAverageMaxSalePriceBySupplyArea(Aggregates aggregates) {
+        return averageBy(aggregates, CellKey::supplyArea, null, true);
+    }
+
+    /**
+     * 조건에 해당하는 셀을 병합한 가격 집계
+     *
+     * @param houseType 주택형 (부분 일치, null이면 전체)
+     * @param minArea 최소 주택공급면적 (null이면 제한 없음)
+     * @param maxArea 최대 주택공급면적 (null이면 제한 없음)
+     */
+    public PriceAggregate rollup(String houseType, BigDecimal minArea, BigDecimal maxArea) {
+        PriceAggregate result = new PriceAggregate(relativeAccuracy);
+        getAggregates().cells().forEach((key, cell) -> {
+            if ((houseType == null || (key.houseType() != null && key.houseType().contains(houseType)))
+                    && (minArea == null || (key.supplyArea() != null && key.supplyArea().compareTo(minArea) >= 0))
+                    && (maxArea == null || (key.supplyArea() != null && key.supplyArea().compareTo(maxArea) <= 0))) {
+                result.merge(cell);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 데이터 적재 감지 시 갱신 (신규 주택관리번호만 추가된 경우 증분, 그 외 전체 재생성)
+     */
+    @EventListener
+    public void onHouseDataChanged(HouseDataChangedEvent event) {
+        Aggregates current = aggregates;
+        HouseDataVersion previousVersion = event.getPreviousVersion();
+
+        if (event.isInitialLoad() || current == null || !current.version().equals(previousVersion)
+                || !isAppendOnly(previousVersion, event.getCurrentVersion())) {
+            rebuild(event.getCurrentVersion());
+            return;
+        }
+
+        applyIncrement(current, event.getCurrentVersion());
+    }
+
+    /**
+     * 적재 외 수정(기존 행 변경/삭제) 반영을 위한 주기적 전체 재생성 (스케치는 값 제거가 불가능)
+     */
+    @Scheduled(cron = "${house.price-aggregate.full-rebuild-cron:0 20 4 * * *}")
+    public void scheduledRebuild() {
+        rebuild(houseDataChangeDetector.getCurrentVersion());
+    }
+
+    /**
+     * 현재 집계 (불변, 갱신 시 새 집계로 교체되므로 응답 버전과 본문을 같은 집계에서 읽을 때 사용)
+     */
+    public Aggregates getAggregates() {
+        Aggregates current = aggregates;
+        if (current == null) {
+            // 버전 최초 확인 시 발행되는 변경 이벤트로 집계가 생성될 수 있으므로 재확인
+            HouseDataVersion version = houseDataChangeDetector.getCurrentVersion();
+            current = aggregates;
+            if (current == null) {
+                rebuild(version);
+                current = aggregates;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void rebuild(HouseDataVersion version) {
+        long startTime = System.currentTimeMillis();
+
+        List<Object[]> rows = housePriceInfoRepository.findPriceAggregateRowsAfter(-1L);
+
+        Map<CellKey, PriceAggregate> cells = new HashMap<>();
+        for (Object[] row : rows) {
+            cells.computeIfAbsent(toCellKey(row), key -> new PriceAggregate(relativeAccuracy))
+                    .add(toBigDecimal(row[2]));
+        }
+
+        aggregates = new Aggregates(Map.copyOf(cells), version, System.currentTimeMillis());
+
+        log.info("주택 가격 집계 전체 생성 완료 - 행 수: {}개, 셀 수: {}개, 소요시간: {}ms",
+                rows.size(), cells.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private synchronized void applyIncrement(Aggregates current, HouseDataVersion version) {
+        long startTime = System.currentTimeMillis();
+        long fromId = current.version().priceMaxId();
+
+        List<Object[]> rows = housePriceInfoRepository.findPriceAggregateRowsAfter(fromId);
+
+        // 기존 집계는 조회 중일 수 있으므로 변경되는 셀만 복사하여 반영
+        Map<CellKey, PriceAggregate> cells = new HashMap<>(current.cells());
+        Set<CellKey> copiedKeys = new HashSet<>();
+        for (Object[] row : rows) {
+            CellKey key = toCellKey(row);
+            PriceAggregate cell = cells.get(key);
+            if (cell == null) {
+                cell = new PriceAggregate(relativeAccuracy);
+                cells.put(key, cell);
+                copiedKeys.add(key);
+            } else if (copiedKeys.add(key)) {
+                cell = cell.copy();
+                cells.put(key, cell);
+            }
+            cell.add(toBigDecimal(row[2]));
+        }
+
+        aggregates = new Aggregates(Map.copyOf(cells), version, System.currentTimeMillis());
+
+        log.info("주택 가격 집계 증분 갱신 완료 - 기준 주택관리번호: {}, 반영 행 수: {}개, 셀 수: {}개, 소요시간: {}ms",
+                fromId, rows.size(), cells.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 이전 버전 이후 늘어난 가격 행이 모두 이전 최대 주택관리번호보다 큰 경우에만 증분 적재로 판단
+     */
+    private boolean isAppendOnly(HouseDataVersion previous, HouseDataVersion current) {
+        long addedPrices = current.priceCount() - previous.priceCount();
+        if (addedPrices < 0) {
+            return false;
+        }
+        return housePriceInfoRepository.countByHouseManagementNumberGreaterThan(
+                BigDecimal.valueOf(previous.priceMaxId())) == addedPrices;
+    }
+
+    private <K> List<Object[]> averageBy(Aggregates aggregates, Function<CellKey, K> keyExtractor,
+                                         Comparator<Double> averageOrder, boolean sortByKey) {
+        Map<K, PriceAggregate> grouped = new LinkedHashMap<>();
+        aggregates.cells().forEach((key, cell) ->
+                grouped.computeIfAbsent(keyExtractor.apply(key), k -> new PriceAggregate(relativeAccuracy)).mergeTotals(cell));
+
+        List<Object[]> results = new ArrayList<>(grouped.size());
+        grouped.forEach((key, aggregate) -> results.add(new Object[]{key, aggregate.getAverage()}));
+
+        if (sortByKey) {
+            results.sort(Comparator.comparing(row -> (BigDecimal) row[0], Comparator.nullsLast(Comparator.naturalOrder())));
+        } else {
+            results.sort(Comparator.comparing(row -> (Double) row[1], averageOrder));
+        }
+        return results;
+    }
+
+    private static CellKey toCellKey(Object[] row) {
+        return new CellKey((String) row[0], toBigDecimal(row[1]));
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value != null ? new BigDecimal(value.toString()) : null;
+    }
+
+    /**
+     * 불변 가격 집계 (셀, 데이터 버전, 갱신 시각)
+     */
+    public record Aggregates(Map<CellKey, PriceAggregate> cells, HouseDataVersion version, long updatedAt) {
+
+        /**
+         * 응답 버전 (데이터 버전 + 갱신 시각, 응답 캐시 키/ETag용)
+         */
+        public HouseResponseCache.DataVersion responseVersion() {
+            return new HouseResponseCache.DataVersion(
+                    "price-" + version.tag() + "-" + Long.toHexString(updatedAt), updatedAt);
+        }
+    }
+
+    record CellKey(String houseType, BigDecimal supplyArea) {
+    }
+
+    /**
+     * 분양최고금액 집계 (행 수, 가격 건수, 합계, 최소/최대, 분위수 스케치)
+     * 가격이 없는 행은 행 수에만 포함 (SQL AVG와 동일하게 평균에서 제외)
+     */
+    public static final class PriceAggregate {
+        private final QuantileSketch sketch;
+        private long rowCount;
+        private long priceCount;
+        private BigDecimal priceSum = BigDecimal.ZERO;
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+
+        private PriceAggregate(double relativeAccuracy) {
+            this.sketch = new QuantileSketch(relativeAccuracy);
+        }
+
+        private PriceAggregate(PriceAggregate source) {
+            this.sketch = source.sketch.copy();
+            this.rowCount = source.rowCount;
+            this.priceCount = source.priceCount;
+            this.priceSum = source.priceSum;
+            this.minPrice = source.minPrice;
+            this.maxPrice = source.maxPrice;
+        }
+
+        private void add(BigDecimal price) {
+            rowCount++;
+            if (price == null) {
+                return;
+            }
+            priceCount++;
+            priceSum = priceSum.add(price);
+            minPrice = minPrice == null || price.compareTo(minPrice) < 0 ? price : minPrice;
+            maxPrice = maxPrice == null || price.compareTo(maxPrice) > 0 ? price : maxPrice;
+            sketch.add(price.doubleValue());
+        }
+
+        private void merge(PriceAggregate other) {
+            mergeTotals(other);
+            sketch.merge(other.sketch);
+        }
+
+        /**
+         * 스케치를 제외한 합계 값만 병합 (평균 조회용)
+         */
+        private void mergeTotals(PriceAggregate other) {
+            rowCount += other.rowCount;
+            priceCount += other.priceCount;
+            priceSum = priceSum.add(other.priceSum);
+            if (other.minPrice != null && (minPrice == null || other.minPrice.compareTo(minPrice) < 0)) {
+                minPrice = other.minPrice;
+            }
+            if (other.maxPrice != null && (maxPrice == null || other.maxPrice.compareTo(maxPrice) > 0)) {
+                maxPrice = other.maxPrice;
+            }
+        }
+
+        private PriceAggregate copy() {
+            return new PriceAggregate(this);
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        public long getPriceCount() {
+            return priceCount;
+        }
+
+        public BigDecimal getMinPrice() {
+            return minPrice;
+        }
+
+        public BigDecimal getMaxPrice() {
+            return maxPrice;
+        }
+
+        /**
+         * 평균 분양최고금액 (가격 건수가 없으면 null)
+         */
+        public Double getAverage() {
+            return priceCount > 0 ? priceSum.doubleValue() / priceCount : null;
+        }
+
+        /**
+         * 분위수 추정값 (가격 건수가 없으면 NaN)
+         *
+         * @param quantile 0 ~ 1 사이 분위
+         */
+        public double quantile(double quantile) {
+            return sketch.quantile(quantile);
+        }
+
+        public List<QuantileSketch.HistogramBin> histogram(int binCount) {
+            return sketch.histogram(binCount);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.hana_ti.home_planner.domain.house.service;
 
+import com.hana_ti.home_planner.domain.house.dto.HousePriceDistributionResponseDto;
 import com.hana_ti.home_planner.domain.house.dto.HousePriceInfoResponseDto;
 import com.hana_ti.home_planner.domain.house.entity.HousePricesInfo;
 import com.hana_ti.home_planner.domain.house.repository.HousePriceInfoRepository;
+import com.hana_ti.home_planner.global.dto.CursorPageResponse;
+import com.hana_ti.home_planner.global.util.CursorUtil;
+import com.hana_ti.home_planner.global.util.NdjsonWriter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -11,11 +16,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +34,14 @@ import java.util.stream.Collectors;
 public class HousePriceInfoService {
 
     private final HousePriceInfoRepository housePriceInfoRepository;
+    private final EntityManager entityManager;
+    private final HousePriceAggregateStore housePriceAggregateStore;
+
+    // 커서 페이징 시작 위치 (주택관리번호는 양수)
+    private static final BigDecimal FIRST_CURSOR_ID = BigDecimal.valueOf(-1);
+
+    // 히스토그램 최대 구간 수
+    private static final int MAX_HISTOGRAM_BINS = 100;
 
     /**
      * 모든 주택 가격 정보 조회 (페이징 포함)
@@ -42,6 +60,52 @@ public class HousePriceInfoService {
         return dtoPage;
     }
 
+    /**
+     * 모든 주택 가격 정보 조회 (커서 기반 페이징)
+     * 주택관리번호, 주택형 오름차순 키셋 조회로 전체 건수 집계 없이 페이지 깊이와 무관하게 동일한 비용
+     */
+    public CursorPageResponse<HousePriceInfoResponseDto> getAllHousePriceInfoWithCursor(String cursor, int size) {
+        log.info("모든 주택 가격 정보 조회 시작 (커서 페이징) - 크기: {}", size);
+
+        size = CursorUtil.checkPageSize(size);
+        CursorKey cursorKey = decodeCursor(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<HousePricesInfo> rows = housePriceInfoRepository.findAllAfter(
+                cursorKey.houseManagementNumber(), cursorKey.houseType(), size + 1);
+
+        CursorPageResponse<HousePriceInfoResponseDto> result = toCursorPage(rows, size);
+
+        log.info("모든 주택 가격 정보 조회 완료 (커서 페이징) - 조회된 정보 수: {}개, 다음 페이지 존재: {}",
+                result.getSize(), result.isHasMore());
+
+        return result;
+    }
+
+    /**
+     * 전체 주택 가격 정보 NDJSON 내보내기
+     * JDBC 커서로 한 행씩 읽어 바로 출력하고 영속성 컨텍스트에서 분리하여 건수와 무관하게 메모리 사용량 일정
+     *
+     * @return 출력한 행 수
+     */
+    public long exportAllHousePriceInfo(NdjsonWriter writer) throws IOException {
+        log.info("주택 가격 정보 내보내기 시작");
+        long startTime = System.currentTimeMillis();
+
+        try (Stream<HousePricesInfo> rows = housePriceInfoRepository.streamAllForExport()) {
+            Iterator<HousePricesInfo> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                HousePricesInfo entity = iterator.next();
+                writer.write(HousePriceInfoResponseDto.from(entity));
+                entityManager.detach(entity);
+            }
+        }
+
+        log.info("주택 가격 정보 내보내기 완료 - 출력 건수: {}건, 소요시간: {}ms",
+                writer.getCount(), System.currentTimeMillis() - startTime);
+        return writer.getCount();
+    }
+
     /**
      * 모든 주택 가격 정보 조회 (페이징 없음)
      */
@@ -207,13 +271,38 @@ public class HousePriceInfoService {
         return dtoPage;
     }
 
+    /**
+     * 복합 검색 조건 조회 (커서 기반 페이징)
+     */
+    public CursorPageResponse<HousePriceInfoResponseDto> searchByComplexConditionsWithCursor(
+            String houseType, BigDecimal minPrice, BigDecimal maxPrice,
+            BigDecimal minArea, BigDecimal maxArea, BigDecimal minHouseholds,
+            String cursor, int size) {
+        log.info("복합 검색 시작 (커서 페이징) - 주택형: {}, 가격범위: {}-{}, 면적범위: {}-{}, 최소세대수: {}", 
+                houseType, minPrice, maxPrice, minArea, maxArea, minHouseholds);
+
+        size = CursorUtil.checkPageSize(size);
+        CursorKey cursorKey = decodeCursor(cursor);
+
+        List<HousePricesInfo> rows = housePriceInfoRepository.findByComplexSearchAfter(
+                StringUtils.hasText(houseType) ? houseType : null, minPrice, maxPrice, minArea, maxArea, minHouseholds,
+                cursorKey.houseManagementNumber(), cursorKey.houseType(), size + 1);
+
+        CursorPageResponse<HousePriceInfoResponseDto> result = toCursorPage(rows, size);
+
+        log.info("복합 검색 완료 (커서 페이징) - 조회된 정보 수: {}개, 다음 페이지 존재: {}",
+                result.getSize(), result.isHasMore());
+
+        return result;
+    }
+
     /**
      * 주택형별 평균 분양최고금액 조회
      */
-    public List<Object[]> getAverageMaxSalePriceByHouseType() {
+    public List<Object[]> getAverageMaxSalePriceByHouseType(HousePriceAggregateStore.Aggregates aggregates) {
         log.info("주택형별 평균 분양최고금액 조회 시작");
 
-        List<Object[]> results = housePriceInfoRepository.findAverageMaxSalePriceByHouseType();
+        List<Object[]> results = housePriceAggregateStore.getAverageMaxSalePriceByHouseType(aggregates);
 
         log.info("주택형별 평균 분양최고금액 조회 완료 - 결과 수: {}", results.size());
 
@@ -223,13 +312,128 @@ public class HousePriceInfoService {
     /**
      * 주택공급면적별 평균 분양최고금액 조회
      */
-    public List<Object[]> getAverageMaxSalePriceBySupplyArea() {
+    public List<Object[]> getAverageMaxSalePriceBySupplyArea(HousePriceAggregateStore.Aggregates aggregates) {
         log.info("주택공급면적별 평균 분양최고금액 조회 시작");
 
-        List<Object[]> results = housePriceInfoRepository.findAverageMaxSalePriceBySupplyArea();
+        List<Object[]> results = housePriceAggregateStore.getAverageMaxSalePriceBySupplyArea(aggregates);
 
         log.info("주택공급면적별 평균 분양최고금액 조회 완료 - 결과 수: {}", results.size());
 
         return results;
     }
-}
\ No newline at end of file
+
+    /**
+     * 분양최고금액 분위수 조회 (집계 스케치 기반 근사값)
+     *
+     * @param percentiles 백분위 목록 (0~100)
+     */
+    public HousePriceDistributionResponseDto getPricePercentiles(String houseType, BigDecimal minArea, BigDecimal maxArea,
+                                                                 List<Integer> percentiles) {
+        log.info("분양최고금액 분위수 조회 시작 - 주택형: {}, 면적: {}~{}, 백분위: {}", houseType, minArea, maxArea, percentiles);
+
+        for (Integer percentile : percentiles) {
+            if (percentile == null || percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("INVALID_PERCENTILE: 백분위는 0에서 100 사이여야 합니다.");
+            }
+        }
+
+        HousePriceAggregateStore.PriceAggregate aggregate = housePriceAggregateStore.rollup(houseType, minArea, maxArea);
+
+        List<HousePriceDistributionResponseDto.PercentileDto> percentileDtos = aggregate.getPriceCount() == 0
+                ? List.of()
+                : percentiles.stream()
+                        .map(percentile -> HousePriceDistributionResponseDto.PercentileDto.builder()
+                                .percentile(percentile)
+                                .price(toPrice(aggregate.quantile(percentile / 100.0)))
+                                .build())
+                        .toList();
+
+        log.info("분양최고금액 분위수 조회 완료 - 대상 건수: {}", aggregate.getPriceCount());
+
+        return toDistributionDto(houseType, minArea, maxArea, aggregate)
+                .percentiles(percentileDtos)
+                .build();
+    }
+
+    /**
+     * 분양최고금액 히스토그램 조회 (집계 스케치 기반 근사값)
+     *
+     * @param bins 구간 수
+     */
+    public HousePriceDistributionResponseDto getPriceHistogram(String houseType, BigDecimal minArea, BigDecimal maxArea,
+                                                               int bins) {
+        log.info("분양최고금액 히스토그램 조회 시작 - 주택형: {}, 면적: {}~{}, 구간 수: {}", houseType, minArea, maxArea, bins);
+
+        if (bins < 1 || bins > MAX_HISTOGRAM_BINS) {
+            throw new IllegalArgumentException("INVALID_BINS: 구간 수는 1에서 " + MAX_HISTOGRAM_BINS + " 사이여야 합니다.");
+        }
+
+        HousePriceAggregateStore.PriceAggregate aggregate = housePriceAggregateStore.rollup(houseType, minArea, maxArea);
+
+        List<HousePriceDistributionResponseDto.HistogramBinDto> histogram = aggregate.histogram(bins).stream()
+                .map(bin -> HousePriceDistributionResponseDto.HistogramBinDto.builder()
+                        .lowerBound(toPrice(bin.lowerBound()))
+                        .upperBound(toPrice(bin.upperBound()))
+                        .count(bin.count())
+                        .build())
+                .toList();
+
+        log.info("분양최고금액 히스토그램 조회 완료 - 대상 건수: {}", aggregate.getPriceCount());
+
+        return toDistributionDto(houseType, minArea, maxArea, aggregate)
+                .histogram(histogram)
+                .build();
+    }
+
+    private HousePriceDistributionResponseDto.HousePriceDistributionResponseDtoBuilder toDistributionDto(
+            String houseType, BigDecimal minArea, BigDecimal maxArea, HousePriceAggregateStore.PriceAggregate aggregate) {
+        Double average = aggregate.getAverage();
+        return HousePriceDistributionResponseDto.builder()
+                .houseType(houseType)
+                .minArea(minArea)
+                .maxArea(maxArea)
+                .count(aggregate.getPriceCount())
+                .minPrice(aggregate.getMinPrice())
+                .avgPrice(average != null ? toPrice(average) : null)
+                .maxPrice(aggregate.getMaxPrice());
+    }
+
+    private static BigDecimal toPrice(double value) {
+        return BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP);
+    }
+
+    private CursorKey decodeCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return new CursorKey(FIRST_CURSOR_ID, "");
+        }
+        String[] keys = CursorUtil.decode(cursor, 2);
+        try {
+            return new CursorKey(new BigDecimal(keys[0]), keys[1]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR: 유효하지 않은 커서입니다.");
+        }
+    }
+
+    private CursorPageResponse<HousePriceInfoResponseDto> toCursorPage(List<HousePricesInfo> rows, int size) {
+        boolean hasMore = rows.size() > size;
+        List<HousePricesInfo> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            HousePricesInfo last = pageRows.get(pageRows.size() - 1);
+            nextCursor = CursorUtil.encode(last.getHouseManagementNumber().toPlainString(), last.getHouseType());
+        }
+
+        List<HousePriceInfoResponseDto> dtos = pageRows.stream()
+                .map(HousePriceInfoResponseDto::from)
+                .collect(Collectors.toList());
+
+        return CursorPageResponse.of(dtos, hasMore, nextCursor);
+    }
+
+    /**
+     * 커서 정렬 키 (마지막 행의 주택관리번호, 주택형)
+     */
+    private record CursorKey(BigDecimal houseManagementNumber, String houseType) {
+    }
+}
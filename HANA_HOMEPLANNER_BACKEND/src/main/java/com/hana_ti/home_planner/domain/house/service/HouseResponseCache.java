@@ -0,0 +1,218 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hana_ti.home_planner.domain.house.repository.AvgHomePriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 데이터 버전 기반 주택 조회 응답 캐시
+ * 엔드포인트별로 직렬화된 응답 본문(원본 + gzip)을 데이터 버전 단위로 보관하고,
+ * If-None-Match / If-Modified-Since가 현재 버전과 일치하면 본문 없이 304 응답
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HouseResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final AvgHomePriceRepository avgHomePriceRepository;
+
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedBody>> inFlightFills = new ConcurrentHashMap<>();
+
+    private volatile DataVersion avgHomePriceVersion;
+
+    /**
+     * 버전 기반 조건부 응답
+     *
+     * @param key 캐시 키 (엔드포인트 단위)
+     * @param version 응답 데이터 버전
+     * @param webRequest 요청 (조건부 요청 헤더 확인용)
+     * @param bodySupplier 캐시 미스 시 응답 본문 생성 (ApiResponse 등 직렬화 대상)
+     */
+    public ResponseEntity<byte[]> respond(String key, DataVersion version, WebRequest webRequest,
+                                          Supplier<Object> bodySupplier) {
+        String etag = "W/\"" + version.tag() + "\"";
+
+        // 클라이언트가 가진 버전과 동일하면 본문 없이 304 응답
+        if (webRequest.checkNotModified(etag, version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        CachedBody cached = bodies.get(key);
+        if (cached == null || !cached.tag().equals(version.tag())) {
+            cached = fill(key, version, bodySupplier);
+        }
+
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .lastModified(version.lastModified())
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? cached.gzipBody() : cached.body());
+    }
+
+    /**
+     * 평균 주택 가격 데이터 버전 (주기적으로 확인)
+     */
+    public DataVersion avgHomePriceVersion() {
+        DataVersion version = avgHomePriceVersion;
+        if (version == null) {
+            refreshAvgHomePriceVersion();
+            version = avgHomePriceVersion;
+        }
+        return version;
+    }
+
+    /**
+     * 평균 주택 가격 데이터 버전 확인 (주택 데이터 버전 확인 주기와 동일)
+     */
+    @Scheduled(fixedDelayString = "${house.data-version.poll-interval-ms:60000}",
+            initialDelayString = "${house.data-version.poll-interval-ms:60000}")
+    public synchronized void refreshAvgHomePriceVersion() {
+        Object[] row = avgHomePriceRepository.findDataVersionRaw().get(0);
+        String tag = "avg-" + ((Number) row[0]).longValue()
+                + "-" + ((Number) row[1]).longValue()
+                + "-" + row[2].toString();
+
+        DataVersion current = avgHomePriceVersion;
+        if (current == null || !current.tag().equals(tag)) {
+            avgHomePriceVersion = new DataVersion(tag, System.currentTimeMillis());
+            log.info("평균 주택 가격 데이터 버전 갱신 - 버전: {}", tag);
+        }
+    }
+
+    /**
+     * 응답 본문 생성 후 캐시에 반영 (맵 잠금 밖에서 생성, 같은 키/버전에 대한 동시 미스는 하나의 생성 결과를 공유)
+     */
+    private CachedBody fill(String key, DataVersion version, Supplier<Object> bodySupplier) {
+        String fillKey = key + "\n" + version.tag();
+        CompletableFuture<CachedBody> fill = new CompletableFuture<>();
+        CompletableFuture<CachedBody> inFlight = inFlightFills.putIfAbsent(fillKey, fill);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+            }
+        }
+
+        try {
+            CachedBody cached = serialize(key, version, bodySupplier);
+            bodies.put(key, cached);
+            fill.complete(cached);
+            return cached;
+        } catch (RuntimeException e) {
+            fill.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFills.remove(fillKey, fill);
+        }
+    }
+
+    private CachedBody serialize(String key, DataVersion version, Supplier<Object> bodySupplier) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(bodySupplier.get());
+            byte[] gzipBody = gzip(body);
+            log.info("응답 캐시 생성 - 키: {}, 버전: {}, 크기: {}bytes (gzip {}bytes)",
+                    key, version.tag(), body.length, gzipBody.length);
+            return new CachedBody(version.tag(), body, gzipBody);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다: " + key, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Accept-Encoding의 gzip 허용 여부 (gzip 항목의 q값 기준, gzip 항목이 없으면 * 항목 기준, q=0은 거부)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            if (!coding.equals("gzip") && !coding.equals("x-gzip") && !coding.equals("*")) {
+                continue;
+            }
+
+            double quality = parseQuality(parts);
+            if (coding.equals("*")) {
+                wildcardQuality = quality;
+            } else {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            }
+        }
+
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * 인코딩 항목의 q값 (없으면 1, 형식이 잘못되면 0으로 보고 거부)
+     */
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q'
+                    && parameter.substring(1).trim().startsWith("=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(parameter.indexOf('=') + 1).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 데이터 버전 (ETag 값, Last-Modified 시각)
+     */
+    public record DataVersion(String tag, long lastModified) {
+    }
+
+    private record CachedBody(String tag, byte[] body, byte[] gzipBody) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.entity.HouseSalesInfo;
+import com.hana_ti.home_planner.domain.house.repository.HouseSalesInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * house_sales_info 지역 정보 백필
+ * 외부 적재(크롤러/SQL 스크립트)로 들어온 행은 시도/시군구/읍면동 컬럼이 비어 있으므로
+ * 데이터 변경 감지 시(HouseDataChangeDetector) 및 주기적으로 공급위치를 파싱하여 채움
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HouseSalesInfoAddressBackfillService {
+
+    private final HouseSalesInfoRepository houseSalesInfoRepository;
+
+    @Value("${house.address-backfill.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 미정규화 행 전체 백필
+     *
+     * @return 정규화된 행 수
+     */
+    @Scheduled(fixedDelayString = "${house.address-backfill.interval-ms:300000}",
+            initialDelayString = "${house.address-backfill.interval-ms:300000}")
+    public synchronized int backfill() {
+        long lastId = 0L;
+        int totalUpdated = 0;
+
+        while (true) {
+            List<HouseSalesInfo> targets = houseSalesInfoRepository.findAddressBackfillTargets(lastId, batchSize);
+            if (targets.isEmpty()) {
+                break;
+            }
+
+            targets.forEach(HouseSalesInfo::normalizeAddress);
+            houseSalesInfoRepository.saveAll(targets);
+
+            totalUpdated += (int) targets.stream().filter(target -> target.getSido() != null).count();
+            lastId = targets.get(targets.size() - 1).getHouseManagementNumber();
+
+            if (targets.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (totalUpdated > 0) {
+            log.info("주택 판매 정보 지역 정보 백필 완료 - 정규화된 행 수: {}개", totalUpdated);
+        }
+        return totalUpdated;
+    }
+}
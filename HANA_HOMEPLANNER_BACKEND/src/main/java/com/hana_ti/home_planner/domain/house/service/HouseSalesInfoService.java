@@ -4,6 +4,11 @@ import com.hana_ti.home_planner.domain.house.dto.HouseDetailResponseDto;
 import com.hana_ti.home_planner.domain.house.dto.HouseSalesInfoResponseDto;
 import com.hana_ti.home_planner.domain.house.entity.HouseSalesInfo;
 import com.hana_ti.home_planner.domain.house.repository.HouseSalesInfoRepository;
+import com.hana_ti.home_planner.domain.house.util.HouseAddressParser;
+import com.hana_ti.home_planner.global.dto.CursorPageResponse;
+import com.hana_ti.home_planner.global.util.CursorUtil;
+import com.hana_ti.home_planner.global.util.NdjsonWriter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -14,12 +19,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.math.BigDecimal;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +34,12 @@ import java.util.stream.Collectors;
 public class HouseSalesInfoService {
 
     private final HouseSalesInfoRepository houseSalesInfoRepository;
+    private final HouseDetailReadModel houseDetailReadModel;
+    private final EntityManager entityManager;
 
-    // 정규식 패턴 (공급위치에서 시도, 시군구, 읍면동 추출)
-    private static final Pattern ADDRESS_PATTERN = Pattern.compile("^([^\\s]+)\\s+([^\\s]+)\\s+([^\\s]+)");
+    // 커서 페이징 경계값 (모집공고일 없는 행은 MIN_CURSOR_DATE로 간주)
+    private static final LocalDate MAX_CURSOR_DATE = LocalDate.of(9999, 12, 31);
+    private static final LocalDate MIN_CURSOR_DATE = LocalDate.of(1, 1, 1);
 
     /**
      * 주소 기반 검색 (페이징 포함)
@@ -44,24 +53,13 @@ public class HouseSalesInfoService {
         // 페이징 설정
         Pageable pageable = PageRequest.of(page, size);
 
-        // 읍면동 검색을 위한 LIKE 패턴 설정
-        String emdPrefix = StringUtils.hasText(eupmyeondong) ? "%" + eupmyeondong + "%" : null;
-
-        // Repository에서 검색
+        // Repository에서 검색 (정규화된 지역 컬럼 동등 비교)
         Page<HouseSalesInfo> houseSalesInfoPage = houseSalesInfoRepository.searchByAddress(
-                sido, sigungu, eupmyeondong, emdPrefix, pageable
+                emptyToNull(sido), emptyToNull(sigungu), emptyToNull(eupmyeondong), pageable
         );
 
         // DTO 변환 및 지역 정보 설정
-        Page<HouseSalesInfoResponseDto> dtoPage = houseSalesInfoPage.map(entity -> {
-            HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-            
-            // 정규식으로 지역 정보 파싱하여 DTO에 설정
-            String[] addressInfo = parseAddress(entity.getSupplyLocation());
-            dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-            
-            return dto;
-        });
+        Page<HouseSalesInfoResponseDto> dtoPage = houseSalesInfoPage.map(this::toResponseDtoWithAddress);
 
         log.info("주소 기반 검색 완료 - 현재 페이지: {}, 전체 페이지: {}, 전체 데이터: {}", 
                 dtoPage.getNumber(), dtoPage.getTotalPages(), dtoPage.getTotalElements());
@@ -69,25 +67,103 @@ public class HouseSalesInfoService {
         return dtoPage;
     }
 
+    /**
+     * 주소 기반 검색 (커서 기반 페이징)
+     * 모집공고일, 주택관리번호 내림차순 키셋 조회로 페이지 깊이와 무관하게 동일한 비용
+     */
+    public CursorPageResponse<HouseSalesInfoResponseDto> searchByAddressWithCursor(
+            String sido, String sigungu, String eupmyeondong,
+            String cursor, int size) {
+        log.info("주소 기반 주택 판매 정보 검색 시작 (커서 페이징) - 시도: {}, 시군구: {}, 읍면동: {}, 크기: {}", 
+                sido, sigungu, eupmyeondong, size);
+
+        size = CursorUtil.checkPageSize(size);
+        LocalDate lastDate = MAX_CURSOR_DATE;
+        Long lastId = Long.MAX_VALUE;
+        if (StringUtils.hasText(cursor)) {
+            String[] keys = CursorUtil.decode(cursor, 2);
+            try {
+                lastDate = LocalDate.parse(keys[0]);
+                lastId = Long.parseLong(keys[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("INVALID_CURSOR: 유효하지 않은 커서입니다.");
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<HouseSalesInfo> rows = houseSalesInfoRepository.searchByAddressAfter(
+                emptyToNull(sido), emptyToNull(sigungu), emptyToNull(eupmyeondong),
+                lastDate, lastId, size + 1
+        );
+
+        boolean hasMore = rows.size() > size;
+        List<HouseSalesInfo> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            HouseSalesInfo last = pageRows.get(pageRows.size() - 1);
+            LocalDate lastRecruitmentDate = last.getRecruitmentAnnouncementDate() != null
+                    ? last.getRecruitmentAnnouncementDate() : MIN_CURSOR_DATE;
+            nextCursor = CursorUtil.encode(lastRecruitmentDate, last.getHouseManagementNumber());
+        }
+
+        List<HouseSalesInfoResponseDto> dtos = pageRows.stream()
+                .map(this::toResponseDtoWithAddress)
+                .collect(Collectors.toList());
+
+        log.info("주소 기반 검색 완료 (커서 페이징) - 조회된 정보 수: {}개, 다음 페이지 존재: {}", dtos.size(), hasMore);
+
+        return CursorPageResponse.of(dtos, hasMore, nextCursor);
+    }
+
+    /**
+     * 모든 주택 판매 정보 조회 (커서 기반 페이징)
+     * 주소 조건 없이 주소 기반 커서 조회와 동일한 (모집공고일, 주택관리번호) 내림차순 키셋 사용
+     */
+    public CursorPageResponse<HouseSalesInfoResponseDto> getAllHouseSalesInfoWithCursor(String cursor, int size) {
+        log.info("모든 주택 판매 정보 조회 (커서 페이징) - 크기: {}", size);
+
+        return searchByAddressWithCursor(null, null, null, cursor, size);
+    }
+
+    /**
+     * 전체 주택 판매 정보 NDJSON 내보내기
+     * JDBC 커서로 한 행씩 읽어 바로 출력하고 영속성 컨텍스트에서 분리하여 건수와 무관하게 메모리 사용량 일정
+     *
+     * @return 출력한 행 수
+     */
+    public long exportAllHouseSalesInfo(NdjsonWriter writer) throws IOException {
+        log.info("주택 판매 정보 내보내기 시작");
+        long startTime = System.currentTimeMillis();
+
+        try (Stream<HouseSalesInfo> rows = houseSalesInfoRepository.streamAllForExport()) {
+            Iterator<HouseSalesInfo> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                HouseSalesInfo entity = iterator.next();
+                writer.write(toResponseDtoWithAddress(entity));
+                entityManager.detach(entity);
+            }
+        }
+
+        log.info("주택 판매 정보 내보내기 완료 - 출력 건수: {}건, 소요시간: {}ms",
+                writer.getCount(), System.currentTimeMillis() - startTime);
+        return writer.getCount();
+    }
+
     /**
      * 모든 주택 판매 정보 조회 (페이징 포함)
      */
     public Page<HouseSalesInfoResponseDto> getAllHouseSalesInfoWithPaging(int page, int size) {
         log.info("모든 주택 판매 정보 조회 시작 (페이징 포함) - 페이지: {}, 크기: {}", page, size);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "recruitmentAnnouncementDate"));
+        // 커서 조회와 동일한 순서 (모집공고일이 없는 행은 가장 뒤)
+        Pageable pageable = PageRequest.of(page, size, Sort.by(
+                Sort.Order.desc("recruitmentAnnouncementDate").nullsLast(),
+                Sort.Order.desc("houseManagementNumber")));
         Page<HouseSalesInfo> houseSalesInfoPage = houseSalesInfoRepository.findAll(pageable);
 
         // DTO 변환 및 지역 정보 설정
-        Page<HouseSalesInfoResponseDto> dtoPage = houseSalesInfoPage.map(entity -> {
-            HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-            
-            // 정규식으로 지역 정보 파싱하여 DTO에 설정
-            String[] addressInfo = parseAddress(entity.getSupplyLocation());
-            dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-            
-            return dto;
-        });
+        Page<HouseSalesInfoResponseDto> dtoPage = houseSalesInfoPage.map(this::toResponseDtoWithAddress);
 
         log.info("모든 주택 판매 정보 조회 완료 - 현재 페이지: {}, 전체 페이지: {}, 전체 데이터: {}", 
                 dtoPage.getNumber(), dtoPage.getTotalPages(), dtoPage.getTotalElements());
@@ -105,15 +181,7 @@ public class HouseSalesInfoService {
 
         // DTO 변환 및 지역 정보 설정
         List<HouseSalesInfoResponseDto> dtos = houseSalesInfos.stream()
-                .map(entity -> {
-                    HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-                    
-                    // 정규식으로 지역 정보 파싱하여 DTO에 설정
-                    String[] addressInfo = parseAddress(entity.getSupplyLocation());
-                    dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-                    
-                    return dto;
-                })
+                .map(this::toResponseDtoWithAddress)
                 .collect(Collectors.toList());
 
         log.info("모든 주택 판매 정보 조회 완료 - 조회된 정보 수: {}개", dtos.size());
@@ -130,12 +198,7 @@ public class HouseSalesInfoService {
         List<HouseSalesInfo> houseSalesInfos = houseSalesInfoRepository.findBySupplyAreaNameContaining(supplyAreaName);
 
         List<HouseSalesInfoResponseDto> dtos = houseSalesInfos.stream()
-                .map(entity -> {
-                    HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-                    String[] addressInfo = parseAddress(entity.getSupplyLocation());
-                    dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-                    return dto;
-                })
+                .map(this::toResponseDtoWithAddress)
                 .collect(Collectors.toList());
 
         log.info("공급지역명 검색 완료 - 검색된 정보 수: {}개", dtos.size());
@@ -152,12 +215,7 @@ public class HouseSalesInfoService {
         List<HouseSalesInfo> houseSalesInfos = houseSalesInfoRepository.findBySupplyScaleBetween(minScale, maxScale);
 
         List<HouseSalesInfoResponseDto> dtos = houseSalesInfos.stream()
-                .map(entity -> {
-                    HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-                    String[] addressInfo = parseAddress(entity.getSupplyLocation());
-                    dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-                    return dto;
-                })
+                .map(this::toResponseDtoWithAddress)
                 .collect(Collectors.toList());
 
         log.info("공급규모 범위 검색 완료 - 검색된 정보 수: {}개", dtos.size());
@@ -174,12 +232,7 @@ public class HouseSalesInfoService {
         List<HouseSalesInfo> houseSalesInfos = houseSalesInfoRepository.findByRecruitmentAnnouncementDateBetween(startDate, endDate);
 
         List<HouseSalesInfoResponseDto> dtos = houseSalesInfos.stream()
-                .map(entity -> {
-                    HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-                    String[] addressInfo = parseAddress(entity.getSupplyLocation());
-                    dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-                    return dto;
-                })
+                .map(this::toResponseDtoWithAddress)
                 .collect(Collectors.toList());
 
         log.info("모집공고일 범위 검색 완료 - 검색된 정보 수: {}개", dtos.size());
@@ -196,12 +249,7 @@ public class HouseSalesInfoService {
         List<HouseSalesInfo> houseSalesInfos = houseSalesInfoRepository.findBySpeculationOverheatedArea(speculationOverheatedArea);
 
         List<HouseSalesInfoResponseDto> dtos = houseSalesInfos.stream()
-                .map(entity -> {
-                    HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-                    String[] addressInfo = parseAddress(entity.getSupplyLocation());
-                    dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-                    return dto;
-                })
+                .map(this::toResponseDtoWithAddress)
                 .collect(Collectors.toList());
 
         log.info("투기과열지구별 검색 완료 - 검색된 정보 수: {}개", dtos.size());
@@ -218,12 +266,7 @@ public class HouseSalesInfoService {
         List<HouseSalesInfo> houseSalesInfos = houseSalesInfoRepository.findByMoveInExpectedMonthContaining(moveInExpectedMonth);
 
         List<HouseSalesInfoResponseDto> dtos = houseSalesInfos.stream()
-                .map(entity -> {
-                    HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-                    String[] addressInfo = parseAddress(entity.getSupplyLocation());
-                    dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-                    return dto;
-                })
+                .map(this::toResponseDtoWithAddress)
                 .collect(Collectors.toList());
 
         log.info("입주예정월별 검색 완료 - 검색된 정보 수: {}개", dtos.size());
@@ -240,12 +283,7 @@ public class HouseSalesInfoService {
         List<HouseSalesInfo> houseSalesInfos = houseSalesInfoRepository.findByHouseTypeCodeName(houseTypeCodeName);
 
         List<HouseSalesInfoResponseDto> dtos = houseSalesInfos.stream()
-                .map(entity -> {
-                    HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-                    String[] addressInfo = parseAddress(entity.getSupplyLocation());
-                    dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-                    return dto;
-                })
+                .map(this::toResponseDtoWithAddress)
                 .collect(Collectors.toList());
 
         log.info("주택구분코드명 검색 완료 - 검색된 정보 수: {}개", dtos.size());
@@ -262,12 +300,7 @@ public class HouseSalesInfoService {
         List<HouseSalesInfo> houseSalesInfos = houseSalesInfoRepository.findByAdjustmentTargetArea(adjustmentTargetArea);
 
         List<HouseSalesInfoResponseDto> dtos = houseSalesInfos.stream()
-                .map(entity -> {
-                    HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
-                    String[] addressInfo = parseAddress(entity.getSupplyLocation());
-                    dto.setAddressInfo(addressInfo[0], addressInfo[1], addressInfo[2]);
-                    return dto;
-                })
+                .map(this::toResponseDtoWithAddress)
                 .collect(Collectors.toList());
 
         log.info("조정대상지역별 검색 완료 - 검색된 정보 수: {}개", dtos.size());
@@ -277,133 +310,38 @@ public class HouseSalesInfoService {
 
     /**
      * 전체 주택 상세 정보 조회 (좌표 포함)
-     * 주택 판매 정보, 주소 좌표, 가격 정보 요약을 통합하여 조회합니다.
+     * 주택 판매 정보, 주소 좌표, 가격 정보 요약을 통합한 읽기 모델 스냅샷에서 조회합니다.
      */
     public List<HouseDetailResponseDto> getAllHouseDetailsWithCoordinates() {
-        log.info("전체 주택 상세 정보 조회 시작 (좌표 포함)");
-
-        List<Object[]> rawResults = houseSalesInfoRepository.findAllHouseDetailsWithCoordinatesRaw();
-
-        List<HouseDetailResponseDto> detailDtos = rawResults.stream()
-                .map(this::mapToHouseDetailResponseDto)
-                .collect(Collectors.toList());
-
-        log.info("전체 주택 상세 정보 조회 완료 - 조회된 정보 수: {}개", detailDtos.size());
-
-        return detailDtos;
+        return getHouseDetailSnapshot().details();
     }
 
     /**
-     * Object[] 배열을 HouseDetailResponseDto로 매핑
+     * 주택 상세 정보 읽기 모델 스냅샷 조회 (ETag 포함)
      */
-    private HouseDetailResponseDto mapToHouseDetailResponseDto(Object[] row) {
-        return HouseDetailResponseDto.builder()
-                // 기본 주택 정보 (0-17)
-                .houseManagementNumber(convertToLong(row[0]))
-                .houseName(convertToString(row[1]))
-                .houseTypeCodeName(convertToString(row[2]))
-                .houseDetailTypeCodeName(convertToString(row[3]))
-                .supplyAreaName(convertToString(row[4]))
-                .supplyLocation(convertToString(row[5]))
-                .supplyScale(convertToLong(row[6]))
-                .recruitmentAnnouncementDate(convertToString(row[7]))
-                .homepageUrl(convertToString(row[8]))
-                .moveInExpectedMonth(convertToString(row[9]))
-                .speculationOverheatedArea(convertToString(row[10]))
-                .adjustmentTargetArea(convertToString(row[11]))
-                .salePriceCeilingSystem(convertToString(row[12]))
-                .improvementProject(convertToString(row[13]))
-                .publicHousingDistrict(convertToString(row[14]))
-                .largeScaleLandDevelopmentDistrict(convertToString(row[15]))
-                .metropolitanPrivatePublicHousingDistrict(convertToString(row[16]))
-                .recruitmentAnnouncementHomepageUrl(convertToString(row[17]))
-                // 주소 정보 (18-21)
-                .sido(convertToString(row[18]))
-                .sigungu(convertToString(row[19]))
-                .eupmyeondong(convertToString(row[20]))
-                .roadNm(convertToString(row[21]))
-                // 좌표 정보 (22-23)
-                .lat(convertToBigDecimal(row[22]))
-                .lon(convertToBigDecimal(row[23]))
-                // 가격 정보 요약 (24-30)
-                .totalHouseTypes(convertToInteger(row[24]))
-                .minSupplyArea(convertToBigDecimal(row[25]))
-                .maxSupplyArea(convertToBigDecimal(row[26]))
-                .minSalePrice(convertToBigDecimal(row[27]))
-                .maxSalePrice(convertToBigDecimal(row[28]))
-                .totalGeneralSupplyHouseholds(convertToBigDecimal(row[29]))
-                .totalSpecialSupplyHouseholds(convertToBigDecimal(row[30]))
-                .build();
+    public HouseDetailReadModel.Snapshot getHouseDetailSnapshot() {
+        HouseDetailReadModel.Snapshot snapshot = houseDetailReadModel.getSnapshot();
+        log.info("전체 주택 상세 정보 조회 완료 - 조회된 정보 수: {}개, 버전: {}", snapshot.details().size(), snapshot.etag());
+        return snapshot;
     }
 
     /**
-     * 타입 변환 유틸리티 메서드들
+     * 엔티티를 DTO로 변환 (저장된 지역 정보 우선, 미정규화 행은 공급위치 파싱)
      */
-    private String convertToString(Object obj) {
-        return obj != null ? obj.toString() : null;
-    }
-
-    private Long convertToLong(Object obj) {
-        if (obj == null) return null;
-        if (obj instanceof Number) {
-            return ((Number) obj).longValue();
-        }
-        try {
-            return Long.parseLong(obj.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Long 변환 실패: {}", obj);
-            return null;
-        }
-    }
-
-    private Integer convertToInteger(Object obj) {
-        if (obj == null) return null;
-        if (obj instanceof Number) {
-            return ((Number) obj).intValue();
-        }
-        try {
-            return Integer.parseInt(obj.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Integer 변환 실패: {}", obj);
-            return null;
-        }
+    private HouseSalesInfoResponseDto toResponseDtoWithAddress(HouseSalesInfo entity) {
+        HouseSalesInfoResponseDto dto = HouseSalesInfoResponseDto.from(entity);
+        String[] addressInfo = entity.getSido() != null
+                ? new String[]{entity.getSido(), entity.getSigungu(), entity.getEupmyeondong()}
+                : HouseAddressParser.parse(entity.getSupplyLocation());
+        dto.setAddressInfo(nullToEmpty(addressInfo[0]), nullToEmpty(addressInfo[1]), nullToEmpty(addressInfo[2]));
+        return dto;
     }
 
-    private BigDecimal convertToBigDecimal(Object obj) {
-        if (obj == null) return null;
-        if (obj instanceof BigDecimal) {
-            return (BigDecimal) obj;
-        }
-        if (obj instanceof Number) {
-            return BigDecimal.valueOf(((Number) obj).doubleValue());
-        }
-        try {
-            return new BigDecimal(obj.toString());
-        } catch (NumberFormatException e) {
-            log.warn("BigDecimal 변환 실패: {}", obj);
-            return null;
-        }
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
     }
 
-    /**
-     * 주소 파싱 유틸리티 메소드
-     * 공급위치에서 시도, 시군구, 읍면동을 추출
-     */
-    private String[] parseAddress(String address) {
-        if (!StringUtils.hasText(address)) {
-            return new String[]{"", "", ""};
-        }
-
-        Matcher matcher = ADDRESS_PATTERN.matcher(address.trim());
-        if (matcher.find()) {
-            return new String[]{
-                matcher.group(1), // 시도
-                matcher.group(2), // 시군구
-                matcher.group(3)  // 읍면동
-            };
-        }
-
-        // 패턴이 매치되지 않는 경우 원본 주소를 첫 번째 요소에 넣고 나머지는 빈 문자열
-        return new String[]{address, "", ""};
+    private String emptyToNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
     }
 }
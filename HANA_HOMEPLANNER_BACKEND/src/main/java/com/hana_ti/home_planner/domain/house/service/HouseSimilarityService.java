@@ -0,0 +1,254 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.dto.HouseDetailResponseDto;
+import com.hana_ti.home_planner.domain.house.dto.SimilarHouseResponseDto;
+import com.hana_ti.home_planner.global.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유사 주택 추천 서비스
+ * 주택 상세 스냅샷에서 위치, 분양가, 공급면적, 공급규모, 규제 지정 여부를 표준화한 특징 벡터를
+ * 하나의 float 배열(주택 수 x 차원)로 구성하고, 가중 유클리드 거리 기준 전수 탐색으로 상위 K개를 조회
+ * 주택별 결과는 색인 단위로 캐시 (스냅샷 교체 시 색인과 함께 폐기)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HouseSimilarityService {
+
+    // 특징 벡터 차원: 위도, 경도, 분양가, 공급면적, 공급규모, 투기과열, 조정대상, 분양가상한제
+    private static final int DIMENSIONS = 8;
+
+    // 차원별 가중치 (위치 > 분양가, 면적 > 공급규모 > 규제 지정 여부)
+    private static final float[] WEIGHTS = {1.5f, 1.5f, 1.0f, 1.0f, 0.5f, 0.3f, 0.3f, 0.3f};
+
+    // 위도/경도 1도당 거리 (km, 수도권 기준 근사값)
+    private static final double KM_PER_LAT_DEGREE = 111.0;
+    private static final double KM_PER_LON_DEGREE = 88.4;
+
+    // 위치 차원 1 단위에 해당하는 거리 (km)
+    private static final double LOCATION_SCALE_KM = 10.0;
+
+    // 주택별로 계산해 캐시하는 최대 결과 수
+    private static final int MAX_K = 50;
+
+    private final HouseDetailReadModel houseDetailReadModel;
+
+    private volatile FeatureIndex featureIndex;
+
+    /**
+     * 유사 주택 상위 K개 조회 (기준 주택 제외, 유사도 내림차순)
+     *
+     * @param houseManagementNumber 기준 주택관리번호
+     * @param k 조회할 주택 수 (1~50)
+     */
+    public List<SimilarHouseResponseDto> findSimilarHouses(Long houseManagementNumber, int k) {
+        if (k < 1 || k > MAX_K) {
+            throw new IllegalArgumentException("INVALID_K: 조회 개수는 1에서 " + MAX_K + " 사이여야 합니다.");
+        }
+
+        FeatureIndex index = getFeatureIndex();
+        Integer row = index.rowsById().get(houseManagementNumber);
+        if (row == null) {
+            throw new ResourceNotFoundException("주택", "주택관리번호", houseManagementNumber);
+        }
+
+        List<SimilarHouseResponseDto> similar = index.cache().computeIfAbsent(houseManagementNumber,
+                id -> search(index, row));
+        return similar.size() > k ? similar.subList(0, k) : similar;
+    }
+
+    private List<SimilarHouseResponseDto> search(FeatureIndex index, int queryRow) {
+        long startTime = System.nanoTime();
+
+        float[] features = index.features();
+        int queryOffset = queryRow * DIMENSIONS;
+        int limit = Math.min(MAX_K, index.houses().size() - 1);
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // 상위 K개를 거리 오름차순으로 유지 (K가 작으므로 삽입 정렬)
+        int[] topRows = new int[limit];
+        float[] topDistances = new float[limit];
+        int found = 0;
+
+        for (int row = 0, offset = 0; row < index.houses().size(); row++, offset += DIMENSIONS) {
+            if (row == queryRow) {
+                continue;
+            }
+            float distance = 0;
+            for (int d = 0; d < DIMENSIONS; d++) {
+                float diff = features[offset + d] - features[queryOffset + d];
+                distance += WEIGHTS[d] * diff * diff;
+            }
+
+            if (found < limit) {
+                found++;
+            } else if (distance >= topDistances[limit - 1]) {
+                continue;
+            }
+            int position = found - 1;
+            while (position > 0 && topDistances[position - 1] > distance) {
+                topDistances[position] = topDistances[position - 1];
+                topRows[position] = topRows[position - 1];
+                position--;
+            }
+            topDistances[position] = distance;
+            topRows[position] = row;
+        }
+
+        HouseDetailResponseDto query = index.houses().get(queryRow);
+        List<SimilarHouseResponseDto> results = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            HouseDetailResponseDto house = index.houses().get(topRows[i]);
+            results.add(SimilarHouseResponseDto.builder()
+                    .house(house)
+                    .similarity(BigDecimal.valueOf(1.0 / (1.0 + Math.sqrt(topDistances[i]))).setScale(4, RoundingMode.HALF_UP))
+                    .distanceKm(distanceKm(query, house))
+                    .build());
+        }
+
+        log.debug("유사 주택 탐색 완료 - 기준 주택관리번호: {}, 결과: {}개, 소요시간: {}us",
+                query.getHouseManagementNumber(), found, (System.nanoTime() - startTime) / 1000);
+        return List.copyOf(results);
+    }
+
+    /**
+     * 특징 색인 조회 (주택 상세 스냅샷이 교체되었으면 재생성)
+     */
+    private FeatureIndex getFeatureIndex() {
+        HouseDetailReadModel.Snapshot source = houseDetailReadModel.getSnapshot();
+        FeatureIndex current = featureIndex;
+        if (current != null && current.source() == source) {
+            return current;
+        }
+        synchronized (this) {
+            current = featureIndex;
+            if (current == null || current.source() != source) {
+                current = buildFeatureIndex(source);
+                featureIndex = current;
+            }
+        }
+        return current;
+    }
+
+    private FeatureIndex buildFeatureIndex(HouseDetailReadModel.Snapshot source) {
+        long startTime = System.currentTimeMillis();
+
+        List<HouseDetailResponseDto> houses = source.details().stream()
+                .filter(detail -> detail.getHouseManagementNumber() != null)
+                .toList();
+
+        // 원시 특징값 (값이 없으면 NaN, 표준화 시 평균으로 대체)
+        double[] raw = new double[houses.size() * DIMENSIONS];
+        for (int row = 0; row < houses.size(); row++) {
+            HouseDetailResponseDto house = houses.get(row);
+            int offset = row * DIMENSIONS;
+            raw[offset] = toDouble(house.getLat()) * KM_PER_LAT_DEGREE / LOCATION_SCALE_KM;
+            raw[offset + 1] = toDouble(house.getLon()) * KM_PER_LON_DEGREE / LOCATION_SCALE_KM;
+            raw[offset + 2] = logOrNaN(midpoint(house.getMinSalePrice(), house.getMaxSalePrice()));
+            raw[offset + 3] = midpoint(house.getMinSupplyArea(), house.getMaxSupplyArea());
+            raw[offset + 4] = house.getSupplyScale() != null ? logOrNaN(house.getSupplyScale()) : Double.NaN;
+            raw[offset + 5] = flag(house.getSpeculationOverheatedArea());
+            raw[offset + 6] = flag(house.getAdjustmentTargetArea());
+            raw[offset + 7] = flag(house.getSalePriceCeilingSystem());
+        }
+
+        float[] features = standardize(raw, houses.size());
+
+        Map<Long, Integer> rowsById = new HashMap<>(houses.size() * 2);
+        for (int row = 0; row < houses.size(); row++) {
+            rowsById.put(houses.get(row).getHouseManagementNumber(), row);
+        }
+
+        log.info("유사 주택 특징 색인 생성 완료 - 주택 수: {}개, 소요시간: {}ms",
+                houses.size(), System.currentTimeMillis() - startTime);
+
+        return new FeatureIndex(source, houses, features, rowsById, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 차원별 표준화 (위치 차원은 거리 비율 유지를 위해 평균 이동만 적용)
+     */
+    private static float[] standardize(double[] raw, int rows) {
+        float[] features = new float[raw.length];
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double sum = 0;
+            double squareSum = 0;
+            int count = 0;
+            for (int row = 0; row < rows; row++) {
+                double value = raw[row * DIMENSIONS + d];
+                if (!Double.isNaN(value)) {
+                    sum += value;
+                    squareSum += value * value;
+                    count++;
+                }
+            }
+            double mean = count > 0 ? sum / count : 0;
+            double std = count > 1 ? Math.sqrt(Math.max(squareSum / count - mean * mean, 0)) : 0;
+            boolean location = d < 2;
+            double scale = location || std == 0 ? 1 : std;
+
+            for (int row = 0; row < rows; row++) {
+                double value = raw[row * DIMENSIONS + d];
+                features[row * DIMENSIONS + d] = Double.isNaN(value) ? 0f : (float) ((value - mean) / scale);
+            }
+        }
+        return features;
+    }
+
+    private static BigDecimal distanceKm(HouseDetailResponseDto from, HouseDetailResponseDto to) {
+        if (from.getLat() == null || from.getLon() == null || to.getLat() == null || to.getLon() == null) {
+            return null;
+        }
+        double latKm = (from.getLat().doubleValue() - to.getLat().doubleValue()) * KM_PER_LAT_DEGREE;
+        double lonKm = (from.getLon().doubleValue() - to.getLon().doubleValue()) * KM_PER_LON_DEGREE;
+        return BigDecimal.valueOf(Math.sqrt(latKm * latKm + lonKm * lonKm)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static double midpoint(BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return Double.NaN;
+        }
+        if (min == null || max == null) {
+            return (min != null ? min : max).doubleValue();
+        }
+        return (min.doubleValue() + max.doubleValue()) / 2;
+    }
+
+    private static double logOrNaN(double value) {
+        return value > 0 ? Math.log(value) : Double.NaN;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static double flag(String value) {
+        if ("Y".equals(value)) {
+            return 1;
+        }
+        return "N".equals(value) ? 0 : Double.NaN;
+    }
+
+    /**
+     * 특징 색인 (features: 주택 순서대로 DIMENSIONS개씩 이어 붙인 표준화 특징값)
+     */
+    private record FeatureIndex(HouseDetailReadModel.Snapshot source,
+                                List<HouseDetailResponseDto> houses,
+                                float[] features,
+                                Map<Long, Integer> rowsById,
+                                Map<Long, List<SimilarHouseResponseDto>> cache) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hana_ti.home_planner.domain.house.model.SubscriptionAnnouncement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공공데이터포털(odcloud) 청약홈 분양정보 API 클라이언트
+ */
+@Component
+@ConditionalOnProperty(name = "subscription.api.stub-enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OdcloudSubscriptionApiClient implements SubscriptionApiClient {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${subscription.api.key:52e08cf4d5ad9f8be810229a20c1d618c2ac17c08c9401955f38f658fe678c37}")
+    private String apiKey;
+
+    private static final String BASE_URL = "https://api.odcloud" +
+            ".kr/api/ApplyhomeInfoDetailSvc/v1/getAPTLttotPblancDetail";
+    private static final int PER_PAGE = 100;
+
+    @Override
+    public List<SubscriptionAnnouncement> fetchAnnouncements(Map<String, String> conditions) {
+        List<SubscriptionAnnouncement> allData = new ArrayList<>();
+        int page = 1;
+
+        while (true) {
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("page", page);
+            params.put("perPage", PER_PAGE);
+            params.put("serviceKey", apiKey);
+            conditions.forEach((key, value) -> params.put("cond[" + key + "]", value));
+
+            JsonNode jsonNode = call(params);
+
+            if (!jsonNode.has("data")) {
+                log.warn("API 응답에 data 필드가 없습니다 - 페이지: {}", page);
+                break;
+            }
+
+            allData.addAll(parseAnnouncements(jsonNode.get("data")));
+
+            // 전체 데이터 수 확인
+            int totalCount = jsonNode.has("totalCount") ? jsonNode.get("totalCount").asInt() : 0;
+            if (page * PER_PAGE >= totalCount) {
+                break;
+            }
+
+            page++;
+        }
+
+        log.info("청약홈 API 조회 완료 - 조건: {}, 조회 건수: {}건, 호출 페이지 수: {}", conditions, allData.size(), page);
+        return allData;
+    }
+
+    @Override
+    public boolean validateApiKey() {
+        try {
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("page", 1);
+            params.put("perPage", 1);
+            params.put("serviceKey", apiKey);
+
+            JsonNode jsonNode = call(params);
+            boolean valid = jsonNode.has("code");
+            log.info("API 키 유효성 검증 {}", valid ? "성공" : "실패 - 응답에 code 필드 없음");
+            return valid;
+        } catch (Exception e) {
+            log.error("API 키 유효성 검증 실패", e);
+            return false;
+        }
+    }
+
+    private JsonNode call(Map<String, Object> params) {
+        StringBuilder urlBuilder = new StringBuilder(BASE_URL);
+        urlBuilder.append("?");
+
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            urlBuilder.append(entry.getKey()).append("=").append(entry.getValue()).append("&");
+        }
+
+        String url = urlBuilder.toString();
+        if (url.endsWith("&")) {
+            url = url.substring(0, url.length() - 1);
+        }
+
+        log.debug("API 호출 URL: {}", url);
+
+        try {
+            String response = restTemplate.getForObject(url, String.class);
+            JsonNode jsonNode = objectMapper.readTree(response);
+
+            // API 에러 체크
+            if (jsonNode.has("code") && jsonNode.get("code").asInt() != 0) {
+                String errorMsg = jsonNode.has("msg") ? jsonNode.get("msg").asText() : "알 수 없는 에러";
+                log.error("API 에러 발생 - 코드: {}, 메시지: {}", jsonNode.get("code").asInt(), errorMsg);
+                throw new RuntimeException("청약홈 API 에러: " + errorMsg);
+            }
+            return jsonNode;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("청약홈 API 응답 처리 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * JSON 데이터를 공고 문서로 변환
+     */
+    private List<SubscriptionAnnouncement> parseAnnouncements(JsonNode dataNode) {
+        List<SubscriptionAnnouncement> result = new ArrayList<>();
+
+        if (dataNode.isArray()) {
+            for (JsonNode item : dataNode) {
+                String houseManageNo = getJsonValue(item, "HOUSE_MANAGE_NO");
+                String pblancNo = getJsonValue(item, "PBLANC_NO");
+
+                result.add(SubscriptionAnnouncement.builder()
+                        .id(SubscriptionAnnouncement.createId(houseManageNo, pblancNo))
+                        .houseManageNo(houseManageNo)
+                        .pblancNo(pblancNo)
+                        .houseSecd(getJsonValue(item, "HOUSE_SECD"))
+                        .houseSecdNm(getJsonValue(item, "HOUSE_DTL_SECD_NM"))
+                        .houseNm(getJsonValue(item, "HOUSE_NM"))
+                        .rceptBgnDe(getJsonValue(item, "RCEPT_BGNDE"))
+                        .rceptEndDe(getJsonValue(item, "RCEPT_ENDDE"))
+                        .subscrptAreaCodeNm(getJsonValue(item, "SUBSCRPT_AREA_CODE_NM"))
+                        .pblancUrl(getJsonValue(item, "PBLANC_URL"))
+                        .rcruitPblancDe(getJsonValue(item, "RCRIT_PBLANC_DE"))
+                        .prizeWnerPresnatnDe(getJsonValue(item, "PRZWNER_PRESNATN_DE"))
+                        .cntrctCnclsDe(getJsonValue(item, "CNTRCT_CNCLS_DE"))
+                        .build());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * JSON에서 안전하게 값 추출 (없으면 null)
+     */
+    private String getJsonValue(JsonNode node, String fieldName) {
+        return node.has(fieldName) && !node.get(fieldName).isNull()
+                ? node.get(fieldName).asText()
+                : null;
+    }
+}
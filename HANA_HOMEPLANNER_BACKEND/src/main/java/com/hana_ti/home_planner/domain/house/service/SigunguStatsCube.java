@@ -0,0 +1,314 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.dto.SigunguStatsRequestDto;
+import com.hana_ti.home_planner.domain.house.dto.SigunguStatsResponseDto;
+import com.hana_ti.home_planner.domain.house.event.HouseDataChangedEvent;
+import com.hana_ti.home_planner.domain.house.event.HouseDataVersion;
+import com.hana_ti.home_planner.domain.house.repository.SigunguStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 시군구별 분양가 집계 큐브
+ * (대분류 지역, 시군구) 단위로 필터 조합(Y/N 지정 여부 7종 비트마스크, 주택구분, 주택상세구분)별 집계를 메모리에 보관하고,
+ * 요청 필터에 해당하는 조합만 롤업하여 응답 (데이터 적재 감지 시 재생성)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SigunguStatsCube {
+
+    // 큐브 쿼리 결과 컬럼 위치
+    private static final int COL_REGION = 0;
+    private static final int COL_SIGUNGU = 1;
+    private static final int COL_HOUSE_DIV = 2;
+    private static final int COL_HOUSE_DETAIL_DIV = 3;
+    private static final int COL_FIRST_FLAG = 4;
+    private static final int FLAG_COUNT = 7;
+    private static final int COL_COMPLEX_COUNT = COL_FIRST_FLAG + FLAG_COUNT;
+    private static final int COL_MIN_PRICE = COL_COMPLEX_COUNT + 1;
+    private static final int COL_MAX_PRICE = COL_COMPLEX_COUNT + 2;
+    private static final int COL_PRICE_COUNT = COL_COMPLEX_COUNT + 3;
+    private static final int COL_PRICE_SUM = COL_COMPLEX_COUNT + 4;
+    private static final int COL_WEIGHTED_PRICE_SUM = COL_COMPLEX_COUNT + 5;
+    private static final int COL_HOUSEHOLD_SUM = COL_COMPLEX_COUNT + 6;
+
+    private final SigunguStatsRepository sigunguStatsRepository;
+    private final HouseDataChangeDetector houseDataChangeDetector;
+
+    private volatile Cube cube;
+
+    /**
+     * 필터 조건에 해당하는 시군구별 집계 조회 (대분류 지역, 시군구명 순)
+     */
+    public List<SigunguStatsResponseDto> query(SigunguStatsRequestDto request) {
+        return query(getCube(), request);
+    }
+
+    /**
+     * 지정한 큐브에서 필터 조건에 해당하는 시군구별 집계 조회 (응답 버전을 읽은 큐브와 같은 큐브로 본문 생성 시 사용)
+     */
+    public List<SigunguStatsResponseDto> query(Cube cube, SigunguStatsRequestDto request) {
+        FlagFilter flagFilter = FlagFilter.from(request);
+        if (flagFilter == null) {
+            // Y/N 이외의 값은 어떤 단지와도 일치하지 않음
+            return List.of();
+        }
+
+        List<SigunguStatsResponseDto> results = new ArrayList<>();
+        for (SigunguCells sigunguCells : cube.sigungus()) {
+            Rollup rollup = new Rollup();
+            for (Cell cell : sigunguCells.cells()) {
+                if (flagFilter.matches(cell)
+                        && matchesDivision(request.getHouseDivisionName(), cell.houseDivisionName())
+                        && matchesDivision(request.getHouseDetailDivisionName(), cell.houseDetailDivisionName())) {
+                    rollup.add(cell);
+                }
+            }
+            if (rollup.complexCount > 0) {
+                results.add(rollup.toDto(sigunguCells.regionLarge(), sigunguCells.sigungu()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 데이터 적재 감지 시 재생성
+     */
+    @EventListener
+    public void onHouseDataChanged(HouseDataChangedEvent event) {
+        Cube current = cube;
+        if (current != null && current.version().equals(event.getCurrentVersion())) {
+            return;
+        }
+        rebuild(event.getCurrentVersion());
+    }
+
+    /**
+     * 적재 외 수정(지정 여부 변경 등) 반영을 위한 주기적 재생성
+     */
+    @Scheduled(cron = "${house.sigungu-stats-cube.full-rebuild-cron:0 10 4 * * *}")
+    public void scheduledRebuild() {
+        rebuild(houseDataChangeDetector.getCurrentVersion());
+    }
+
+    /**
+     * 현재 큐브 (불변, 재생성 시 새 큐브로 교체되므로 응답 버전과 본문을 같은 큐브에서 읽을 때 사용)
+     */
+    public Cube getCube() {
+        Cube current = cube;
+        if (current == null) {
+            // 버전 최초 확인 시 발행되는 변경 이벤트로 큐브가 생성될 수 있으므로 재확인
+            HouseDataVersion version = houseDataChangeDetector.getCurrentVersion();
+            current = cube;
+            if (current == null) {
+                rebuild(version);
+                current = cube;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void rebuild(HouseDataVersion version) {
+        long startTime = System.currentTimeMillis();
+
+        List<Object[]> rows = sigunguStatsRepository.getSigunguStatsCube();
+
+        // 대분류 지역, 시군구명 순 정렬 유지
+        Map<String, Map<String, List<Cell>>> cellsByRegion = new TreeMap<>();
+        for (Object[] row : rows) {
+            cellsByRegion
+                    .computeIfAbsent((String) row[COL_REGION], key -> new TreeMap<>())
+                    .computeIfAbsent((String) row[COL_SIGUNGU], key -> new ArrayList<>())
+                    .add(toCell(row));
+        }
+
+        List<SigunguCells> sigungus = new ArrayList<>();
+        cellsByRegion.forEach((region, cellsBySigungu) ->
+                cellsBySigungu.forEach((sigungu, cells) ->
+                        sigungus.add(new SigunguCells(region, sigungu, List.copyOf(cells)))));
+
+        cube = new Cube(List.copyOf(sigungus), version, System.currentTimeMillis());
+
+        log.info("시군구별 분양가 집계 큐브 생성 완료 - 시군구 수: {}개, 필터 조합 셀 수: {}개, 소요시간: {}ms",
+                sigungus.size(), rows.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private Cell toCell(Object[] row) {
+        int flagBits = 0;
+        int unknownFlagBits = 0;
+        for (int i = 0; i < FLAG_COUNT; i++) {
+            Object value = row[COL_FIRST_FLAG + i];
+            if ("Y".equals(value)) {
+                flagBits |= 1 << i;
+            } else if (!"N".equals(value)) {
+                // Y/N 이외의 값 (원래 등호 필터처럼 해당 항목을 Y/N으로 지정한 요청과 일치하지 않음)
+                unknownFlagBits |= 1 << i;
+            }
+        }
+
+        return new Cell(
+                flagBits,
+                unknownFlagBits,
+                (String) row[COL_HOUSE_DIV],
+                (String) row[COL_HOUSE_DETAIL_DIV],
+                ((Number) row[COL_COMPLEX_COUNT]).longValue(),
+                toBigDecimal(row[COL_MIN_PRICE]),
+                toBigDecimal(row[COL_MAX_PRICE]),
+                ((Number) row[COL_PRICE_COUNT]).longValue(),
+                toBigDecimal(row[COL_PRICE_SUM]),
+                toBigDecimal(row[COL_WEIGHTED_PRICE_SUM]),
+                toBigDecimal(row[COL_HOUSEHOLD_SUM])
+        );
+    }
+
+    private static boolean matchesDivision(String requested, String actual) {
+        return requested == null || requested.equals(actual);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value != null ? new BigDecimal(value.toString()) : null;
+    }
+
+    /**
+     * 불변 집계 큐브 (시군구별 셀, 데이터 버전, 생성 시각)
+     */
+    public record Cube(List<SigunguCells> sigungus, HouseDataVersion version, long builtAt) {
+
+        /**
+         * 응답 버전 (데이터 버전 + 생성 시각, 응답 캐시 키/ETag용)
+         */
+        public HouseResponseCache.DataVersion responseVersion() {
+            return new HouseResponseCache.DataVersion(version.tag() + "-" + Long.toHexString(builtAt), builtAt);
+        }
+    }
+
+    record SigunguCells(String regionLarge, String sigungu, List<Cell> cells) {
+    }
+
+    /**
+     * 필터 조합 하나의 집계 (단지는 조합 하나에만 속하므로 셀 간 단지수 합산 가능)
+     * flagBits는 Y인 항목, unknownFlagBits는 Y/N 이외의 값인 항목
+     */
+    record Cell(int flagBits,
+                int unknownFlagBits,
+                        String houseDivisionName,
+                        String houseDetailDivisionName,
+                        long complexCount,
+                        BigDecimal minPrice,
+                        BigDecimal maxPrice,
+                        long priceCount,
+                        BigDecimal priceSum,
+                        BigDecimal weightedPriceSum,
+                        BigDecimal householdSum) {
+    }
+
+    /**
+     * Y/N 지정 여부 필터 (지정된 항목 비트마스크 + 기대값 비트)
+     * 비트 순서: 투기과열지구, 조정대상지역, 분양가상한제, 정비사업, 공공주택지구, 대규모택지개발지구, 수도권내민영공공주택지구
+     */
+    private record FlagFilter(int mask, int expected) {
+
+        /**
+         * 지정한 항목이 모두 기대값과 같은지 (지정한 항목의 값이 Y/N 이외이면 불일치)
+         */
+        boolean matches(Cell cell) {
+            return (cell.unknownFlagBits() & mask) == 0 && (cell.flagBits() & mask) == expected;
+        }
+
+        /**
+         * @return 필터 (Y/N 이외의 값이 있으면 null)
+         */
+        static FlagFilter from(SigunguStatsRequestDto request) {
+            String[] values = {
+                    request.getSpeculationOverheated(),
+                    request.getAdjustmentTargetArea(),
+                    request.getSalePriceCeiling(),
+                    request.getImprovementProject(),
+                    request.getPublicHousingDistrict(),
+                    request.getLargeScaleLandDevelopment(),
+                    request.getMetropolitanPrivatePublicHousing()
+            };
+
+            int mask = 0;
+            int expected = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    continue;
+                }
+                if (!"Y".equals(values[i]) && !"N".equals(values[i])) {
+                    return null;
+                }
+                mask |= 1 << i;
+                if ("Y".equals(values[i])) {
+                    expected |= 1 << i;
+                }
+            }
+            return new FlagFilter(mask, expected);
+        }
+    }
+
+    /**
+     * 셀 롤업 (평균과 세대수 가중평균은 합계/건수로 계산 후 정수 반올림)
+     */
+    private static final class Rollup {
+        private long complexCount;
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+        private long priceCount;
+        private BigDecimal priceSum = BigDecimal.ZERO;
+        private BigDecimal weightedPriceSum = BigDecimal.ZERO;
+        private BigDecimal householdSum = BigDecimal.ZERO;
+
+        void add(Cell cell) {
+            complexCount += cell.complexCount();
+            minPrice = min(minPrice, cell.minPrice());
+            maxPrice = max(maxPrice, cell.maxPrice());
+            priceCount += cell.priceCount();
+            priceSum = priceSum.add(Objects.requireNonNullElse(cell.priceSum(), BigDecimal.ZERO));
+            weightedPriceSum = weightedPriceSum.add(Objects.requireNonNullElse(cell.weightedPriceSum(), BigDecimal.ZERO));
+            householdSum = householdSum.add(Objects.requireNonNullElse(cell.householdSum(), BigDecimal.ZERO));
+        }
+
+        SigunguStatsResponseDto toDto(String regionLarge, String sigungu) {
+            return SigunguStatsResponseDto.builder()
+                    .regionLarge(regionLarge)
+                    .sigungu(sigungu)
+                    .complexCount(complexCount)
+                    .minPrice(minPrice)
+                    .avgPrice(priceCount > 0
+                            ? priceSum.divide(BigDecimal.valueOf(priceCount), 0, RoundingMode.HALF_UP)
+                            : null)
+                    .maxPrice(maxPrice)
+                    .weightedAvgPrice(priceCount > 0 && householdSum.signum() != 0
+                            ? weightedPriceSum.divide(householdSum, 0, RoundingMode.HALF_UP)
+                            : null)
+                    .build();
+        }
+
+        private static BigDecimal min(BigDecimal current, BigDecimal candidate) {
+            if (candidate == null) {
+                return current;
+            }
+            return current == null || candidate.compareTo(current) < 0 ? candidate : current;
+        }
+
+        private static BigDecimal max(BigDecimal current, BigDecimal candidate) {
+            if (candidate == null) {
+                return current;
+            }
+            return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+        }
+    }
+}
@@ -2,49 +2,37 @@ package com.hana_ti.home_planner.domain.house.service;
 
 import com.hana_ti.home_planner.domain.house.dto.SigunguStatsRequestDto;
 import com.hana_ti.home_planner.domain.house.dto.SigunguStatsResponseDto;
-import com.hana_ti.home_planner.domain.house.repository.SigunguStatsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class SigunguStatsService {
 
-    private final SigunguStatsRepository sigunguStatsRepository;
+    private final SigunguStatsCube sigunguStatsCube;
 
     /**
-     * 시군구별 분양가 집계 조회
+     * 시군구별 분양가 집계 조회 (메모리 집계 큐브에서 필터 조합 롤업)
      * 
      * @param requestDto 필터 조건이 포함된 요청 DTO
      * @return 시군구별 분양가 집계 결과 리스트
      */
     public List<SigunguStatsResponseDto> getSigunguStats(SigunguStatsRequestDto requestDto) {
+        return getSigunguStats(sigunguStatsCube.getCube(), requestDto);
+    }
+
+    /**
+     * 지정한 집계 큐브에서 시군구별 분양가 집계 조회 (응답 버전을 읽은 큐브와 같은 큐브 기준)
+     */
+    private List<SigunguStatsResponseDto> getSigunguStats(SigunguStatsCube.Cube cube, SigunguStatsRequestDto requestDto) {
         log.info("시군구별 분양가 집계 조회 시작 - 필터 조건: {}", requestDto);
 
-        // 네이티브 쿼리 실행
-        List<Object[]> rawResults = sigunguStatsRepository.getSigunguStats(
-                requestDto.getHouseDivisionName(),
-                requestDto.getHouseDetailDivisionName(),
-                requestDto.getSpeculationOverheated(),
-                requestDto.getAdjustmentTargetArea(),
-                requestDto.getSalePriceCeiling(),
-                requestDto.getImprovementProject(),
-                requestDto.getPublicHousingDistrict(),
-                requestDto.getLargeScaleLandDevelopment(),
-                requestDto.getMetropolitanPrivatePublicHousing()
-        );
-
-        // Object[] 결과를 DTO로 변환
-        List<SigunguStatsResponseDto> results = rawResults.stream()
-                .map(SigunguStatsResponseDto::fromNativeQueryResult)
-                .collect(Collectors.toList());
+        List<SigunguStatsResponseDto> results = sigunguStatsCube.query(cube, requestDto);
 
         log.info("시군구별 분양가 집계 조회 완료 - 결과 수: {}개", results.size());
 
@@ -75,13 +63,14 @@ public class SigunguStatsService {
     /**
      * 필터 없이 전체 시군구별 분양가 집계 조회
      * 
+     * @param cube 응답 버전을 읽은 집계 큐브
      * @return 전체 시군구별 분양가 집계 결과 리스트
      */
-    public List<SigunguStatsResponseDto> getAllSigunguStats() {
+    public List<SigunguStatsResponseDto> getAllSigunguStats(SigunguStatsCube.Cube cube) {
         log.info("전체 시군구별 분양가 집계 조회 시작 (필터 없음)");
 
         SigunguStatsRequestDto emptyRequest = SigunguStatsRequestDto.builder().build();
-        return getSigunguStats(emptyRequest);
+        return getSigunguStats(cube, emptyRequest);
     }
 
     /**
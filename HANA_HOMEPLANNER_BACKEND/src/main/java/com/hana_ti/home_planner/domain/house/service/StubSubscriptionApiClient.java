@@ -0,0 +1,71 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.model.SubscriptionAnnouncement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트/로컬용 청약홈 API 스텁 (subscription.api.stub-enabled=true)
+ * 외부 API를 호출하지 않고 등록된 공고 중 조회 조건에 맞는 공고를 반환
+ */
+@Component
+@ConditionalOnProperty(name = "subscription.api.stub-enabled", havingValue = "true")
+@Slf4j
+public class StubSubscriptionApiClient implements SubscriptionApiClient {
+
+    private final List<SubscriptionAnnouncement> announcements = new CopyOnWriteArrayList<>();
+
+    /**
+     * 스텁이 반환할 공고 등록
+     */
+    public void register(SubscriptionAnnouncement announcement) {
+        announcements.add(announcement);
+    }
+
+    public void clear() {
+        announcements.clear();
+    }
+
+    @Override
+    public List<SubscriptionAnnouncement> fetchAnnouncements(Map<String, String> conditions) {
+        List<SubscriptionAnnouncement> result = announcements.stream()
+                .filter(announcement -> conditions.entrySet().stream()
+                        .allMatch(condition -> matches(announcement, condition.getKey(), condition.getValue())))
+                .toList();
+        log.info("청약홈 API 스텁 조회 - 조건: {}, 조회 건수: {}건", conditions, result.size());
+        return result;
+    }
+
+    @Override
+    public boolean validateApiKey() {
+        return true;
+    }
+
+    /**
+     * odcloud 조건 형식("필드::연산자") 중 캘린더 동기화에서 사용하는 항목만 지원
+     */
+    private boolean matches(SubscriptionAnnouncement announcement, String condition, String value) {
+        String[] parts = condition.split("::");
+        String actual = switch (parts[0]) {
+            case "RCEPT_BGNDE" -> announcement.getRceptBgnDe();
+            case "RCEPT_ENDDE" -> announcement.getRceptEndDe();
+            case "RCRIT_PBLANC_DE" -> announcement.getRcruitPblancDe();
+            case "HOUSE_SECD" -> announcement.getHouseSecd();
+            default -> throw new IllegalArgumentException("지원하지 않는 조회 조건입니다: " + condition);
+        };
+        if (actual == null) {
+            return false;
+        }
+        return switch (parts[1]) {
+            case "EQ" -> actual.equals(value);
+            case "LTE" -> actual.compareTo(value) <= 0;
+            case "GTE" -> actual.compareTo(value) >= 0;
+            default -> throw new IllegalArgumentException("지원하지 않는 조회 조건입니다: " + condition);
+        };
+    }
+}
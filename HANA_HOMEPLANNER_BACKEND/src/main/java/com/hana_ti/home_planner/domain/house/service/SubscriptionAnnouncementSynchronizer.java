@@ -0,0 +1,127 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.model.SubscriptionAnnouncement;
+import com.hana_ti.home_planner.domain.house.repository.SubscriptionAnnouncementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청약홈 분양정보 로컬 동기화
+ * 보관 기간(접수 종료일 기준) 내 공고를 주기적으로 전체 동기화하고, 그 사이에는 최근 모집공고분만 증분 동기화하여
+ * 청약 캘린더 조회 시 외부 API를 호출하지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubscriptionAnnouncementSynchronizer {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final SubscriptionApiClient subscriptionApiClient;
+    private final SubscriptionAnnouncementRepository subscriptionAnnouncementRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${subscription.sync.retention-months:6}")
+    private int retentionMonths;
+
+    @Value("${subscription.sync.incremental-overlap-days:7}")
+    private int incrementalOverlapDays;
+
+    // 마지막 전체 동기화 기준 보관 시작일 (기동 후 전체 동기화 전이면 null)
+    private volatile LocalDate syncedWindowStart;
+
+    /**
+     * 기동 시 인덱스 확인 후 전체 동기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        ensureIndexes();
+        try {
+            fullSync();
+        } catch (Exception e) {
+            log.error("청약 공고 초기 동기화 실패 - 외부 API 직접 조회로 대체", e);
+        }
+    }
+
+    /**
+     * 전체 동기화: 보관 기간 내 공고를 모두 다시 받아 반영하고, 이번 동기화에서 받지 못한 공고(만료/삭제)는 정리
+     */
+    @Scheduled(cron = "${subscription.sync.full-cron:0 30 3 * * *}")
+    public synchronized void fullSync() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime syncedAt = LocalDateTime.now();
+        LocalDate windowStart = LocalDate.now().minusMonths(retentionMonths);
+
+        List<SubscriptionAnnouncement> announcements = subscriptionApiClient.fetchAnnouncements(
+                Map.of("RCEPT_ENDDE::GTE", windowStart.format(DATE_FORMATTER)));
+        save(announcements, syncedAt);
+
+        long deletedCount = subscriptionAnnouncementRepository.deleteBySyncedAtBefore(syncedAt);
+        syncedWindowStart = windowStart;
+
+        log.info("청약 공고 전체 동기화 완료 - 보관 시작일: {}, 반영: {}건, 정리: {}건, 소요시간: {}ms",
+                windowStart, announcements.size(), deletedCount, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 증분 동기화: 최근 모집공고일 이후 공고만 받아 반영 (전체 동기화 전이면 전체 동기화)
+     */
+    @Scheduled(fixedDelayString = "${subscription.sync.incremental-interval-ms:600000}",
+            initialDelayString = "${subscription.sync.incremental-interval-ms:600000}")
+    public synchronized void incrementalSync() {
+        if (syncedWindowStart == null) {
+            fullSync();
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        LocalDate from = LocalDate.now().minusDays(incrementalOverlapDays);
+
+        List<SubscriptionAnnouncement> announcements = subscriptionApiClient.fetchAnnouncements(
+                Map.of("RCRIT_PBLANC_DE::GTE", from.format(DATE_FORMATTER)));
+        save(announcements, LocalDateTime.now());
+
+        log.info("청약 공고 증분 동기화 완료 - 모집공고일 기준: {} 이후, 반영: {}건, 소요시간: {}ms",
+                from, announcements.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 로컬 저장소가 해당 날짜 이후 접수 종료 공고를 모두 보관하고 있는지 여부
+     */
+    public boolean covers(LocalDate startDate) {
+        LocalDate windowStart = syncedWindowStart;
+        return windowStart != null && !startDate.isBefore(windowStart);
+    }
+
+    private void save(List<SubscriptionAnnouncement> announcements, LocalDateTime syncedAt) {
+        announcements.forEach(announcement -> announcement.setSyncedAt(syncedAt));
+        subscriptionAnnouncementRepository.saveAll(announcements);
+    }
+
+    /**
+     * 접수 기간 범위 조회용 인덱스
+     */
+    private void ensureIndexes() {
+        mongoTemplate.indexOps(SubscriptionAnnouncement.class).createIndex(new Index()
+                .on("RCEPT_BGNDE", Sort.Direction.ASC)
+                .on("RCEPT_ENDDE", Sort.Direction.ASC)
+                .named("idx_rcept_bgnde_endde"));
+        mongoTemplate.indexOps(SubscriptionAnnouncement.class).createIndex(new Index()
+                .on("SYNCED_AT", Sort.Direction.ASC)
+                .named("idx_synced_at"));
+    }
+}
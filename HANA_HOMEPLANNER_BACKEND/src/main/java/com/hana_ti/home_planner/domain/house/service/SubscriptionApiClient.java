@@ -0,0 +1,27 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import com.hana_ti.home_planner.domain.house.model.SubscriptionAnnouncement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청약홈 분양정보 API 클라이언트
+ * 운영에서는 공공데이터포털(odcloud) API를 호출하고, 테스트/로컬에서는 subscription.api.stub-enabled=true로 스텁 사용
+ */
+public interface SubscriptionApiClient {
+
+    /**
+     * 조건에 해당하는 공고 전체 조회 (페이지 단위로 모두 조회)
+     *
+     * @param conditions odcloud 조회 조건 (예: "RCEPT_BGNDE::LTE" -> "2025-01-31")
+     * @return 조회된 공고 목록
+     * @throws RuntimeException API 에러 또는 통신 실패 (부분 결과를 반환하지 않음)
+     */
+    List<SubscriptionAnnouncement> fetchAnnouncements(Map<String, String> conditions);
+
+    /**
+     * API 키 유효성 검증
+     */
+    boolean validateApiKey();
+}
@@ -1,14 +1,13 @@
 package com.hana_ti.home_planner.domain.house.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hana_ti.home_planner.domain.house.dto.SubscriptionCalendarResponseDto;
 import com.hana_ti.home_planner.domain.house.dto.SubscriptionInfoDto;
+import com.hana_ti.home_planner.domain.house.model.SubscriptionAnnouncement;
+import com.hana_ti.home_planner.domain.house.repository.SubscriptionAnnouncementRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -20,15 +19,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SubscriptionCalendarService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final SubscriptionApiClient subscriptionApiClient;
+    private final SubscriptionAnnouncementRepository subscriptionAnnouncementRepository;
+    private final SubscriptionAnnouncementSynchronizer subscriptionAnnouncementSynchronizer;
 
-    @Value("${subscription.api.key:52e08cf4d5ad9f8be810229a20c1d618c2ac17c08c9401955f38f658fe678c37}")
-    private String apiKey;
-
-    private static final String BASE_URL = "https://api.odcloud" +
-            ".kr/api/ApplyhomeInfoDetailSvc/v1/getAPTLttotPblancDetail";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final Sort RECEPTION_ORDER = Sort.by("rceptBgnDe", "id");
 
     /**
      * 청약 캘린더 정보 조회 (오늘부터 한 달 이내 접수 예정)
@@ -50,7 +46,7 @@ public class SubscriptionCalendarService {
         log.info("청약 대상 기간: {}", targetPeriod);
 
         try {
-            // API 호출하여 전체 데이터 조회
+            // 로컬 동기화 저장소에서 전체 데이터 조회
             List<SubscriptionInfoDto> allData = fetchSubscriptionData(searchStartDate, searchEndDate, houseSecd);
             
             // 오늘부터 한 달 이내 접수 예정 데이터 필터링
@@ -81,11 +77,13 @@ public class SubscriptionCalendarService {
     }
 
     /**
-     * 외부 API에서 청약 데이터 조회
+     * 청약 데이터 조회
      * 
      * 청약 기간이 지정된 검색 범위와 겹치는 모든 데이터를 조회합니다.
      * - 청약 시작일 <= 검색종료일
      * - 청약 종료일 >= 검색시작일
+     * 로컬 동기화 저장소가 검색 범위를 보관하고 있으면 접수일 인덱스로 조회하고,
+     * 보관 기간 이전이거나 동기화 전이면 외부 API를 직접 호출합니다.
      * 
      * @param startDate 검색 시작일 (yyyy-MM-dd)
      * @param endDate 검색 종료일 (yyyy-MM-dd)
@@ -93,115 +91,30 @@ public class SubscriptionCalendarService {
      * @return 조회된 청약 정보 리스트
      */
     private List<SubscriptionInfoDto> fetchSubscriptionData(String startDate, String endDate, String houseSecd) {
-        List<SubscriptionInfoDto> allData = new ArrayList<>();
-        int page = 1;
-        int perPage = 100;
-
-        while (true) {
-            try {
-                Map<String, Object> params = new HashMap<>();
-                params.put("page", page);
-                params.put("perPage", perPage);
-                params.put("serviceKey", apiKey);
-                // 청약 기간이 겹치는 데이터 조회 (청약 시작일 <= 검색종료일 AND 청약 종료일 >= 검색시작일)
-                params.put("cond[RCEPT_BGNDE::LTE]", endDate);    // 청약 시작일 <= 검색종료일
-                params.put("cond[RCEPT_ENDDE::GTE]", startDate);  // 청약 종료일 >= 검색시작일
-                
-                if (houseSecd != null && !houseSecd.trim().isEmpty()) {
-                    params.put("cond[HOUSE_SECD::EQ]", houseSecd);
-                }
-
-                // URL 생성
-                StringBuilder urlBuilder = new StringBuilder(BASE_URL);
-                urlBuilder.append("?");
-                
-                for (Map.Entry<String, Object> entry : params.entrySet()) {
-                    urlBuilder.append(entry.getKey()).append("=").append(entry.getValue()).append("&");
-                }
-                
-                String url = urlBuilder.toString();
-                if (url.endsWith("&")) {
-                    url = url.substring(0, url.length() - 1);
-                }
-
-                log.debug("API 호출 URL: {}", url);
-
-                String response = restTemplate.getForObject(url, String.class);
-                log.debug("API 응답: {}", response);
-                
-                JsonNode jsonNode = objectMapper.readTree(response);
-                
-                // API 에러 체크
-                if (jsonNode.has("code") && jsonNode.get("code").asInt() != 0) {
-                    String errorMsg = jsonNode.has("msg") ? jsonNode.get("msg").asText() : "알 수 없는 에러";
-                    log.error("API 에러 발생 - 코드: {}, 메시지: {}", jsonNode.get("code").asInt(), errorMsg);
-                    throw new RuntimeException("청약홈 API 에러: " + errorMsg);
-                }
-
-                if (!jsonNode.has("data")) {
-                    log.warn("API 응답에 data 필드가 없습니다: {}", response);
-                    break;
-                }
-
-                JsonNode dataNode = jsonNode.get("data");
-                List<SubscriptionInfoDto> pageData = parseSubscriptionData(dataNode);
-                allData.addAll(pageData);
-
-                // 전체 데이터 수 확인
-                int totalCount = jsonNode.has("totalCount") ? jsonNode.get("totalCount").asInt() : 0;
-                if (page * perPage >= totalCount) {
-                    break;
-                }
-                
-                page++;
-
-            } catch (Exception e) {
-                log.error("API 호출 중 오류 발생 - 페이지: {}", page, e);
-                break;
+        boolean hasHouseSecd = houseSecd != null && !houseSecd.trim().isEmpty();
+        List<SubscriptionAnnouncement> announcements;
+
+        if (subscriptionAnnouncementSynchronizer.covers(LocalDate.parse(startDate, DATE_FORMATTER))) {
+            announcements = subscriptionAnnouncementRepository.findReceptionOverlapping(startDate, endDate, RECEPTION_ORDER);
+            if (hasHouseSecd) {
+                announcements = announcements.stream()
+                        .filter(announcement -> houseSecd.equals(announcement.getHouseSecd()))
+                        .collect(Collectors.toList());
             }
-        }
-
-        return allData;
-    }
-
-    /**
-     * JSON 데이터를 SubscriptionInfoDto로 변환
-     */
-    private List<SubscriptionInfoDto> parseSubscriptionData(JsonNode dataNode) {
-        List<SubscriptionInfoDto> result = new ArrayList<>();
-
-        if (dataNode.isArray()) {
-            for (JsonNode item : dataNode) {
-                try {
-                    SubscriptionInfoDto dto = SubscriptionInfoDto.of(
-                        getJsonValue(item, "HOUSE_SECD"),
-                        getJsonValue(item, "HOUSE_DTL_SECD_NM"),
-                        getJsonValue(item, "HOUSE_NM"),
-                        getJsonValue(item, "RCEPT_BGNDE"),
-                        getJsonValue(item, "RCEPT_ENDDE"),
-                        getJsonValue(item, "SUBSCRPT_AREA_CODE_NM"),
-                        getJsonValue(item, "PBLANC_URL"),
-                        getJsonValue(item, "RCRIT_PBLANC_DE"),
-                        getJsonValue(item, "PRZWNER_PRESNATN_DE"),
-                        getJsonValue(item, "CNTRCT_CNCLS_DE")
-                    );
-                    result.add(dto);
-                } catch (Exception e) {
-                    log.warn("데이터 파싱 중 오류 발생", e);
-                }
+        } else {
+            log.info("로컬 동기화 범위 밖 조회 - 외부 API 직접 호출 (검색 시작일: {})", startDate);
+            Map<String, String> conditions = new LinkedHashMap<>();
+            conditions.put("RCEPT_BGNDE::LTE", endDate);    // 청약 시작일 <= 검색종료일
+            conditions.put("RCEPT_ENDDE::GTE", startDate);  // 청약 종료일 >= 검색시작일
+            if (hasHouseSecd) {
+                conditions.put("HOUSE_SECD::EQ", houseSecd);
             }
+            announcements = subscriptionApiClient.fetchAnnouncements(conditions);
         }
 
-        return result;
-    }
-
-    /**
-     * JSON에서 안전하게 값 추출
-     */
-    private String getJsonValue(JsonNode node, String fieldName) {
-        return node.has(fieldName) && !node.get(fieldName).isNull() 
-            ? node.get(fieldName).asText() 
-            : "정보 없음";
+        return announcements.stream()
+                .map(SubscriptionAnnouncement::toInfoDto)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -231,43 +144,7 @@ public class SubscriptionCalendarService {
      * API 키 유효성 검증
      */
     public boolean validateApiKey() {
-        try {
-            Map<String, Object> params = new HashMap<>();
-            params.put("page", 1);
-            params.put("perPage", 1);
-            params.put("serviceKey", apiKey);
-            
-            StringBuilder urlBuilder = new StringBuilder(BASE_URL);
-            urlBuilder.append("?");
-            
-            for (Map.Entry<String, Object> entry : params.entrySet()) {
-                urlBuilder.append(entry.getKey()).append("=").append(entry.getValue()).append("&");
-            }
-            
-            String url = urlBuilder.toString();
-            if (url.endsWith("&")) {
-                url = url.substring(0, url.length() - 1);
-            }
-
-            log.info("API 키 유효성 검증 URL: {}", url);
-            
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode jsonNode = objectMapper.readTree(response);
-            
-            if (jsonNode.has("code") && jsonNode.get("code").asInt() == 0) {
-                log.info("API 키 유효성 검증 성공");
-                return true;
-            } else {
-                String errorMsg = jsonNode.has("msg") ? jsonNode.get("msg").asText() : "알 수 없는 에러";
-                log.error("API 키 유효성 검증 실패 - 코드: {}, 메시지: {}", 
-                    jsonNode.has("code") ? jsonNode.get("code").asInt() : "N/A", errorMsg);
-                return false;
-            }
-            
-        } catch (Exception e) {
-            log.error("API 키 유효성 검증 중 오류 발생", e);
-            return false;
-        }
+        return subscriptionApiClient.validateApiKey();
     }
 
     /**
@@ -288,7 +165,7 @@ public class SubscriptionCalendarService {
             LocalDate.parse(startDate, DATE_FORMATTER);
             LocalDate.parse(endDate, DATE_FORMATTER);
             
-            // API 호출하여 전체 데이터 조회 (필터링 없이)
+            // 전체 데이터 조회 (필터링 없이)
             List<SubscriptionInfoDto> allData = fetchSubscriptionData(startDate, endDate, null);
             
             String searchPeriod = startDate + " ~ " + endDate;
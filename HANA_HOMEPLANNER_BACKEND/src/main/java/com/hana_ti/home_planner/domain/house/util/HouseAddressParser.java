@@ -0,0 +1,28 @@
+package com.hana_ti.home_planner.domain.house.util;
+
+import java.util.regex.Pattern;
+
+public class HouseAddressParser {
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    /**
+     * 공급위치에서 시도, 시군구, 읍면동 추출 (공백 기준 첫 세 토큰)
+     * 토큰이 부족한 경우 해당 위치는 null
+     *
+     * @param supplyLocation 공급위치
+     * @return {시도, 시군구, 읍면동}
+     */
+    public static String[] parse(String supplyLocation) {
+        String[] result = new String[3];
+        if (supplyLocation == null || supplyLocation.isBlank()) {
+            return result;
+        }
+
+        String[] tokens = WHITESPACE_PATTERN.split(supplyLocation.trim(), 4);
+        for (int i = 0; i < Math.min(tokens.length, 3); i++) {
+            result[i] = tokens[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,17 @@
+package com.hana_ti.home_planner.domain.loan.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공동대출 초대 알림 SMS 발송 요청 이벤트
+ * 초대 트랜잭션 커밋 후에만 발송 대기열에 저장됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoanInvitationNotificationEvent {
+
+    private final String inviteId;
+    private final String phoneNumber;
+    private final String message;
+}
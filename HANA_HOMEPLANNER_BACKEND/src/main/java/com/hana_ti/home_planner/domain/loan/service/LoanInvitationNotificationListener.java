@@ -0,0 +1,38 @@
+package com.hana_ti.home_planner.domain.loan.service;
+
+import com.hana_ti.home_planner.domain.auth.dto.SmsSendRequestDto;
+import com.hana_ti.home_planner.domain.auth.service.SmsService;
+import com.hana_ti.home_planner.domain.loan.event.LoanInvitationNotificationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공동대출 초대 알림 SMS를 트랜잭션 커밋 후 발송 대기열에 저장
+ * 롤백된 초대의 SMS가 발송되지 않도록 커밋 전에는 대기열에 저장하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanInvitationNotificationListener {
+
+    private final SmsService smsService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationRequested(LoanInvitationNotificationEvent event) {
+        SmsSendRequestDto smsRequest = new SmsSendRequestDto();
+        smsRequest.setPhoneNumber(event.getPhoneNumber());
+        smsRequest.setMessage(event.getMessage());
+
+        var smsResponse = smsService.sendSms(smsRequest);
+
+        if (smsResponse.isSuccess()) {
+            log.info("공동대출 초대 알림 발송 요청 완료 - 초대ID: {}, 수신자: {}", event.getInviteId(), event.getPhoneNumber());
+        } else {
+            log.error("공동대출 초대 알림 발송 요청 실패 - 초대ID: {}, 수신자: {}, 상태: {}",
+                    event.getInviteId(), event.getPhoneNumber(), smsResponse.getStatus());
+        }
+    }
+}
@@ -1,14 +1,14 @@
 package com.hana_ti.home_planner.domain.loan.service;
 
-import com.hana_ti.home_planner.domain.auth.dto.SmsSendRequestDto;
-import com.hana_ti.home_planner.domain.auth.service.SmsService;
 import com.hana_ti.home_planner.domain.loan.dto.LoanInvitationNotificationRequestDto;
 import com.hana_ti.home_planner.domain.loan.dto.LoanInvitationNotificationResponseDto;
 import com.hana_ti.home_planner.domain.loan.entity.LoanInvitation;
+import com.hana_ti.home_planner.domain.loan.event.LoanInvitationNotificationEvent;
 import com.hana_ti.home_planner.domain.loan.repository.LoanInvitationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class LoanInvitationNotificationService {
 
     private final LoanInvitationRepository loanInvitationRepository;
-    private final SmsService smsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.base-url:http://localhost:3000}")
     private String baseUrl;
@@ -48,31 +48,17 @@ public class LoanInvitationNotificationService {
             // 4. 알림 메시지 생성
             String message = createInvitationMessage(invitation, registrationLink);
 
-            // 5. SMS 발송
-            SmsSendRequestDto smsRequest = new SmsSendRequestDto();
-            smsRequest.setPhoneNumber(request.getPhoneNumber());
-            smsRequest.setMessage(message);
-
-            var smsResponse = smsService.sendSms(smsRequest);
-
-            if (smsResponse.isSuccess()) {
-                log.info("공동대출 초대 알림 발송 성공 - 초대ID: {}, 수신자: {}", request.getInviteId(), request.getPhoneNumber());
-                return LoanInvitationNotificationResponseDto.success(
-                        request.getInviteId(),
-                        request.getPhoneNumber(),
-                        message,
-                        registrationLink
-                );
-            } else {
-                log.error("공동대출 초대 알림 발송 실패 - 초대ID: {}, 수신자: {}, 상태: {}", 
-                        request.getInviteId(), request.getPhoneNumber(), smsResponse.getStatus());
-                return LoanInvitationNotificationResponseDto.failure(
-                        request.getInviteId(),
-                        request.getPhoneNumber(),
-                        "SMS_SEND_FAILED",
-                        "SMS 발송에 실패했습니다"
-                );
-            }
+            // 5. SMS 발송 요청 (트랜잭션 커밋 후 발송 대기열에 저장, 롤백 시 발송하지 않음)
+            eventPublisher.publishEvent(new LoanInvitationNotificationEvent(
+                    request.getInviteId(), request.getPhoneNumber(), message));
+
+            log.info("공동대출 초대 알림 발송 요청 - 초대ID: {}, 수신자: {}", request.getInviteId(), request.getPhoneNumber());
+            return LoanInvitationNotificationResponseDto.success(
+                    request.getInviteId(),
+                    request.getPhoneNumber(),
+                    message,
+                    registrationLink
+            );
 
         } catch (IllegalArgumentException e) {
             log.error("공동대출 초대 알림 발송 실패 - 초대ID: {}, 오류: {}", request.getInviteId(), e.getMessage());
@@ -24,4 +24,10 @@ public interface SavingsProductRepository extends JpaRepository<SavingsProduct,
 
 
     List<SavingsProduct> findByPaymentMethod(String paymentMethod);
+
+    /**
+     * 금융상품 및 은행 정보와 함께 전체 적금상품 조회 (추천 스코어링용 단일 쿼리)
+     */
+    @Query("SELECT sp FROM SavingsProduct sp LEFT JOIN FETCH sp.financialProduct fp LEFT JOIN FETCH fp.bank")
+    List<SavingsProduct> findAllWithFinancialProductAndBank();
 }
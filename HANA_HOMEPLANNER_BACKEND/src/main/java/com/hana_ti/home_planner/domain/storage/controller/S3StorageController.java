@@ -1,24 +1,44 @@
 package com.hana_ti.home_planner.domain.storage.controller;
 
+import com.hana_ti.home_planner.domain.storage.dto.DiskCacheStatsResponseDto;
+import com.hana_ti.home_planner.domain.storage.dto.PresignedUrlResponseDto;
+import com.hana_ti.home_planner.domain.storage.service.S3PresignedUrlService;
 import com.hana_ti.home_planner.domain.storage.service.S3StorageService;
+import com.hana_ti.home_planner.domain.storage.service.StorageDiskCache;
+import com.hana_ti.home_planner.domain.storage.service.StorageObjectOrigin;
 import com.hana_ti.home_planner.domain.applyhome.service.ApplyHomeService;
 import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeData;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
 import com.hana_ti.home_planner.global.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.HashMap;
 import java.util.Map;
-import java.io.InputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 @RestController
 @RequestMapping("/api/storage")
@@ -29,6 +49,11 @@ public class S3StorageController {
     private final S3StorageService s3StorageService;
     private final ApplyHomeService applyHomeService;
     private final JwtUtil jwtUtil;
+    private final StorageDiskCache storageDiskCache;
+    private final S3PresignedUrlService s3PresignedUrlService;
+
+    // 스트리밍 복사 버퍼 크기 (동시 다운로드 수와 무관하게 요청당 버퍼 하나만 사용)
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
 
     /**
      * 파일 업로드 (MultipartFile)
@@ -61,18 +86,13 @@ public class S3StorageController {
      * 파일 다운로드
      */
     @GetMapping("/download/{objectKey:.+}")
-    public ResponseEntity<byte[]> downloadFile(@PathVariable String objectKey) {
+    public ResponseEntity<StreamingResponseBody> downloadFile(
+            @PathVariable String objectKey,
+            @RequestHeader HttpHeaders requestHeaders) {
         log.info("파일 다운로드 API 호출 - 경로: {}", objectKey);
 
         try {
-            InputStream inputStream = s3StorageService.downloadFile(objectKey);
-            byte[] fileContent = inputStream.readAllBytes();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment", getFileNameFromObjectKey(objectKey));
-
-            return new ResponseEntity<>(fileContent, headers, HttpStatus.OK);
+            return streamObject(objectKey, MediaType.APPLICATION_OCTET_STREAM, "attachment", requestHeaders);
         } catch (Exception e) {
             log.error("파일 다운로드 실패 - 경로: {}, 오류: {}", objectKey, e.getMessage());
             return ResponseEntity.notFound().build();
@@ -134,7 +154,9 @@ public class S3StorageController {
      * pdfs 폴더에서 경로명으로 PDF 파일 다운로드 (브라우저에서 보기)
      */
     @GetMapping("/pdf/{pathName}")
-    public ResponseEntity<byte[]> downloadPdfFileByPath(@PathVariable String pathName) {
+    public ResponseEntity<StreamingResponseBody> downloadPdfFileByPath(
+            @PathVariable String pathName,
+            @RequestHeader HttpHeaders requestHeaders) {
         log.info("S3 PDF 파일 다운로드 API 호출 - 경로명: {}", pathName);
 
         try {
@@ -145,15 +167,7 @@ public class S3StorageController {
                 return ResponseEntity.notFound().build();
             }
 
-            InputStream inputStream = s3StorageService.downloadFile(objectKey);
-            byte[] fileContent = inputStream.readAllBytes();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("inline", getFileNameFromObjectKey(objectKey));
-            headers.setContentLength(fileContent.length);
-
-            return new ResponseEntity<>(fileContent, headers, HttpStatus.OK);
+            return streamObject(objectKey, MediaType.APPLICATION_PDF, "inline", requestHeaders);
         } catch (Exception e) {
             log.error("S3 PDF 파일 다운로드 실패 - 경로명: {}, 오류: {}", pathName, e.getMessage());
             return ResponseEntity.notFound().build();
@@ -164,7 +178,9 @@ public class S3StorageController {
      * pdfs 폴더에서 경로명으로 PDF 파일 다운로드 (강제 다운로드)
      */
     @GetMapping("/pdf/download/{pathName}")
-    public ResponseEntity<byte[]> downloadPdfFileAsAttachmentByPath(@PathVariable String pathName) {
+    public ResponseEntity<StreamingResponseBody> downloadPdfFileAsAttachmentByPath(
+            @PathVariable String pathName,
+            @RequestHeader HttpHeaders requestHeaders) {
         log.info("S3 PDF 파일 강제 다운로드 API 호출 - 경로명: {}", pathName);
 
         try {
@@ -175,15 +191,7 @@ public class S3StorageController {
                 return ResponseEntity.notFound().build();
             }
 
-            InputStream inputStream = s3StorageService.downloadFile(objectKey);
-            byte[] fileContent = inputStream.readAllBytes();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", getFileNameFromObjectKey(objectKey));
-            headers.setContentLength(fileContent.length);
-
-            return new ResponseEntity<>(fileContent, headers, HttpStatus.OK);
+            return streamObject(objectKey, MediaType.APPLICATION_PDF, "attachment", requestHeaders);
         } catch (Exception e) {
             log.error("S3 PDF 파일 강제 다운로드 실패 - 경로명: {}, 오류: {}", pathName, e.getMessage());
             return ResponseEntity.notFound().build();
@@ -207,13 +215,24 @@ public class S3StorageController {
         }
     }
 
+    /**
+     * 다운로드 디스크 캐시 통계 조회 (적중률, 절감 전송량)
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponse<DiskCacheStatsResponseDto>> getDiskCacheStats() {
+        log.info("다운로드 디스크 캐시 통계 조회 API 호출");
+
+        return ResponseEntity.ok(ApiResponse.success("디스크 캐시 통계를 조회했습니다.", storageDiskCache.getStats()));
+    }
+
     /**
      * MongoDB의 s3_pdf_urls를 사용해서 PDF 다운로드
      */
     @GetMapping("/pdf/url/{applyHomeId}")
-    public ResponseEntity<byte[]> downloadPdfByUrl(
+    public ResponseEntity<StreamingResponseBody> downloadPdfByUrl(
             @PathVariable String applyHomeId,
-            @RequestHeader("Authorization") String authorization) {
+            @RequestHeader("Authorization") String authorization,
+            @RequestHeader HttpHeaders requestHeaders) {
         log.info("MongoDB s3_pdf_urls를 통한 PDF 다운로드 API 호출 - ApplyHome ID: {}", applyHomeId);
 
         try {
@@ -224,43 +243,19 @@ public class S3StorageController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
 
-            // MongoDB에서 ApplyHomeData 조회
-            Optional<ApplyHomeData> applyHomeDataOpt = applyHomeService.getApplyHomeDataById(applyHomeId);
-            if (applyHomeDataOpt.isEmpty()) {
-                log.warn("ApplyHomeData를 찾을 수 없음 - ID: {}", applyHomeId);
-                return ResponseEntity.notFound().build();
-            }
-
-            ApplyHomeData applyHomeData = applyHomeDataOpt.get();
-            List<String> s3PdfUrls = applyHomeData.getS3PdfUrls();
-
-            if (s3PdfUrls == null || s3PdfUrls.isEmpty()) {
-                log.warn("s3_pdf_urls가 비어있음 - ID: {}", applyHomeId);
-                return ResponseEntity.notFound().build();
-            }
-
-            // 첫 번째 PDF URL 사용
-            String pdfUrl = s3PdfUrls.get(0);
-            log.info("PDF URL 발견 - URL: {}, 사용자: {}", pdfUrl, userId);
-
-            // URL에서 object key 추출
-            String objectKey = extractObjectKeyFromUrl(pdfUrl);
+            // MongoDB의 s3_pdf_urls에서 object key 조회
+            String objectKey = findApplyHomePdfObjectKey(applyHomeId, userId);
             if (objectKey == null) {
-                log.warn("URL에서 object key를 추출할 수 없음 - URL: {}", pdfUrl);
                 return ResponseEntity.notFound().build();
             }
 
-            // S3에서 파일 다운로드
-            InputStream inputStream = s3StorageService.downloadFile(objectKey);
-            byte[] fileContent = inputStream.readAllBytes();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("inline", getFileNameFromObjectKey(objectKey));
-            headers.setContentLength(fileContent.length);
+            // S3에서 파일 스트리밍
+            ResponseEntity<StreamingResponseBody> response =
+                    streamObject(objectKey, MediaType.APPLICATION_PDF, "inline", requestHeaders);
 
-            log.info("PDF 다운로드 성공 - 파일명: {}, 사용자: {}", getFileNameFromObjectKey(objectKey), userId);
-            return new ResponseEntity<>(fileContent, headers, HttpStatus.OK);
+            log.info("PDF 다운로드 성공 - 파일명: {}, 사용자: {}, 상태: {}",
+                    getFileNameFromObjectKey(objectKey), userId, response.getStatusCode().value());
+            return response;
 
         } catch (Exception e) {
             log.error("MongoDB s3_pdf_urls를 통한 PDF 다운로드 실패 - ID: {}, 오류: {}", applyHomeId, e.getMessage());
@@ -272,9 +267,10 @@ public class S3StorageController {
      * MongoDB의 s3_pdf_urls를 사용해서 PDF 강제 다운로드
      */
     @GetMapping("/pdf/url/download/{applyHomeId}")
-    public ResponseEntity<byte[]> downloadPdfByUrlAsAttachment(
+    public ResponseEntity<StreamingResponseBody> downloadPdfByUrlAsAttachment(
             @PathVariable String applyHomeId,
-            @RequestHeader("Authorization") String authorization) {
+            @RequestHeader("Authorization") String authorization,
+            @RequestHeader HttpHeaders requestHeaders) {
         log.info("MongoDB s3_pdf_urls를 통한 PDF 강제 다운로드 API 호출 - ApplyHome ID: {}", applyHomeId);
 
         try {
@@ -285,50 +281,301 @@ public class S3StorageController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
 
-            // MongoDB에서 ApplyHomeData 조회
-            Optional<ApplyHomeData> applyHomeDataOpt = applyHomeService.getApplyHomeDataById(applyHomeId);
-            if (applyHomeDataOpt.isEmpty()) {
-                log.warn("ApplyHomeData를 찾을 수 없음 - ID: {}", applyHomeId);
+            // MongoDB의 s3_pdf_urls에서 object key 조회
+            String objectKey = findApplyHomePdfObjectKey(applyHomeId, userId);
+            if (objectKey == null) {
                 return ResponseEntity.notFound().build();
             }
 
-            ApplyHomeData applyHomeData = applyHomeDataOpt.get();
-            List<String> s3PdfUrls = applyHomeData.getS3PdfUrls();
+            // S3에서 파일 스트리밍
+            ResponseEntity<StreamingResponseBody> response =
+                    streamObject(objectKey, MediaType.APPLICATION_PDF, "attachment", requestHeaders);
 
-            if (s3PdfUrls == null || s3PdfUrls.isEmpty()) {
-                log.warn("s3_pdf_urls가 비어있음 - ID: {}", applyHomeId);
-                return ResponseEntity.notFound().build();
-            }
+            log.info("PDF 강제 다운로드 성공 - 파일명: {}, 사용자: {}, 상태: {}",
+                    getFileNameFromObjectKey(objectKey), userId, response.getStatusCode().value());
+            return response;
 
-            // 첫 번째 PDF URL 사용
-            String pdfUrl = s3PdfUrls.get(0);
-            log.info("PDF URL 발견 - URL: {}, 사용자: {}", pdfUrl, userId);
+        } catch (Exception e) {
+            log.error("MongoDB s3_pdf_urls를 통한 PDF 강제 다운로드 실패 - ID: {}, 오류: {}", applyHomeId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
 
-            // URL에서 object key 추출
-            String objectKey = extractObjectKeyFromUrl(pdfUrl);
+    /**
+     * pdfs 폴더에서 경로명으로 PDF presigned URL 발급 (다운로드가 애플리케이션을 거치지 않고 S3에서 직접 전송)
+     */
+    @GetMapping("/pdf/presigned/{pathName}")
+    public ResponseEntity<ApiResponse<PresignedUrlResponseDto>> getPdfPresignedUrlByPath(
+            @PathVariable String pathName,
+            @RequestParam(value = "download", defaultValue = "false") boolean download,
+            @RequestParam(value = "redirect", defaultValue = "true") boolean redirect) {
+        log.info("S3 PDF presigned URL 발급 API 호출 - 경로명: {}, 다운로드: {}, 리다이렉트: {}", pathName, download, redirect);
+
+        try {
+            String objectKey = s3StorageService.findPdfFileByPath(pathName);
             if (objectKey == null) {
-                log.warn("URL에서 object key를 추출할 수 없음 - URL: {}", pdfUrl);
+                log.warn("PDF 파일을 찾을 수 없음 - 경로명: {}", pathName);
                 return ResponseEntity.notFound().build();
             }
 
-            // S3에서 파일 다운로드
-            InputStream inputStream = s3StorageService.downloadFile(objectKey);
-            byte[] fileContent = inputStream.readAllBytes();
+            return presignedPdfResponse(objectKey, download, redirect);
+        } catch (Exception e) {
+            log.error("S3 PDF presigned URL 발급 실패 - 경로명: {}, 오류: {}", pathName, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", getFileNameFromObjectKey(objectKey));
-            headers.setContentLength(fileContent.length);
+    /**
+     * MongoDB의 s3_pdf_urls를 사용해서 PDF presigned URL 발급 (다운로드가 애플리케이션을 거치지 않고 S3에서 직접 전송)
+     */
+    @GetMapping("/pdf/url/presigned/{applyHomeId}")
+    public ResponseEntity<ApiResponse<PresignedUrlResponseDto>> getPdfPresignedUrlByApplyHome(
+            @PathVariable String applyHomeId,
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam(value = "download", defaultValue = "false") boolean download,
+            @RequestParam(value = "redirect", defaultValue = "true") boolean redirect) {
+        log.info("MongoDB s3_pdf_urls를 통한 PDF presigned URL 발급 API 호출 - ApplyHome ID: {}, 다운로드: {}, 리다이렉트: {}",
+                applyHomeId, download, redirect);
+
+        try {
+            // JWT 토큰 검증
+            String userId = extractUserIdFromToken(authorization);
+            if (userId == null) {
+                log.warn("유효하지 않은 JWT 토큰 - ApplyHome ID: {}", applyHomeId);
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
 
-            log.info("PDF 강제 다운로드 성공 - 파일명: {}, 사용자: {}", getFileNameFromObjectKey(objectKey), userId);
-            return new ResponseEntity<>(fileContent, headers, HttpStatus.OK);
+            // MongoDB의 s3_pdf_urls에서 object key 조회
+            String objectKey = findApplyHomePdfObjectKey(applyHomeId, userId);
+            if (objectKey == null) {
+                return ResponseEntity.notFound().build();
+            }
 
+            ResponseEntity<ApiResponse<PresignedUrlResponseDto>> response = presignedPdfResponse(objectKey, download, redirect);
+            log.info("PDF presigned URL 발급 성공 - 파일명: {}, 사용자: {}", getFileNameFromObjectKey(objectKey), userId);
+            return response;
         } catch (Exception e) {
-            log.error("MongoDB s3_pdf_urls를 통한 PDF 강제 다운로드 실패 - ID: {}, 오류: {}", applyHomeId, e.getMessage());
+            log.error("MongoDB s3_pdf_urls를 통한 PDF presigned URL 발급 실패 - ID: {}, 오류: {}", applyHomeId, e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
 
+    /**
+     * S3 객체를 고정 크기 버퍼로 응답에 스트리밍 (Range 요청 시 해당 구간만 206으로 응답)
+     * 단일 구간 Range만 지원하며, 다중 구간이나 형식이 잘못된 Range는 무시하고 전체를 응답
+     * If-Range가 현재 ETag/수정 시각과 다르면 Range를 무시하고 전체를 응답
+     */
+    private ResponseEntity<StreamingResponseBody> streamObject(String objectKey, MediaType contentType,
+                                                               String dispositionType, HttpHeaders requestHeaders) {
+        StorageObjectOrigin.ObjectMetadata metadata = s3StorageService.getObjectMetadata(objectKey);
+        long contentLength = metadata.contentLength();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        headers.setContentDispositionFormData(dispositionType, getFileNameFromObjectKey(objectKey));
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (metadata.eTag() != null) {
+            headers.setETag(metadata.eTag());
+        }
+        if (metadata.lastModified() != null) {
+            headers.setLastModified(metadata.lastModified());
+        }
+
+        HttpRange range = resolveRange(requestHeaders, metadata);
+        HttpStatus status = HttpStatus.OK;
+        Long rangeStart = null;
+        Long rangeEnd = null;
+        if (range != null) {
+            try {
+                rangeStart = range.getRangeStart(contentLength);
+                rangeEnd = range.getRangeEnd(contentLength);
+            } catch (IllegalArgumentException e) {
+                log.warn("충족할 수 없는 Range 요청 - 경로: {}, Range: {}, 파일크기: {}",
+                        objectKey, requestHeaders.getFirst(HttpHeaders.RANGE), contentLength);
+                HttpHeaders errorHeaders = new HttpHeaders();
+                errorHeaders.set(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength);
+                return new ResponseEntity<>(errorHeaders, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + rangeStart + "-" + rangeEnd + "/" + contentLength);
+        }
+
+        long start = rangeStart != null ? rangeStart : 0;
+        long end = rangeEnd != null ? rangeEnd : contentLength - 1;
+        headers.setContentLength(end - start + 1);
+
+        // 디스크 캐시에 있으면 캐시 파일로, 없거나 캐시할 수 없으면 S3에서 직접 응답
+        // Range 요청은 미스 시 전체 객체를 기다리지 않고 해당 구간만 S3에서 응답 (캐시는 백그라운드로 저장)
+        StreamingResponseBody body = cachedFileBody(objectKey, metadata, rangeStart != null, start, end);
+        if (body == null) {
+            ResponseInputStream<GetObjectResponse> inputStream =
+                    s3StorageService.openObjectStream(objectKey, metadata.eTag(), rangeStart, rangeEnd);
+            body = streamingBody(inputStream);
+        }
+        return new ResponseEntity<>(body, headers, status);
+    }
+
+    /**
+     * 디스크 캐시 파일 응답 본문 (FileChannel.transferTo로 파일 구간을 응답에 직접 전송)
+     * 응답 전 요청 스레드에서 파일을 열어 두므로 이후 LRU 제거로 파일이 삭제되어도 응답 가능
+     *
+     * @return 응답 본문 (캐시를 사용할 수 없으면 null)
+     */
+    private StreamingResponseBody cachedFileBody(String objectKey, StorageObjectOrigin.ObjectMetadata metadata,
+                                                 boolean rangeRequest, long start, long end) {
+        Path cachedFile = rangeRequest
+                ? storageDiskCache.getOrFillInBackground(objectKey, metadata)
+                : storageDiskCache.getOrFill(objectKey, metadata);
+        if (cachedFile == null) {
+            return null;
+        }
+
+        FileChannel fileChannel;
+        try {
+            fileChannel = FileChannel.open(cachedFile, StandardOpenOption.READ);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 파일 열기 실패, S3에서 응답 - 경로: {}, 오류: {}", objectKey, e.getMessage());
+            return null;
+        }
+
+        long count = end - start + 1;
+        return out -> {
+            try (fileChannel) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = start;
+                long remaining = count;
+                while (remaining > 0) {
+                    long transferred = fileChannel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        throw new IOException("디스크 캐시 파일이 예상보다 짧습니다: " + objectKey);
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+                out.flush();
+                storageDiskCache.recordBytesServed(count);
+            }
+        };
+    }
+
+    /**
+     * 적용할 단일 Range 결정 (전체 응답 대상이면 null)
+     */
+    private HttpRange resolveRange(HttpHeaders requestHeaders, StorageObjectOrigin.ObjectMetadata metadata) {
+        String rangeHeader = requestHeaders.getFirst(HttpHeaders.RANGE);
+        if (rangeHeader == null || metadata.contentLength() == 0 || !matchesIfRange(requestHeaders, metadata)) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 Range 헤더 무시 - Range: {}", rangeHeader);
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    /**
+     * If-Range 조건 확인 (없으면 true, ETag는 강한 비교, 날짜는 초 단위 일치)
+     */
+    private boolean matchesIfRange(HttpHeaders requestHeaders, StorageObjectOrigin.ObjectMetadata metadata) {
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !ifRange.startsWith("W/") && ifRange.equals(metadata.eTag());
+        }
+        if (metadata.lastModified() == null) {
+            return false;
+        }
+        try {
+            long ifRangeTime = requestHeaders.getFirstDate(HttpHeaders.IF_RANGE);
+            return ifRangeTime == metadata.lastModified().truncatedTo(ChronoUnit.SECONDS).toEpochMilli();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * S3 스트림을 고정 크기 버퍼로 응답에 복사
+     * 클라이언트 연결 종료 등으로 중단되면 남은 본문을 읽어 소진하지 않도록 S3 연결을 중단
+     */
+    private StreamingResponseBody streamingBody(ResponseInputStream<GetObjectResponse> inputStream) {
+        return out -> {
+            try {
+                byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                out.flush();
+            } catch (IOException e) {
+                inputStream.abort();
+                throw e;
+            } finally {
+                inputStream.close();
+            }
+        };
+    }
+
+    /**
+     * MongoDB ApplyHomeData의 첫 번째 s3_pdf_urls에서 object key 조회
+     *
+     * @return object key (데이터나 URL이 없으면 null)
+     */
+    private String findApplyHomePdfObjectKey(String applyHomeId, String userId) {
+        Optional<ApplyHomeData> applyHomeDataOpt = applyHomeService.getApplyHomeDataById(applyHomeId);
+        if (applyHomeDataOpt.isEmpty()) {
+            log.warn("ApplyHomeData를 찾을 수 없음 - ID: {}", applyHomeId);
+            return null;
+        }
+
+        List<String> s3PdfUrls = applyHomeDataOpt.get().getS3PdfUrls();
+        if (s3PdfUrls == null || s3PdfUrls.isEmpty()) {
+            log.warn("s3_pdf_urls가 비어있음 - ID: {}", applyHomeId);
+            return null;
+        }
+
+        // 첫 번째 PDF URL 사용
+        String pdfUrl = s3PdfUrls.get(0);
+        log.info("PDF URL 발견 - URL: {}, 사용자: {}", pdfUrl, userId);
+
+        // URL에서 object key 추출
+        String objectKey = extractObjectKeyFromUrl(pdfUrl);
+        if (objectKey == null) {
+            log.warn("URL에서 object key를 추출할 수 없음 - URL: {}", pdfUrl);
+        }
+        return objectKey;
+    }
+
+    /**
+     * presigned URL 응답 (redirect=true면 302 리다이렉트, 아니면 URL 반환)
+     */
+    private ResponseEntity<ApiResponse<PresignedUrlResponseDto>> presignedPdfResponse(String objectKey, boolean download,
+                                                                                    boolean redirect) {
+        S3PresignedUrlService.PresignedUrl presignedUrl = s3PresignedUrlService.getDownloadUrl(
+                objectKey, MediaType.APPLICATION_PDF_VALUE, download ? "attachment" : "inline");
+
+        if (redirect) {
+            // 만료되는 URL이므로 리다이렉트 응답은 캐시하지 않음
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(presignedUrl.url()))
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        PresignedUrlResponseDto result = PresignedUrlResponseDto.builder()
+                .url(presignedUrl.url())
+                .expiresAt(LocalDateTime.ofInstant(presignedUrl.expiresAt(), ZoneId.systemDefault()))
+                .build();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success("PDF 다운로드 URL을 발급했습니다.", result));
+    }
+
     /**
      * S3 URL에서 object key 추출
      */
@@ -357,9 +604,14 @@ public class S3StorageController {
     }
 
     /**
-     * JWT 토큰에서 사용자 ID 추출
+     * JWT 토큰에서 사용자 ID 추출 (인증 필터가 검증한 클레임이 있으면 재파싱 없이 사용)
      */
     private String extractUserIdFromToken(String authorization) {
+        Claims requestClaims = JwtUtil.getRequestClaims();
+        if (requestClaims != null) {
+            return requestClaims.getSubject();
+        }
+
         try {
             String jwtToken = authorization.replace("Bearer ", "");
             String userIdStr = jwtUtil.getUserIdFromToken(jwtToken);
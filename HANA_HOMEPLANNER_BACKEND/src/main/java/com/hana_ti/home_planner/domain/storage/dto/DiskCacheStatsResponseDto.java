@@ -0,0 +1,22 @@
+package com.hana_ti.home_planner.domain.storage.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DiskCacheStatsResponseDto {
+
+    private boolean enabled; // 디스크 캐시 사용 여부
+    private int entryCount; // 캐시된 객체 수
+    private long totalBytes; // 캐시 사용 용량 (bytes)
+    private long maxSizeBytes; // 최대 캐시 용량 (bytes)
+    private long hitCount; // 캐시 적중 수 (원본 조회 없이 디스크에서 응답)
+    private long missCount; // 캐시 미스 수 (진행 중인 저장에 합류한 요청 포함)
+    private long coalescedMissCount; // 진행 중인 저장에 합류한 미스 수 (원본 조회 없음)
+    private long backgroundFillCount; // Range 요청 미스로 시작한 백그라운드 저장 수
+    private double hitRatio; // 캐시 적중률 (0~1)
+    private long bytesServedFromCache; // 디스크에서 응답한 바이트 수 (원본 전송량 절감분)
+    private long fillFailureCount; // 캐시 저장 실패 수
+    private long evictionCount; // LRU 제거 수
+}
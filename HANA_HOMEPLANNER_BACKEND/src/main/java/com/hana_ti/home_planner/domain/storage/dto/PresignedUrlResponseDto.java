@@ -0,0 +1,14 @@
+package com.hana_ti.home_planner.domain.storage.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PresignedUrlResponseDto {
+
+    private String url; // S3 presigned GET URL
+    private LocalDateTime expiresAt; // URL 만료 시각
+}
@@ -0,0 +1,282 @@
+package com.hana_ti.home_planner.domain.storage.service;
+
+import com.hana_ti.home_planner.global.config.S3Properties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * S3 스트리밍 업로드
+ * 스트림을 고정 크기 파트로 나누어 읽고, 파트 하나 이하 크기면 단일 PutObject로,
+ * 그보다 크면 멀티파트 업로드로 파트를 병렬 전송 (파트별 재시도, 실패 시 업로드 중단 처리)
+ * 업로드 하나가 메모리에 보관하는 파트는 (동시 전송 수 + 읽는 중인 파트 1개)로 제한되어 파일 크기와 무관
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class S3MultipartUploader {
+
+    // S3 멀티파트 제약 (마지막 파트를 제외한 최소 파트 크기, 최대 파트 수)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_PART_COUNT = 10_000;
+
+    private final S3Client s3Client;
+    private final S3Properties s3Properties;
+
+    @Value("${storage.multipart.part-size-bytes:8388608}")
+    private int partSize;
+
+    @Value("${storage.multipart.concurrency:4}")
+    private int concurrency;
+
+    @Value("${storage.multipart.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${storage.multipart.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    private ExecutorService uploadExecutor;
+
+    @PostConstruct
+    public void init() {
+        partSize = Math.max(partSize, MIN_PART_SIZE);
+        concurrency = Math.max(concurrency, 1);
+        maxAttempts = Math.max(maxAttempts, 1);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        uploadExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("S3 멀티파트 업로드 초기화 완료 - 파트 크기: {}bytes, 동시 전송 수: {}, 최대 시도 횟수: {}",
+                partSize, concurrency, maxAttempts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdownNow();
+    }
+
+    /**
+     * 스트림을 S3에 업로드 (스트림은 호출 측에서 닫음)
+     *
+     * @param inputStream 업로드할 스트림 (크기를 미리 알 필요 없음)
+     * @param objectKey 저장할 객체 키
+     * @return 업로드 결과 (크기, ETag)
+     */
+    public UploadResult upload(InputStream inputStream, String objectKey) throws IOException {
+        byte[] firstPart = inputStream.readNBytes(partSize);
+        if (firstPart.length < partSize) {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(s3Properties.getBucketName())
+                    .key(objectKey)
+                    .build();
+            String eTag = s3Client.putObject(putObjectRequest, requestBody(firstPart)).eTag();
+            return new UploadResult(firstPart.length, eTag);
+        }
+        return multipartUpload(inputStream, objectKey, firstPart);
+    }
+
+    private UploadResult multipartUpload(InputStream inputStream, String objectKey, byte[] firstPart) throws IOException {
+        long startTime = System.currentTimeMillis();
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(s3Properties.getBucketName())
+                .key(objectKey)
+                .build();
+        String uploadId = s3Client.createMultipartUpload(createRequest).uploadId();
+        log.info("S3 멀티파트 업로드 시작 - 경로: {}, 업로드 ID: {}", objectKey, uploadId);
+
+        Semaphore inFlightParts = new Semaphore(concurrency);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        long totalBytes = 0;
+
+        try {
+            byte[] part = firstPart;
+            int partNumber = 1;
+            while (part.length > 0) {
+                if (partNumber > MAX_PART_COUNT) {
+                    throw new IOException("최대 파트 수(" + MAX_PART_COUNT + ")를 초과했습니다.");
+                }
+
+                // 전송 중인 파트 수가 한도에 도달하면 다음 파트를 읽기 전에 대기
+                inFlightParts.acquire();
+                if (failure.get() != null) {
+                    inFlightParts.release();
+                    break;
+                }
+
+                byte[] data = part;
+                int number = partNumber;
+                CompletableFuture<CompletedPart> future;
+                try {
+                    future = CompletableFuture.supplyAsync(
+                            () -> uploadPart(objectKey, uploadId, number, data, failure), uploadExecutor);
+                } catch (RuntimeException e) {
+                    inFlightParts.release();
+                    throw e;
+                }
+                future.whenComplete((completedPart, error) -> {
+                    if (error != null) {
+                        failure.compareAndSet(null, error);
+                    }
+                    inFlightParts.release();
+                });
+                futures.add(future);
+
+                totalBytes += data.length;
+                partNumber++;
+                part = inputStream.readNBytes(partSize);
+            }
+
+            awaitAll(futures);
+            if (failure.get() != null) {
+                throw unwrap(failure.get());
+            }
+
+            List<CompletedPart> completedParts = futures.stream().map(CompletableFuture::join).toList();
+            CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                    .bucket(s3Properties.getBucketName())
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build();
+            String eTag = s3Client.completeMultipartUpload(completeRequest).eTag();
+
+            log.info("S3 멀티파트 업로드 완료 - 경로: {}, 파트 수: {}개, 크기: {}bytes, 소요시간: {}ms",
+                    objectKey, completedParts.size(), totalBytes, System.currentTimeMillis() - startTime);
+            return new UploadResult(totalBytes, eTag);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+            abort(objectKey, uploadId, futures);
+            throw new IOException("업로드가 중단되었습니다.", e);
+        } catch (IOException | RuntimeException e) {
+            failure.compareAndSet(null, e);
+            abort(objectKey, uploadId, futures);
+            throw e;
+        }
+    }
+
+    /**
+     * 파트 업로드 (실패 시 최대 시도 횟수까지 재시도, 다른 파트가 실패했으면 전송하지 않음)
+     */
+    private CompletedPart uploadPart(String objectKey, String uploadId, int partNumber, byte[] data,
+                                     AtomicReference<Throwable> failure) {
+        for (int attempt = 1; ; attempt++) {
+            if (failure.get() != null) {
+                throw new CancellationException("다른 파트 업로드 실패로 전송을 중단합니다.");
+            }
+
+            try {
+                UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                        .bucket(s3Properties.getBucketName())
+                        .key(objectKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) data.length)
+                        .build();
+                UploadPartResponse response = s3Client.uploadPart(uploadPartRequest, requestBody(data));
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+            } catch (SdkException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("S3 파트 업로드 실패 - 경로: {}, 파트: {}, 시도: {}회, 오류: {}",
+                            objectKey, partNumber, attempt, e.getMessage());
+                    throw e;
+                }
+                log.warn("S3 파트 업로드 재시도 - 경로: {}, 파트: {}, 시도: {}회, 오류: {}",
+                        objectKey, partNumber, attempt, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMs * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("파트 업로드 재시도 대기 중 중단되었습니다.");
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송 중인 파트가 모두 끝난 뒤 멀티파트 업로드 중단 (중단 후 완료된 파트가 남지 않도록)
+     */
+    private void abort(String objectKey, String uploadId, List<CompletableFuture<CompletedPart>> futures) {
+        awaitAll(futures);
+        try {
+            AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
+                    .bucket(s3Properties.getBucketName())
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build();
+            s3Client.abortMultipartUpload(abortRequest);
+            log.warn("S3 멀티파트 업로드 중단 처리 완료 - 경로: {}, 업로드 ID: {}", objectKey, uploadId);
+        } catch (Exception e) {
+            log.error("S3 멀티파트 업로드 중단 처리 실패 - 경로: {}, 업로드 ID: {}, 오류: {}",
+                    objectKey, uploadId, e.getMessage());
+        }
+    }
+
+    private static void awaitAll(List<CompletableFuture<CompletedPart>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException | CancellationException e) {
+            // 개별 파트 실패는 failure에 기록되어 호출 측에서 처리
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new RuntimeException(cause.getMessage(), cause);
+    }
+
+    /**
+     * 바이트 배열을 복사하지 않는 요청 본문 (재시도 시 같은 배열에서 다시 읽음)
+     */
+    private static RequestBody requestBody(byte[] data) {
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(data), data.length, "application/octet-stream");
+    }
+
+    /**
+     * 업로드 결과
+     *
+     * @param size 업로드한 바이트 수
+     * @param eTag 저장된 객체 ETag
+     */
+    public record UploadResult(long size, String eTag) {
+    }
+}
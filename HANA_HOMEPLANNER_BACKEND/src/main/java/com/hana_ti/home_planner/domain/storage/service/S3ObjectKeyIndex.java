@@ -0,0 +1,282 @@
+package com.hana_ti.home_planner.domain.storage.service;
+
+import com.hana_ti.home_planner.global.config.S3Properties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * S3 객체 키 색인
+ * 버킷 전체 키를 페이지 단위 목록 조회로 적재하여 키 순 정렬 맵에 보관하고,
+ * 이 서버를 통한 업로드/삭제는 즉시 반영, 외부 변경은 주기적 재조회(대사)로 반영
+ * 폴더 목록은 접두사 구간 조회, PDF 경로명 조회는 파일명 색인 조회로 처리
+ * (PDF 경로명이 색인에 없으면 대사 전 외부 업로드일 수 있으므로 해당 접두사만 S3에서 조회 후 색인에 반영)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class S3ObjectKeyIndex {
+
+    private static final String PDF_FOLDER_PREFIX = "pdfs/";
+    private static final String PDF_EXTENSION = ".pdf";
+
+    private final S3Client s3Client;
+    private final S3Properties s3Properties;
+
+    private volatile Index index;
+
+    // 대사 중 발생한 업로드/삭제가 대사 결과에 덮어써지지 않도록 보관하는 최근 변경 (키 → 변경)
+    private final Map<String, Change> recentChanges = new ConcurrentHashMap<>();
+
+    // 변경 반영과 색인 교체를 직렬화 (목록 조회 동안은 잡지 않으므로 업로드/삭제가 대사를 기다리지 않음)
+    private final Object changeLock = new Object();
+
+    /**
+     * 접두사로 시작하는 객체 키 목록 (키 오름차순)
+     */
+    public List<String> listKeys(String prefix) {
+        return List.copyOf(getIndex().objects().subMap(prefix, true, prefix + Character.MAX_VALUE, true).keySet());
+    }
+
+    /**
+     * pdfs 폴더의 PDF 객체 키 목록 (키 오름차순)
+     */
+    public List<String> listPdfKeys() {
+        return listKeys(PDF_FOLDER_PREFIX).stream()
+                .filter(S3ObjectKeyIndex::isPdfKey)
+                .toList();
+    }
+
+    /**
+     * pdfs 폴더에서 확장자를 제외한 파일명이 일치하는 PDF 객체 키 (여러 개면 키 순 첫 번째)
+     * 색인에 없으면 pdfs/{파일명} 접두사로 S3를 직접 조회하고 찾은 객체를 색인에 반영
+     *
+     * @return 객체 키 (없으면 null)
+     */
+    public String findPdfKeyByName(String pathName) {
+        String objectKey = findIndexedPdfKeyByName(pathName);
+        if (objectKey != null) {
+            return objectKey;
+        }
+        // 크롤러 등 이 서버를 거치지 않은 업로드는 다음 대사 전까지 색인에 없음
+        return lookupPdfKeyByName(pathName);
+    }
+
+    private String findIndexedPdfKeyByName(String pathName) {
+        NavigableSet<String> keys = getIndex().pdfKeysByName().get(pathName);
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        try {
+            return keys.first();
+        } catch (NoSuchElementException e) {
+            // 조회 직후 삭제된 경우
+            return null;
+        }
+    }
+
+    /**
+     * 색인된 객체 정보 (없으면 null)
+     */
+    public IndexedObject get(String objectKey) {
+        return getIndex().objects().get(objectKey);
+    }
+
+    /**
+     * 업로드 완료 반영
+     */
+    public void recordUpload(String objectKey, String eTag, long size) {
+        IndexedObject object = new IndexedObject(objectKey, eTag, size, Instant.now());
+        recordChange(objectKey, object, current -> current.put(object));
+    }
+
+    /**
+     * 삭제 완료 반영
+     */
+    public void recordDelete(String objectKey) {
+        recordChange(objectKey, null, current -> current.remove(objectKey));
+    }
+
+    /**
+     * 외부 변경(다른 서버, 콘솔, 배치 업로드 등) 반영을 위한 주기적 전체 재조회
+     */
+    @Scheduled(fixedDelayString = "${storage.key-index.reconcile-interval-ms:600000}",
+            initialDelayString = "${storage.key-index.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("S3 객체 키 색인 대사 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 변경 기록 후 현재 색인에 반영
+     * 색인 교체와 같은 잠금 안에서 수행하므로 변경은 교체 전 기록되어 새 색인에 재반영되거나, 교체 후 새 색인에 직접 반영됨
+     */
+    private void recordChange(String objectKey, IndexedObject object, Consumer<Index> change) {
+        synchronized (changeLock) {
+            recentChanges.put(objectKey, new Change(object, System.currentTimeMillis()));
+            Index current = index;
+            if (current != null) {
+                change.accept(current);
+            }
+        }
+    }
+
+    /**
+     * pdfs/{파일명} 접두사 목록 조회로 PDF 객체 키 확인 후 색인에 반영
+     */
+    private String lookupPdfKeyByName(String pathName) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(s3Properties.getBucketName())
+                .prefix(PDF_FOLDER_PREFIX + pathName)
+                .build();
+
+        String found = null;
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(request)) {
+            for (S3Object s3Object : page.contents()) {
+                String objectKey = s3Object.key();
+                if (!isPdfKey(objectKey) || !baseName(objectKey).equals(pathName)) {
+                    continue;
+                }
+                IndexedObject object = new IndexedObject(objectKey, s3Object.eTag(), s3Object.size(), s3Object.lastModified());
+                recordChange(objectKey, object, current -> current.put(object));
+                if (found == null || objectKey.compareTo(found) < 0) {
+                    found = objectKey;
+                }
+            }
+        }
+
+        if (found != null) {
+            log.info("색인에 없는 PDF를 S3에서 찾아 색인에 반영 - 경로명: {}, 파일: {}", pathName, found);
+        }
+        return found;
+    }
+
+    private Index getIndex() {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    rebuild();
+                    current = index;
+                }
+            }
+        }
+        return current;
+    }
+
+    private synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(s3Properties.getBucketName())
+                .build();
+
+        // 연속 토큰을 따라 전체 페이지 조회
+        Index rebuilt = new Index();
+        int pageCount = 0;
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(request)) {
+            pageCount++;
+            for (S3Object s3Object : page.contents()) {
+                rebuilt.put(new IndexedObject(s3Object.key(), s3Object.eTag(), s3Object.size(), s3Object.lastModified()));
+            }
+        }
+
+        // 목록 조회 시작 이후의 업로드/삭제는 목록에 빠졌을 수 있으므로 다시 반영 후 교체
+        synchronized (changeLock) {
+            recentChanges.forEach((key, change) -> {
+                if (change.changedAt() >= startTime) {
+                    if (change.object() != null) {
+                        rebuilt.put(change.object());
+                    } else {
+                        rebuilt.remove(key);
+                    }
+                }
+            });
+            recentChanges.values().removeIf(change -> change.changedAt() < startTime);
+
+            index = rebuilt;
+        }
+
+        log.info("S3 객체 키 색인 생성 완료 - 객체 수: {}개, 페이지 수: {}, 소요시간: {}ms",
+                rebuilt.objects().size(), pageCount, System.currentTimeMillis() - startTime);
+    }
+
+    private static boolean isPdfKey(String objectKey) {
+        return objectKey.startsWith(PDF_FOLDER_PREFIX) && objectKey.toLowerCase(Locale.ROOT).endsWith(PDF_EXTENSION);
+    }
+
+    /**
+     * 객체 키에서 확장자를 제외한 파일명 추출
+     */
+    private static String baseName(String objectKey) {
+        String fileName = objectKey.substring(objectKey.lastIndexOf('/') + 1);
+        int lastDotIndex = fileName.lastIndexOf('.');
+        return lastDotIndex > 0 ? fileName.substring(0, lastDotIndex) : fileName;
+    }
+
+    /**
+     * 색인된 객체 정보
+     *
+     * @param key 객체 키
+     * @param eTag 객체 ETag
+     * @param size 객체 크기 (bytes)
+     * @param lastModified 최종 수정 시각
+     */
+    public record IndexedObject(String key, String eTag, long size, Instant lastModified) {
+    }
+
+    private record Change(IndexedObject object, long changedAt) {
+    }
+
+    /**
+     * 키 순 정렬 객체 맵 + PDF 파일명 색인 (업로드/삭제 반영을 위해 동시 수정 가능한 구조 사용)
+     */
+    private record Index(ConcurrentSkipListMap<String, IndexedObject> objects,
+                         ConcurrentHashMap<String, ConcurrentSkipListSet<String>> pdfKeysByName) {
+
+        Index() {
+            this(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+        }
+
+        void put(IndexedObject object) {
+            objects.put(object.key(), object);
+            if (isPdfKey(object.key())) {
+                pdfKeysByName.compute(baseName(object.key()), (name, keys) -> {
+                    ConcurrentSkipListSet<String> updated = keys != null ? keys : new ConcurrentSkipListSet<>();
+                    updated.add(object.key());
+                    return updated;
+                });
+            }
+        }
+
+        void remove(String objectKey) {
+            objects.remove(objectKey);
+            if (isPdfKey(objectKey)) {
+                pdfKeysByName.computeIfPresent(baseName(objectKey), (name, keys) -> {
+                    keys.remove(objectKey);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.hana_ti.home_planner.domain.storage.service;
+
+import com.hana_ti.home_planner.global.config.S3Properties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * S3 presigned GET URL 발급
+ * 다운로드 트래픽이 애플리케이션을 거치지 않도록 짧은 유효기간의 URL을 발급하고,
+ * 같은 객체/응답 형식 요청에는 만료 직전까지 같은 URL을 재사용 (브라우저/CDN 캐시 적중률 유지)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class S3PresignedUrlService {
+
+    private final S3Presigner s3Presigner;
+    private final S3Properties s3Properties;
+
+    @Value("${storage.presigned-url.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${storage.presigned-url.refresh-margin-seconds:120}")
+    private long refreshMarginSeconds;
+
+    // (응답 형식, 객체 키) → 발급된 URL
+    private final Map<String, PresignedUrl> urlCache = new ConcurrentHashMap<>();
+
+    /**
+     * 다운로드 URL 조회 (캐시된 URL의 남은 유효기간이 갱신 여유 시간 이하면 새로 발급)
+     *
+     * @param objectKey 객체 키
+     * @param contentType 응답 Content-Type
+     * @param dispositionType 응답 Content-Disposition 유형 (inline / attachment)
+     */
+    public PresignedUrl getDownloadUrl(String objectKey, String contentType, String dispositionType) {
+        String cacheKey = dispositionType + "\n" + contentType + "\n" + objectKey;
+        Instant refreshBefore = Instant.now().plusSeconds(refreshMarginSeconds);
+
+        PresignedUrl cached = urlCache.get(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(refreshBefore)) {
+            return cached;
+        }
+
+        return urlCache.compute(cacheKey, (key, current) ->
+                current != null && current.expiresAt().isAfter(refreshBefore)
+                        ? current
+                        : presign(objectKey, contentType, dispositionType));
+    }
+
+    /**
+     * 만료된 URL 정리
+     */
+    @Scheduled(fixedDelayString = "${storage.presigned-url.cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        urlCache.values().removeIf(url -> !url.expiresAt().isAfter(now));
+    }
+
+    private PresignedUrl presign(String objectKey, String contentType, String dispositionType) {
+        String fileName = objectKey.substring(objectKey.lastIndexOf('/') + 1);
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(s3Properties.getBucketName())
+                .key(objectKey)
+                .responseContentType(contentType)
+                .responseContentDisposition(ContentDisposition.builder(dispositionType)
+                        .filename(fileName, StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(ttlSeconds))
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignRequest);
+        log.info("S3 presigned URL 발급 - 경로: {}, 유형: {}, 만료: {}", objectKey, dispositionType, presigned.expiration());
+        return new PresignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+
+    /**
+     * 발급된 presigned URL
+     *
+     * @param url presigned GET URL
+     * @param expiresAt 만료 시각
+     */
+    public record PresignedUrl(String url, Instant expiresAt) {
+    }
+}
@@ -14,16 +14,17 @@ import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class S3StorageService {
+public class S3StorageService implements StorageObjectOrigin {
 
     private final S3Client s3Client;
     private final S3Properties s3Properties;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final S3ObjectKeyIndex s3ObjectKeyIndex;
 
     /**
      * 로컬 파일을 S3에 업로드
@@ -39,7 +40,8 @@ public class S3StorageService {
                     .key(objectKey)
                     .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromFile(localFile));
+            PutObjectResponse response = s3Client.putObject(putObjectRequest, RequestBody.fromFile(localFile));
+            s3ObjectKeyIndex.recordUpload(objectKey, response.eTag(), localFile.length());
 
             log.info("S3 파일 업로드 완료 - 경로: {}", objectKey);
             return objectKey;
@@ -50,7 +52,7 @@ public class S3StorageService {
     }
 
     /**
-     * InputStream을 S3에 업로드
+     * InputStream을 S3에 업로드 (크기를 미리 알 필요 없이 파트 단위로 스트리밍 업로드)
      */
     public String uploadFile(InputStream inputStream, String fileName, String folderPath) {
         try {
@@ -58,14 +60,10 @@ public class S3StorageService {
             
             log.info("S3 파일 업로드 시작 - 파일명: {}, S3경로: {}", fileName, objectKey);
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(s3Properties.getBucketName())
-                    .key(objectKey)
-                    .build();
+            S3MultipartUploader.UploadResult result = s3MultipartUploader.upload(inputStream, objectKey);
+            s3ObjectKeyIndex.recordUpload(objectKey, result.eTag(), result.size());
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, inputStream.available()));
-
-            log.info("S3 파일 업로드 완료 - 경로: {}", objectKey);
+            log.info("S3 파일 업로드 완료 - 경로: {}, 크기: {}bytes", objectKey, result.size());
             return objectKey;
         } catch (Exception e) {
             log.error("S3 파일 업로드 실패 - 파일명: {}, 오류: {}", fileName, e.getMessage());
@@ -95,6 +93,54 @@ public class S3StorageService {
         }
     }
 
+    /**
+     * S3 객체 메타데이터 조회 (본문 없이 크기, ETag, 수정 시각만 조회)
+     */
+    @Override
+    public ObjectMetadata getObjectMetadata(String objectKey) {
+        try {
+            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                    .bucket(s3Properties.getBucketName())
+                    .key(objectKey)
+                    .build();
+
+            HeadObjectResponse response = s3Client.headObject(headObjectRequest);
+            return new ObjectMetadata(response.contentLength(), response.eTag(), response.lastModified());
+        } catch (Exception e) {
+            log.error("S3 파일 메타데이터 조회 실패 - 경로: {}, 오류: {}", objectKey, e.getMessage());
+            throw new RuntimeException("파일 정보 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * S3 객체 스트림 열기
+     * 메타데이터 조회 후 객체가 교체된 경우 다른 내용이 섞이지 않도록 ETag 일치 조건으로 조회
+     *
+     * @param objectKey 객체 키
+     * @param eTag 기대 ETag (null이면 조건 없음)
+     * @param start 시작 바이트 위치 (null이면 전체 조회)
+     * @param end 끝 바이트 위치 (포함)
+     */
+    @Override
+    public ResponseInputStream<GetObjectResponse> openObjectStream(String objectKey, String eTag, Long start, Long end) {
+        try {
+            GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
+                    .bucket(s3Properties.getBucketName())
+                    .key(objectKey);
+            if (eTag != null) {
+                requestBuilder.ifMatch(eTag);
+            }
+            if (start != null) {
+                requestBuilder.range("bytes=" + start + "-" + end);
+            }
+
+            return s3Client.getObject(requestBuilder.build());
+        } catch (Exception e) {
+            log.error("S3 파일 스트림 조회 실패 - 경로: {}, 구간: {}-{}, 오류: {}", objectKey, start, end, e.getMessage());
+            throw new RuntimeException("파일 다운로드에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * S3에서 파일 삭제
      */
@@ -108,6 +154,7 @@ public class S3StorageService {
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            s3ObjectKeyIndex.recordDelete(objectKey);
             
             log.info("S3 파일 삭제 완료 - 경로: {}", objectKey);
         } catch (Exception e) {
@@ -117,22 +164,13 @@ public class S3StorageService {
     }
 
     /**
-     * 폴더 내 파일 목록 조회
+     * 폴더 내 파일 목록 조회 (객체 키 색인에서 접두사 구간 조회)
      */
     public List<String> listFiles(String folderPath) {
         try {
             log.info("S3 폴더 파일 목록 조회 - 폴더: {}", folderPath);
 
-            ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
-                    .bucket(s3Properties.getBucketName())
-                    .prefix(folderPath + "/")
-                    .build();
-
-            ListObjectsV2Response response = s3Client.listObjectsV2(listObjectsRequest);
-            
-            List<String> fileKeys = response.contents().stream()
-                    .map(S3Object::key)
-                    .toList();
+            List<String> fileKeys = s3ObjectKeyIndex.listKeys(folderPath + "/");
 
             log.info("S3 폴더 파일 목록 조회 완료 - 파일 수: {}", fileKeys.size());
             return fileKeys;
@@ -163,35 +201,20 @@ public class S3StorageService {
     }
 
     /**
-     * pdfs 폴더에서 경로명으로 PDF 파일 찾기
+     * pdfs 폴더에서 경로명으로 PDF 파일 찾기 (객체 키 색인의 파일명 색인 조회, 색인에 없으면 S3 접두사 조회)
      */
     public String findPdfFileByPath(String pathName) {
         try {
             log.info("pdfs 폴더에서 PDF 파일 검색 - 경로명: {}", pathName);
 
-            ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
-                    .bucket(s3Properties.getBucketName())
-                    .prefix("pdfs/")
-                    .build();
-
-            ListObjectsV2Response response = s3Client.listObjectsV2(listObjectsRequest);
-            
-            // 경로명과 일치하는 PDF 파일 찾기
-            for (S3Object s3Object : response.contents()) {
-                String objectKey = s3Object.key();
-                String fileName = getFileNameFromObjectKey(objectKey);
-                
-                // 파일명에서 확장자 제거하고 경로명과 비교
-                String fileNameWithoutExt = getFileNameWithoutExtension(fileName);
-                
-                if (fileNameWithoutExt.equals(pathName) && fileName.toLowerCase().endsWith(".pdf")) {
-                    log.info("PDF 파일 발견 - 경로명: {}, 파일: {}", pathName, objectKey);
-                    return objectKey;
-                }
+            String objectKey = s3ObjectKeyIndex.findPdfKeyByName(pathName);
+            if (objectKey == null) {
+                log.warn("PDF 파일을 찾을 수 없음 - 경로명: {}", pathName);
+                return null;
             }
-            
-            log.warn("PDF 파일을 찾을 수 없음 - 경로명: {}", pathName);
-            return null;
+
+            log.info("PDF 파일 발견 - 경로명: {}, 파일: {}", pathName, objectKey);
+            return objectKey;
         } catch (Exception e) {
             log.error("PDF 파일 검색 실패 - 경로명: {}, 오류: {}", pathName, e.getMessage());
             throw new RuntimeException("PDF 파일 검색에 실패했습니다: " + e.getMessage());
@@ -199,23 +222,13 @@ public class S3StorageService {
     }
 
     /**
-     * pdfs 폴더에서 모든 PDF 파일 목록 조회
+     * pdfs 폴더에서 모든 PDF 파일 목록 조회 (객체 키 색인 조회)
      */
     public List<String> getAllPdfFiles() {
         try {
             log.info("pdfs 폴더에서 모든 PDF 파일 목록 조회");
 
-            ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
-                    .bucket(s3Properties.getBucketName())
-                    .prefix("pdfs/")
-                    .build();
-
-            ListObjectsV2Response response = s3Client.listObjectsV2(listObjectsRequest);
-            
-            List<String> pdfFiles = response.contents().stream()
-                    .map(S3Object::key)
-                    .filter(key -> key.toLowerCase().endsWith(".pdf"))
-                    .collect(Collectors.toList());
+            List<String> pdfFiles = s3ObjectKeyIndex.listPdfKeys();
             
             log.info("PDF 파일 목록 조회 완료 - 파일 수: {}", pdfFiles.size());
             return pdfFiles;
@@ -263,20 +276,4 @@ public class S3StorageService {
         int lastDotIndex = fileName.lastIndexOf('.');
         return lastDotIndex > 0 ? fileName.substring(0, lastDotIndex) : fileName;
     }
-
-    /**
-     * 객체 키에서 파일명 추출
-     */
-    private String getFileNameFromObjectKey(String objectKey) {
-        if (objectKey == null || objectKey.isEmpty()) {
-            return "unknown";
-        }
-        
-        int lastSlashIndex = objectKey.lastIndexOf('/');
-        if (lastSlashIndex == -1) {
-            return objectKey;
-        }
-        
-        return objectKey.substring(lastSlashIndex + 1);
-    }
 }
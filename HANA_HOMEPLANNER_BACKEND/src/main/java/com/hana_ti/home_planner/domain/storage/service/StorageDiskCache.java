@@ -0,0 +1,352 @@
+package com.hana_ti.home_planner.domain.storage.service;
+
+import com.hana_ti.home_planner.domain.storage.dto.DiskCacheStatsResponseDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장소 객체 로컬 디스크 캐시
+ * 객체 키 단위로 원본 파일을 디스크에 보관하고 ETag가 같을 때만 재사용 (용량 초과 시 LRU 제거)
+ * 임시 파일에 내려받은 뒤 이름 변경으로 반영하므로 저장 중인 파일이 응답에 사용되지 않으며,
+ * 같은 객체에 대한 동시 미스는 하나의 다운로드만 수행하고 나머지는 완료를 대기
+ * 전체 조회는 미스 시 내려받은 뒤 응답하고, Range 조회는 미스 시 백그라운드로 저장하며 원본에서 바로 응답
+ * 캐시 색인은 메모리에만 있으므로 시작 시 이전 실행의 캐시 파일은 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StorageDiskCache {
+
+    private static final String CACHE_FILE_SUFFIX = ".bin";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final StorageObjectOrigin storageObjectOrigin;
+
+    @Value("${storage.disk-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${storage.disk-cache.directory:${java.io.tmpdir}/home-planner/storage-cache}")
+    private String directory;
+
+    @Value("${storage.disk-cache.max-size-bytes:2147483648}")
+    private long maxSizeBytes;
+
+    @Value("${storage.disk-cache.max-object-size-bytes:268435456}")
+    private long maxObjectSizeBytes;
+
+    @Value("${storage.disk-cache.background-fill-threads:2}")
+    private int backgroundFillThreads;
+
+    @Value("${storage.disk-cache.background-fill-queue-size:16}")
+    private int backgroundFillQueueSize;
+
+    // 접근 순서 정렬 (가장 오래 사용되지 않은 항목이 앞), this로 동기화
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<CacheEntry>> inFlightFills = new ConcurrentHashMap<>();
+    private long totalBytes;
+    private Path cacheDirectory;
+    private ThreadPoolExecutor backgroundFillExecutor;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong coalescedMissCount = new AtomicLong();
+    private final AtomicLong backgroundFillCount = new AtomicLong();
+    private final AtomicLong bytesServedFromCache = new AtomicLong();
+    private final AtomicLong fillFailureCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("저장소 디스크 캐시 비활성화");
+            return;
+        }
+
+        try {
+            cacheDirectory = Files.createDirectories(Paths.get(directory));
+            int deleted = 0;
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDirectory, "*{" + CACHE_FILE_SUFFIX + "," + TEMP_FILE_SUFFIX + "}")) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+            log.info("저장소 디스크 캐시 초기화 완료 - 경로: {}, 최대 용량: {}bytes, 이전 캐시 파일 삭제: {}개",
+                    cacheDirectory, maxSizeBytes, deleted);
+        } catch (IOException e) {
+            enabled = false;
+            log.warn("저장소 디스크 캐시 디렉터리를 사용할 수 없어 캐시를 비활성화합니다 - 경로: {}, 오류: {}", directory, e.getMessage());
+            return;
+        }
+
+        // 대기열이 가득 차면 백그라운드 저장을 건너뜀 (다음 요청에서 다시 시도)
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(backgroundFillThreads, 1);
+        backgroundFillExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(backgroundFillQueueSize, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "storage-cache-fill-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (backgroundFillExecutor != null) {
+            backgroundFillExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 캐시 파일 조회 (없거나 ETag가 다르면 원본에서 내려받아 저장 후 반환, 전체 조회용)
+     *
+     * @param objectKey 객체 키
+     * @param metadata 원본 객체 메타데이터 (ETag 검증 기준)
+     * @return 캐시 파일 경로 (캐시 비활성화, 객체 크기 초과, 저장 실패 시 null → 원본에서 직접 응답)
+     */
+    public Path getOrFill(String objectKey, StorageObjectOrigin.ObjectMetadata metadata) {
+        if (!isCacheable(metadata)) {
+            return null;
+        }
+
+        CacheEntry cached = lookup(objectKey, metadata.eTag());
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached.path();
+        }
+
+        missCount.incrementAndGet();
+        CompletableFuture<CacheEntry> fill = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> inFlight = inFlightFills.putIfAbsent(fillKey(objectKey, metadata), fill);
+        if (inFlight != null) {
+            // 다른 요청이 같은 객체를 내려받는 중이면 완료를 대기 (원본 조회 없음, 적중이 아닌 합류한 미스로 집계)
+            coalescedMissCount.incrementAndGet();
+            try {
+                return inFlight.join().path();
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        CacheEntry entry = runFill(objectKey, metadata, fill);
+        return entry != null ? entry.path() : null;
+    }
+
+    /**
+     * 캐시 파일 조회 (Range 조회용, 미스 시 응답을 기다리게 하지 않고 백그라운드로 저장)
+     *
+     * @param objectKey 객체 키
+     * @param metadata 원본 객체 메타데이터 (ETag 검증 기준)
+     * @return 캐시 파일 경로 (캐시되어 있지 않으면 null → 원본에서 해당 구간만 응답)
+     */
+    public Path getOrFillInBackground(String objectKey, StorageObjectOrigin.ObjectMetadata metadata) {
+        if (!isCacheable(metadata)) {
+            return null;
+        }
+
+        CacheEntry cached = lookup(objectKey, metadata.eTag());
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached.path();
+        }
+
+        missCount.incrementAndGet();
+        String fillKey = fillKey(objectKey, metadata);
+        CompletableFuture<CacheEntry> fill = new CompletableFuture<>();
+        if (inFlightFills.putIfAbsent(fillKey, fill) != null) {
+            // 이미 저장 중이면 중복 저장하지 않음
+            coalescedMissCount.incrementAndGet();
+            return null;
+        }
+
+        try {
+            backgroundFillExecutor.execute(() -> runFill(objectKey, metadata, fill));
+            backgroundFillCount.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            inFlightFills.remove(fillKey, fill);
+            fill.completeExceptionally(e);
+            log.debug("저장소 디스크 캐시 백그라운드 저장 대기열 초과로 건너뜀 - 경로: {}", objectKey);
+        }
+        return null;
+    }
+
+    /**
+     * 캐시 파일로 응답한 바이트 수 기록
+     */
+    public void recordBytesServed(long bytes) {
+        bytesServedFromCache.addAndGet(bytes);
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public DiskCacheStatsResponseDto getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        int entryCount;
+        long usedBytes;
+        synchronized (this) {
+            entryCount = entries.size();
+            usedBytes = totalBytes;
+        }
+
+        return DiskCacheStatsResponseDto.builder()
+                .enabled(enabled)
+                .entryCount(entryCount)
+                .totalBytes(usedBytes)
+                .maxSizeBytes(maxSizeBytes)
+                .hitCount(hits)
+                .missCount(misses)
+                .coalescedMissCount(coalescedMissCount.get())
+                .backgroundFillCount(backgroundFillCount.get())
+                .hitRatio(hits + misses > 0 ? (double) hits / (hits + misses) : 0.0)
+                .bytesServedFromCache(bytesServedFromCache.get())
+                .fillFailureCount(fillFailureCount.get())
+                .evictionCount(evictionCount.get())
+                .build();
+    }
+
+    private boolean isCacheable(StorageObjectOrigin.ObjectMetadata metadata) {
+        return enabled && metadata.eTag() != null && metadata.contentLength() <= maxObjectSizeBytes;
+    }
+
+    private static String fillKey(String objectKey, StorageObjectOrigin.ObjectMetadata metadata) {
+        return objectKey + "\n" + metadata.eTag();
+    }
+
+    /**
+     * 원본에서 내려받아 저장하고 대기 중인 요청에 결과 전달
+     *
+     * @return 캐시 항목 (저장 실패 시 null)
+     */
+    private CacheEntry runFill(String objectKey, StorageObjectOrigin.ObjectMetadata metadata,
+                               CompletableFuture<CacheEntry> fill) {
+        try {
+            CacheEntry entry = fill(objectKey, metadata);
+            fill.complete(entry);
+            return entry;
+        } catch (Exception e) {
+            fillFailureCount.incrementAndGet();
+            fill.completeExceptionally(e);
+            log.warn("저장소 디스크 캐시 저장 실패 - 경로: {}, 오류: {}", objectKey, e.getMessage());
+            return null;
+        } finally {
+            inFlightFills.remove(fillKey(objectKey, metadata), fill);
+        }
+    }
+
+    private synchronized CacheEntry lookup(String objectKey, String eTag) {
+        CacheEntry entry = entries.get(objectKey);
+        return entry != null && entry.eTag().equals(eTag) ? entry : null;
+    }
+
+    /**
+     * 원본을 임시 파일로 내려받은 뒤 캐시 파일로 이름 변경 (ETag별 파일명이므로 이전 버전을 읽는 응답과 충돌하지 않음)
+     */
+    private CacheEntry fill(String objectKey, StorageObjectOrigin.ObjectMetadata metadata) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Path tempFile = Files.createTempFile(cacheDirectory, "fill-", TEMP_FILE_SUFFIX);
+        try {
+            try (InputStream inputStream = storageObjectOrigin.openObjectStream(objectKey, metadata.eTag(), null, null)) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            long size = Files.size(tempFile);
+            if (size != metadata.contentLength()) {
+                throw new IOException("내려받은 크기가 원본과 다릅니다 (" + size + " / " + metadata.contentLength() + ")");
+            }
+
+            Path cacheFile = cacheDirectory.resolve(hash(objectKey) + "-" + hash(metadata.eTag()).substring(0, 16) + CACHE_FILE_SUFFIX);
+            Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            CacheEntry entry = new CacheEntry(cacheFile, metadata.eTag(), size);
+            register(objectKey, entry);
+
+            log.info("저장소 디스크 캐시 저장 완료 - 경로: {}, 크기: {}bytes, 소요시간: {}ms",
+                    objectKey, size, System.currentTimeMillis() - startTime);
+            return entry;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 캐시 항목 등록 후 최대 용량을 넘으면 오래 사용되지 않은 항목부터 제거
+     * 제거된 파일을 이미 열어 응답 중인 요청은 열린 파일로 계속 응답 가능
+     */
+    private void register(String objectKey, CacheEntry entry) {
+        List<Path> obsoleteFiles = new ArrayList<>();
+        synchronized (this) {
+            CacheEntry previous = entries.put(objectKey, entry);
+            if (previous != null) {
+                totalBytes -= previous.size();
+                if (!previous.path().equals(entry.path())) {
+                    obsoleteFiles.add(previous.path());
+                }
+            }
+            totalBytes += entry.size();
+
+            Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+            while (totalBytes > maxSizeBytes && iterator.hasNext()) {
+                Map.Entry<String, CacheEntry> eldest = iterator.next();
+                if (eldest.getKey().equals(objectKey)) {
+                    continue;
+                }
+                iterator.remove();
+                totalBytes -= eldest.getValue().size();
+                obsoleteFiles.add(eldest.getValue().path());
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        for (Path file : obsoleteFiles) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("저장소 디스크 캐시 파일 삭제 실패 - 파일: {}, 오류: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record CacheEntry(Path path, String eTag, long size) {
+    }
+}
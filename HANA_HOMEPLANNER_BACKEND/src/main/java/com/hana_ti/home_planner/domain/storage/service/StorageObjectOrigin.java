@@ -0,0 +1,35 @@
+package com.hana_ti.home_planner.domain.storage.service;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * 디스크 캐시가 내려받을 원본 저장소 (운영은 S3, 테스트 시 로컬 파일시스템 등으로 대체 가능)
+ */
+public interface StorageObjectOrigin {
+
+    /**
+     * 객체 메타데이터 조회 (크기, ETag, 수정 시각)
+     */
+    ObjectMetadata getObjectMetadata(String objectKey);
+
+    /**
+     * 객체 스트림 열기
+     *
+     * @param objectKey 객체 키
+     * @param eTag 기대 ETag (null이면 조건 없음)
+     * @param start 시작 바이트 위치 (null이면 전체 조회)
+     * @param end 끝 바이트 위치 (포함)
+     */
+    InputStream openObjectStream(String objectKey, String eTag, Long start, Long end);
+
+    /**
+     * 원본 객체 메타데이터
+     *
+     * @param contentLength 객체 크기 (bytes)
+     * @param eTag 객체 ETag (따옴표 포함)
+     * @param lastModified 최종 수정 시각
+     */
+    record ObjectMetadata(long contentLength, String eTag, Instant lastModified) {
+    }
+}
@@ -1,12 +1,14 @@
 package com.hana_ti.home_planner.domain.user.dto;
 
 import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeData;
+import com.hana_ti.home_planner.domain.house.dto.SimilarHouseResponseDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -22,4 +24,7 @@ public class HouseLikeResponseDto {
     
     // 주택 상세 정보 (MongoDB ApplyHomeData 사용)
     private ApplyHomeData houseInfo;
+
+    // 찜한 주택과 유사한 주택 (찜하기 응답에만 포함)
+    private List<SimilarHouseResponseDto> similarHouses;
 }
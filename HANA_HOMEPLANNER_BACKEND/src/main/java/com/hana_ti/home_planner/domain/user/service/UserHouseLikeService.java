@@ -2,17 +2,26 @@ package com.hana_ti.home_planner.domain.user.service;
 
 import com.hana_ti.home_planner.domain.applyhome.model.ApplyHomeData;
 import com.hana_ti.home_planner.domain.applyhome.service.ApplyHomeService;
+import com.hana_ti.home_planner.domain.house.dto.SimilarHouseResponseDto;
+import com.hana_ti.home_planner.domain.house.service.HouseSimilarityService;
 import com.hana_ti.home_planner.domain.user.dto.HouseLikeRequestDto;
 import com.hana_ti.home_planner.domain.user.dto.HouseLikeResponseDto;
 import com.hana_ti.home_planner.domain.user.entity.UserHouseLike;
 import com.hana_ti.home_planner.domain.user.repository.UserHouseLikeRepository;
 import com.hana_ti.home_planner.global.exception.ResourceNotFoundException;
+import com.hana_ti.home_planner.global.util.LruCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +32,25 @@ public class UserHouseLikeService {
     
     private final UserHouseLikeRepository userHouseLikeRepository;
     private final ApplyHomeService applyHomeService;
+    private final HouseSimilarityService houseSimilarityService;
+
+    // 찜하기 응답에 포함할 유사 주택 수
+    private static final int SIMILAR_HOUSE_COUNT = 5;
+
+    // 찜 목록에 표시하는 주택 정보 필드 (MongoDB 필드명)
+    private static final String[] HOUSE_INFO_FIELDS = {
+            "HOUSE_NM", "HOUSE_SECD_NM", "HOUSE_DTL_SECD_NM", "RENT_SECD_NM", "HSSPLY_ADRES",
+            "TOT_SUPLY_HSHLDCO", "CNTRCT_CNCLS_BGNDE", "CNTRCT_CNCLS_ENDDE", "MVN_PREARNGE_YM",
+            "RCRIT_PBLANC_DE", "RCEPT_BGNDE", "RCEPT_ENDDE", "PRZWNER_PRESNATN_DE",
+            "PBLANC_NO", "PBLANC_URL", "HMPG_ADRES", "x", "y"
+    };
+
+    // 최근 조회한 주택 정보 캐시 (주택관리번호 기준 LRU)
+    private static final int HOUSE_INFO_CACHE_SIZE = 1000;
+    private static final long HOUSE_INFO_CACHE_TTL_MS = 10 * 60 * 1000L;
+
+    private final Map<String, CachedHouseInfo> houseInfoCache =
+            Collections.synchronizedMap(new LruCache<>(HOUSE_INFO_CACHE_SIZE));
     
     /**
      * 주택 찜하기
@@ -53,6 +81,7 @@ public class UserHouseLikeService {
                 .houseManageNo(savedLike.getHouseManageNo())
                 .likedAt(savedLike.getLikedAt())
                 .isLiked(true)
+                .similarHouses(findSimilarHouses(request.getHouseManageNo()))
                 .build();
     }
     
@@ -76,51 +105,89 @@ public class UserHouseLikeService {
     
     /**
      * 사용자의 찜한 주택 목록 조회
+     * 찜 목록 1회 + 캐시에 없는 주택 정보 일괄 조회 1회로 찜한 주택 수와 무관하게 조회 횟수 일정
      */
     @Transactional(readOnly = true)
     public List<HouseLikeResponseDto> getUserHouseLikes(String userId) {
         log.info("사용자 찜한 주택 목록 조회 - 사용자: {}", userId);
         
         List<UserHouseLike> likes = userHouseLikeRepository.findByUserIdOrderByLikedAtDesc(userId);
+
+        // 주택 상세 정보 조회 (MongoDB ApplyHomeData 사용)
+        Map<String, ApplyHomeData> houseInfos = getHouseInfosByManageNos(likes.stream()
+                .map(UserHouseLike::getHouseManageNo)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
         
         return likes.stream()
-                .map(like -> {
-                    // 주택 상세 정보 조회 (MongoDB ApplyHomeData 사용)
-                    ApplyHomeData houseInfo = getHouseInfoByManageNo(like.getHouseManageNo());
-                    
-                    return HouseLikeResponseDto.builder()
-                            .likeId(like.getLikeId())
-                            .userId(like.getUserId())
-                            .houseManageNo(like.getHouseManageNo())
-                            .likedAt(like.getLikedAt())
-                            .isLiked(true)
-                            .houseInfo(houseInfo)
-                            .build();
-                })
+                .map(like -> HouseLikeResponseDto.builder()
+                        .likeId(like.getLikeId())
+                        .userId(like.getUserId())
+                        .houseManageNo(like.getHouseManageNo())
+                        .likedAt(like.getLikedAt())
+                        .isLiked(true)
+                        .houseInfo(houseInfos.get(like.getHouseManageNo()))
+                        .build())
                 .collect(Collectors.toList());
     }
     
     /**
-     * 주택관리번호로 주택 정보 조회 (MongoDB ApplyHomeData 사용)
+     * 찜한 주택과 유사한 주택 조회 (조회 실패 시 찜하기는 유지하고 빈 목록 반환)
      */
-    private ApplyHomeData getHouseInfoByManageNo(String houseManageNo) {
+    private List<SimilarHouseResponseDto> findSimilarHouses(String houseManageNo) {
         try {
-            log.info("MongoDB에서 주택 정보 조회 - 주택관리번호: {}", houseManageNo);
-            
-            List<ApplyHomeData> houseInfoList = applyHomeService.getApplyHomeDataByHouseManageNo(houseManageNo);
-            
-            if (!houseInfoList.isEmpty()) {
-                ApplyHomeData houseInfo = houseInfoList.get(0); // 첫 번째 결과 반환
-                log.info("주택 정보 조회 성공 - 주택명: {}, 주택관리번호: {}", 
-                        houseInfo.getHouseName(), houseInfo.getHouseManageNo());
-                return houseInfo;
+            return houseSimilarityService.findSimilarHouses(Long.valueOf(houseManageNo.trim()), SIMILAR_HOUSE_COUNT);
+        } catch (Exception e) {
+            log.warn("유사 주택 조회 실패 - 주택관리번호: {}, 사유: {}", houseManageNo, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 주택관리번호별 주택 정보 조회 (최근 조회 캐시 우선, 나머지는 MongoDB 일괄 조회)
+     * 조회 실패 시 찜 목록은 주택 정보 없이 반환
+     */
+    private Map<String, ApplyHomeData> getHouseInfosByManageNos(Set<String> houseManageNos) {
+        Map<String, ApplyHomeData> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (String houseManageNo : houseManageNos) {
+            CachedHouseInfo cached = houseInfoCache.get(houseManageNo);
+            if (cached != null && now - cached.loadedAt() < HOUSE_INFO_CACHE_TTL_MS) {
+                if (cached.houseInfo() != null) {
+                    result.put(houseManageNo, cached.houseInfo());
+                }
             } else {
-                log.warn("주택 정보를 찾을 수 없음 - 주택관리번호: {}", houseManageNo);
+                misses.add(houseManageNo);
             }
-        } catch (Exception e) {
-            log.error("주택 정보 조회 중 오류 발생 - 주택관리번호: {}", houseManageNo, e);
         }
-        
-        return null; // 주택 정보를 찾을 수 없는 경우
+
+        if (!misses.isEmpty()) {
+            try {
+                Map<String, ApplyHomeData> loaded = applyHomeService.getApplyHomeDataByHouseManageNos(misses, HOUSE_INFO_FIELDS);
+                for (String houseManageNo : misses) {
+                    ApplyHomeData houseInfo = loaded.get(houseManageNo);
+                    if (houseInfo != null) {
+                        result.put(houseManageNo, houseInfo);
+                    } else {
+                        log.warn("주택 정보를 찾을 수 없음 - 주택관리번호: {}", houseManageNo);
+                    }
+                    // 정보가 없는 주택도 캐시하여 반복 조회 방지
+                    houseInfoCache.put(houseManageNo, new CachedHouseInfo(houseInfo, now));
+                }
+            } catch (Exception e) {
+                log.error("주택 정보 일괄 조회 중 오류 발생 - 주택 수: {}", misses.size(), e);
+            }
+        }
+
+        log.info("찜한 주택 정보 조회 완료 - 요청: {}건, 캐시: {}건, 일괄 조회: {}건",
+                houseManageNos.size(), houseManageNos.size() - misses.size(), misses.size());
+        return result;
+    }
+
+    /**
+     * 주택 정보 캐시 항목 (주택 정보가 없으면 houseInfo는 null)
+     */
+    private record CachedHouseInfo(ApplyHomeData houseInfo, long loadedAt) {
     }
 }
@@ -1,8 +1,10 @@
 package com.hana_ti.home_planner.global.common.controller;
 
 import com.hana_ti.home_planner.global.common.dto.HealthCheckResponseDto;
+import com.hana_ti.home_planner.global.common.dto.RateLimitStatsResponseDto;
 import com.hana_ti.home_planner.global.common.service.HealthCheckService;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
+import com.hana_ti.home_planner.global.ratelimit.RateLimitMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class HealthCheckController {
 
     private final HealthCheckService healthCheckService;
+    private final RateLimitMetrics rateLimitMetrics;
 
     /**
      * 서버 헬스체크
@@ -89,6 +92,17 @@ public class HealthCheckController {
         return ResponseEntity.ok(ApiResponse.success("Ping 테스트 성공", response));
     }
 
+    /**
+     * 요청 횟수 제한 통계 (규칙별 허용/거부 수)
+     * GET /api/health/rate-limit
+     */
+    @GetMapping("/rate-limit")
+    public ResponseEntity<ApiResponse<RateLimitStatsResponseDto>> getRateLimitStats() {
+        log.info("요청 횟수 제한 통계 조회 API 호출");
+
+        return ResponseEntity.ok(ApiResponse.success("요청 횟수 제한 통계를 조회했습니다.", rateLimitMetrics.getStats()));
+    }
+
     /**
      * 기본 헬스체크 (전체 시스템 상태)
      * GET /api/health
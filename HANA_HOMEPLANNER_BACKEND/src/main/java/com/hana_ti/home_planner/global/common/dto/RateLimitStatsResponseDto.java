@@ -0,0 +1,25 @@
+package com.hana_ti.home_planner.global.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class RateLimitStatsResponseDto {
+
+    private String store; // 버킷 저장소 구현
+    private long bucketCount; // 보관 중인 버킷 수 (확인 불가 시 -1)
+    private List<RuleStats> rules; // 규칙별 통계
+
+    @Getter
+    @Builder
+    public static class RuleStats {
+
+        private String rule; // 규칙 이름
+        private long allowedCount; // 허용된 요청 수
+        private long userThrottledCount; // 사용자별 한도 초과로 거부된 요청 수
+        private long routeThrottledCount; // 경로 전체 한도 초과로 거부된 요청 수
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hana_ti.home_planner.global.dto.ApiResponse;
 import com.hana_ti.home_planner.global.dto.ErrorResponse;
 import com.hana_ti.home_planner.global.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -47,27 +49,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             
             // 2. 토큰이 있는 경우에만 처리
             if (StringUtils.hasText(token)) {
-                // 3. 토큰이 만료되었는지 먼저 확인
-                if (jwtUtil.isTokenExpiredWithException(token)) {
-                    log.warn("만료된 JWT 토큰");
+                // 3. 서명 검증 및 클레임 파싱 (요청당 한 번, 검증 결과는 만료 시각까지 캐시)
+                Claims claims;
+                try {
+                    claims = jwtUtil.getVerifiedClaims(token);
+                } catch (JwtException | IllegalArgumentException e) {
+                    // 검증 실패는 만료와 동일하게 응답 (Refresh Token 갱신 유도)
+                    log.warn("만료되었거나 유효하지 않은 JWT 토큰: {}", e.getMessage());
                     sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "TOKEN_EXPIRED", "토큰이 만료되었습니다. Refresh Token으로 갱신해주세요");
                     return;
                 }
-                
-                // 4. 토큰 유효성 검증
-                if (jwtUtil.validateToken(token)) {
-                    // Access Token인지 확인
-                    String tokenType = jwtUtil.getTokenType(token);
-                    if ("access".equals(tokenType)) {
-                        setAuthentication(token);
-                    } else {
-                        log.warn("잘못된 토큰 타입입니다: {}", tokenType);
-                        sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "INVALID_TOKEN_TYPE", "잘못된 토큰 타입입니다");
-                        return;
-                    }
+
+                // 4. Access Token인지 확인
+                String tokenType = claims.get("type", String.class);
+                if ("access".equals(tokenType)) {
+                    setAuthentication(request, claims);
                 } else {
-                    // 토큰이 유효하지 않은 경우
-                    sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "INVALID_TOKEN", "유효하지 않은 토큰입니다");
+                    log.warn("잘못된 토큰 타입입니다: {}", tokenType);
+                    sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "INVALID_TOKEN_TYPE", "잘못된 토큰 타입입니다");
                     return;
                 }
             }
@@ -104,11 +103,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * JWT 토큰을 사용하여 Spring Security 인증 정보 설정
+     * 검증된 클레임으로 Spring Security 인증 정보 설정
+     * 컨트롤러/서비스에서 토큰을 다시 파싱하지 않도록 클레임을 요청 속성으로 공유
      */
-    private void setAuthentication(String token) {
-        String userId = jwtUtil.getUserIdFromToken(token);
-        String email = jwtUtil.getEmailFromToken(token);
+    private void setAuthentication(HttpServletRequest request, Claims claims) {
+        String userId = claims.getSubject();
+        String email = claims.get("email", String.class);
+        request.setAttribute(JwtUtil.VERIFIED_CLAIMS_ATTRIBUTE, claims);
         
         if (userId != null && email != null) {
             // 간단한 권한 설정 (추후 DB에서 사용자 권한을 조회하도록 개선 가능)
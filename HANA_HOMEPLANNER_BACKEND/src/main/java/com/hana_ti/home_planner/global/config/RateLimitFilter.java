@@ -0,0 +1,130 @@
+package com.hana_ti.home_planner.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hana_ti.home_planner.global.dto.ApiResponse;
+import com.hana_ti.home_planner.global.dto.ErrorResponse;
+import com.hana_ti.home_planner.global.ratelimit.RateLimitMetrics;
+import com.hana_ti.home_planner.global.ratelimit.RateLimitStore;
+import com.hana_ti.home_planner.global.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 횟수 제한 필터 (JWT 인증 필터 다음에 실행)
+ * 설정된 규칙의 경로에 대해 사용자별 버킷과 경로 전체 버킷을 차례로 확인하고,
+ * 한도를 넘으면 429 응답과 Retry-After 헤더(초)로 재시도 시점을 안내
+ * 경로 전체 한도로 거부되면 이미 소비한 사용자별 토큰은 반환 (처리되지 않은 요청이 사용자 한도를 차지하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitStore rateLimitStore;
+    private final RateLimitMetrics rateLimitMetrics;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Rule rule = findRule(request.getRequestURI());
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 1. 사용자별 한도 (다른 사용자의 요청량에 영향받지 않도록 먼저 확인)
+        String client = resolveClientKey(request);
+        String userKey = "rl:" + rule.getName() + ":" + client;
+        if (rule.getUserCapacity() > 0) {
+            RateLimitStore.Decision decision = rateLimitStore.tryAcquire(
+                    userKey, rule.getUserCapacity(), rule.getUserRefillIntervalMs());
+            if (!decision.allowed()) {
+                rateLimitMetrics.recordUserThrottled(rule.getName());
+                log.warn("요청 횟수 제한 초과(사용자) - 규칙: {}, 사용자: {}, 경로: {}", rule.getName(), client, request.getRequestURI());
+                sendTooManyRequests(response, decision.retryAfterMillis());
+                return;
+            }
+        }
+
+        // 2. 경로 전체 한도
+        if (rule.getRouteCapacity() > 0) {
+            RateLimitStore.Decision decision = rateLimitStore.tryAcquire(
+                    "rl:" + rule.getName(), rule.getRouteCapacity(), rule.getRouteRefillIntervalMs());
+            if (!decision.allowed()) {
+                if (rule.getUserCapacity() > 0) {
+                    rateLimitStore.refund(userKey, rule.getUserRefillIntervalMs());
+                }
+                rateLimitMetrics.recordRouteThrottled(rule.getName());
+                log.warn("요청 횟수 제한 초과(경로) - 규칙: {}, 사용자: {}, 경로: {}", rule.getName(), client, request.getRequestURI());
+                sendTooManyRequests(response, decision.retryAfterMillis());
+                return;
+            }
+        }
+
+        rateLimitMetrics.recordAllowed(rule.getName());
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return !rateLimitProperties.isEnabled();
+    }
+
+    /**
+     * 요청 경로에 적용할 첫 번째 규칙 (없으면 null)
+     */
+    private RateLimitProperties.Rule findRule(String path) {
+        for (RateLimitProperties.Rule rule : rateLimitProperties.getRules()) {
+            for (String pattern : rule.getPaths()) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 사용자 구분 키 (인증 필터가 검증한 사용자 ID, 비로그인 요청은 클라이언트 IP)
+     * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr가 X-Forwarded-For의 원래 IP를 반환
+     */
+    private String resolveClientKey(HttpServletRequest request) {
+        Object claims = request.getAttribute(JwtUtil.VERIFIED_CLAIMS_ATTRIBUTE);
+        if (claims instanceof Claims verifiedClaims && verifiedClaims.getSubject() != null) {
+            return "user:" + verifiedClaims.getSubject();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void sendTooManyRequests(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("TOO_MANY_REQUESTS")
+                .message("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요")
+                .build();
+
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.error(errorResponse)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.hana_ti.home_planner.global.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 횟수 제한 설정
+ * 규칙마다 사용자별 버킷(사용자 ID, 비로그인 시 IP)과 경로 전체 버킷을 두고 둘 다 허용해야 요청을 처리
+ * 버킷은 최대 capacity개까지 refill-interval-ms마다 1개씩 충전 (순간 최대 요청 수 = capacity)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 규칙 검증 (충전 간격이 0 이하이면 버킷이 즉시 다시 차서 제한이 적용되지 않으므로 기동 시 거부)
+     */
+    @PostConstruct
+    public void validate() {
+        for (Rule rule : rules) {
+            validateBucket(rule.getName(), "user", rule.getUserCapacity(), rule.getUserRefillIntervalMs());
+            validateBucket(rule.getName(), "route", rule.getRouteCapacity(), rule.getRouteRefillIntervalMs());
+        }
+    }
+
+    private static void validateBucket(String ruleName, String bucket, int capacity, long refillIntervalMs) {
+        if (capacity < 0) {
+            throw new IllegalStateException("INVALID_RATE_LIMIT_RULE: " + ruleName + " 규칙의 " + bucket
+                    + "-capacity는 0 이상이어야 합니다: " + capacity);
+        }
+        if (capacity > 0 && refillIntervalMs <= 0) {
+            throw new IllegalStateException("INVALID_RATE_LIMIT_RULE: " + ruleName + " 규칙의 " + bucket
+                    + "-refill-interval-ms는 " + bucket + "-capacity가 있으면 0보다 커야 합니다: " + refillIntervalMs);
+        }
+    }
+
+    @Data
+    public static class Rule {
+
+        private String name; // 규칙 이름 (버킷 키, 통계 구분)
+        private List<String> paths = new ArrayList<>(); // 적용 경로 (Ant 패턴)
+        private int userCapacity; // 사용자별 최대 버킷 크기 (0이면 사용자별 제한 없음)
+        private long userRefillIntervalMs; // 사용자별 토큰 충전 간격
+        private int routeCapacity; // 경로 전체 최대 버킷 크기 (0이면 경로 전체 제한 없음)
+        private long routeRefillIntervalMs; // 경로 전체 토큰 충전 간격
+    }
+}
@@ -1,5 +1,6 @@
 package com.hana_ti.home_planner.global.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CorsConfigurationSource corsConfigurationSource;
 
     @Bean
@@ -35,11 +37,14 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS) // JWT 사용으로 세션 비활성화
             )
             .authorizeHttpRequests(authz -> authz
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 스트리밍 응답 완료 시 비동기 재디스패치 허용 (최초 요청에서 인가 완료)
+                .requestMatchers("/api/auth/sms/messages/**", "/api/auth/sms/dispatch/**").authenticated() // SMS 발송 상태/통계 조회는 인증 필요
                 .requestMatchers("/api/auth/signup", "/api/auth/login", "/api" +
                         "/auth/refresh","/api/auth/sms/**").permitAll() // 인증 관련
                     // API
                     // 모두 허용
                 .requestMatchers("/api/users/**").permitAll() // 사용자관련 API 허용
+                .requestMatchers("/api/house/export/**", "/api/applyhome/export/**").authenticated() // 전체 데이터 스트리밍 내보내기는 인증 필요 (아래 permitAll보다 먼저 매칭)
                 .requestMatchers("/api/house/**").permitAll() // 주택 관련 API 허용
                 .requestMatchers("/api/applyhome/**").permitAll() // 주택 관련
                 .requestMatchers("/api/storage/pdfs/**").permitAll() // PDF 파일 목록 조회 허용
@@ -65,7 +70,8 @@ public class SecurityConfig {
             .headers(headers -> headers
                 .frameOptions(frameOptions -> frameOptions.disable()) // H2 콘솔을 위해 X-Frame-Options 비활성화
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class); // JWT 필터 추가
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // JWT 필터 추가
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class); // 요청 횟수 제한 필터 추가 (인증된 사용자 ID 기준)
 
         return http.build();
     }
@@ -0,0 +1,29 @@
+package com.hana_ti.home_planner.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content; // 현재 페이지 데이터
+    private int size; // 현재 페이지 데이터 수
+    private boolean hasMore; // 다음 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+
+    public static <T> CursorPageResponse<T> of(List<T> content, boolean hasMore, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? nextCursor : null)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.hana_ti.home_planner.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 여러 서버 중 한 서버에서만 작업을 실행하기 위한 DB 잠금 (SCHEDULED_JOB_LOCK 테이블)
+ * 작업별 행의 잠금 만료 시각을 조건부 갱신으로 선점하므로 서버가 중단되어도 만료 후 다른 서버가 선점 가능
+ * 시각 비교는 DB 시각(SYSTIMESTAMP)으로 하여 서버 간 시계 차이의 영향을 받지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledJobLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이 서버 식별자 (잠금 보유자 기록 및 해제 조건)
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName() + ":"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * 잠금 선점 시도
+     *
+     * @param jobName 작업 이름
+     * @param lease 잠금 유지 시간 (작업이 끝나지 않아도 이 시간이 지나면 다른 서버가 선점 가능)
+     * @return 선점 여부 (다른 서버가 보유 중이면 false)
+     */
+    public boolean tryLock(String jobName, Duration lease) {
+        try {
+            jdbcTemplate.update("INSERT INTO SCHEDULED_JOB_LOCK (JOB_NAME, LOCKED_UNTIL, LOCKED_AT, LOCKED_BY) " +
+                    "SELECT ?, SYSTIMESTAMP, SYSTIMESTAMP, ? FROM DUAL " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM SCHEDULED_JOB_LOCK WHERE JOB_NAME = ?)", jobName, instanceId, jobName);
+        } catch (DuplicateKeyException e) {
+            // 다른 서버가 먼저 작업 행을 만든 경우
+        }
+
+        int updated = jdbcTemplate.update("UPDATE SCHEDULED_JOB_LOCK " +
+                "SET LOCKED_UNTIL = SYSTIMESTAMP + NUMTODSINTERVAL(?, 'SECOND'), LOCKED_AT = SYSTIMESTAMP, LOCKED_BY = ? " +
+                "WHERE JOB_NAME = ? AND LOCKED_UNTIL <= SYSTIMESTAMP", lease.toSeconds(), instanceId, jobName);
+        if (updated == 0) {
+            log.info("작업 잠금 선점 실패 (다른 서버에서 실행 중) - 작업: {}", jobName);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 잠금 해제 (이 서버가 보유한 경우에만)
+     */
+    public void unlock(String jobName) {
+        try {
+            jdbcTemplate.update("UPDATE SCHEDULED_JOB_LOCK SET LOCKED_UNTIL = SYSTIMESTAMP " +
+                    "WHERE JOB_NAME = ? AND LOCKED_BY = ?", jobName, instanceId);
+        } catch (Exception e) {
+            // 해제하지 못해도 잠금 유지 시간이 지나면 다시 선점 가능
+            log.warn("작업 잠금 해제 실패 - 작업: {}, 오류: {}", jobName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hana_ti.home_planner.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 메모리 요청 횟수 제한 저장소 (락 없이 키별 AtomicLong 비교 후 교체로 갱신)
+ * 다음 허용 이론 시각이 지난 버킷은 가득 찬 상태와 같으므로 주기적으로 제거
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public Decision tryAcquire(String key, int capacity, long refillIntervalMillis) {
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong());
+        while (true) {
+            long now = System.currentTimeMillis();
+            long current = bucket.get();
+            long next = RateLimitStore.admit(current, now, capacity, refillIntervalMillis);
+            if (next < 0) {
+                return new Decision(false, RateLimitStore.retryAfterMillis(current, now, capacity, refillIntervalMillis));
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    @Override
+    public void refund(String key, long refillIntervalMillis) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.addAndGet(-refillIntervalMillis);
+        }
+    }
+
+    @Override
+    public long bucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 가득 찬 버킷 제거 (제거와 동시에 갱신된 버킷은 다음 요청부터 새 버킷으로 시작)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void removeIdleBuckets() {
+        long now = System.currentTimeMillis();
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() <= now);
+        log.debug("요청 횟수 제한 버킷 정리 - 제거: {}개, 남은 버킷: {}개", before - buckets.size(), buckets.size());
+    }
+}
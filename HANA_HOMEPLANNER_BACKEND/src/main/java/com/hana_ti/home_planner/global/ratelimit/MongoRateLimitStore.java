@@ -0,0 +1,114 @@
+package com.hana_ti.home_planner.global.ratelimit;
+
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB 요청 횟수 제한 공유 저장소 (여러 서버 운영용)
+ * 버킷 문서의 다음 허용 이론 시각을 이전 값 조건부 갱신으로 교체하고, 가득 찬 버킷은 expireAt TTL 인덱스로 삭제
+ * 저장소 장애 시에는 요청을 허용 (횟수 제한 저장소 때문에 서비스가 중단되지 않도록)
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "mongo")
+@RequiredArgsConstructor
+@Slf4j
+public class MongoRateLimitStore implements RateLimitStore {
+
+    private static final String COLLECTION = "rate_limits";
+    private static final int MAX_UPDATE_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(COLLECTION).createIndex(new Index()
+                    .on("expireAt", Sort.Direction.ASC)
+                    .expire(0, TimeUnit.SECONDS)
+                    .named("idx_expire_at_ttl"));
+            log.info("요청 횟수 제한 저장소 TTL 인덱스 확인 완료 - 컬렉션: {}", COLLECTION);
+        } catch (Exception e) {
+            // TTL 인덱스가 없으면 가득 찬 버킷 문서가 남을 뿐 동작에는 영향이 없으므로 기동은 계속 진행
+            log.error("요청 횟수 제한 저장소 TTL 인덱스 확인 실패", e);
+        }
+    }
+
+    @Override
+    public Decision tryAcquire(String key, int capacity, long refillIntervalMillis) {
+        try {
+            for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+                long now = System.currentTimeMillis();
+                Document bucket = mongoTemplate.findById(key, Document.class, COLLECTION);
+
+                if (bucket == null) {
+                    long next = RateLimitStore.admit(0, now, capacity, refillIntervalMillis);
+                    try {
+                        mongoTemplate.insert(new Document("_id", key)
+                                .append("tat", next)
+                                .append("expireAt", new Date(next)), COLLECTION);
+                        return Decision.ALLOWED;
+                    } catch (DuplicateKeyException e) {
+                        // 다른 서버가 먼저 생성한 경우 갱신으로 다시 시도
+                        continue;
+                    }
+                }
+
+                long current = bucket.getLong("tat");
+                long next = RateLimitStore.admit(current, now, capacity, refillIntervalMillis);
+                if (next < 0) {
+                    return new Decision(false, RateLimitStore.retryAfterMillis(current, now, capacity, refillIntervalMillis));
+                }
+
+                UpdateResult result = mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(key).and("tat").is(current)),
+                        new Update().set("tat", next).set("expireAt", new Date(next)),
+                        COLLECTION);
+                if (result.getModifiedCount() > 0) {
+                    return Decision.ALLOWED;
+                }
+            }
+            // 같은 키에 요청이 몰려 갱신이 계속 경합하면 한도 초과로 처리
+            log.warn("요청 횟수 제한 갱신 경합으로 요청을 거부합니다 - 키: {}", key);
+            return new Decision(false, refillIntervalMillis);
+        } catch (Exception e) {
+            log.warn("요청 횟수 제한 저장소 오류로 요청을 허용합니다 - 키: {}, 오류: {}", key, e.getMessage());
+        }
+        return Decision.ALLOWED;
+    }
+
+    @Override
+    public void refund(String key, long refillIntervalMillis) {
+        try {
+            // 다른 서버의 조건부 갱신은 이전 값이 달라져 다시 읽고 재시도
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(key)),
+                    new Update().inc("tat", -refillIntervalMillis), COLLECTION);
+        } catch (Exception e) {
+            log.warn("요청 횟수 제한 토큰 반환 실패 - 키: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public long bucketCount() {
+        try {
+            return mongoTemplate.estimatedCount(COLLECTION);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+}
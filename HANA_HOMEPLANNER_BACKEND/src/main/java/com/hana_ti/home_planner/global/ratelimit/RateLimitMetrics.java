@@ -0,0 +1,57 @@
+package com.hana_ti.home_planner.global.ratelimit;
+
+import com.hana_ti.home_planner.global.common.dto.RateLimitStatsResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 횟수 제한 통계 (규칙별 허용/거부 수, 서버 기동 이후 누적)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitMetrics {
+
+    private final RateLimitStore rateLimitStore;
+
+    private final Map<String, RuleCounters> counters = new ConcurrentHashMap<>();
+
+    public void recordAllowed(String rule) {
+        counters(rule).allowed().increment();
+    }
+
+    public void recordUserThrottled(String rule) {
+        counters(rule).userThrottled().increment();
+    }
+
+    public void recordRouteThrottled(String rule) {
+        counters(rule).routeThrottled().increment();
+    }
+
+    public RateLimitStatsResponseDto getStats() {
+        return RateLimitStatsResponseDto.builder()
+                .store(rateLimitStore.getClass().getSimpleName())
+                .bucketCount(rateLimitStore.bucketCount())
+                .rules(counters.entrySet().stream()
+                        .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                        .map(entry -> RateLimitStatsResponseDto.RuleStats.builder()
+                                .rule(entry.getKey())
+                                .allowedCount(entry.getValue().allowed().sum())
+                                .userThrottledCount(entry.getValue().userThrottled().sum())
+                                .routeThrottledCount(entry.getValue().routeThrottled().sum())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private RuleCounters counters(String rule) {
+        return counters.computeIfAbsent(rule, key -> new RuleCounters(new LongAdder(), new LongAdder(), new LongAdder()));
+    }
+
+    private record RuleCounters(LongAdder allowed, LongAdder userThrottled, LongAdder routeThrottled) {
+    }
+}
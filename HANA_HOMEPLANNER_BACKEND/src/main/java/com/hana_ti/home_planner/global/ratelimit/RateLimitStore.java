@@ -0,0 +1,64 @@
+package com.hana_ti.home_planner.global.ratelimit;
+
+/**
+ * 요청 횟수 제한 버킷 저장소
+ * 기본은 서버 메모리 저장소(rate-limit.store=memory)이며,
+ * 여러 서버가 한도를 공유해야 하면 MongoDB 공유 저장소(rate-limit.store=mongo)를 사용
+ *
+ * 버킷은 GCRA(다음 허용 이론 시각 하나만 보관하는 토큰 버킷)로 계산하므로
+ * 키당 값 하나의 비교 후 교체(CAS)만으로 원자적으로 갱신
+ */
+public interface RateLimitStore {
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @param key 버킷 키
+     * @param capacity 최대 버킷 크기
+     * @param refillIntervalMillis 토큰 1개 충전 간격
+     * @return 허용 여부와 거부 시 재시도 가능까지 남은 시간
+     */
+    Decision tryAcquire(String key, int capacity, long refillIntervalMillis);
+
+    /**
+     * 소비한 토큰 1개 반환 (이후 단계에서 요청이 거부되어 실제로 처리되지 않은 경우)
+     *
+     * @param key 버킷 키
+     * @param refillIntervalMillis 토큰 1개 충전 간격 (tryAcquire와 같은 값)
+     */
+    void refund(String key, long refillIntervalMillis);
+
+    /**
+     * 보관 중인 버킷 수 (확인할 수 없으면 -1)
+     */
+    long bucketCount();
+
+    /**
+     * 허용 시 갱신할 다음 허용 이론 시각 (거부면 -1)
+     *
+     * @param theoreticalArrivalTime 현재 저장된 이론 시각 (없으면 0)
+     */
+    static long admit(long theoreticalArrivalTime, long nowMillis, int capacity, long refillIntervalMillis) {
+        long next = Math.max(theoreticalArrivalTime, nowMillis) + refillIntervalMillis;
+        return next - nowMillis <= refillIntervalMillis * capacity ? next : -1;
+    }
+
+    /**
+     * 거부된 요청이 다시 허용되기까지 남은 시간
+     */
+    static long retryAfterMillis(long theoreticalArrivalTime, long nowMillis, int capacity, long refillIntervalMillis) {
+        long next = Math.max(theoreticalArrivalTime, nowMillis) + refillIntervalMillis;
+        return Math.max(next - nowMillis - refillIntervalMillis * capacity, 1);
+    }
+
+    /**
+     * 허용 여부
+     *
+     * @param allowed 허용 여부
+     * @param retryAfterMillis 거부 시 재시도 가능까지 남은 시간 (허용이면 0)
+     */
+    record Decision(boolean allowed, long retryAfterMillis) {
+
+        public static final Decision ALLOWED = new Decision(true, 0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.hana_ti.home_planner.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    // 커서 페이지 최대 크기 (초과 요청은 이 크기로 조회)
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 커서 페이지 크기 검증
+     *
+     * @param size 요청 페이지 크기
+     * @return 적용할 페이지 크기 (최대 {@link #MAX_PAGE_SIZE})
+     * @throws IllegalArgumentException 1 미만의 페이지 크기
+     */
+    public static int checkPageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("INVALID_PAGE_SIZE: 페이지 크기는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 정렬 키 값들을 불투명 커서 토큰으로 인코딩
+     *
+     * @param keys 마지막 행의 정렬 키 값 (정렬 순서대로)
+     * @return Base64 URL-safe 커서 토큰
+     */
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(DELIMITER);
+            }
+            sb.append(keys[i] != null ? keys[i] : "");
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 정렬 키 값들로 디코딩
+     *
+     * @param cursor 커서 토큰
+     * @param expectedKeyCount 기대하는 정렬 키 개수
+     * @return 정렬 키 문자열 배열
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static String[] decode(String cursor, int expectedKeyCount) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = decoded.split("\\" + DELIMITER, -1);
+            if (keys.length != expectedKeyCount) {
+                throw new IllegalArgumentException("INVALID_CURSOR: 유효하지 않은 커서입니다.");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR: 유효하지 않은 커서입니다.");
+        }
+    }
+}
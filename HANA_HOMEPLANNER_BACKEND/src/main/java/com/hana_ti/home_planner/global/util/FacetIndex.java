@@ -0,0 +1,229 @@
+package com.hana_ti.home_planner.global.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 비트셋 역색인 기반 패싯 검색 인덱스
+ * 범주형 항목은 값별 문서 비트셋(posting), 범위 항목은 값 기준 정렬 배열로 색인하여
+ * 조건 교집합과 항목별 패싯 건수(해당 항목 조건만 제외한 결과 기준)를 한 번에 계산
+ * 생성 후 변경되지 않는 불변 객체로, 갱신 시에는 새 인덱스를 생성하여 교체
+ *
+ * @param <T> 색인 대상 문서 타입
+ */
+public final class FacetIndex<T> {
+
+    private final List<T> documents;
+    private final Map<String, Map<String, BitSet>> termPostings;
+    private final Map<String, SortedRange> ranges;
+
+    private FacetIndex(List<T> documents, Map<String, Map<String, BitSet>> termPostings,
+                       Map<String, SortedRange> ranges) {
+        this.documents = documents;
+        this.termPostings = termPostings;
+        this.ranges = ranges;
+    }
+
+    /**
+     * 문서 목록으로 인덱스 생성 (검색 결과는 문서 목록 순서를 유지)
+     *
+     * @param documents 색인할 문서 목록
+     * @param termFields 범주형 항목명 → 문서의 항목 값 추출 함수 (null이면 색인 제외)
+     * @param rangeFields 범위 항목명 → 문서의 정수 값 추출 함수 (null이면 색인 제외)
+     */
+    public static <T> FacetIndex<T> build(List<T> documents,
+                                          Map<String, Function<T, String>> termFields,
+                                          Map<String, Function<T, Long>> rangeFields) {
+        List<T> docs = List.copyOf(documents);
+
+        Map<String, Map<String, BitSet>> termPostings = new HashMap<>();
+        termFields.forEach((field, extractor) -> {
+            Map<String, BitSet> postings = new HashMap<>();
+            for (int docId = 0; docId < docs.size(); docId++) {
+                String value = extractor.apply(docs.get(docId));
+                if (value != null) {
+                    postings.computeIfAbsent(value, key -> new BitSet(docs.size())).set(docId);
+                }
+            }
+            termPostings.put(field, postings);
+        });
+
+        Map<String, SortedRange> ranges = new HashMap<>();
+        rangeFields.forEach((field, extractor) -> ranges.put(field, SortedRange.build(docs, extractor)));
+
+        return new FacetIndex<>(docs, termPostings, ranges);
+    }
+
+    /**
+     * 패싯 검색
+     *
+     * @param termFilters 범주형 항목별 선택 값 (같은 항목 내 값은 OR, 항목 간은 AND)
+     * @param rangeFilters 범위 항목별 조건 (AND)
+     * @param offset 결과 시작 위치
+     * @param limit 최대 결과 수
+     */
+    public Result<T> search(Map<String, Set<String>> termFilters, Map<String, LongRange> rangeFilters,
+                            int offset, int limit) {
+        BitSet base = new BitSet(documents.size());
+        base.set(0, documents.size());
+        rangeFilters.forEach((field, range) -> base.and(rangeField(field).select(range, documents.size())));
+
+        Map<String, BitSet> selections = new HashMap<>();
+        termFilters.forEach((field, values) -> {
+            if (values == null || values.isEmpty()) {
+                return;
+            }
+            Map<String, BitSet> postings = termField(field);
+            BitSet selected = new BitSet(documents.size());
+            for (String value : values) {
+                BitSet posting = postings.get(value);
+                if (posting != null) {
+                    selected.or(posting);
+                }
+            }
+            selections.put(field, selected);
+        });
+
+        BitSet matched = (BitSet) base.clone();
+        selections.values().forEach(matched::and);
+
+        List<T> items = new ArrayList<>(Math.min(limit, matched.cardinality()));
+        int skipped = 0;
+        for (int docId = matched.nextSetBit(0); docId >= 0 && items.size() < limit; docId = matched.nextSetBit(docId + 1)) {
+            if (skipped++ >= offset) {
+                items.add(documents.get(docId));
+            }
+        }
+
+        Map<String, Map<String, Long>> facetCounts = new LinkedHashMap<>();
+        termPostings.keySet().stream().sorted().forEach(field -> {
+            // 해당 항목의 선택 조건만 제외하여 다른 값 선택 시 건수를 표시
+            BitSet mask = (BitSet) base.clone();
+            selections.forEach((selectedField, selected) -> {
+                if (!selectedField.equals(field)) {
+                    mask.and(selected);
+                }
+            });
+            facetCounts.put(field, countValues(termPostings.get(field), mask, termFilters.get(field)));
+        });
+
+        return new Result<>(matched.cardinality(), items, facetCounts);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private static Map<String, Long> countValues(Map<String, BitSet> postings, BitSet mask, Set<String> selectedValues) {
+        List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        postings.forEach((value, posting) -> {
+            BitSet intersection = (BitSet) posting.clone();
+            intersection.and(mask);
+            long count = intersection.cardinality();
+            if (count > 0 || (selectedValues != null && selectedValues.contains(value))) {
+                counts.add(Map.entry(value, count));
+            }
+        });
+        counts.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private Map<String, BitSet> termField(String field) {
+        Map<String, BitSet> postings = termPostings.get(field);
+        if (postings == null) {
+            throw new IllegalArgumentException("INVALID_FACET: 색인되지 않은 항목입니다: " + field);
+        }
+        return postings;
+    }
+
+    private SortedRange rangeField(String field) {
+        SortedRange range = ranges.get(field);
+        if (range == null) {
+            throw new IllegalArgumentException("INVALID_RANGE: 색인되지 않은 범위 항목입니다: " + field);
+        }
+        return range;
+    }
+
+    /**
+     * 범위 조건 (min 이상, max 이하 / null이면 제한 없음)
+     */
+    public record LongRange(Long min, Long max) {
+
+        public boolean isUnbounded() {
+            return min == null && max == null;
+        }
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param totalCount 조건에 일치하는 전체 문서 수
+     * @param items offset/limit 범위의 문서
+     * @param facetCounts 항목별 값 건수 (건수 내림차순)
+     */
+    public record Result<T>(int totalCount, List<T> items, Map<String, Map<String, Long>> facetCounts) {
+    }
+
+    /**
+     * 범위 항목 색인 (값 오름차순 정렬된 값/문서번호 배열, 이진 탐색으로 구간 선택)
+     */
+    private record SortedRange(long[] values, int[] docIds) {
+
+        static <T> SortedRange build(List<T> docs, Function<T, Long> extractor) {
+            List<long[]> entries = new ArrayList<>();
+            for (int docId = 0; docId < docs.size(); docId++) {
+                Long value = extractor.apply(docs.get(docId));
+                if (value != null) {
+                    entries.add(new long[]{value, docId});
+                }
+            }
+            entries.sort(Comparator.comparingLong(entry -> entry[0]));
+
+            long[] values = new long[entries.size()];
+            int[] docIds = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                values[i] = entries.get(i)[0];
+                docIds[i] = (int) entries.get(i)[1];
+            }
+            return new SortedRange(values, docIds);
+        }
+
+        BitSet select(LongRange range, int documentCount) {
+            int from = range.min() != null ? lowerBound(range.min()) : 0;
+            int to = range.max() != null ? lowerBound(range.max() + 1) : values.length;
+
+            BitSet selected = new BitSet(documentCount);
+            for (int i = from; i < to; i++) {
+                selected.set(docIds[i]);
+            }
+            return selected;
+        }
+
+        /**
+         * target 이상인 첫 위치
+         */
+        private int lowerBound(long target) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
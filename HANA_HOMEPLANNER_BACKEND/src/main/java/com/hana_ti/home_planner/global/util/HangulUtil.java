@@ -0,0 +1,81 @@
+package com.hana_ti.home_planner.global.util;
+
+import java.util.Locale;
+
+public class HangulUtil {
+
+    private static final char HANGUL_SYLLABLE_START = 0xAC00;
+    private static final char HANGUL_SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char[] JUNGSEONG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+
+    private static final char[] JONGSEONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 검색용 정규화 (공백 제거, 소문자 변환)
+     *
+     * @param value 원본 문자열
+     * @return 정규화된 문자열 (null이면 빈 문자열)
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 한글 음절을 호환 자모로 분해 (예: "하나" -> "ㅎㅏㄴㅏ")
+     * 한글 음절이 아닌 문자는 그대로 유지
+     *
+     * @param value 분해할 문자열
+     * @return 자모 분해 문자열
+     */
+    public static String decomposeToJamo(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(value.length() * 3);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < HANGUL_SYLLABLE_START || c > HANGUL_SYLLABLE_END) {
+                sb.append(c);
+                continue;
+            }
+
+            int syllableIndex = c - HANGUL_SYLLABLE_START;
+            int choIndex = syllableIndex / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+            int jungIndex = (syllableIndex % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT;
+            int jongIndex = syllableIndex % JONGSEONG_COUNT;
+
+            sb.append(CHOSEONG[choIndex]).append(JUNGSEONG[jungIndex]);
+            if (jongIndex != 0) {
+                sb.append(JONGSEONG[jongIndex]);
+            }
+        }
+        return sb.toString();
+    }
+}
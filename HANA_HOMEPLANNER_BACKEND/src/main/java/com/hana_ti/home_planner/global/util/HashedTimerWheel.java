@@ -0,0 +1,84 @@
+package com.hana_ti.home_planner.global.util;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * 해시 타이머 휠
+ * 만료 시각을 틱 단위 슬롯에 등록(O(1))하고, 틱이 지날 때마다 해당 슬롯만 확인하여 만료 항목을 전달
+ * 휠 한 바퀴보다 먼 만료 시각은 슬롯에 남겨 두었다가 이후 바퀴에서 다시 확인
+ * 등록 취소는 지원하지 않으므로, 만료 콜백에서 현재 값의 만료 시각과 비교하여 갱신 전 등록은 무시해야 함
+ *
+ * @param <K> 만료 대상 키 타입
+ */
+public final class HashedTimerWheel<K> {
+
+    private final long tickMillis;
+    private final Queue<Timeout<K>>[] slots;
+    private volatile long currentTick;
+
+    /**
+     * @param tickMillis 틱 간격 (만료 처리 정밀도)
+     * @param wheelSize 슬롯 수
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("INVALID_TIMER_WHEEL: 틱 간격과 슬롯 수는 1 이상이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    /**
+     * 만료 시각 등록 (이미 지난 시각이면 다음 틱에 만료)
+     */
+    public void schedule(K key, long deadlineMillis) {
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        slots[slotIndex(tick)].add(new Timeout<>(key, deadlineMillis));
+    }
+
+    /**
+     * 현재 시각까지 지난 틱의 슬롯을 확인하여 만료 항목 전달 (단일 스레드에서 주기적으로 호출)
+     *
+     * @param nowMillis 현재 시각
+     * @param expired 만료 콜백 (키, 등록된 만료 시각)
+     * @return 만료 처리된 항목 수
+     */
+    public synchronized int advance(long nowMillis, BiConsumer<K, Long> expired) {
+        long targetTick = nowMillis / tickMillis;
+        // 오래 멈춘 경우에도 한 바퀴(모든 슬롯)만 확인하면 충분
+        long fromTick = Math.max(currentTick + 1, targetTick - slots.length + 1);
+
+        int expiredCount = 0;
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Queue<Timeout<K>> slot = slots[slotIndex(tick)];
+            Queue<Timeout<K>> pending = new ArrayDeque<>();
+            Timeout<K> timeout;
+            while ((timeout = slot.poll()) != null) {
+                if (timeout.deadlineMillis() <= nowMillis) {
+                    expired.accept(timeout.key(), timeout.deadlineMillis());
+                    expiredCount++;
+                } else {
+                    pending.add(timeout);
+                }
+            }
+            slot.addAll(pending);
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expiredCount;
+    }
+
+    private int slotIndex(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.length);
+    }
+
+    private record Timeout<K>(K key, long deadlineMillis) {
+    }
+}
@@ -6,13 +6,33 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
 
 @Slf4j
 @Component
 public class JwtUtil {
 
+    /**
+     * 인증 필터가 검증한 Access Token 클레임을 보관하는 요청 속성명
+     */
+    public static final String VERIFIED_CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".VERIFIED_CLAIMS";
+
+    private static final int VERIFIED_CLAIMS_CACHE_SIZE = 10_000;
+
+    // 서명 검증을 마친 토큰의 클레임 (토큰 SHA-256 해시 → 클레임, 만료 시각 전까지만 사용)
+    private final Map<String, Claims> verifiedClaimsCache =
+            Collections.synchronizedMap(new LruCache<>(VERIFIED_CLAIMS_CACHE_SIZE));
+
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
@@ -213,13 +233,64 @@ public class JwtUtil {
     }
 
     /**
-     * JWT 토큰 파싱
+     * 서명 검증된 토큰 클레임 조회
+     * 검증 결과를 만료 시각까지 캐시하여 같은 토큰의 서명 검증과 JSON 파싱은 한 번만 수행
+     *
+     * @throws JwtException 만료, 서명 불일치, 형식 오류 등 검증 실패 시
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
      */
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
+    public Claims getVerifiedClaims(String token) {
+        String cacheKey = hashToken(token);
+        Claims cached = verifiedClaimsCache.get(cacheKey);
+        if (cached != null) {
+            if (cached.getExpiration() == null || cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            // 만료된 토큰은 다시 파싱하여 기존과 같은 ExpiredJwtException 발생
+            verifiedClaimsCache.remove(cacheKey);
+        }
+
+        Claims claims = Jwts.parser()
                 .verifyWith(secretKey)
                 .build()
                 .parseSignedClaims(token)
                 .getPayload();
+        verifiedClaimsCache.put(cacheKey, claims);
+        return claims;
+    }
+
+    /**
+     * 현재 요청에서 인증 필터가 검증한 Access Token 클레임 조회
+     *
+     * @return 클레임 (요청 스레드가 아니거나 인증 필터를 거치지 않은 요청이면 null)
+     */
+    public static Claims getRequestClaims() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        return (Claims) requestAttributes.getAttribute(VERIFIED_CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * JWT 토큰 파싱 (검증 결과 캐시 사용)
+     */
+    private Claims parseClaims(String token) {
+        return getVerifiedClaims(token);
+    }
+
+    /**
+     * 캐시 키용 토큰 해시 (원본 토큰을 메모리에 보관하지 않기 위함)
+     */
+    private static String hashToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어 있습니다.");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.hana_ti.home_planner.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 접근 순서 기준 LRU 캐시 (최대 크기 초과 시 가장 오래 사용하지 않은 항목 제거)
+ * 스레드 안전하지 않으므로 공유 시 Collections.synchronizedMap으로 감싸서 사용
+ */
+public class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+    private final int maxSize;
+
+    public LruCache(int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+}
@@ -0,0 +1,172 @@
+package com.hana_ti.home_planner.global.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 음절 bigram + 자모 trigram 역색인 기반 부분일치/오타허용 검색 인덱스
+ * 생성 후 변경되지 않는 불변 객체로, 갱신 시에는 새 인덱스를 생성하여 교체
+ *
+ * @param <T> 색인 대상 문서 타입
+ */
+public final class NGramSearchIndex<T> {
+
+    /**
+     * 오타 허용 매칭 기준 (검색어 n-gram 중 일치 비율)
+     */
+    private static final double FUZZY_MATCH_THRESHOLD = 0.6;
+
+    private static final int RANK_PREFIX = 0;
+    private static final int RANK_CONTAINS = 1;
+    private static final int RANK_FUZZY = 2;
+
+    private final List<T> documents;
+    private final String[] normalizedTexts;
+    private final String[] jamoTexts;
+    private final Map<String, int[]> postings;
+
+    private NGramSearchIndex(List<T> documents, String[] normalizedTexts, String[] jamoTexts,
+                             Map<String, int[]> postings) {
+        this.documents = documents;
+        this.normalizedTexts = normalizedTexts;
+        this.jamoTexts = jamoTexts;
+        this.postings = postings;
+    }
+
+    /**
+     * 문서 목록으로 인덱스 생성
+     *
+     * @param documents 색인할 문서 목록
+     * @param textExtractor 문서에서 검색 대상 텍스트를 추출하는 함수
+     */
+    public static <T> NGramSearchIndex<T> build(Collection<T> documents, Function<T, String> textExtractor) {
+        List<T> docs = List.copyOf(documents);
+        String[] normalizedTexts = new String[docs.size()];
+        String[] jamoTexts = new String[docs.size()];
+        Map<String, List<Integer>> postingBuilder = new HashMap<>();
+
+        for (int docId = 0; docId < docs.size(); docId++) {
+            String normalized = HangulUtil.normalize(textExtractor.apply(docs.get(docId)));
+            String jamo = HangulUtil.decomposeToJamo(normalized);
+            normalizedTexts[docId] = normalized;
+            jamoTexts[docId] = jamo;
+
+            for (String gram : extractGrams(normalized, jamo)) {
+                postingBuilder.computeIfAbsent(gram, key -> new ArrayList<>()).add(docId);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(postingBuilder.size() * 2);
+        postingBuilder.forEach((gram, docIds) ->
+                postings.put(gram, docIds.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new NGramSearchIndex<>(docs, normalizedTexts, jamoTexts, postings);
+    }
+
+    /**
+     * 부분일치 및 오타허용 검색
+     * 정렬 순서: 접두 일치 > 부분 일치 > 오타허용 일치(n-gram 일치율 내림차순), 동순위는 짧은 텍스트 우선
+     *
+     * @param query 검색어
+     * @return 순위가 매겨진 문서 목록
+     */
+    public List<T> search(String query) {
+        String normalizedQuery = HangulUtil.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+        String jamoQuery = HangulUtil.decomposeToJamo(normalizedQuery);
+        Set<String> queryGrams = extractGrams(normalizedQuery, jamoQuery);
+
+        List<Match> matches = queryGrams.isEmpty()
+                ? scanAll(jamoQuery)
+                : searchByPostings(jamoQuery, queryGrams);
+
+        matches.sort(Comparator.comparingInt(Match::rank)
+                .thenComparing(Comparator.comparingDouble(Match::similarity).reversed())
+                .thenComparingInt(match -> normalizedTexts[match.docId()].length())
+                .thenComparingInt(Match::docId));
+
+        List<T> result = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            result.add(documents.get(match.docId()));
+        }
+        return result;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private List<Match> searchByPostings(String jamoQuery, Set<String> queryGrams) {
+        int[] hitCounts = new int[documents.size()];
+        for (String gram : queryGrams) {
+            int[] docIds = postings.get(gram);
+            if (docIds == null) {
+                continue;
+            }
+            for (int docId : docIds) {
+                hitCounts[docId]++;
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int docId = 0; docId < hitCounts.length; docId++) {
+            if (hitCounts[docId] == 0) {
+                continue;
+            }
+            double similarity = (double) hitCounts[docId] / queryGrams.size();
+            int rank = exactRank(docId, jamoQuery);
+            if (rank != RANK_FUZZY || similarity >= FUZZY_MATCH_THRESHOLD) {
+                matches.add(new Match(docId, rank, similarity));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * n-gram을 만들 수 없는 짧은 검색어(자모 2개 이하)는 전체 스캔으로 부분일치만 확인
+     */
+    private List<Match> scanAll(String jamoQuery) {
+        List<Match> matches = new ArrayList<>();
+        for (int docId = 0; docId < documents.size(); docId++) {
+            int rank = exactRank(docId, jamoQuery);
+            if (rank != RANK_FUZZY) {
+                matches.add(new Match(docId, rank, 1.0));
+            }
+        }
+        return matches;
+    }
+
+    private int exactRank(int docId, String jamoQuery) {
+        String jamoText = jamoTexts[docId];
+        if (jamoText.startsWith(jamoQuery)) {
+            return RANK_PREFIX;
+        }
+        if (jamoText.contains(jamoQuery)) {
+            return RANK_CONTAINS;
+        }
+        return RANK_FUZZY;
+    }
+
+    private static Set<String> extractGrams(String normalized, String jamo) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add("s:" + normalized.substring(i, i + 2));
+        }
+        for (int i = 0; i + 3 <= jamo.length(); i++) {
+            grams.add("j:" + jamo.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private record Match(int docId, int rank, double similarity) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.hana_ti.home_planner.global.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * NDJSON(한 줄에 JSON 객체 하나) 스트리밍 출력
+ * 행 단위로 직렬화하여 바로 출력하므로 전체 건수와 무관하게 메모리 사용량이 일정
+ */
+public class NdjsonWriter implements Closeable {
+
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte NEW_LINE = '\n';
+
+    private final OutputStream out;
+    private final ObjectWriter objectWriter;
+    private long count;
+
+    private NdjsonWriter(OutputStream out, ObjectWriter objectWriter) {
+        this.out = out;
+        this.objectWriter = objectWriter;
+    }
+
+    /**
+     * @param out 응답 출력 스트림
+     * @param objectMapper 직렬화에 사용할 ObjectMapper
+     * @param gzip gzip 압축 여부
+     */
+    public static NdjsonWriter open(OutputStream out, ObjectMapper objectMapper, boolean gzip) throws IOException {
+        OutputStream target = gzip
+                ? new GZIPOutputStream(out, BUFFER_SIZE)
+                : new BufferedOutputStream(out, BUFFER_SIZE);
+        // 행마다 출력 스트림이 닫히지 않도록 AUTO_CLOSE_TARGET 해제
+        ObjectWriter objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return new NdjsonWriter(target, objectWriter);
+    }
+
+    /**
+     * NDJSON 스트리밍 다운로드 응답 생성
+     * 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 출력되므로 exporter의 트랜잭션은 exporter 내부에서 시작되어야 함
+     *
+     * @param fileName 다운로드 파일명 (확장자 제외)
+     * @param gzip gzip 압축 여부 (Content-Encoding: gzip)
+     * @param objectMapper 직렬화에 사용할 ObjectMapper
+     * @param exporter 행 출력 작업
+     */
+    public static ResponseEntity<StreamingResponseBody> streamingResponse(String fileName, boolean gzip,
+                                                                          ObjectMapper objectMapper, Exporter exporter) {
+        StreamingResponseBody body = out -> {
+            try (NdjsonWriter writer = open(out, objectMapper, gzip)) {
+                exporter.export(writer);
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CONTENT_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + ".ndjson")
+                        .build()
+                        .toString());
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    public void write(Object value) throws IOException {
+        objectWriter.writeValue(out, value);
+        out.write(NEW_LINE);
+        count++;
+    }
+
+    /**
+     * 출력한 행 수
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * NDJSON 행 출력 작업
+     */
+    @FunctionalInterface
+    public interface Exporter {
+        long export(NdjsonWriter writer) throws IOException;
+    }
+}
@@ -0,0 +1,172 @@
+package com.hana_ti.home_planner.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상대 오차 보장 분위수 스케치 (로그 구간 버킷, DDSketch 방식)
+ * 값 v를 gamma^(i-1) < v <= gamma^i 구간 i에 집계하므로 분위수 추정값의 상대 오차가 relativeAccuracy 이내이며,
+ * 같은 정확도의 스케치끼리는 버킷 건수를 더하는 것만으로 병합 가능
+ * 0 이하 값은 별도 건수로 집계 (가격 등 양수 데이터 대상)
+ */
+public final class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private final TreeMap<Integer, Long> buckets;
+    private long zeroCount;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    /**
+     * @param relativeAccuracy 분위수 추정 상대 오차 (예: 0.01 = 1%)
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("INVALID_ACCURACY: 상대 오차는 0과 1 사이여야 합니다.");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.buckets = new TreeMap<>();
+    }
+
+    private QuantileSketch(QuantileSketch source) {
+        this.relativeAccuracy = source.relativeAccuracy;
+        this.gamma = source.gamma;
+        this.logGamma = source.logGamma;
+        this.buckets = new TreeMap<>(source.buckets);
+        this.zeroCount = source.zeroCount;
+        this.count = source.count;
+        this.min = source.min;
+        this.max = source.max;
+    }
+
+    public void add(double value) {
+        if (value > 0) {
+            buckets.merge((int) Math.ceil(Math.log(value) / logGamma), 1L, Long::sum);
+        } else {
+            zeroCount++;
+        }
+        min = count == 0 ? value : Math.min(min, value);
+        max = count == 0 ? value : Math.max(max, value);
+        count++;
+    }
+
+    /**
+     * 다른 스케치의 집계를 현재 스케치에 병합
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("INVALID_SKETCH: 상대 오차가 다른 스케치는 병합할 수 없습니다.");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        other.buckets.forEach((index, bucketCount) -> buckets.merge(index, bucketCount, Long::sum));
+        zeroCount += other.zeroCount;
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += other.count;
+    }
+
+    public QuantileSketch copy() {
+        return new QuantileSketch(this);
+    }
+
+    /**
+     * 분위수 추정값 (집계 건수가 없으면 NaN)
+     *
+     * @param quantile 0 ~ 1 사이 분위 (예: 0.5 = 중앙값)
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("INVALID_QUANTILE: 분위는 0과 1 사이여야 합니다.");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        long rank = (long) (quantile * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return Math.max(min, Math.min(0, max));
+        }
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (rank < seen) {
+                return clamp(bucketValue(bucket.getKey()));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 최소~최대 구간을 같은 폭으로 나눈 히스토그램 (각 로그 버킷의 대표값이 속한 구간에 건수 배분)
+     *
+     * @param binCount 구간 수
+     */
+    public List<HistogramBin> histogram(int binCount) {
+        if (binCount <= 0) {
+            throw new IllegalArgumentException("INVALID_BIN_COUNT: 구간 수는 1 이상이어야 합니다.");
+        }
+        if (count == 0) {
+            return List.of();
+        }
+
+        double width = (max - min) / binCount;
+        long[] binCounts = new long[binCount];
+        binCounts[binIndex(Math.max(min, Math.min(0, max)), width, binCount)] += zeroCount;
+        buckets.forEach((index, bucketCount) ->
+                binCounts[binIndex(clamp(bucketValue(index)), width, binCount)] += bucketCount);
+
+        List<HistogramBin> bins = new ArrayList<>(binCount);
+        for (int i = 0; i < binCount; i++) {
+            double lower = min + width * i;
+            double upper = i == binCount - 1 ? max : min + width * (i + 1);
+            bins.add(new HistogramBin(lower, upper, binCounts[i]));
+        }
+        return bins;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * 버킷 대표값 (구간 내 모든 값과의 상대 오차가 relativeAccuracy 이내인 값)
+     */
+    private double bucketValue(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    private double clamp(double value) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private int binIndex(double value, double width, int binCount) {
+        if (width <= 0) {
+            return 0;
+        }
+        return Math.min((int) ((value - min) / width), binCount - 1);
+    }
+
+    /**
+     * 히스토그램 구간 (하한 이상, 상한 미만 / 마지막 구간은 상한 포함)
+     */
+    public record HistogramBin(double lowerBound, double upperBound, long count) {
+    }
+}
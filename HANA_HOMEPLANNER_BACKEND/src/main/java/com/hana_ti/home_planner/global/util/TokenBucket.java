@@ -0,0 +1,53 @@
+package com.hana_ti.home_planner.global.util;
+
+/**
+ * 토큰 버킷 (최대 capacity개까지 refillIntervalMillis마다 토큰 1개씩 충전, 요청마다 1개 소비)
+ * 상태(남은 토큰, 갱신 시각)만으로 계산하므로 공유 저장소에 상태를 보관하는 구현에서도 같은 계산을 사용
+ */
+public final class TokenBucket {
+
+    private final int capacity;
+    private final long refillIntervalMillis;
+    private double tokens;
+    private long updatedAt;
+
+    public TokenBucket(int capacity, long refillIntervalMillis, long nowMillis) {
+        if (capacity <= 0 || refillIntervalMillis <= 0) {
+            throw new IllegalArgumentException("INVALID_TOKEN_BUCKET: 용량과 충전 간격은 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillIntervalMillis = refillIntervalMillis;
+        this.tokens = capacity;
+        this.updatedAt = nowMillis;
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 소비 성공 여부 (토큰이 없으면 false)
+     */
+    public synchronized boolean tryConsume(long nowMillis) {
+        tokens = refill(tokens, updatedAt, nowMillis, capacity, refillIntervalMillis);
+        updatedAt = Math.max(updatedAt, nowMillis);
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 마지막 사용 후 토큰이 가득 찰 때까지의 시각 (이후에는 버킷을 제거해도 동작이 같음)
+     */
+    public synchronized long fullAt() {
+        return updatedAt + (long) Math.ceil((capacity - tokens) * refillIntervalMillis);
+    }
+
+    /**
+     * 경과 시간만큼 충전한 토큰 수
+     */
+    public static double refill(double tokens, long updatedAt, long nowMillis, int capacity, long refillIntervalMillis) {
+        long elapsed = Math.max(0, nowMillis - updatedAt);
+        return Math.min(capacity, tokens + (double) elapsed / refillIntervalMillis);
+    }
+}
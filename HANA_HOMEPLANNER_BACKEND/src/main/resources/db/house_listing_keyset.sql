@@ -0,0 +1,9 @@
+-- 주택 판매/가격 목록 키셋 페이지네이션 인덱스
+-- 커서 조회는 마지막 행의 정렬 키 다음부터 FETCH FIRST로 읽으므로 정렬 순서와 동일한 인덱스 필요
+
+-- 전체 주택 판매 정보 목록 (모집공고일, 주택관리번호 내림차순)
+CREATE INDEX idx_hsi_recruit_keyset ON house_sales_info (
+    NVL(모집공고일, DATE '0001-01-01') DESC, 주택관리번호 DESC
+);
+
+-- 주택 가격 정보 목록은 기본키 (주택관리번호, 주택형) 인덱스를 그대로 사용
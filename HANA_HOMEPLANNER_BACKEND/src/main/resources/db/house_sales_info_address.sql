@@ -0,0 +1,19 @@
+-- house_sales_info 주소 정규화 컬럼 및 인덱스
+-- 공급위치(공백 기준 첫 세 토큰)에서 추출한 시도/시군구/읍면동을 저장하여
+-- 주소 검색 시 행마다 REGEXP 연산을 수행하지 않도록 함
+-- 기존 데이터는 HouseSalesInfoAddressBackfillService가 배치로 채움
+
+ALTER TABLE house_sales_info ADD (
+    시도     VARCHAR2(50),
+    시군구   VARCHAR2(50),
+    읍면동   VARCHAR2(50)
+);
+
+-- 주소 검색 + 모집공고일 내림차순 키셋 페이지네이션
+CREATE INDEX idx_hsi_addr_recruit ON house_sales_info (
+    시도, 시군구, 읍면동, NVL(모집공고일, DATE '0001-01-01') DESC, 주택관리번호 DESC
+);
+
+-- 시도 없이 시군구로만 검색하는 경우
+CREATE INDEX idx_hsi_sigungu_emd ON house_sales_info (시군구, 읍면동);
+
@@ -0,0 +1,21 @@
+-- 캘린더 이벤트 월별 집계 (사용자, 연월, 거래유형, 이벤트유형, 상태 단위 건수/금액 합계)
+-- 이벤트 생성/수정/삭제 시 같은 트랜잭션에서 증감 반영하고, MyCalendarRollupService가 매일 전체 재생성하여 보정
+-- 소비 요약은 이벤트 대신 이 테이블의 해당 월/전월 행만 조회하여 계산
+-- 거래유형/이벤트유형/상태가 없는 이벤트는 'NONE'으로 집계 (고유 키 컬럼에 NULL을 두지 않기 위함)
+
+CREATE TABLE MY_CALENDAR_MONTHLY_ROLLUP (
+    ROLLUP_ID         NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    USER_ID           VARCHAR2(36)   NOT NULL,
+    YEAR_MONTH        NUMBER(6)      NOT NULL,
+    TRANSACTION_TYPE  VARCHAR2(30)   NOT NULL,
+    EVENT_TYPE        VARCHAR2(30)   NOT NULL,
+    STATUS            VARCHAR2(20)   NOT NULL,
+    EVENT_COUNT       NUMBER(10)     DEFAULT 0 NOT NULL,
+    AMOUNT_SUM        NUMBER(20, 2)  DEFAULT 0 NOT NULL,
+    UPDATED_AT        TIMESTAMP
+);
+
+-- 증감 반영(MERGE) 대상 행 식별 및 사용자/월 조회
+CREATE UNIQUE INDEX UX_MCMR_USER_MONTH_KEY ON MY_CALENDAR_MONTHLY_ROLLUP (
+    USER_ID, YEAR_MONTH, TRANSACTION_TYPE, EVENT_TYPE, STATUS
+);
@@ -0,0 +1,10 @@
+-- 여러 서버 중 한 서버에서만 실행할 작업의 잠금 (ScheduledJobLock)
+-- 작업별 행 하나를 두고 LOCKED_UNTIL이 지난 경우에만 조건부 갱신으로 선점 (행은 최초 선점 시 자동 생성)
+-- 사용 작업: 캘린더 월별 집계 재생성 (MyCalendarRollupService)
+
+CREATE TABLE SCHEDULED_JOB_LOCK (
+    JOB_NAME      VARCHAR2(100)  PRIMARY KEY,
+    LOCKED_UNTIL  TIMESTAMP      NOT NULL,
+    LOCKED_AT     TIMESTAMP      NOT NULL,
+    LOCKED_BY     VARCHAR2(255)  NOT NULL
+);
@@ -0,0 +1,144 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import com.hana_ti.home_planner.domain.auth.model.SmsOutboxMessage;
+import com.hana_ti.home_planner.domain.auth.model.SmsOutboxMessage.Status;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 테스트용 메모리 발송 대기열 (SmsOutboxStore의 선점/만료 조건을 같은 의미로 구현)
+ * 현재 시각은 시스템 시각에 advance로 더한 만큼을 사용하므로 재시도 시각과 선점 만료를 기다리지 않고 확인 가능
+ */
+class InMemorySmsOutboxStore extends SmsOutboxStore {
+
+    private final Map<String, SmsOutboxMessage> messages = new LinkedHashMap<>();
+    private long offsetMillis;
+
+    InMemorySmsOutboxStore() {
+        super(null);
+    }
+
+    synchronized void advance(long millis) {
+        offsetMillis += millis;
+    }
+
+    synchronized long now() {
+        return System.currentTimeMillis() + offsetMillis;
+    }
+
+    @Override
+    public synchronized SmsOutboxMessage enqueue(String phoneNumber, String text) {
+        Date now = new Date(now());
+        SmsOutboxMessage message = SmsOutboxMessage.builder()
+                .id(UUID.randomUUID().toString())
+                .phoneNumber(phoneNumber)
+                .text(text)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        messages.put(message.getId(), message);
+        return copy(message);
+    }
+
+    @Override
+    public synchronized List<SmsOutboxMessage> claimBatch(int batchSize, long leaseMillis) {
+        long now = now();
+        String claimToken = UUID.randomUUID().toString();
+        List<SmsOutboxMessage> claimed = new ArrayList<>();
+        messages.values().stream()
+                .filter(message -> isClaimable(message, now))
+                .sorted(Comparator.comparing(SmsOutboxMessage::getNextAttemptAt))
+                .limit(batchSize)
+                .forEach(message -> {
+                    message.setStatus(Status.SENDING);
+                    message.setClaimToken(claimToken);
+                    message.setLeaseExpiresAt(new Date(now + leaseMillis));
+                    message.setAttempts(message.getAttempts() + 1);
+                    claimed.add(copy(message));
+                });
+        return claimed;
+    }
+
+    @Override
+    public synchronized void markSent(Collection<SmsOutboxMessage> sent, long retentionMillis) {
+        Date now = new Date(now());
+        for (SmsOutboxMessage message : sent) {
+            SmsOutboxMessage stored = claimedBy(message);
+            if (stored != null) {
+                stored.setStatus(Status.SENT);
+                stored.setSentAt(now);
+                stored.setExpireAt(new Date(now.getTime() + retentionMillis));
+                stored.setClaimToken(null);
+                stored.setLeaseExpiresAt(null);
+                stored.setLastError(null);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void markFailed(SmsOutboxMessage message, String error, Date nextAttemptAt, long retentionMillis) {
+        SmsOutboxMessage stored = claimedBy(message);
+        if (stored == null) {
+            return;
+        }
+        stored.setLastError(error);
+        stored.setClaimToken(null);
+        stored.setLeaseExpiresAt(null);
+        if (nextAttemptAt != null) {
+            stored.setStatus(Status.PENDING);
+            stored.setNextAttemptAt(nextAttemptAt);
+        } else {
+            stored.setStatus(Status.FAILED);
+            stored.setExpireAt(new Date(now() + retentionMillis));
+        }
+    }
+
+    @Override
+    public synchronized void release(SmsOutboxMessage message, Date nextAttemptAt) {
+        SmsOutboxMessage stored = claimedBy(message);
+        if (stored != null) {
+            stored.setStatus(Status.PENDING);
+            stored.setNextAttemptAt(nextAttemptAt);
+            stored.setAttempts(stored.getAttempts() - 1);
+            stored.setClaimToken(null);
+            stored.setLeaseExpiresAt(null);
+        }
+    }
+
+    @Override
+    public synchronized SmsOutboxMessage findById(String messageId) {
+        SmsOutboxMessage message = messages.get(messageId);
+        return message != null ? copy(message) : null;
+    }
+
+    @Override
+    public synchronized long countByStatus(Status status) {
+        return messages.values().stream().filter(message -> message.getStatus() == status).count();
+    }
+
+    private static boolean isClaimable(SmsOutboxMessage message, long now) {
+        return (message.getStatus() == Status.PENDING && message.getNextAttemptAt().getTime() <= now)
+                || (message.getStatus() == Status.SENDING && message.getLeaseExpiresAt().getTime() < now);
+    }
+
+    private SmsOutboxMessage claimedBy(SmsOutboxMessage message) {
+        SmsOutboxMessage stored = messages.get(message.getId());
+        return stored != null && Objects.equals(stored.getClaimToken(), message.getClaimToken()) ? stored : null;
+    }
+
+    private static SmsOutboxMessage copy(SmsOutboxMessage message) {
+        return new SmsOutboxMessage(message.getId(), message.getPhoneNumber(), message.getText(), message.getStatus(),
+                message.getAttempts(), message.getNextAttemptAt(), message.getClaimToken(), message.getLeaseExpiresAt(),
+                message.getLastError(), message.getCreatedAt(), message.getSentAt(), message.getExpireAt());
+    }
+}
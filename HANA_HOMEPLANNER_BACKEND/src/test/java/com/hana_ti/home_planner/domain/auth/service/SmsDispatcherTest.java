@@ -0,0 +1,156 @@
+package com.hana_ti.home_planner.domain.auth.service;
+
+import com.hana_ti.home_planner.domain.auth.dto.SmsDispatchStatsResponseDto;
+import com.hana_ti.home_planner.domain.auth.model.SmsOutboxMessage;
+import com.hana_ti.home_planner.domain.auth.model.SmsOutboxMessage.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmsDispatcherTest {
+
+    private static final long RETRY_BACKOFF_MS = 1_000;
+    private static final long LEASE_MS = 60_000;
+
+    private InMemorySmsOutboxStore outboxStore;
+    private FakeSmsProvider smsProvider;
+    private SmsDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxStore = new InMemorySmsOutboxStore();
+        smsProvider = new FakeSmsProvider();
+        // 발송 스레드는 시작하지 않고 dispatchBatch를 직접 호출
+        dispatcher = new SmsDispatcher(outboxStore, smsProvider);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 3);
+        ReflectionTestUtils.setField(dispatcher, "leaseMs", LEASE_MS);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "retryBackoffMs", RETRY_BACKOFF_MS);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffMs", 600_000L);
+        ReflectionTestUtils.setField(dispatcher, "retentionHours", 168L);
+    }
+
+    @Test
+    void pendingMessagesAreSentInBatches() {
+        for (int i = 0; i < 5; i++) {
+            dispatcher.enqueue("0101234000" + i, "메시지 " + i);
+        }
+
+        assertEquals(3, dispatcher.dispatchBatch());
+        assertEquals(2, dispatcher.dispatchBatch());
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        assertEquals(List.of(3, 2), smsProvider.getBatchSizes());
+        assertEquals(5, outboxStore.countByStatus(Status.SENT));
+        SmsDispatchStatsResponseDto stats = dispatcher.getStats();
+        assertEquals(5, stats.getSentCount());
+        assertEquals(2, stats.getBatchCount());
+        assertEquals(2.5, stats.getAverageBatchSize());
+    }
+
+    @Test
+    void sameNumberInDifferentFormatsIsDeferredToNextBatch() {
+        String first = dispatcher.enqueue("010-1111-2222", "첫 번째");
+        String duplicate = dispatcher.enqueue("01011112222", "두 번째");
+        String other = dispatcher.enqueue("010-3333-4444", "다른 번호");
+
+        assertEquals(3, dispatcher.dispatchBatch());
+
+        assertEquals(List.of(2), smsProvider.getBatchSizes());
+        assertEquals(Status.SENT, outboxStore.findById(first).getStatus());
+        assertEquals(Status.SENT, outboxStore.findById(other).getStatus());
+        SmsOutboxMessage deferred = outboxStore.findById(duplicate);
+        assertEquals(Status.PENDING, deferred.getStatus());
+        assertEquals(0, deferred.getAttempts());
+        // 재시도 시각을 늦춰 먼저 요청된 다른 대기 메시지보다 뒤에 선점됨
+        assertTrue(deferred.getNextAttemptAt().getTime() >= outboxStore.findById(other).getCreatedAt().getTime());
+
+        assertEquals(1, dispatcher.dispatchBatch());
+        assertEquals(Status.SENT, outboxStore.findById(duplicate).getStatus());
+        assertEquals(1, outboxStore.findById(duplicate).getAttempts());
+    }
+
+    @Test
+    void providerFailureIsMatchedByDigitsAndRetriedWithBackoff() {
+        String messageId = dispatcher.enqueue("010-5555-6666", "재시도");
+        smsProvider.failNext("01055556666", 2);
+
+        long before = System.currentTimeMillis();
+        dispatcher.dispatchBatch();
+        SmsOutboxMessage firstRetry = outboxStore.findById(messageId);
+        assertEquals(Status.PENDING, firstRetry.getStatus());
+        assertEquals("FAKE_FAILURE", firstRetry.getLastError());
+        assertBackoff(before, firstRetry, RETRY_BACKOFF_MS);
+
+        // 재시도 시각 전에는 선점하지 않음
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        outboxStore.advance(RETRY_BACKOFF_MS);
+        before = System.currentTimeMillis();
+        dispatcher.dispatchBatch();
+        SmsOutboxMessage secondRetry = outboxStore.findById(messageId);
+        assertEquals(2, secondRetry.getAttempts());
+        assertBackoff(before, secondRetry, RETRY_BACKOFF_MS * 2);
+
+        outboxStore.advance(RETRY_BACKOFF_MS * 2);
+        dispatcher.dispatchBatch();
+        SmsOutboxMessage sent = outboxStore.findById(messageId);
+        assertEquals(Status.SENT, sent.getStatus());
+        assertEquals(3, sent.getAttempts());
+        assertNull(sent.getLastError());
+        assertEquals(2, dispatcher.getStats().getRetryCount());
+    }
+
+    @Test
+    void messageFailsAfterMaxAttempts() {
+        String messageId = dispatcher.enqueue("01077778888", "최종 실패");
+        smsProvider.failNext("01077778888", 10);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertEquals(1, dispatcher.dispatchBatch());
+            outboxStore.advance(RETRY_BACKOFF_MS * 4);
+        }
+
+        SmsOutboxMessage failed = outboxStore.findById(messageId);
+        assertEquals(Status.FAILED, failed.getStatus());
+        assertEquals(3, failed.getAttempts());
+        assertNotNull(failed.getExpireAt());
+        assertEquals(0, dispatcher.dispatchBatch());
+        SmsDispatchStatsResponseDto stats = dispatcher.getStats();
+        assertEquals(2, stats.getRetryCount());
+        assertEquals(1, stats.getFailedCount());
+        assertEquals(0, stats.getSentCount());
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndStaleResultIsIgnored() {
+        String messageId = dispatcher.enqueue("01099990000", "선점 만료");
+
+        // 다른 서버가 선점한 뒤 결과를 기록하지 못하고 중단된 상황
+        SmsOutboxMessage abandoned = outboxStore.claimBatch(10, LEASE_MS).get(0);
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        outboxStore.advance(LEASE_MS + 1);
+        assertEquals(1, dispatcher.dispatchBatch());
+
+        // 중단됐던 서버의 늦은 결과 기록은 선점 토큰이 달라 무시됨
+        outboxStore.markFailed(abandoned, "늦은 결과", null, 0);
+        SmsOutboxMessage sent = outboxStore.findById(messageId);
+        assertEquals(Status.SENT, sent.getStatus());
+        assertEquals(2, sent.getAttempts());
+        assertEquals(1, smsProvider.getRecentMessages().size());
+    }
+
+    private static void assertBackoff(long before, SmsOutboxMessage message, long expectedBackoffMs) {
+        long delay = message.getNextAttemptAt().getTime() - before;
+        assertTrue(delay >= expectedBackoffMs && delay < expectedBackoffMs + 1_000,
+                "재시도 대기 시간: " + delay + "ms");
+    }
+}
@@ -0,0 +1,221 @@
+package com.hana_ti.home_planner.domain.calander.service;
+
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarEvent;
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarEvent.EventStatus;
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarEvent.EventType;
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarEvent.TransactionType;
+import com.hana_ti.home_planner.domain.calander.entity.MyCalendarMonthlyRollup;
+import com.hana_ti.home_planner.domain.calander.repository.MyCalendarEventRepository;
+import com.hana_ti.home_planner.domain.calander.repository.MyCalendarMonthlyRollupRepository;
+import com.hana_ti.home_planner.global.lock.ScheduledJobLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class MyCalendarRollupServiceTest {
+
+    private static final String USER_ID = "user-1";
+
+    private MyCalendarEventRepository eventRepository;
+    private MyCalendarMonthlyRollupRepository rollupRepository;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ScheduledJobLock scheduledJobLock;
+    private MyCalendarRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(MyCalendarEventRepository.class);
+        rollupRepository = mock(MyCalendarMonthlyRollupRepository.class);
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        scheduledJobLock = mock(ScheduledJobLock.class);
+        rollupService = new MyCalendarRollupService(eventRepository, rollupRepository, jdbcTemplate,
+                transactionTemplate, scheduledJobLock);
+        ReflectionTestUtils.setField(rollupService, "rebuildLockLeaseMinutes", 120L);
+
+        // 트랜잭션 없이 콜백 바로 실행
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void createdEventsAreMergedAsOneDeltaPerKey() {
+        rollupService.recordCreated(List.of(
+                withdraw(LocalDate.of(2024, 3, 5), EventType.FOOD, "1000"),
+                withdraw(LocalDate.of(2024, 3, 20), EventType.FOOD, "2500"),
+                MyCalendarEvent.create(USER_ID, LocalDate.of(2024, 3, 25), TransactionType.DEPOSIT, null,
+                        "급여", null, new BigDecimal("500"), null)));
+
+        List<SqlParameterSource> merges = captureMerges(2);
+        assertDelta(merges.get(0), 202403, "WITHDRAW", "FOOD", 2, "3500");
+        assertDelta(merges.get(1), 202403, "DEPOSIT", MyCalendarMonthlyRollup.NONE, 1, "500");
+    }
+
+    @Test
+    void deletedEventsAreSubtracted() {
+        rollupService.recordDeleted(List.of(withdraw(LocalDate.of(2024, 3, 5), EventType.FOOD, "1000")));
+
+        assertDelta(captureMerges(1).get(0), 202403, "WITHDRAW", "FOOD", -1, "-1000");
+    }
+
+    @Test
+    void unchangedUpdateIsSkipped() {
+        MyCalendarEvent event = withdraw(LocalDate.of(2024, 3, 5), EventType.FOOD, "1000");
+
+        rollupService.recordUpdated(MyCalendarRollupService.Contribution.of(event), event);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void updateMovesContributionBetweenKeys() {
+        MyCalendarRollupService.Contribution before = MyCalendarRollupService.Contribution.of(
+                withdraw(LocalDate.of(2024, 3, 5), EventType.FOOD, "1000"));
+        MyCalendarEvent after = withdraw(LocalDate.of(2024, 4, 5), EventType.FOOD, "1200");
+
+        rollupService.recordUpdated(before, after);
+
+        List<SqlParameterSource> merges = captureMerges(2);
+        assertDelta(merges.get(0), 202403, "WITHDRAW", "FOOD", -1, "-1000");
+        assertDelta(merges.get(1), 202404, "WITHDRAW", "FOOD", 1, "1200");
+    }
+
+    @Test
+    void mergeIsRetriedOnceOnConcurrentInsert() {
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .thenThrow(new DuplicateKeyException("ORA-00001"))
+                .thenReturn(1);
+
+        rollupService.recordCreated(List.of(withdraw(LocalDate.of(2024, 3, 5), EventType.FOOD, "1000")));
+
+        verify(jdbcTemplate, times(2)).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    void secondMergeFailurePropagates() {
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .thenThrow(new DuplicateKeyException("ORA-00001"));
+
+        assertThrows(DataIntegrityViolationException.class, () ->
+                rollupService.recordCreated(List.of(withdraw(LocalDate.of(2024, 3, 5), EventType.FOOD, "1000"))));
+        verify(jdbcTemplate, times(2)).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    void rebuildReplacesTotalsInsertsMissingKeysAndRemovesEmptyKeys() {
+        MyCalendarMonthlyRollup drifted = MyCalendarMonthlyRollup.create(USER_ID, 202403, "WITHDRAW", "FOOD", "DONE",
+                1, new BigDecimal("1000"));
+        MyCalendarMonthlyRollup empty = MyCalendarMonthlyRollup.create(USER_ID, 202402, "WITHDRAW", "CARD", "DONE",
+                3, new BigDecimal("9000"));
+        when(rollupRepository.findByUserIdForUpdate(USER_ID)).thenReturn(List.of(drifted, empty));
+        when(eventRepository.aggregateMonthlyByUserId(USER_ID)).thenReturn(List.<Object[]>of(
+                new Object[]{2024, 3, TransactionType.WITHDRAW, EventType.FOOD, EventStatus.DONE, 2L, new BigDecimal("3500")},
+                new Object[]{2024, 4, TransactionType.DEPOSIT, null, EventStatus.SCHEDULED, 1L, null}));
+
+        assertEquals(2, rollupService.rebuildUser(USER_ID));
+
+        assertEquals(2L, drifted.getEventCount());
+        assertEquals(0, new BigDecimal("3500").compareTo(drifted.getAmountSum()));
+
+        ArgumentCaptor<MyCalendarMonthlyRollup> inserted = ArgumentCaptor.forClass(MyCalendarMonthlyRollup.class);
+        verify(rollupRepository).save(inserted.capture());
+        assertEquals(202404, inserted.getValue().getYearMonth());
+        assertEquals(MyCalendarMonthlyRollup.NONE, inserted.getValue().getEventType());
+        assertEquals(1L, inserted.getValue().getEventCount());
+        assertEquals(0, BigDecimal.ZERO.compareTo(inserted.getValue().getAmountSum()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<MyCalendarMonthlyRollup>> removed = ArgumentCaptor.forClass(Iterable.class);
+        verify(rollupRepository).deleteAll(removed.capture());
+        assertEquals(List.of(empty), List.copyOf((Collection<MyCalendarMonthlyRollup>) removed.getValue()));
+    }
+
+    @Test
+    void rebuildContinuesAfterUserFailure() {
+        when(scheduledJobLock.tryLock(anyString(), any(Duration.class))).thenReturn(true);
+        when(eventRepository.findDistinctUserIds()).thenReturn(List.of("user-1", "user-2"));
+        when(eventRepository.aggregateMonthlyByUserId("user-1")).thenThrow(new IllegalStateException("ORA-00060"));
+        when(eventRepository.aggregateMonthlyByUserId("user-2")).thenReturn(List.of());
+
+        rollupService.scheduledRebuild();
+
+        verify(rollupRepository).findByUserIdForUpdate("user-2");
+        verify(eventRepository).aggregateMonthlyByUserId("user-2");
+        verify(scheduledJobLock).unlock(anyString());
+    }
+
+    @Test
+    void rebuildRemovesRollupsOfUserWithoutEvents() {
+        MyCalendarMonthlyRollup leftover = MyCalendarMonthlyRollup.create("user-2", 202403, "WITHDRAW", "FOOD", "DONE",
+                0, BigDecimal.ZERO);
+        when(scheduledJobLock.tryLock(anyString(), any(Duration.class))).thenReturn(true);
+        when(eventRepository.findDistinctUserIds()).thenReturn(List.of("user-1"));
+        when(rollupRepository.findDistinctUserIds()).thenReturn(List.of("user-1", "user-2"));
+        when(rollupRepository.findByUserIdForUpdate("user-2")).thenReturn(List.of(leftover));
+
+        rollupService.scheduledRebuild();
+
+        verify(eventRepository).aggregateMonthlyByUserId("user-1");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<MyCalendarMonthlyRollup>> removed = ArgumentCaptor.forClass(Iterable.class);
+        verify(rollupRepository, times(2)).deleteAll(removed.capture());
+        assertEquals(List.of(leftover), List.copyOf((Collection<MyCalendarMonthlyRollup>) removed.getAllValues().get(1)));
+    }
+
+    @Test
+    void rebuildIsSkippedWhenAnotherInstanceHoldsLock() {
+        when(scheduledJobLock.tryLock(anyString(), any(Duration.class))).thenReturn(false);
+
+        rollupService.scheduledRebuild();
+
+        verify(eventRepository, never()).findDistinctUserIds();
+        verify(scheduledJobLock, never()).unlock(anyString());
+    }
+
+    private static MyCalendarEvent withdraw(LocalDate date, EventType eventType, String amount) {
+        return MyCalendarEvent.create(USER_ID, date, TransactionType.WITHDRAW, eventType, "지출", null,
+                new BigDecimal(amount), null);
+    }
+
+    private List<SqlParameterSource> captureMerges(int expectedCount) {
+        ArgumentCaptor<SqlParameterSource> parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate, times(expectedCount)).update(anyString(), parameters.capture());
+        return parameters.getAllValues();
+    }
+
+    private static void assertDelta(SqlParameterSource parameters, int yearMonth, String transactionType,
+                                    String eventType, long countDelta, String amountDelta) {
+        assertEquals(USER_ID, parameters.getValue("userId"));
+        assertEquals(yearMonth, parameters.getValue("yearMonth"));
+        assertEquals(transactionType, parameters.getValue("transactionType"));
+        assertEquals(eventType, parameters.getValue("eventType"));
+        assertEquals("DONE", parameters.getValue("status"));
+        assertEquals(countDelta, parameters.getValue("countDelta"));
+        assertEquals(0, new BigDecimal(amountDelta).compareTo((BigDecimal) parameters.getValue("amountDelta")));
+    }
+}
@@ -0,0 +1,45 @@
+package com.hana_ti.home_planner.domain.house.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HouseResponseCacheTest {
+
+    @Test
+    void gzipIsAcceptedWhenListedWithoutQuality() {
+        assertTrue(HouseResponseCache.acceptsGzip("gzip"));
+        assertTrue(HouseResponseCache.acceptsGzip("deflate, GZIP, br"));
+        assertTrue(HouseResponseCache.acceptsGzip("x-gzip"));
+    }
+
+    @Test
+    void gzipWithZeroQualityIsRejected() {
+        assertFalse(HouseResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(HouseResponseCache.acceptsGzip("br, gzip; q=0.0"));
+        assertFalse(HouseResponseCache.acceptsGzip("gzip;q=0, *;q=1"));
+    }
+
+    @Test
+    void gzipWithPositiveQualityIsAccepted() {
+        assertTrue(HouseResponseCache.acceptsGzip("br;q=1.0, gzip;q=0.5"));
+        assertTrue(HouseResponseCache.acceptsGzip("gzip;Q=0.001"));
+    }
+
+    @Test
+    void wildcardAppliesOnlyWhenGzipIsNotListed() {
+        assertTrue(HouseResponseCache.acceptsGzip("*"));
+        assertFalse(HouseResponseCache.acceptsGzip("*;q=0"));
+        assertTrue(HouseResponseCache.acceptsGzip("gzip;q=0.3, *;q=0"));
+    }
+
+    @Test
+    void missingOrUnrelatedEncodingIsRejected() {
+        assertFalse(HouseResponseCache.acceptsGzip(null));
+        assertFalse(HouseResponseCache.acceptsGzip(""));
+        assertFalse(HouseResponseCache.acceptsGzip("identity"));
+        assertFalse(HouseResponseCache.acceptsGzip("br, deflate"));
+        assertFalse(HouseResponseCache.acceptsGzip("gzip;q=abc"));
+    }
+}
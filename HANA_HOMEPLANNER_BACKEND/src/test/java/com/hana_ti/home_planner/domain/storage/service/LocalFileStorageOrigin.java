@@ -0,0 +1,99 @@
+package com.hana_ti.home_planner.domain.storage.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 디렉터리를 원본 저장소로 사용하는 테스트용 origin
+ * ETag는 S3 단일 업로드와 같이 내용의 MD5 (따옴표 포함), ETag가 다르면 S3의 If-Match 실패처럼 예외
+ */
+class LocalFileStorageOrigin implements StorageObjectOrigin {
+
+    private final Path root;
+    private final AtomicInteger openCount = new AtomicInteger();
+    private volatile CountDownLatch openGate;
+
+    LocalFileStorageOrigin(Path root) {
+        this.root = root;
+    }
+
+    void put(String objectKey, String content) throws IOException {
+        Path file = root.resolve(objectKey);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    /**
+     * 이후 스트림 열기를 gate가 열릴 때까지 대기시킴 (동시 미스 재현용)
+     */
+    void holdOpensUntil(CountDownLatch gate) {
+        this.openGate = gate;
+    }
+
+    int getOpenCount() {
+        return openCount.get();
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(String objectKey) {
+        try {
+            Path file = root.resolve(objectKey);
+            return new ObjectMetadata(Files.size(file), eTag(Files.readAllBytes(file)),
+                    Files.getLastModifiedTime(file).toInstant());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openObjectStream(String objectKey, String eTag, Long start, Long end) {
+        openCount.incrementAndGet();
+        awaitGate();
+        try {
+            byte[] content = Files.readAllBytes(root.resolve(objectKey));
+            if (eTag != null && !eTag.equals(eTag(content))) {
+                throw new IllegalStateException("ETag 불일치: " + objectKey);
+            }
+            if (start != null) {
+                content = Arrays.copyOfRange(content, start.intValue(), end.intValue() + 1);
+            }
+            return new ByteArrayInputStream(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void awaitGate() {
+        CountDownLatch gate = openGate;
+        if (gate == null) {
+            return;
+        }
+        try {
+            if (!gate.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("gate 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String eTag(byte[] content) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
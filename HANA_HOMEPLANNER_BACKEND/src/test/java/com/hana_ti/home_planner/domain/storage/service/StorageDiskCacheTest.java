@@ -0,0 +1,204 @@
+package com.hana_ti.home_planner.domain.storage.service;
+
+import com.hana_ti.home_planner.domain.storage.dto.DiskCacheStatsResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class StorageDiskCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocalFileStorageOrigin origin;
+    private StorageDiskCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        origin = new LocalFileStorageOrigin(Files.createDirectories(tempDir.resolve("origin")));
+        cache = createCache(1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void missFillsFromOriginThenHitServesCachedFile() throws Exception {
+        origin.put("docs/a.pdf", "hello");
+        StorageObjectOrigin.ObjectMetadata metadata = origin.getObjectMetadata("docs/a.pdf");
+
+        Path filled = cache.getOrFill("docs/a.pdf", metadata);
+        Path hit = cache.getOrFill("docs/a.pdf", metadata);
+
+        assertEquals("hello", Files.readString(filled));
+        assertEquals(filled, hit);
+        assertEquals(1, origin.getOpenCount());
+        DiskCacheStatsResponseDto stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getEntryCount());
+        assertEquals(5, stats.getTotalBytes());
+    }
+
+    @Test
+    void eTagChangeRefillsAndDeletesPreviousVersion() throws Exception {
+        origin.put("docs/a.pdf", "version-1");
+        Path first = cache.getOrFill("docs/a.pdf", origin.getObjectMetadata("docs/a.pdf"));
+
+        origin.put("docs/a.pdf", "version-2!");
+        Path second = cache.getOrFill("docs/a.pdf", origin.getObjectMetadata("docs/a.pdf"));
+
+        assertFalse(first.equals(second));
+        assertFalse(Files.exists(first));
+        assertEquals("version-2!", Files.readString(second));
+        DiskCacheStatsResponseDto stats = cache.getStats();
+        assertEquals(0, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(1, stats.getEntryCount());
+        assertEquals(10, stats.getTotalBytes());
+    }
+
+    @Test
+    void staleMetadataFailsFillAndFallsBackToOrigin() throws Exception {
+        origin.put("docs/a.pdf", "version-1");
+        StorageObjectOrigin.ObjectMetadata stale = origin.getObjectMetadata("docs/a.pdf");
+        origin.put("docs/a.pdf", "version-2");
+
+        assertNull(cache.getOrFill("docs/a.pdf", stale));
+        assertEquals(1, cache.getStats().getFillFailureCount());
+        assertEquals(0, cache.getStats().getEntryCount());
+    }
+
+    @Test
+    void exceedingMaxSizeEvictsLeastRecentlyUsed() throws Exception {
+        cache.shutdown();
+        cache = createCache(10);
+        origin.put("a", "aaaa");
+        origin.put("b", "bbbb");
+        origin.put("c", "cccc");
+
+        Path a = cache.getOrFill("a", origin.getObjectMetadata("a"));
+        Path b = cache.getOrFill("b", origin.getObjectMetadata("b"));
+        cache.getOrFill("a", origin.getObjectMetadata("a"));
+        Path c = cache.getOrFill("c", origin.getObjectMetadata("c"));
+
+        assertTrue(Files.exists(a));
+        assertFalse(Files.exists(b));
+        assertTrue(Files.exists(c));
+        DiskCacheStatsResponseDto stats = cache.getStats();
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(2, stats.getEntryCount());
+        assertEquals(8, stats.getTotalBytes());
+    }
+
+    @Test
+    void objectLargerThanMaxObjectSizeIsNotCached() throws Exception {
+        ReflectionTestUtils.setField(cache, "maxObjectSizeBytes", 4L);
+        origin.put("big", "0123456789");
+
+        assertNull(cache.getOrFill("big", origin.getObjectMetadata("big")));
+        assertEquals(0, origin.getOpenCount());
+        assertEquals(0, cache.getStats().getMissCount());
+    }
+
+    @Test
+    void concurrentMissesShareSingleFill() throws Exception {
+        origin.put("docs/a.pdf", "shared");
+        StorageObjectOrigin.ObjectMetadata metadata = origin.getObjectMetadata("docs/a.pdf");
+        CountDownLatch gate = new CountDownLatch(1);
+        origin.holdOpensUntil(gate);
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<Path>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> cache.getOrFill("docs/a.pdf", metadata)));
+            }
+            // 첫 요청이 원본을 여는 동안 나머지가 모두 합류한 뒤 원본 응답 진행
+            awaitCondition(() -> cache.getStats().getCoalescedMissCount() == requests - 1);
+            gate.countDown();
+
+            Path expected = results.get(0).get();
+            assertNotNull(expected);
+            for (Future<Path> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, origin.getOpenCount());
+        DiskCacheStatsResponseDto stats = cache.getStats();
+        assertEquals(0, stats.getHitCount());
+        assertEquals(requests, stats.getMissCount());
+        assertEquals(requests - 1, stats.getCoalescedMissCount());
+    }
+
+    @Test
+    void rangeMissReturnsImmediatelyAndFillsInBackground() throws Exception {
+        origin.put("videos/v.mp4", "0123456789");
+        StorageObjectOrigin.ObjectMetadata metadata = origin.getObjectMetadata("videos/v.mp4");
+        CountDownLatch gate = new CountDownLatch(1);
+        origin.holdOpensUntil(gate);
+
+        // 원본 다운로드가 끝나지 않았어도 Range 요청은 대기하지 않음
+        assertNull(cache.getOrFillInBackground("videos/v.mp4", metadata));
+        assertNull(cache.getOrFillInBackground("videos/v.mp4", metadata));
+        gate.countDown();
+
+        awaitCondition(() -> cache.getStats().getEntryCount() == 1);
+        Path hit = cache.getOrFillInBackground("videos/v.mp4", metadata);
+
+        assertEquals("0123456789", Files.readString(hit));
+        assertEquals(1, origin.getOpenCount());
+        DiskCacheStatsResponseDto stats = cache.getStats();
+        assertEquals(1, stats.getBackgroundFillCount());
+        assertEquals(1, stats.getCoalescedMissCount());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+    }
+
+    private StorageDiskCache createCache(long maxSizeBytes) {
+        StorageDiskCache diskCache = new StorageDiskCache(origin);
+        ReflectionTestUtils.setField(diskCache, "enabled", true);
+        ReflectionTestUtils.setField(diskCache, "directory", tempDir.resolve("cache").toString());
+        ReflectionTestUtils.setField(diskCache, "maxSizeBytes", maxSizeBytes);
+        ReflectionTestUtils.setField(diskCache, "maxObjectSizeBytes", 1024L);
+        ReflectionTestUtils.setField(diskCache, "backgroundFillThreads", 1);
+        ReflectionTestUtils.setField(diskCache, "backgroundFillQueueSize", 4);
+        diskCache.init();
+        return diskCache;
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건 대기 시간 초과");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.hana_ti.home_planner.global.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitPropertiesTest {
+
+    @Test
+    void capacityWithoutRefillIntervalIsRejected() {
+        RateLimitProperties properties = propertiesWith(rule(5, 0, 0, 0));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, properties::validate);
+        assertTrue(e.getMessage().startsWith("INVALID_RATE_LIMIT_RULE"));
+    }
+
+    @Test
+    void routeCapacityWithNegativeRefillIntervalIsRejected() {
+        assertThrows(IllegalStateException.class, propertiesWith(rule(5, 1_000, 10, -1))::validate);
+    }
+
+    @Test
+    void negativeCapacityIsRejected() {
+        assertThrows(IllegalStateException.class, propertiesWith(rule(-1, 1_000, 0, 0))::validate);
+    }
+
+    @Test
+    void disabledBucketMayOmitRefillInterval() {
+        assertDoesNotThrow(propertiesWith(rule(5, 1_000, 0, 0))::validate);
+    }
+
+    private static RateLimitProperties propertiesWith(RateLimitProperties.Rule rule) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        return properties;
+    }
+
+    private static RateLimitProperties.Rule rule(int userCapacity, long userRefillIntervalMs,
+                                                 int routeCapacity, long routeRefillIntervalMs) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("test");
+        rule.setUserCapacity(userCapacity);
+        rule.setUserRefillIntervalMs(userRefillIntervalMs);
+        rule.setRouteCapacity(routeCapacity);
+        rule.setRouteRefillIntervalMs(routeRefillIntervalMs);
+        return rule;
+    }
+}
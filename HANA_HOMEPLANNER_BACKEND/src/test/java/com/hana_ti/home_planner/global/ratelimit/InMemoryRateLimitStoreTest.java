@@ -0,0 +1,103 @@
+package com.hana_ti.home_planner.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRateLimitStoreTest {
+
+    // 테스트 중 충전되지 않도록 충분히 긴 간격
+    private static final long INTERVAL = 60_000;
+
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore();
+
+    @Test
+    void rejectsAfterCapacityWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(store.tryAcquire("rl:test:user:1", 3, INTERVAL).allowed());
+        }
+
+        RateLimitStore.Decision rejected = store.tryAcquire("rl:test:user:1", 3, INTERVAL);
+        assertFalse(rejected.allowed());
+        assertTrue(rejected.retryAfterMillis() > 0 && rejected.retryAfterMillis() <= INTERVAL);
+    }
+
+    @Test
+    void bucketsAreIndependentPerKey() {
+        assertTrue(store.tryAcquire("rl:test:user:1", 1, INTERVAL).allowed());
+        assertFalse(store.tryAcquire("rl:test:user:1", 1, INTERVAL).allowed());
+
+        assertTrue(store.tryAcquire("rl:test:user:2", 1, INTERVAL).allowed());
+        assertEquals(2, store.bucketCount());
+    }
+
+    @Test
+    void refundReturnsConsumedToken() {
+        assertTrue(store.tryAcquire("rl:test:user:1", 1, INTERVAL).allowed());
+        assertFalse(store.tryAcquire("rl:test:user:1", 1, INTERVAL).allowed());
+
+        store.refund("rl:test:user:1", INTERVAL);
+
+        assertTrue(store.tryAcquire("rl:test:user:1", 1, INTERVAL).allowed());
+        assertFalse(store.tryAcquire("rl:test:user:1", 1, INTERVAL).allowed());
+    }
+
+    @Test
+    void refundOfUnknownKeyIsIgnored() {
+        store.refund("rl:test:unknown", INTERVAL);
+
+        assertEquals(0, store.bucketCount());
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedCapacity() throws Exception {
+        int threads = 16;
+        int requestsPerThread = 100;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        if (store.tryAcquire("rl:test", 50, INTERVAL).allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int totalAllowed = 0;
+            for (Future<Integer> result : results) {
+                totalAllowed += result.get();
+            }
+            assertEquals(50, totalAllowed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fullBucketsAreRemoved() throws Exception {
+        assertTrue(store.tryAcquire("rl:test:idle", 1, 1).allowed());
+        assertTrue(store.tryAcquire("rl:test:busy", 1, INTERVAL).allowed());
+        Thread.sleep(5);
+
+        store.removeIdleBuckets();
+
+        assertEquals(1, store.bucketCount());
+    }
+}
@@ -0,0 +1,55 @@
+package com.hana_ti.home_planner.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimitStoreTest {
+
+    private static final int CAPACITY = 3;
+    private static final long INTERVAL = 100;
+
+    @Test
+    void emptyBucketAdmitsBurstUpToCapacity() {
+        long now = 1_000;
+        long tat = RateLimitStore.admit(0, now, CAPACITY, INTERVAL);
+        assertEquals(1_100, tat);
+        tat = RateLimitStore.admit(tat, now, CAPACITY, INTERVAL);
+        assertEquals(1_200, tat);
+        tat = RateLimitStore.admit(tat, now, CAPACITY, INTERVAL);
+        assertEquals(1_300, tat);
+
+        assertEquals(-1, RateLimitStore.admit(tat, now, CAPACITY, INTERVAL));
+    }
+
+    @Test
+    void rejectedRequestWaitsOneRefillInterval() {
+        assertEquals(INTERVAL, RateLimitStore.retryAfterMillis(1_300, 1_000, CAPACITY, INTERVAL));
+        assertEquals(40, RateLimitStore.retryAfterMillis(1_300, 1_060, CAPACITY, INTERVAL));
+    }
+
+    @Test
+    void tokenIsRefilledAfterInterval() {
+        assertEquals(-1, RateLimitStore.admit(1_300, 1_099, CAPACITY, INTERVAL));
+        assertEquals(1_400, RateLimitStore.admit(1_300, 1_100, CAPACITY, INTERVAL));
+    }
+
+    @Test
+    void idleBucketDoesNotAccumulateBeyondCapacity() {
+        long now = 10_000;
+        long tat = 1_000;
+        for (int i = 0; i < CAPACITY; i++) {
+            tat = RateLimitStore.admit(tat, now, CAPACITY, INTERVAL);
+        }
+
+        assertEquals(-1, RateLimitStore.admit(tat, now, CAPACITY, INTERVAL));
+    }
+
+    @Test
+    void refundedTokenCanBeReused() {
+        long now = 1_000;
+        long tat = 1_300;
+
+        assertEquals(1_300, RateLimitStore.admit(tat - INTERVAL, now, CAPACITY, INTERVAL));
+    }
+}
@@ -0,0 +1,72 @@
+package com.hana_ti.home_planner.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CursorUtilTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        String cursor = CursorUtil.encode(LocalDate.of(2024, 3, 1), 20240001L);
+
+        assertArrayEquals(new String[]{"2024-03-01", "20240001"}, CursorUtil.decode(cursor, 2));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeWithoutPadding() {
+        String cursor = CursorUtil.encode("서울특별시 강남구?", new BigDecimal("2024000123"), "084.9800A");
+
+        assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="));
+        assertArrayEquals(new String[]{"서울특별시 강남구?", "2024000123", "084.9800A"}, CursorUtil.decode(cursor, 3));
+    }
+
+    @Test
+    void singleKeyDocumentIdCursorRoundTrip() {
+        String documentId = "66f1a2b3c4d5e6f708192a3b";
+
+        assertArrayEquals(new String[]{documentId}, CursorUtil.decode(CursorUtil.encode(documentId), 1));
+    }
+
+    @Test
+    void nullAndEmptyKeysArePreserved() {
+        String cursor = CursorUtil.encode(null, "", "last");
+
+        assertArrayEquals(new String[]{"", "", "last"}, CursorUtil.decode(cursor, 3));
+    }
+
+    @Test
+    void decodeRejectsWrongKeyCount() {
+        String cursor = CursorUtil.encode("a", "b", "c");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode(cursor, 2));
+        assertTrue(e.getMessage().startsWith("INVALID_CURSOR:"));
+    }
+
+    @Test
+    void decodeRejectsMalformedToken() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode("%%not-base64%%", 2));
+        assertTrue(e.getMessage().startsWith("INVALID_CURSOR:"));
+    }
+
+    @Test
+    void checkPageSizeRejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.checkPageSize(0));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CursorUtil.checkPageSize(-1));
+        assertTrue(e.getMessage().startsWith("INVALID_PAGE_SIZE:"));
+    }
+
+    @Test
+    void checkPageSizeCapsLargeSize() {
+        assertEquals(1, CursorUtil.checkPageSize(1));
+        assertEquals(CursorUtil.MAX_PAGE_SIZE, CursorUtil.checkPageSize(CursorUtil.MAX_PAGE_SIZE));
+        assertEquals(CursorUtil.MAX_PAGE_SIZE, CursorUtil.checkPageSize(Integer.MAX_VALUE));
+    }
+}